@@ -0,0 +1,71 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.benchmarks;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import org.openapitools.codegen.ClientOptInput;
+import org.openapitools.codegen.CodegenConfig;
+import org.openapitools.codegen.CodegenConfigLoader;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * Helpers shared by the benchmarks.
+ */
+final class BenchmarkSupport {
+    /**
+     * Generators log every file they write, which would otherwise be measured as well.
+     */
+    static final String QUIET_LOGGING = "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn";
+
+    private BenchmarkSupport() {
+    }
+
+    /**
+     * Sets up a generator with its default options, as done by {@link org.openapitools.codegen.config.CodegenConfigurator}.
+     *
+     * @param generatorName the name of the generator (e.g. java)
+     * @param openAPI       the specification to generate from
+     * @param outputDir     the output directory
+     * @param generator     the generator to set up
+     * @return the generator
+     */
+    static InMemoryGenerator setUp(String generatorName, OpenAPI openAPI, File outputDir, InMemoryGenerator generator) {
+        CodegenConfig config = CodegenConfigLoader.forName(generatorName);
+        config.setOutputDir(outputDir.getAbsolutePath());
+        generator.opts(new ClientOptInput().openAPI(openAPI).config(config));
+        return generator;
+    }
+
+    static File createOutputDir() throws IOException {
+        return Files.createTempDirectory("openapi-generator-benchmarks").toFile();
+    }
+
+    static void delete(File outputDir) throws IOException {
+        if (outputDir == null || !outputDir.exists()) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(outputDir.toPath())) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.benchmarks;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.media.Schema;
+import org.openapitools.codegen.CodegenConfig;
+import org.openapitools.codegen.CodegenConfigLoader;
+import org.openapitools.codegen.InlineModelResolver;
+import org.openapitools.codegen.utils.ModelUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversion of the schemas and operations of a flattened specification into {@link org.openapitools.codegen.CodegenModel}
+ * and {@link org.openapitools.codegen.CodegenOperation}, for generators with different type mappings and hooks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = BenchmarkSupport.QUIET_LOGGING)
+public class CodegenBenchmark {
+    @Param({"java", "typescript-axios", "go", "python"})
+    public String generator;
+
+    @Param({"100", "1000"})
+    public int models;
+
+    private CodegenConfig config;
+    private OpenAPI openAPI;
+
+    @Setup
+    public void setUp() {
+        openAPI = SyntheticSpec.create(models);
+        new InlineModelResolver().flatten(openAPI);
+
+        // the same steps as DefaultGenerator before it processes models and operations
+        config = CodegenConfigLoader.forName(generator);
+        config.processOpts();
+        config.preprocessOpenAPI(openAPI);
+        ModelUtils.invalidateCaches(openAPI);
+        config.setOpenAPI(openAPI);
+    }
+
+    @Benchmark
+    public void fromModel(Blackhole blackhole) {
+        for (Map.Entry<String, Schema> schema : ModelUtils.getSchemas(openAPI).entrySet()) {
+            blackhole.consume(config.fromModel(schema.getKey(), schema.getValue()));
+        }
+    }
+
+    @Benchmark
+    public void fromOperation(Blackhole blackhole) {
+        for (Map.Entry<String, PathItem> path : openAPI.getPaths().entrySet()) {
+            PathItem pathItem = path.getValue();
+            for (Map.Entry<PathItem.HttpMethod, Operation> operation : pathItem.readOperationsMap().entrySet()) {
+                String httpMethod = operation.getKey().name().toLowerCase(Locale.ROOT);
+                blackhole.consume(config.fromOperation(path.getKey(), httpMethod, operation.getValue(), pathItem.getServers()));
+            }
+        }
+    }
+}
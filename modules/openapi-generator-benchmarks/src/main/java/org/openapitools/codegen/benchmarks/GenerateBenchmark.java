@@ -0,0 +1,83 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A whole generation, from the flattening of the inline schemas to the supporting files, into memory.
+ * <p>
+ * Generators modify the specification they generate from, so each invocation gets a new specification and generator.
+ * Building them is not measured, and is negligible next to a generation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = BenchmarkSupport.QUIET_LOGGING)
+public class GenerateBenchmark {
+    @Param({"java", "typescript-axios", "go", "python"})
+    public String generator;
+
+    @Param({"100", "1000"})
+    public int models;
+
+    @Param({"1"})
+    public int renderingThreads;
+
+    private File outputDir;
+    private InMemoryGenerator inMemoryGenerator;
+
+    @Setup(Level.Trial)
+    public void createOutputDir() throws IOException {
+        outputDir = BenchmarkSupport.createOutputDir();
+    }
+
+    @Setup(Level.Invocation)
+    public void setUp() {
+        inMemoryGenerator = BenchmarkSupport.setUp(generator, SyntheticSpec.create(models), outputDir, new InMemoryGenerator());
+        inMemoryGenerator.getConfig().setRenderingThreads(renderingThreads);
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteOutputDir() throws IOException {
+        BenchmarkSupport.delete(outputDir);
+    }
+
+    @Benchmark
+    public long generate() {
+        inMemoryGenerator.generate();
+        return inMemoryGenerator.getBytesWritten();
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.benchmarks;
+
+import org.openapitools.codegen.CodegenConfig;
+import org.openapitools.codegen.DefaultGenerator;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A generator keeping the generated files in memory, so that benchmarks measure the generation rather than the disk.
+ * Only the output directories are created. It may also record the data templates are rendered with, to render them
+ * again without going through the whole generation.
+ */
+public class InMemoryGenerator extends DefaultGenerator {
+    // files may be written by several rendering threads
+    private final Map<String, byte[]> files = new ConcurrentHashMap<>();
+    private final List<RenderedTemplate> renderedTemplates = Collections.synchronizedList(new ArrayList<>());
+    private final boolean recordTemplates;
+
+    public InMemoryGenerator() {
+        this(false);
+    }
+
+    /**
+     * @param recordTemplates true to record the data of each rendered template (see {@link #getRenderedTemplates()})
+     */
+    public InMemoryGenerator(boolean recordTemplates) {
+        this.recordTemplates = recordTemplates;
+    }
+
+    @Override
+    protected File processTemplateToFile(Map<String, Object> templateData, String templateName, String outputFilename) throws IOException {
+        if (recordTemplates) {
+            renderedTemplates.add(new RenderedTemplate(templateName, templateData));
+        }
+        return super.processTemplateToFile(templateData, templateName, outputFilename);
+    }
+
+    @Override
+    public File writeToFile(String filename, byte[] contents) throws IOException {
+        files.put(filename, contents);
+        return new File(filename);
+    }
+
+    @Override
+    public File writeToFile(String filename, FileContents contents) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8)) {
+            contents.writeTo(writer);
+        }
+        return writeToFile(filename, out.toByteArray());
+    }
+
+    public Map<String, byte[]> getFiles() {
+        return files;
+    }
+
+    /**
+     * @return the total size of the generated files
+     */
+    public long getBytesWritten() {
+        long bytes = 0;
+        for (byte[] contents : files.values()) {
+            bytes += contents.length;
+        }
+        return bytes;
+    }
+
+    public List<RenderedTemplate> getRenderedTemplates() {
+        return renderedTemplates;
+    }
+
+    /**
+     * Renders a recorded template again, with the templating engine of the generator.
+     *
+     * @param template a template recorded during the generation
+     * @return the rendered template
+     * @throws IOException if the template can't be rendered
+     */
+    public String render(RenderedTemplate template) throws IOException {
+        return templatingEngine.compileTemplate(this, template.getTemplateData(), template.getTemplateName());
+    }
+
+    public CodegenConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * A template rendered during the generation, along with its data.
+     */
+    public static class RenderedTemplate {
+        private final String templateName;
+        private final Map<String, Object> templateData;
+
+        RenderedTemplate(String templateName, Map<String, Object> templateData) {
+            this.templateName = templateName;
+            this.templateData = templateData;
+        }
+
+        public String getTemplateName() {
+            return templateName;
+        }
+
+        public Map<String, Object> getTemplateData() {
+            return templateData;
+        }
+    }
+}
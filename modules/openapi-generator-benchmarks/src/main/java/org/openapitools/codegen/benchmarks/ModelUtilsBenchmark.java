@@ -0,0 +1,89 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.benchmarks;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import org.openapitools.codegen.InlineModelResolver;
+import org.openapitools.codegen.utils.ModelUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reachability and inheritance of the schemas of a specification. The inheritance analysis is cached per document, so
+ * the caches are invalidated first to measure its computation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = BenchmarkSupport.QUIET_LOGGING)
+public class ModelUtilsBenchmark {
+    @Param({"100", "1000"})
+    public int models;
+
+    private OpenAPI openAPI;
+
+    @Setup
+    public void setUp() {
+        openAPI = SyntheticSpec.create(models);
+        new InlineModelResolver().flatten(openAPI);
+    }
+
+    @Benchmark
+    public List<String> unusedSchemas() {
+        ModelUtils.invalidateCaches(openAPI);
+        return ModelUtils.getUnusedSchemas(openAPI);
+    }
+
+    @Benchmark
+    public List<String> allUsedSchemas() {
+        ModelUtils.invalidateCaches(openAPI);
+        return ModelUtils.getAllUsedSchemas(openAPI);
+    }
+
+    @Benchmark
+    public List<String> schemasUsedOnlyInFormParam() {
+        ModelUtils.invalidateCaches(openAPI);
+        return ModelUtils.getSchemasUsedOnlyInFormParam(openAPI);
+    }
+
+    @Benchmark
+    public Map<String, List<String>> childrenMap() {
+        ModelUtils.invalidateCaches(openAPI);
+        return ModelUtils.getChildrenMap(openAPI);
+    }
+
+    @Benchmark
+    public List<String> descendants() {
+        ModelUtils.invalidateCaches(openAPI);
+        return ModelUtils.getDescendants(openAPI, "Event");
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.benchmarks;
+
+import io.swagger.parser.OpenAPIParser;
+import io.swagger.v3.core.util.Yaml;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.info.Info;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.DateTimeSchema;
+import io.swagger.v3.oas.models.media.Discriminator;
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.MapSchema;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.parameters.PathParameter;
+import io.swagger.v3.oas.models.parameters.QueryParameter;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+import io.swagger.v3.oas.models.servers.Server;
+import io.swagger.v3.parser.core.models.ParseOptions;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * Builds specifications of a given size, shaped like the large specs generators are used with: every model comes with
+ * a CRUD resource grouped under one of a few tags, and the specification mixes the constructs generators spend their
+ * time on (references between models, cycles, enums, maps, inline schemas to flatten, composition with a
+ * discriminator and form parameters).
+ */
+public final class SyntheticSpec {
+    static final String JSON = "application/json";
+    static final String FORM = "application/x-www-form-urlencoded";
+
+    private SyntheticSpec() {
+    }
+
+    /**
+     * Builds a specification.
+     * <p>
+     * It holds <code>models</code> models, each referencing the next one (the last one the first one, so that the
+     * references form a cycle) and with an inline <code>metadata</code> object, a discriminated <code>Event</code>
+     * subtype for every fifth model, and a resource per model with five operations (list, create, get, update and
+     * delete), the list returning an inline page object. Every tenth resource also has a form operation.
+     *
+     * @param models number of models, at least one
+     * @return a new specification, which generators are free to modify
+     */
+    public static OpenAPI create(int models) {
+        if (models < 1) {
+            throw new IllegalArgumentException("A synthetic specification needs at least one model");
+        }
+        OpenAPI openAPI = new OpenAPI()
+                .info(new Info().title("Synthetic API").description("Synthetic API with " + models + " models").version("1.0.0"))
+                .servers(Collections.singletonList(new Server().url("https://api.example.com/v1")))
+                .components(new Components())
+                .paths(new Paths());
+
+        openAPI.getComponents().addSchemas("Event", new ObjectSchema()
+                .addProperties("eventType", new StringSchema())
+                .addProperties("occurredAt", new DateTimeSchema())
+                .discriminator(new Discriminator().propertyName("eventType"))
+                .required(Collections.singletonList("eventType")));
+
+        for (int i = 0; i < models; i++) {
+            String name = modelName(i);
+            openAPI.getComponents().addSchemas(name, model(i, models));
+            if (i % 5 == 0) {
+                openAPI.getComponents().addSchemas(name + "Event", new ComposedSchema()
+                        .addAllOfItem(ref("Event"))
+                        .addAllOfItem(new ObjectSchema().addProperties("payload", ref(name))));
+            }
+            addResource(openAPI, i);
+        }
+        return openAPI;
+    }
+
+    /**
+     * Serializes a specification, e.g. to benchmark its parsing.
+     *
+     * @param openAPI a specification
+     * @return the specification as YAML
+     */
+    public static String toYaml(OpenAPI openAPI) {
+        return Yaml.pretty(openAPI);
+    }
+
+    /**
+     * Parses a specification with the options used by {@link org.openapitools.codegen.config.CodegenConfigurator}.
+     *
+     * @param yaml a specification
+     * @return the parsed specification
+     */
+    public static OpenAPI parse(String yaml) {
+        ParseOptions options = new ParseOptions();
+        options.setResolve(true);
+        return new OpenAPIParser().readContents(yaml, null, options).getOpenAPI();
+    }
+
+    static String modelName(int i) {
+        return "Model" + i;
+    }
+
+    private static Schema model(int i, int models) {
+        ObjectSchema metadata = new ObjectSchema();
+        metadata.addProperties("revision", new IntegerSchema().format("int64"));
+        metadata.addProperties("labels", new MapSchema().additionalProperties(new StringSchema()));
+
+        StringSchema status = new StringSchema();
+        status.setEnum(Arrays.asList("active", "inactive", "pending"));
+
+        ObjectSchema model = new ObjectSchema();
+        model.description("Synthetic model " + i);
+        model.addProperties("id", new IntegerSchema().format("int64"));
+        model.addProperties("name", new StringSchema().maxLength(64));
+        model.addProperties("createdAt", new DateTimeSchema());
+        model.addProperties("status", status);
+        model.addProperties("tags", new ArraySchema().items(new StringSchema()));
+        model.addProperties("next", ref(modelName((i + 1) % models)));
+        model.addProperties("related", new ArraySchema().items(ref(modelName((i + 7) % models))));
+        model.addProperties("metadata", metadata);
+        model.required(Arrays.asList("id", "name"));
+        return model;
+    }
+
+    private static void addResource(OpenAPI openAPI, int i) {
+        String name = modelName(i);
+        String tag = "Group" + (i % 10);
+        String resource = "/model" + i;
+
+        ObjectSchema page = new ObjectSchema();
+        page.addProperties("items", new ArraySchema().items(ref(name)));
+        page.addProperties("total", new IntegerSchema());
+
+        PathItem collection = new PathItem()
+                .get(operation(tag, "list" + name)
+                        .addParametersItem(query("limit", new IntegerSchema().maximum(BigDecimal.valueOf(100))))
+                        .addParametersItem(query("offset", new IntegerSchema()))
+                        .addParametersItem(query("status", new StringSchema()))
+                        .responses(responses("200", page)))
+                .post(operation(tag, "create" + name)
+                        .requestBody(body(JSON, ref(name)))
+                        .responses(responses("201", ref(name))));
+        openAPI.getPaths().addPathItem(resource, collection);
+
+        PathItem item = new PathItem()
+                .addParametersItem(new PathParameter().name("id").schema(new IntegerSchema().format("int64")))
+                .get(operation(tag, "get" + name).responses(responses("200", ref(name))))
+                .put(operation(tag, "update" + name)
+                        .requestBody(body(JSON, ref(name)))
+                        .responses(responses("200", ref(name))))
+                .delete(operation(tag, "delete" + name).responses(responses("204", null)));
+        openAPI.getPaths().addPathItem(resource + "/{id}", item);
+
+        if (i % 10 == 0) {
+            ObjectSchema form = new ObjectSchema();
+            form.addProperties("name", new StringSchema());
+            form.addProperties("status", new StringSchema());
+            PathItem rename = new PathItem()
+                    .addParametersItem(new PathParameter().name("id").schema(new IntegerSchema().format("int64")))
+                    .post(operation(tag, "rename" + name)
+                            .requestBody(body(FORM, form))
+                            .responses(responses("200", ref(name))));
+            openAPI.getPaths().addPathItem(resource + "/{id}/rename", rename);
+        }
+    }
+
+    private static Operation operation(String tag, String operationId) {
+        return new Operation()
+                .addTagsItem(tag)
+                .operationId(operationId)
+                .summary(operationId);
+    }
+
+    private static Parameter query(String name, Schema schema) {
+        return new QueryParameter().name(name).schema(schema);
+    }
+
+    private static RequestBody body(String mediaType, Schema schema) {
+        return new RequestBody()
+                .required(true)
+                .content(new Content().addMediaType(mediaType, new MediaType().schema(schema)));
+    }
+
+    private static ApiResponses responses(String code, Schema schema) {
+        ApiResponse response = new ApiResponse().description("response " + code);
+        if (schema != null) {
+            response.content(new Content().addMediaType(JSON, new MediaType().schema(schema)));
+        }
+        return new ApiResponses()
+                .addApiResponse(code, response)
+                .addApiResponse("default", new ApiResponse().description("unexpected error"));
+    }
+
+    private static Schema ref(String name) {
+        return new Schema().$ref("#/components/schemas/" + name);
+    }
+}
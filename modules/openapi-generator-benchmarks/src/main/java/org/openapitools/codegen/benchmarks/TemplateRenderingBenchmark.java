@@ -0,0 +1,98 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.benchmarks;
+
+import org.openapitools.codegen.benchmarks.InMemoryGenerator.RenderedTemplate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rendering of the model and api templates of a generator (with Mustache, its default templating engine), with the
+ * data they were rendered with during a generation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = BenchmarkSupport.QUIET_LOGGING)
+public class TemplateRenderingBenchmark {
+    @Param({"java", "typescript-axios", "go", "python"})
+    public String generator;
+
+    @Param({"100"})
+    public int models;
+
+    private File outputDir;
+    private InMemoryGenerator inMemoryGenerator;
+    private final List<RenderedTemplate> modelTemplates = new ArrayList<>();
+    private final List<RenderedTemplate> apiTemplates = new ArrayList<>();
+
+    @Setup
+    public void setUp() throws IOException {
+        outputDir = BenchmarkSupport.createOutputDir();
+        inMemoryGenerator = BenchmarkSupport.setUp(generator, SyntheticSpec.create(models), outputDir, new InMemoryGenerator(true));
+        inMemoryGenerator.generate();
+
+        Set<String> modelTemplateNames = inMemoryGenerator.getConfig().modelTemplateFiles().keySet();
+        Set<String> apiTemplateNames = inMemoryGenerator.getConfig().apiTemplateFiles().keySet();
+        for (RenderedTemplate template : inMemoryGenerator.getRenderedTemplates()) {
+            if (modelTemplateNames.contains(template.getTemplateName())) {
+                modelTemplates.add(template);
+            } else if (apiTemplateNames.contains(template.getTemplateName())) {
+                apiTemplates.add(template);
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        BenchmarkSupport.delete(outputDir);
+    }
+
+    @Benchmark
+    public void renderModels(Blackhole blackhole) throws IOException {
+        for (RenderedTemplate template : modelTemplates) {
+            blackhole.consume(inMemoryGenerator.render(template));
+        }
+    }
+
+    @Benchmark
+    public void renderApis(Blackhole blackhole) throws IOException {
+        for (RenderedTemplate template : apiTemplates) {
+            blackhole.consume(inMemoryGenerator.render(template));
+        }
+    }
+}
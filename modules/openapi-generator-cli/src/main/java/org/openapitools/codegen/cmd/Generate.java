@@ -232,6 +232,11 @@ public class Generate implements Runnable {
     @Option(name = {"--enable-post-process-file"}, title = "enable post-process file", description = CodegenConstants.ENABLE_POST_PROCESS_FILE)
     private Boolean enablePostProcessFile;
 
+    @Option(name = {"--post-process-file-batch-size"},
+        title = "post-process file batch size",
+        description = CodegenConstants.POST_PROCESS_FILE_BATCH_SIZE_DESC)
+    private Integer postProcessFileBatchSize;
+
     @Option(name = {"--generate-alias-as-model"}, title = "generate alias (array, map) as model", description = CodegenConstants.GENERATE_ALIAS_AS_MODEL_DESC)
     private Boolean generateAliasAsModel;
 
@@ -240,6 +245,21 @@ public class Generate implements Runnable {
         description = "Only write output files that have changed.")
     private Boolean minimalUpdate;
 
+    @Option(name = {"--incremental"},
+        title = "incremental generation",
+        description = CodegenConstants.INCREMENTAL_GENERATION_DESC)
+    private Boolean incrementalGeneration;
+
+    @Option(name = {"--profile"},
+        title = "profile generation",
+        description = CodegenConstants.PROFILE_GENERATION_DESC)
+    private Boolean profileGeneration;
+
+    @Option(name = {"--rendering-threads"},
+        title = "rendering threads",
+        description = CodegenConstants.RENDERING_THREADS_DESC)
+    private Integer renderingThreads;
+
     @Override
     public void run() {
         if (logToStderr != null) {
@@ -387,6 +407,10 @@ public class Generate implements Runnable {
             configurator.setEnablePostProcessFile(enablePostProcessFile);
         }
 
+        if (postProcessFileBatchSize != null) {
+            configurator.setPostProcessFileBatchSize(postProcessFileBatchSize);
+        }
+
         if (generateAliasAsModel != null) {
             configurator.setGenerateAliasAsModel(generateAliasAsModel);
         }
@@ -395,6 +419,18 @@ public class Generate implements Runnable {
             configurator.setEnableMinimalUpdate(minimalUpdate);
         }
 
+        if (incrementalGeneration != null) {
+            configurator.setIncrementalGeneration(incrementalGeneration);
+        }
+
+        if (profileGeneration != null) {
+            configurator.setProfileGeneration(profileGeneration);
+        }
+
+        if (renderingThreads != null) {
+            configurator.setRenderingThreads(renderingThreads);
+        }
+
         if (strictSpecBehavior != null) {
             configurator.setStrictSpecBehavior(strictSpecBehavior);
         }
@@ -34,6 +34,7 @@ import org.openapitools.codegen.DefaultGenerator;
 import org.openapitools.codegen.config.CodegenConfigurator;
 import org.openapitools.codegen.config.DynamicSettings;
 import org.openapitools.codegen.config.GlobalSettings;
+import org.openapitools.codegen.config.ParsedSpecCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -131,6 +132,10 @@ public class GenerateBatch implements Runnable {
         SimpleModule module = getCustomDeserializationModel(includesDir);
         List<CodegenConfigurator> configurators = configs.stream().map(config -> CodegenConfigurator.fromFile(config, module)).collect(Collectors.toList());
 
+        // Configurations commonly share their input spec, which is then parsed just once (each generator gets its own copy).
+        ParsedSpecCache parsedSpecCache = new ParsedSpecCache();
+        configurators.forEach(configurator -> configurator.setParsedSpecCache(parsedSpecCache));
+
         // it doesn't make sense to interleave INFO level logs, so limit these to only ERROR.
         LoggerContext lc = (LoggerContext) LoggerFactory.getILoggerFactory();
         Stream.of(Logger.ROOT_LOGGER_NAME, "io.swagger", "org.openapitools")
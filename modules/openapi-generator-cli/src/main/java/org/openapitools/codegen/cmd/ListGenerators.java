@@ -6,10 +6,9 @@ import io.airlift.airline.Command;
 import io.airlift.airline.Option;
 
 import org.apache.commons.lang3.StringUtils;
-import org.openapitools.codegen.CodegenConfig;
 import org.openapitools.codegen.CodegenConfigLoader;
+import org.openapitools.codegen.CodegenConfigLoader.GeneratorDescriptor;
 import org.openapitools.codegen.CodegenType;
-import org.openapitools.codegen.meta.GeneratorMetadata;
 import org.openapitools.codegen.meta.Stability;
 
 import java.util.*;
@@ -35,7 +34,7 @@ public class ListGenerators implements Runnable {
 
     @Override
     public void run() {
-        List<CodegenConfig> generators = new ArrayList<>();
+        List<GeneratorDescriptor> generators = new ArrayList<>();
         List<Stability> stabilities = Arrays.asList(Stability.values());
 
         if (!StringUtils.isEmpty(include)) {
@@ -47,10 +46,10 @@ public class ListGenerators implements Runnable {
             }
         }
 
-        for (CodegenConfig codegenConfig : CodegenConfigLoader.getAll()) {
-            GeneratorMetadata meta = codegenConfig.getGeneratorMetadata();
-            if (meta != null && stabilities.contains(meta.getStability())) {
-                generators.add(codegenConfig);
+        // type and stability are read from the generator index, rather than from constructed generators
+        for (GeneratorDescriptor generator : CodegenConfigLoader.getDescriptors()) {
+            if (generator.getStability() != null && stabilities.contains(generator.getStability())) {
+                generators.add(generator);
             }
         }
 
@@ -58,7 +57,7 @@ public class ListGenerators implements Runnable {
 
         if (shortened) {
             for (int i = 0; i < generators.size(); i++) {
-                CodegenConfig generator = generators.get(i);
+                GeneratorDescriptor generator = generators.get(i);
                 if (i != 0) {
                     sb.append(",");
                 }
@@ -81,10 +80,10 @@ public class ListGenerators implements Runnable {
         System.out.printf(Locale.ROOT, "%s%n", sb.toString());
     }
 
-    private void appendForType(StringBuilder sb, CodegenType type, String typeName, List<CodegenConfig> generators) {
-        List<CodegenConfig> list = generators.stream()
-                .filter(g -> Objects.equal(type, g.getTag()))
-                .sorted(Comparator.comparing(CodegenConfig::getName))
+    private void appendForType(StringBuilder sb, CodegenType type, String typeName, List<GeneratorDescriptor> generators) {
+        List<GeneratorDescriptor> list = generators.stream()
+                .filter(g -> Objects.equal(type, g.getType()))
+                .sorted(Comparator.comparing(GeneratorDescriptor::getName))
                 .collect(Collectors.toList());
 
         if(!list.isEmpty()) {
@@ -96,15 +95,15 @@ public class ListGenerators implements Runnable {
             sb.append(System.lineSeparator());
 
             list.forEach(generator -> {
-                GeneratorMetadata meta = generator.getGeneratorMetadata();
+                Stability stability = generator.getStability();
                 if (docusaurus || githubNestedIndex) {
                     sb.append("* ");
                     String idPrefix = docusaurus ? "generators/" : "";
                     String id = idPrefix + generator.getName() + ".md";
                     sb.append("[").append(generator.getName());
 
-                    if (meta != null && meta.getStability() != null && meta.getStability() != Stability.STABLE) {
-                        sb.append(" (").append(meta.getStability().value()).append(")");
+                    if (stability != null && stability != Stability.STABLE) {
+                        sb.append(" (").append(stability.value()).append(")");
                     }
 
                     sb.append("](").append(id).append(")");
@@ -115,8 +114,8 @@ public class ListGenerators implements Runnable {
                     sb.append("    - ");
                     sb.append(generator.getName());
 
-                    if (meta != null && meta.getStability() != null && meta.getStability() != Stability.STABLE) {
-                        sb.append(" (").append(meta.getStability().value()).append(")");
+                    if (stability != null && stability != Stability.STABLE) {
+                        sb.append(" (").append(stability.value()).append(")");
                     }
                 }
                 sb.append(System.lineSeparator());
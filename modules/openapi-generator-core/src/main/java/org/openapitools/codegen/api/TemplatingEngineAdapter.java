@@ -17,6 +17,7 @@
 package org.openapitools.codegen.api;
 
 import java.io.IOException;
+import java.io.Writer;
 import java.util.Map;
 
 /**
@@ -43,6 +44,23 @@ public interface TemplatingEngineAdapter{
   String compileTemplate(TemplatingGenerator generator, Map<String, Object> bundle,
                          String templateFile) throws IOException;
 
+  /**
+   * Compiles a template into a writer, so that large results are not held in memory at once.
+   * <p>
+   * Engines able to render into a writer should override this method; the default implementation writes the result
+   * of {@link #compileTemplate(TemplatingGenerator, Map, String)}. The writer is neither flushed nor closed.
+   *
+   * @param generator From where we can fetch the templates content (e.g. an instance of DefaultGenerator)
+   * @param bundle The map of values to pass to the template
+   * @param templateFile The name of the template (e.g. model.mustache )
+   * @param writer The writer receiving the processed template result
+   * @throws IOException an error ocurred in the template processing, or while writing the result
+   */
+  default void compileTemplate(TemplatingGenerator generator, Map<String, Object> bundle,
+                               String templateFile, Writer writer) throws IOException {
+    writer.write(compileTemplate(generator, bundle, templateFile));
+  }
+
   /**
    * During generation, if a supporting file has a file extension that is
    * inside that array, then it is considered a templated supporting file
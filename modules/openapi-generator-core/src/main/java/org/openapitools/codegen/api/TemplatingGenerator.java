@@ -42,4 +42,14 @@ public interface TemplatingGenerator {
    * @return The {@link Path} to the template
    */
   Path getFullTemplatePath(String name);
+
+  /**
+   * Notifies that a templating engine compiled a template (or looked it up among the ones it compiled already), apart
+   * from rendering it, e.g. so that the time spent in each can be profiled. Called on the rendering thread.
+   *
+   * @param name the template name (e.g. model.mustache)
+   * @param nanos the time spent compiling the template, in nanoseconds
+   */
+  default void templateCompiled(String name, long nanos) {
+  }
 }
@@ -45,6 +45,10 @@ public class WorkflowSettings {
     public static final boolean DEFAULT_ENABLE_POST_PROCESS_FILE = false;
     public static final boolean DEFAULT_ENABLE_MINIMAL_UPDATE = false;
     public static final boolean DEFAULT_STRICT_SPEC_BEHAVIOR = true;
+    public static final int DEFAULT_RENDERING_THREADS = 1;
+    public static final int DEFAULT_POST_PROCESS_FILE_BATCH_SIZE = 1;
+    public static final boolean DEFAULT_INCREMENTAL_GENERATION = false;
+    public static final boolean DEFAULT_PROFILE_GENERATION = false;
     public static final String DEFAULT_TEMPLATING_ENGINE_NAME = "mustache";
     public static final ImmutableMap<String, String> DEFAULT_SYSTEM_PROPERTIES = ImmutableMap.of();
 
@@ -58,6 +62,10 @@ public class WorkflowSettings {
     private boolean enablePostProcessFile = DEFAULT_ENABLE_POST_PROCESS_FILE;
     private boolean enableMinimalUpdate = DEFAULT_ENABLE_MINIMAL_UPDATE;
     private boolean strictSpecBehavior = DEFAULT_STRICT_SPEC_BEHAVIOR;
+    private int renderingThreads = DEFAULT_RENDERING_THREADS;
+    private int postProcessFileBatchSize = DEFAULT_POST_PROCESS_FILE_BATCH_SIZE;
+    private boolean incrementalGeneration = DEFAULT_INCREMENTAL_GENERATION;
+    private boolean profileGeneration = DEFAULT_PROFILE_GENERATION;
     private String templateDir;
     private String templatingEngineName = DEFAULT_TEMPLATING_ENGINE_NAME;
     private String ignoreFileOverride;
@@ -74,6 +82,10 @@ public class WorkflowSettings {
         this.enablePostProcessFile = builder.enablePostProcessFile;
         this.enableMinimalUpdate = builder.enableMinimalUpdate;
         this.strictSpecBehavior = builder.strictSpecBehavior;
+        this.renderingThreads = builder.renderingThreads;
+        this.postProcessFileBatchSize = builder.postProcessFileBatchSize;
+        this.incrementalGeneration = builder.incrementalGeneration;
+        this.profileGeneration = builder.profileGeneration;
         this.templateDir = builder.templateDir;
         this.templatingEngineName = builder.templatingEngineName;
         this.ignoreFileOverride = builder.ignoreFileOverride;
@@ -104,6 +116,10 @@ public class WorkflowSettings {
         builder.enablePostProcessFile = copy.isEnablePostProcessFile();
         builder.enableMinimalUpdate = copy.isEnableMinimalUpdate();
         builder.strictSpecBehavior = copy.isStrictSpecBehavior();
+        builder.renderingThreads = copy.getRenderingThreads();
+        builder.postProcessFileBatchSize = copy.getPostProcessFileBatchSize();
+        builder.incrementalGeneration = copy.isIncrementalGeneration();
+        builder.profileGeneration = copy.isProfileGeneration();
         builder.templatingEngineName = copy.getTemplatingEngineName();
         builder.ignoreFileOverride = copy.getIgnoreFileOverride();
 
@@ -221,6 +237,49 @@ public class WorkflowSettings {
         return strictSpecBehavior;
     }
 
+    /**
+     * Gets the number of threads used to render and write model and api files. Rendering happens once all models and
+     * operations have been processed, so a value greater than <code>1</code> only parallelizes template execution and file output.
+     * The order of generated files reported by the generator is the same regardless of this setting.
+     *
+     * @return the number of rendering threads. Default: <code>1</code> (sequential rendering).
+     */
+    public int getRenderingThreads() {
+        return renderingThreads;
+    }
+
+    /**
+     * Gets the maximum number of files passed to a single invocation of the post-processing command (see {@link #isEnablePostProcessFile()}).
+     * With a value greater than <code>1</code>, files are post-processed in batches, in parallel, once all files are generated.
+     *
+     * @return the post-processing batch size. Default: <code>1</code> (each file is post-processed as soon as it is written).
+     */
+    public int getPostProcessFileBatchSize() {
+        return postProcessFileBatchSize;
+    }
+
+    /**
+     * Indicates whether or not files whose inputs (template data, templates, generator and version) are unchanged since
+     * the previous generation into the same output directory should be skipped, rather than rendered and written again.
+     * Fingerprints of the inputs are kept in <code>.openapi-generator/FINGERPRINTS</code> under the output directory.
+     *
+     * @return <code>true</code> if incremental generation is enabled, otherwise <code>false</code>.
+     */
+    public boolean isIncrementalGeneration() {
+        return incrementalGeneration;
+    }
+
+    /**
+     * Indicates whether or not the time spent in each phase of the generation (model and operation processing, template
+     * rendering, file writes, post-processing...) should be recorded. The report is written to
+     * <code>.openapi-generator/PROFILE.json</code> under the output directory.
+     *
+     * @return <code>true</code> if the generation is profiled, otherwise <code>false</code>.
+     */
+    public boolean isProfileGeneration() {
+        return profileGeneration;
+    }
+
     /**
      * Gets the directory holding templates used in generation. This option allows users to extend or modify built-in templates, or to write their own.
      *
@@ -274,6 +333,10 @@ public class WorkflowSettings {
         private Boolean enablePostProcessFile = DEFAULT_ENABLE_POST_PROCESS_FILE;
         private Boolean enableMinimalUpdate = DEFAULT_ENABLE_MINIMAL_UPDATE;
         private Boolean strictSpecBehavior = DEFAULT_STRICT_SPEC_BEHAVIOR;
+        private Integer renderingThreads = DEFAULT_RENDERING_THREADS;
+        private Integer postProcessFileBatchSize = DEFAULT_POST_PROCESS_FILE_BATCH_SIZE;
+        private Boolean incrementalGeneration = DEFAULT_INCREMENTAL_GENERATION;
+        private Boolean profileGeneration = DEFAULT_PROFILE_GENERATION;
         private String templateDir;
         private String templatingEngineName = DEFAULT_TEMPLATING_ENGINE_NAME;
         private String ignoreFileOverride;
@@ -401,6 +464,56 @@ public class WorkflowSettings {
             return this;
         }
 
+        /**
+         * Sets the {@code renderingThreads} and returns a reference to this Builder so that the methods can be chained together.
+         *
+         * @param renderingThreads the {@code renderingThreads} to set
+         * @return a reference to this Builder
+         */
+        public Builder withRenderingThreads(Integer renderingThreads) {
+            if (renderingThreads != null && renderingThreads < 1) {
+                throw new IllegalArgumentException("renderingThreads must be greater than 0, but was " + renderingThreads);
+            }
+            this.renderingThreads = renderingThreads != null ? renderingThreads : Integer.valueOf(DEFAULT_RENDERING_THREADS);
+            return this;
+        }
+
+        /**
+         * Sets the {@code postProcessFileBatchSize} and returns a reference to this Builder so that the methods can be chained together.
+         *
+         * @param postProcessFileBatchSize the {@code postProcessFileBatchSize} to set
+         * @return a reference to this Builder
+         */
+        public Builder withPostProcessFileBatchSize(Integer postProcessFileBatchSize) {
+            if (postProcessFileBatchSize != null && postProcessFileBatchSize < 1) {
+                throw new IllegalArgumentException("postProcessFileBatchSize must be greater than 0, but was " + postProcessFileBatchSize);
+            }
+            this.postProcessFileBatchSize = postProcessFileBatchSize != null ? postProcessFileBatchSize : Integer.valueOf(DEFAULT_POST_PROCESS_FILE_BATCH_SIZE);
+            return this;
+        }
+
+        /**
+         * Sets the {@code incrementalGeneration} and returns a reference to this Builder so that the methods can be chained together.
+         *
+         * @param incrementalGeneration the {@code incrementalGeneration} to set
+         * @return a reference to this Builder
+         */
+        public Builder withIncrementalGeneration(Boolean incrementalGeneration) {
+            this.incrementalGeneration = incrementalGeneration != null ? incrementalGeneration : Boolean.valueOf(DEFAULT_INCREMENTAL_GENERATION);
+            return this;
+        }
+
+        /**
+         * Sets the {@code profileGeneration} and returns a reference to this Builder so that the methods can be chained together.
+         *
+         * @param profileGeneration the {@code profileGeneration} to set
+         * @return a reference to this Builder
+         */
+        public Builder withProfileGeneration(Boolean profileGeneration) {
+            this.profileGeneration = profileGeneration != null ? profileGeneration : Boolean.valueOf(DEFAULT_PROFILE_GENERATION);
+            return this;
+        }
+
         /**
          * Sets the {@code templateDir} and returns a reference to this Builder so that the methods can be chained together.
          *
@@ -514,6 +627,10 @@ public class WorkflowSettings {
                 ", enablePostProcessFile=" + enablePostProcessFile +
                 ", enableMinimalUpdate=" + enableMinimalUpdate +
                 ", strictSpecBehavior=" + strictSpecBehavior +
+                ", renderingThreads=" + renderingThreads +
+                ", postProcessFileBatchSize=" + postProcessFileBatchSize +
+                ", incrementalGeneration=" + incrementalGeneration +
+                ", profileGeneration=" + profileGeneration +
                 ", templateDir='" + templateDir + '\'' +
                 ", templatingEngineName='" + templatingEngineName + '\'' +
                 ", ignoreFileOverride='" + ignoreFileOverride + '\'' +
@@ -534,6 +651,10 @@ public class WorkflowSettings {
                 isEnablePostProcessFile() == that.isEnablePostProcessFile() &&
                 isEnableMinimalUpdate() == that.isEnableMinimalUpdate() &&
                 isStrictSpecBehavior() == that.isStrictSpecBehavior() &&
+                getRenderingThreads() == that.getRenderingThreads() &&
+                getPostProcessFileBatchSize() == that.getPostProcessFileBatchSize() &&
+                isIncrementalGeneration() == that.isIncrementalGeneration() &&
+                isProfileGeneration() == that.isProfileGeneration() &&
                 Objects.equals(getInputSpec(), that.getInputSpec()) &&
                 Objects.equals(getOutputDir(), that.getOutputDir()) &&
                 Objects.equals(getTemplateDir(), that.getTemplateDir()) &&
@@ -555,6 +676,10 @@ public class WorkflowSettings {
                 isEnablePostProcessFile(),
                 isEnableMinimalUpdate(),
                 isStrictSpecBehavior(),
+                getRenderingThreads(),
+                getPostProcessFileBatchSize(),
+                isIncrementalGeneration(),
+                isProfileGeneration(),
                 getTemplateDir(),
                 getTemplatingEngineName(),
                 getIgnoreFileOverride(),
@@ -36,6 +36,10 @@ public class WorkflowSettingsTest {
                 .withEnablePostProcessFile(null)
                 .withEnableMinimalUpdate(null)
                 .withStrictSpecBehavior(null)
+                .withRenderingThreads(null)
+                .withPostProcessFileBatchSize(null)
+                .withIncrementalGeneration(null)
+                .withProfileGeneration(null)
                 .build();
 
         assertEquals(settings.getOutputDir(), ".");
@@ -47,6 +51,10 @@ public class WorkflowSettingsTest {
         assertFalse(settings.isEnablePostProcessFile());
         assertFalse(settings.isEnableMinimalUpdate());
         assertTrue(settings.isStrictSpecBehavior());
+        assertEquals(settings.getRenderingThreads(), 1);
+        assertEquals(settings.getPostProcessFileBatchSize(), 1);
+        assertFalse(settings.isIncrementalGeneration());
+        assertFalse(settings.isProfileGeneration());
     }
 
     @Test
@@ -79,6 +87,10 @@ public class WorkflowSettingsTest {
                 .withEnablePostProcessFile(true)
                 .withEnableMinimalUpdate(true)
                 .withStrictSpecBehavior(false)
+                .withRenderingThreads(4)
+                .withPostProcessFileBatchSize(50)
+                .withIncrementalGeneration(true)
+                .withProfileGeneration(true)
                 .build();
 
         assertNotEquals(defaults.getOutputDir(), settings.getOutputDir());
@@ -107,6 +119,28 @@ public class WorkflowSettingsTest {
 
         assertNotEquals(defaults.isStrictSpecBehavior(), settings.isStrictSpecBehavior());
         assertFalse(settings.isStrictSpecBehavior());
+
+        assertNotEquals(defaults.getRenderingThreads(), settings.getRenderingThreads());
+        assertEquals(settings.getRenderingThreads(), 4);
+
+        assertNotEquals(defaults.getPostProcessFileBatchSize(), settings.getPostProcessFileBatchSize());
+        assertEquals(settings.getPostProcessFileBatchSize(), 50);
+
+        assertNotEquals(defaults.isIncrementalGeneration(), settings.isIncrementalGeneration());
+        assertTrue(settings.isIncrementalGeneration());
+
+        assertNotEquals(defaults.isProfileGeneration(), settings.isProfileGeneration());
+        assertTrue(settings.isProfileGeneration());
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void renderingThreadsMustBePositive(){
+        WorkflowSettings.newBuilder().withRenderingThreads(0);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void postProcessFileBatchSizeMustBePositive(){
+        WorkflowSettings.newBuilder().withPostProcessFileBatchSize(0);
     }
 
     @Test
@@ -136,8 +136,12 @@ class OpenApiGeneratorPlugin : Plugin<Project> {
                     configOptions.set(generate.configOptions)
                     logToStderr.set(generate.logToStderr)
                     enablePostProcessFile.set(generate.enablePostProcessFile)
+                    postProcessFileBatchSize.set(generate.postProcessFileBatchSize)
+                    incrementalGeneration.set(generate.incrementalGeneration)
+                    profileGeneration.set(generate.profileGeneration)
                     skipValidateSpec.set(generate.skipValidateSpec)
                     generateAliasAsModel.set(generate.generateAliasAsModel)
+                    renderingThreads.set(generate.renderingThreads)
                 }
             }
         }
@@ -290,6 +290,23 @@ open class OpenApiGeneratorGenerateExtension(project: Project) {
      */
     val enablePostProcessFile = project.objects.property<Boolean>()
 
+    /**
+     * The maximum number of files passed to a single invocation of the post-processing command. Defaults to 1 (one invocation per file).
+     */
+    val postProcessFileBatchSize = project.objects.property<Int>()
+
+    /**
+     * To skip rendering and writing files whose inputs (template data, templates, generator, its options and its version) are unchanged
+     * since the previous generation into the same output directory.
+     */
+    val incrementalGeneration = project.objects.property<Boolean>()
+
+    /**
+     * To record the time spent in each phase of the generation, per template and per generator hook, into
+     * .openapi-generator/PROFILE.json under the output directory.
+     */
+    val profileGeneration = project.objects.property<Boolean>()
+
     /**
      * To skip spec validation. When true, we will skip the default behavior of validating a spec before generation.
      */
@@ -302,6 +319,11 @@ open class OpenApiGeneratorGenerateExtension(project: Project) {
      */
     val generateAliasAsModel = project.objects.property<Boolean>()
 
+    /**
+     * The number of threads used to render and write model and api files. Defaults to 1 (sequential rendering).
+     */
+    val renderingThreads = project.objects.property<Int>()
+
     /**
      * A map of options specific to a generator.
      */
@@ -0,0 +1,271 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.generator.gradle.plugin.tasks
+
+import org.gradle.api.GradleException
+import org.gradle.api.logging.Logging
+import org.openapitools.codegen.CodegenConstants
+import org.openapitools.codegen.DefaultGenerator
+import org.openapitools.codegen.config.CodegenConfigurator
+import org.openapitools.codegen.config.GlobalSettings
+import javax.inject.Inject
+
+/**
+ * The generation performed by a [GenerateTask], submitted to the Gradle worker API so that generate tasks run in
+ * parallel with other tasks, in a class loader isolated from the build script.
+ */
+class GenerateAction @Inject constructor(private val settings: GenerateSettings) : Runnable {
+
+    private fun String?.ifNotEmpty(block: (String) -> Unit) {
+        if (this != null && this.isNotEmpty()) {
+            block(this)
+        }
+    }
+
+    override fun run() {
+        val configurator: CodegenConfigurator = if (settings.configFile != null) {
+            CodegenConfigurator.fromFile(settings.configFile)
+        } else CodegenConfigurator()
+
+        try {
+            settings.systemProperties.forEach { (key, value) ->
+                configurator.addSystemProperty(key, value)
+            }
+
+            if (settings.supportingFilesConstrainedTo.isNotEmpty()) {
+                GlobalSettings.setProperty(CodegenConstants.SUPPORTING_FILES, settings.supportingFilesConstrainedTo.joinToString(","))
+            } else {
+                GlobalSettings.clearProperty(CodegenConstants.SUPPORTING_FILES)
+            }
+
+            if (settings.modelFilesConstrainedTo.isNotEmpty()) {
+                GlobalSettings.setProperty(CodegenConstants.MODELS, settings.modelFilesConstrainedTo.joinToString(","))
+            } else {
+                GlobalSettings.clearProperty(CodegenConstants.MODELS)
+            }
+
+            if (settings.apiFilesConstrainedTo.isNotEmpty()) {
+                GlobalSettings.setProperty(CodegenConstants.APIS, settings.apiFilesConstrainedTo.joinToString(","))
+            } else {
+                GlobalSettings.clearProperty(CodegenConstants.APIS)
+            }
+
+            settings.generateApiDocumentation?.let { value ->
+                GlobalSettings.setProperty(CodegenConstants.API_DOCS, value.toString())
+            }
+
+            settings.generateModelDocumentation?.let { value ->
+                GlobalSettings.setProperty(CodegenConstants.MODEL_DOCS, value.toString())
+            }
+
+            settings.generateModelTests?.let { value ->
+                GlobalSettings.setProperty(CodegenConstants.MODEL_TESTS, value.toString())
+            }
+
+            settings.generateApiTests?.let { value ->
+                GlobalSettings.setProperty(CodegenConstants.API_TESTS, value.toString())
+            }
+
+            settings.withXml?.let { value ->
+                GlobalSettings.setProperty(CodegenConstants.WITH_XML, value.toString())
+            }
+
+            // now override with any specified parameters
+            settings.verbose?.let { value ->
+                configurator.setVerbose(value)
+            }
+
+            settings.validateSpec?.let { value ->
+                configurator.setValidateSpec(value)
+            }
+
+            settings.skipOverwrite?.let { value ->
+                configurator.setSkipOverwrite(value)
+            }
+
+            settings.inputSpec.ifNotEmpty { value ->
+                configurator.setInputSpec(value)
+            }
+
+            settings.generatorName.ifNotEmpty { value ->
+                configurator.setGeneratorName(value)
+            }
+
+            settings.outputDir.ifNotEmpty { value ->
+                configurator.setOutputDir(value)
+            }
+
+            settings.auth.ifNotEmpty { value ->
+                configurator.setAuth(value)
+            }
+
+            settings.templateDir.ifNotEmpty { value ->
+                configurator.setTemplateDir(value)
+            }
+
+            settings.packageName.ifNotEmpty { value ->
+                configurator.setPackageName(value)
+            }
+
+            settings.apiPackage.ifNotEmpty { value ->
+                configurator.setApiPackage(value)
+            }
+
+            settings.modelPackage.ifNotEmpty { value ->
+                configurator.setModelPackage(value)
+            }
+
+            settings.modelNamePrefix.ifNotEmpty { value ->
+                configurator.setModelNamePrefix(value)
+            }
+
+            settings.modelNameSuffix.ifNotEmpty { value ->
+                configurator.setModelNameSuffix(value)
+            }
+
+            settings.invokerPackage.ifNotEmpty { value ->
+                configurator.setInvokerPackage(value)
+            }
+
+            settings.groupId.ifNotEmpty { value ->
+                configurator.setGroupId(value)
+            }
+
+            settings.id.ifNotEmpty { value ->
+                configurator.setArtifactId(value)
+            }
+
+            settings.version.ifNotEmpty { value ->
+                configurator.setArtifactVersion(value)
+            }
+
+            settings.library.ifNotEmpty { value ->
+                configurator.setLibrary(value)
+            }
+
+            settings.gitHost.ifNotEmpty { value ->
+                configurator.setGitHost(value)
+            }
+
+            settings.gitUserId.ifNotEmpty { value ->
+                configurator.setGitUserId(value)
+            }
+
+            settings.gitRepoId.ifNotEmpty { value ->
+                configurator.setGitRepoId(value)
+            }
+
+            settings.releaseNote.ifNotEmpty { value ->
+                configurator.setReleaseNote(value)
+            }
+
+            settings.httpUserAgent.ifNotEmpty { value ->
+                configurator.setHttpUserAgent(value)
+            }
+
+            settings.ignoreFileOverride.ifNotEmpty { value ->
+                configurator.setIgnoreFileOverride(value)
+            }
+
+            settings.removeOperationIdPrefix?.let { value ->
+                configurator.setRemoveOperationIdPrefix(value)
+            }
+
+            settings.logToStderr?.let { value ->
+                configurator.setLogToStderr(value)
+            }
+
+            settings.enablePostProcessFile?.let { value ->
+                configurator.setEnablePostProcessFile(value)
+            }
+
+            settings.postProcessFileBatchSize?.let { value ->
+                configurator.setPostProcessFileBatchSize(value)
+            }
+
+            settings.incrementalGeneration?.let { value ->
+                configurator.setIncrementalGeneration(value)
+            }
+
+            settings.profileGeneration?.let { value ->
+                configurator.setProfileGeneration(value)
+            }
+
+            settings.skipValidateSpec?.let { value ->
+                configurator.setValidateSpec(!value)
+            }
+
+            settings.generateAliasAsModel?.let { value ->
+                configurator.setGenerateAliasAsModel(value)
+            }
+
+            settings.renderingThreads?.let { value ->
+                configurator.setRenderingThreads(value)
+            }
+
+            settings.instantiationTypes.forEach { entry ->
+                configurator.addInstantiationType(entry.key, entry.value)
+            }
+
+            settings.importMappings.forEach { entry ->
+                configurator.addImportMapping(entry.key, entry.value)
+            }
+
+            settings.typeMappings.forEach { entry ->
+                configurator.addTypeMapping(entry.key, entry.value)
+            }
+
+            settings.additionalProperties.forEach { entry ->
+                configurator.addAdditionalProperty(entry.key, entry.value)
+            }
+
+            settings.serverVariables.forEach { entry ->
+                configurator.addServerVariable(entry.key, entry.value)
+            }
+
+            settings.languageSpecificPrimitives.forEach {
+                configurator.addLanguageSpecificPrimitive(it)
+            }
+
+            settings.reservedWordsMappings.forEach { entry ->
+                configurator.addAdditionalReservedWordMapping(entry.key, entry.value)
+            }
+
+            val clientOptInput = configurator.toClientOptInput()
+            val codgenConfig = clientOptInput.config
+
+            if (settings.configOptions.isNotEmpty()) {
+                val userSpecifiedConfigOptions = settings.configOptions
+                codgenConfig.cliOptions().forEach {
+                    if (userSpecifiedConfigOptions.containsKey(it.opt)) {
+                        clientOptInput.config.additionalProperties()[it.opt] = userSpecifiedConfigOptions[it.opt]
+                    }
+                }
+            }
+
+            try {
+                DefaultGenerator().opts(clientOptInput).generate()
+
+                Logging.getLogger(GenerateAction::class.java).lifecycle("Successfully generated code to {}", settings.outputDir)
+            } catch (e: RuntimeException) {
+                throw GradleException("Code generation failed.", e)
+            }
+        } finally {
+            GlobalSettings.reset()
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.generator.gradle.plugin.tasks
+
+import java.io.Serializable
+
+/**
+ * The configuration of a [GenerateTask], resolved when the task runs and handed over to [GenerateAction].
+ *
+ * Collections are copied so that they can be serialized to the worker.
+ *
+ * @see GenerateTask for the meaning of each setting
+ */
+data class GenerateSettings(
+        val verbose: Boolean? = null,
+        val validateSpec: Boolean? = null,
+        val generatorName: String? = null,
+        val outputDir: String? = null,
+        val inputSpec: String? = null,
+        val templateDir: String? = null,
+        val auth: String? = null,
+        val systemProperties: HashMap<String, String> = HashMap(),
+        val configFile: String? = null,
+        val skipOverwrite: Boolean? = null,
+        val packageName: String? = null,
+        val apiPackage: String? = null,
+        val modelPackage: String? = null,
+        val modelNamePrefix: String? = null,
+        val modelNameSuffix: String? = null,
+        val instantiationTypes: HashMap<String, String> = HashMap(),
+        val typeMappings: HashMap<String, String> = HashMap(),
+        val additionalProperties: HashMap<String, String> = HashMap(),
+        val serverVariables: HashMap<String, String> = HashMap(),
+        val languageSpecificPrimitives: ArrayList<String> = ArrayList(),
+        val importMappings: HashMap<String, String> = HashMap(),
+        val invokerPackage: String? = null,
+        val groupId: String? = null,
+        val id: String? = null,
+        val version: String? = null,
+        val library: String? = null,
+        val gitHost: String? = null,
+        val gitUserId: String? = null,
+        val gitRepoId: String? = null,
+        val releaseNote: String? = null,
+        val httpUserAgent: String? = null,
+        val reservedWordsMappings: HashMap<String, String> = HashMap(),
+        val ignoreFileOverride: String? = null,
+        val removeOperationIdPrefix: Boolean? = null,
+        val apiFilesConstrainedTo: ArrayList<String> = ArrayList(),
+        val modelFilesConstrainedTo: ArrayList<String> = ArrayList(),
+        val supportingFilesConstrainedTo: ArrayList<String> = ArrayList(),
+        val generateModelTests: Boolean? = null,
+        val generateModelDocumentation: Boolean? = null,
+        val generateApiTests: Boolean? = null,
+        val generateApiDocumentation: Boolean? = null,
+        val withXml: Boolean? = null,
+        val logToStderr: Boolean? = null,
+        val enablePostProcessFile: Boolean? = null,
+        val postProcessFileBatchSize: Int? = null,
+        val incrementalGeneration: Boolean? = null,
+        val profileGeneration: Boolean? = null,
+        val skipValidateSpec: Boolean? = null,
+        val generateAliasAsModel: Boolean? = null,
+        val renderingThreads: Int? = null,
+        val configOptions: HashMap<String, String> = HashMap()
+) : Serializable {
+    companion object {
+        private const val serialVersionUID = 1L
+    }
+}
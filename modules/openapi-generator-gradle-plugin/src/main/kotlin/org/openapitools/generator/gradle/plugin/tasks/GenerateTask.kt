@@ -17,19 +17,28 @@
 package org.openapitools.generator.gradle.plugin.tasks
 
 import org.gradle.api.DefaultTask
-import org.gradle.api.GradleException
-import org.gradle.api.provider.Property
+import org.gradle.api.file.FileCollection
+import org.gradle.api.provider.ListProperty
+import org.gradle.api.provider.MapProperty
+import org.gradle.api.tasks.CacheableTask
+import org.gradle.api.tasks.Console
+import org.gradle.api.tasks.Input
+import org.gradle.api.tasks.InputDirectory
+import org.gradle.api.tasks.InputFile
+import org.gradle.api.tasks.InputFiles
 import org.gradle.api.tasks.Internal
+import org.gradle.api.tasks.Optional
+import org.gradle.api.tasks.OutputDirectory
+import org.gradle.api.tasks.PathSensitive
+import org.gradle.api.tasks.PathSensitivity
 import org.gradle.api.tasks.TaskAction
-import org.gradle.internal.logging.text.StyledTextOutput
-import org.gradle.internal.logging.text.StyledTextOutputFactory
 import org.gradle.kotlin.dsl.listProperty
 import org.gradle.kotlin.dsl.mapProperty
 import org.gradle.kotlin.dsl.property
-import org.openapitools.codegen.CodegenConstants
-import org.openapitools.codegen.DefaultGenerator
-import org.openapitools.codegen.config.CodegenConfigurator
-import org.openapitools.codegen.config.GlobalSettings
+import org.gradle.workers.IsolationMode
+import org.gradle.workers.WorkerExecutor
+import java.io.File
+import javax.inject.Inject
 
 
 /**
@@ -39,27 +48,45 @@ import org.openapitools.codegen.config.GlobalSettings
  *
  * ./gradlew -q openApiGenerate
  *
+ * The task is cacheable: the input specification (when it is a local file) and the local files it references, the
+ * template directory, the configuration file and the ignore file override are tracked as files along with the other
+ * settings, and the output directory is restored from the build cache. Generation runs through the worker API, so that generate tasks of a build can run in
+ * parallel, each in its own class loader.
+ *
  * @author Jim Schubert
  */
 @Suppress("UnstableApiUsage")
-open class GenerateTask : DefaultTask() {
+@CacheableTask
+open class GenerateTask @Inject constructor(private val workerExecutor: WorkerExecutor) : DefaultTask() {
+
+    init {
+        // a remote specification may change without notice, so it is neither up-to-date nor cached
+        outputs.upToDateWhen { !isRemoteInputSpec() && !hasRemoteReferences() }
+        outputs.cacheIf("the input specification and the documents it references are local files") {
+            !isRemoteInputSpec() && !hasRemoteReferences()
+        }
+        // a profile describes the run which produced it
+        outputs.cacheIf("the generation is not profiled") { profileGeneration.orNull != true }
+    }
 
     /**
      * The verbosity of generation
      */
-    @get:Internal
+    @get:Console
     val verbose = project.objects.property<Boolean>()
 
     /**
      * Whether or not an input specification should be validated upon generation.
      */
-    @get:Internal
+    @get:Input
+    @get:Optional
     val validateSpec = project.objects.property<Boolean>()
 
     /**
      * The name of the generator which will handle codegen. (see "openApiGenerators" task)
      */
-    @get:Internal
+    @get:Input
+    @get:Optional
     val generatorName = project.objects.property<String>()
 
     /**
@@ -90,7 +117,8 @@ open class GenerateTask : DefaultTask() {
     /**
      * Sets specified system properties.
      */
-    @get:Internal
+    @get:Input
+    @get:Optional
     val systemProperties = project.objects.mapProperty<String, String>()
 
     /**
@@ -104,141 +132,164 @@ open class GenerateTask : DefaultTask() {
     /**
      * Specifies if the existing files should be overwritten during the generation.
      */
-    @get:Internal
+    @get:Input
+    @get:Optional
     val skipOverwrite = project.objects.property<Boolean?>()
 
     /**
      * Package for generated classes (where supported)
      */
-    @get:Internal
+    @get:Input
+    @get:Optional
     val packageName = project.objects.property<String>()
 
     /**
      * Package for generated api classes
      */
-    @get:Internal
+    @get:Input
+    @get:Optional
     val apiPackage = project.objects.property<String>()
 
     /**
      * Package for generated models
      */
-    @get:Internal
+    @get:Input
+    @get:Optional
     val modelPackage = project.objects.property<String>()
 
     /**
      * Prefix that will be prepended to all model names. Default is the empty string.
      */
-    @get:Internal
+    @get:Input
+    @get:Optional
     val modelNamePrefix = project.objects.property<String>()
 
     /**
      * Suffix that will be appended to all model names. Default is the empty string.
      */
-    @get:Internal
+    @get:Input
+    @get:Optional
     val modelNameSuffix = project.objects.property<String>()
 
     /**
      * Sets instantiation type mappings.
      */
-    @get:Internal
+    @get:Input
+    @get:Optional
     val instantiationTypes = project.objects.mapProperty<String, String>()
 
     /**
      * Sets mappings between OpenAPI spec types and generated code types.
      */
-    @get:Internal
+    @get:Input
+    @get:Optional
     val typeMappings = project.objects.mapProperty<String, String>()
 
     /**
      * Sets additional properties that can be referenced by the mustache templates in the format of name=value,name=value.
      * You can also have multiple occurrences of this option.
      */
-    @get:Internal
+    @get:Input
+    @get:Optional
     val additionalProperties = project.objects.mapProperty<String, String>()
 
     /**
      * Sets server variable for server URL template substitution, in the format of name=value,name=value.
      * You can also have multiple occurrences of this option.
      */
-    @get:Internal
+    @get:Input
+    @get:Optional
     val serverVariables = project.objects.mapProperty<String, String>()
 
     /**
      * Specifies additional language specific primitive types in the format of type1,type2,type3,type3. For example: String,boolean,Boolean,Double.
      */
-    @get:Internal
+    @get:Input
+    @get:Optional
     val languageSpecificPrimitives = project.objects.listProperty<String>()
 
     /**
      * Specifies mappings between a given class and the import that should be used for that class.
      */
-    @get:Internal
+    @get:Input
+    @get:Optional
     val importMappings = project.objects.mapProperty<String, String>()
 
     /**
      * Root package for generated code.
      */
-    @get:Internal
+    @get:Input
+    @get:Optional
     val invokerPackage = project.objects.property<String>()
 
     /**
      * GroupId in generated pom.xml/build.gradle or other build script. Language-specific conversions occur in non-jvm generators.
      */
-    @get:Internal
+    @get:Input
+    @get:Optional
     val groupId = project.objects.property<String>()
 
     /**
      * ArtifactId in generated pom.xml/build.gradle or other build script. Language-specific conversions occur in non-jvm generators.
      */
-    @get:Internal
+    @get:Input
+    @get:Optional
     val id = project.objects.property<String>()
 
     /**
      * Artifact version in generated pom.xml/build.gradle or other build script. Language-specific conversions occur in non-jvm generators.
      */
-    @get:Internal
+    @get:Input
+    @get:Optional
     val version = project.objects.property<String>()
 
     /**
      * Reference the library template (sub-template) of a generator.
      */
-    @get:Internal
+    @get:Input
+    @get:Optional
     val library = project.objects.property<String?>()
 
     /**
      * Git host, e.g. gitlab.com.
      */
-    @get:Internal
+    @get:Input
+    @get:Optional
     val gitHost = project.objects.property<String?>()
 
     /**
      * Git user ID, e.g. openapitools.
      */
-    @get:Internal
+    @get:Input
+    @get:Optional
     val gitUserId = project.objects.property<String?>()
 
     /**
      * Git repo ID, e.g. openapi-generator.
      */
-    @get:Internal
+    @get:Input
+    @get:Optional
     val gitRepoId = project.objects.property<String?>()
 
     /**
      * Release note, default to 'Minor update'.
      */
-    @get:Internal
+    @get:Input
+    @get:Optional
     val releaseNote = project.objects.property<String?>()
 
     /**
      * HTTP user agent, e.g. codegen_csharp_api_client, default to 'OpenAPI-Generator/{packageVersion}}/{language}'
      */
-    @get:Internal
+    @get:Input
+    @get:Optional
     val httpUserAgent = project.objects.property<String?>()
 
     /**
      * Specifies how a reserved name should be escaped to.
      */
-    @get:Internal
+    @get:Input
+    @get:Optional
     val reservedWordsMappings = project.objects.mapProperty<String, String>()
 
     /**
@@ -250,7 +301,8 @@ open class GenerateTask : DefaultTask() {
     /**
      * Remove prefix of operationId, e.g. config_getId => getId
      */
-    @get:Internal
+    @get:Input
+    @get:Optional
     val removeOperationIdPrefix = project.objects.property<Boolean?>()
 
     /**
@@ -262,7 +314,8 @@ open class GenerateTask : DefaultTask() {
      *   in others being disabled. That is, OpenAPI Generator considers any one of these to define a subset of generation.
      *   For more control over generation of individual files, configure an ignore file and refer to it via [ignoreFileOverride].
      */
-    @get:Internal
+    @get:Input
+    @get:Optional
     val apiFilesConstrainedTo = project.objects.listProperty<String>()
 
     /**
@@ -272,7 +325,8 @@ open class GenerateTask : DefaultTask() {
      *   in others being disabled. That is, OpenAPI Generator considers any one of these to define a subset of generation.
      *   For more control over generation of individual files, configure an ignore file and refer to it via [ignoreFileOverride].
      */
-    @get:Internal
+    @get:Input
+    @get:Optional
     val modelFilesConstrainedTo = project.objects.listProperty<String>()
 
     /**
@@ -285,7 +339,8 @@ open class GenerateTask : DefaultTask() {
      *   in others being disabled. That is, OpenAPI Generator considers any one of these to define a subset of generation.
      *   For more control over generation of individual files, configure an ignore file and refer to it via [ignoreFileOverride].
      */
-    @get:Internal
+    @get:Input
+    @get:Optional
     val supportingFilesConstrainedTo = project.objects.listProperty<String>()
 
     /**
@@ -296,7 +351,8 @@ open class GenerateTask : DefaultTask() {
      * For more control over generation of individual files, configure an ignore file and
      * refer to it via [ignoreFileOverride].
      */
-    @get:Internal
+    @get:Input
+    @get:Optional
     val generateModelTests = project.objects.property<Boolean>()
 
     /**
@@ -307,7 +363,8 @@ open class GenerateTask : DefaultTask() {
      * For more control over generation of individual files, configure an ignore file and
      * refer to it via [ignoreFileOverride].
      */
-    @get:Internal
+    @get:Input
+    @get:Optional
     val generateModelDocumentation = project.objects.property<Boolean>()
 
     /**
@@ -318,7 +375,8 @@ open class GenerateTask : DefaultTask() {
      * For more control over generation of individual files, configure an ignore file and
      * refer to it via [ignoreFileOverride].
      */
-    @get:Internal
+    @get:Input
+    @get:Optional
     val generateApiTests = project.objects.property<Boolean>()
 
     /**
@@ -329,21 +387,23 @@ open class GenerateTask : DefaultTask() {
      * For more control over generation of individual files, configure an ignore file and
      * refer to it via [ignoreFileOverride].
      */
-    @get:Internal
+    @get:Input
+    @get:Optional
     val generateApiDocumentation = project.objects.property<Boolean>()
 
     /**
      * A special-case setting which configures some generators with XML support. In some cases,
      * this forces json OR xml, so the default here is false.
      */
-    @get:Internal
+    @get:Input
+    @get:Optional
     val withXml = project.objects.property<Boolean>()
 
 
     /**
      * To write all log messages (not just errors) to STDOUT
      */
-    @get:Internal
+    @get:Console
     val logToStderr = project.objects.property<Boolean>()
 
     /**
@@ -352,13 +412,37 @@ open class GenerateTask : DefaultTask() {
      * LANG_POST_PROCESS_FILE (e.g. GO_POST_PROCESS_FILE, SCALA_POST_PROCESS_FILE). Please open an issue if your target
      * generator does not support this functionality.
      */
-    @get:Internal
+    @get:Input
+    @get:Optional
     val enablePostProcessFile = project.objects.property<Boolean>()
 
     /**
-     * To skip spec validation. When true, we will skip the default behavior of validating a spec before generation.
+     * The maximum number of files passed to a single invocation of the post-processing command. Defaults to 1 (one invocation per file).
+     */
+    @get:Input
+    @get:Optional
+    val postProcessFileBatchSize = project.objects.property<Int>()
+
+    /**
+     * To skip rendering and writing files whose inputs (template data, templates, generator, its options and its version) are unchanged
+     * since the previous generation into the same output directory.
      */
     @get:Internal
+    val incrementalGeneration = project.objects.property<Boolean>()
+
+    /**
+     * To record the time spent in each phase of the generation, per template and per generator hook, into
+     * .openapi-generator/PROFILE.json under the output directory.
+     */
+    @get:Input
+    @get:Optional
+    val profileGeneration = project.objects.property<Boolean>()
+
+    /**
+     * To skip spec validation. When true, we will skip the default behavior of validating a spec before generation.
+     */
+    @get:Input
+    @get:Optional
     val skipValidateSpec = project.objects.property<Boolean>()
 
     /**
@@ -366,273 +450,153 @@ open class GenerateTask : DefaultTask() {
      * definitions generated as top-level Array-of-items, List-of-items, Map-of-items definitions.
      * When true, A model representation either containing or extending the array,list,map (depending on specific generator implementation) will be generated.
      */
-    @get:Internal
+    @get:Input
+    @get:Optional
     val generateAliasAsModel = project.objects.property<Boolean>()
 
     /**
-     * A dynamic map of options specific to a generator.
+     * The number of threads used to render and write model and api files. Defaults to 1 (sequential rendering).
      */
     @get:Internal
+    val renderingThreads = project.objects.property<Int>()
+
+    /**
+     * A dynamic map of options specific to a generator.
+     */
+    @get:Input
+    @get:Optional
     val configOptions = project.objects.mapProperty<String, String>()
 
-    private fun <T : Any?> Property<T>.ifNotEmpty(block: Property<T>.(T) -> Unit) {
-        if (isPresent) {
-            val item: T? = get()
-            if (item != null) {
-                when (get()) {
-                    is String -> if ((get() as String).isNotEmpty()) {
-                        block(get())
-                    }
-                    is String? -> if (true == (get() as String?)?.isNotEmpty()) {
-                        block(get())
-                    }
-                    else -> block(get())
-                }
-            }
-        }
+    /**
+     * The input specification, when it is a local file.
+     */
+    @get:Internal
+    val inputSpecFile: File?
+        get() = inputSpec.orNull?.takeIf { it.isNotEmpty() && !isRemoteInputSpec() }?.let { project.file(it) }
+
+    /**
+     * The input specification and the local files it references with `$ref`, when it is a local file.
+     */
+    @get:InputFiles
+    @get:PathSensitive(PathSensitivity.RELATIVE)
+    val inputSpecFiles: FileCollection
+        get() = project.files(inputSpecFile?.let { SpecReferences.of(it).files } ?: emptySet<File>())
+
+    /**
+     * The location of a remote input specification, as its content isn't tracked.
+     */
+    @get:Input
+    @get:Optional
+    val inputSpecUrl: String?
+        get() = if (isRemoteInputSpec()) inputSpec.get() else null
+
+    /**
+     * The template directory, when set.
+     */
+    @get:InputDirectory
+    @get:Optional
+    @get:PathSensitive(PathSensitivity.RELATIVE)
+    val templateDirectory: File?
+        get() = templateDir.orNull?.takeIf { it.isNotEmpty() }?.let { project.file(it) }
+
+    /**
+     * The configuration file, when set.
+     */
+    @get:InputFile
+    @get:Optional
+    @get:PathSensitive(PathSensitivity.NONE)
+    val configurationFile: File?
+        get() = configFile.orNull?.takeIf { it.isNotEmpty() }?.let { project.file(it) }
+
+    /**
+     * The ignore file override, when set and existing (a missing one is ignored by generation).
+     */
+    @get:InputFile
+    @get:Optional
+    @get:PathSensitive(PathSensitivity.NONE)
+    val ignoreFile: File?
+        get() = ignoreFileOverride.orNull?.takeIf { it.isNotEmpty() }?.let { project.file(it) }?.takeIf { it.isFile }
+
+    /**
+     * The output directory, when set (rather than in the configuration file).
+     */
+    @get:OutputDirectory
+    @get:Optional
+    val outputDirectory: File?
+        get() = outputDir.orNull?.takeIf { it.isNotEmpty() }?.let { project.file(it) }
+
+    private fun isRemoteInputSpec(): Boolean {
+        val spec = inputSpec.orNull ?: return false
+        return spec.startsWith("http://", ignoreCase = true) || spec.startsWith("https://", ignoreCase = true)
     }
 
+    private fun hasRemoteReferences(): Boolean = inputSpecFile?.let { SpecReferences.of(it).hasRemoteReferences } ?: false
+
+    private fun <K, V> MapProperty<K, V>.toHashMap(): HashMap<K, V> = HashMap(getOrElse(emptyMap()))
+
+    private fun <T> ListProperty<T>.toArrayList(): ArrayList<T> = ArrayList(getOrElse(emptyList()))
+
     @Suppress("unused")
     @TaskAction
     fun doWork() {
-        val configurator: CodegenConfigurator = if (configFile.isPresent) {
-            CodegenConfigurator.fromFile(configFile.get())
-        } else CodegenConfigurator()
-
-        try {
-            if (systemProperties.isPresent) {
-                systemProperties.get().forEach { (key, value) ->
-                    configurator.addSystemProperty(key, value)
-                }
-            }
-
-            if (supportingFilesConstrainedTo.isPresent && supportingFilesConstrainedTo.get().isNotEmpty()) {
-                GlobalSettings.setProperty(CodegenConstants.SUPPORTING_FILES, supportingFilesConstrainedTo.get().joinToString(","))
-            } else {
-                GlobalSettings.clearProperty(CodegenConstants.SUPPORTING_FILES)
-            }
-
-            if (modelFilesConstrainedTo.isPresent && modelFilesConstrainedTo.get().isNotEmpty()) {
-                GlobalSettings.setProperty(CodegenConstants.MODELS, modelFilesConstrainedTo.get().joinToString(","))
-            } else {
-                GlobalSettings.clearProperty(CodegenConstants.MODELS)
-            }
-
-            if (apiFilesConstrainedTo.isPresent && apiFilesConstrainedTo.get().isNotEmpty()) {
-                GlobalSettings.setProperty(CodegenConstants.APIS, apiFilesConstrainedTo.get().joinToString(","))
-            } else {
-                GlobalSettings.clearProperty(CodegenConstants.APIS)
-            }
-
-            if (generateApiDocumentation.isPresent) {
-                GlobalSettings.setProperty(CodegenConstants.API_DOCS, generateApiDocumentation.get().toString())
-            }
-
-            if (generateModelDocumentation.isPresent) {
-                GlobalSettings.setProperty(CodegenConstants.MODEL_DOCS, generateModelDocumentation.get().toString())
-            }
-
-            if (generateModelTests.isPresent) {
-                GlobalSettings.setProperty(CodegenConstants.MODEL_TESTS, generateModelTests.get().toString())
-            }
-
-            if (generateApiTests.isPresent) {
-                GlobalSettings.setProperty(CodegenConstants.API_TESTS, generateApiTests.get().toString())
-            }
-
-            if (withXml.isPresent) {
-                GlobalSettings.setProperty(CodegenConstants.WITH_XML, withXml.get().toString())
-            }
-
-            // now override with any specified parameters
-            verbose.ifNotEmpty { value ->
-                configurator.setVerbose(value)
-            }
-
-            validateSpec.ifNotEmpty { value ->
-                configurator.setValidateSpec(value)
-            }
-
-            skipOverwrite.ifNotEmpty { value ->
-                configurator.setSkipOverwrite(value ?: false)
-            }
-
-            inputSpec.ifNotEmpty { value ->
-                configurator.setInputSpec(value)
-            }
-
-            generatorName.ifNotEmpty { value ->
-                configurator.setGeneratorName(value)
-            }
-
-            outputDir.ifNotEmpty { value ->
-                configurator.setOutputDir(value)
-            }
-
-            auth.ifNotEmpty { value ->
-                configurator.setAuth(value)
-            }
-
-            templateDir.ifNotEmpty { value ->
-                configurator.setTemplateDir(value)
-            }
-
-            packageName.ifNotEmpty { value ->
-                configurator.setPackageName(value)
-            }
-
-            apiPackage.ifNotEmpty { value ->
-                configurator.setApiPackage(value)
-            }
-
-            modelPackage.ifNotEmpty { value ->
-                configurator.setModelPackage(value)
-            }
-
-            modelNamePrefix.ifNotEmpty { value ->
-                configurator.setModelNamePrefix(value)
-            }
-
-            modelNameSuffix.ifNotEmpty { value ->
-                configurator.setModelNameSuffix(value)
-            }
-
-            invokerPackage.ifNotEmpty { value ->
-                configurator.setInvokerPackage(value)
-            }
-
-            groupId.ifNotEmpty { value ->
-                configurator.setGroupId(value)
-            }
-
-            id.ifNotEmpty { value ->
-                configurator.setArtifactId(value)
-            }
-
-            version.ifNotEmpty { value ->
-                configurator.setArtifactVersion(value)
-            }
-
-            library.ifNotEmpty { value ->
-                configurator.setLibrary(value)
-            }
-
-            gitHost.ifNotEmpty { value ->
-                configurator.setGitHost(value)
-            }
-
-            gitUserId.ifNotEmpty { value ->
-                configurator.setGitUserId(value)
-            }
-
-            gitRepoId.ifNotEmpty { value ->
-                configurator.setGitRepoId(value)
-            }
-
-            releaseNote.ifNotEmpty { value ->
-                configurator.setReleaseNote(value)
-            }
-
-            httpUserAgent.ifNotEmpty { value ->
-                configurator.setHttpUserAgent(value)
-            }
-
-            ignoreFileOverride.ifNotEmpty { value ->
-                configurator.setIgnoreFileOverride(value)
-            }
-
-            removeOperationIdPrefix.ifNotEmpty { value ->
-                configurator.setRemoveOperationIdPrefix(value!!)
-            }
-
-            logToStderr.ifNotEmpty { value ->
-                configurator.setLogToStderr(value)
-            }
-
-            enablePostProcessFile.ifNotEmpty { value ->
-                configurator.setEnablePostProcessFile(value)
-            }
-
-            skipValidateSpec.ifNotEmpty { value ->
-                configurator.setValidateSpec(!value)
-            }
-
-            generateAliasAsModel.ifNotEmpty { value ->
-                configurator.setGenerateAliasAsModel(value)
-            }
-
-            if (systemProperties.isPresent) {
-                systemProperties.get().forEach { entry ->
-                    configurator.addSystemProperty(entry.key, entry.value)
-                }
-            }
-
-            if (instantiationTypes.isPresent) {
-                instantiationTypes.get().forEach { entry ->
-                    configurator.addInstantiationType(entry.key, entry.value)
-                }
-            }
-
-            if (importMappings.isPresent) {
-                importMappings.get().forEach { entry ->
-                    configurator.addImportMapping(entry.key, entry.value)
-                }
-            }
-
-            if (typeMappings.isPresent) {
-                typeMappings.get().forEach { entry ->
-                    configurator.addTypeMapping(entry.key, entry.value)
-                }
-            }
-
-            if (additionalProperties.isPresent) {
-                additionalProperties.get().forEach { entry ->
-                    configurator.addAdditionalProperty(entry.key, entry.value)
-                }
-            }
-
-            if (serverVariables.isPresent) {
-                serverVariables.get().forEach { entry ->
-                    configurator.addServerVariable(entry.key, entry.value)
-                }
-            }
-
-            if (languageSpecificPrimitives.isPresent) {
-                languageSpecificPrimitives.get().forEach {
-                    configurator.addLanguageSpecificPrimitive(it)
-                }
-            }
-
-            if (reservedWordsMappings.isPresent) {
-                reservedWordsMappings.get().forEach { entry ->
-                    configurator.addAdditionalReservedWordMapping(entry.key, entry.value)
-                }
-            }
-
-            val clientOptInput = configurator.toClientOptInput()
-            val codgenConfig = clientOptInput.config
-
-            if (configOptions.isPresent) {
-                val userSpecifiedConfigOptions = configOptions.get()
-                codgenConfig.cliOptions().forEach {
-                    if (userSpecifiedConfigOptions.containsKey(it.opt)) {
-                        clientOptInput.config.additionalProperties()[it.opt] = userSpecifiedConfigOptions[it.opt]
-                    }
-                }
-            }
-
-            try {
-                val out = services.get(StyledTextOutputFactory::class.java).create("openapi")
-                out.withStyle(StyledTextOutput.Style.Success)
-
-                DefaultGenerator().opts(clientOptInput).generate()
-
-                out.println("Successfully generated code to $outputDir")
-            } catch (e: RuntimeException) {
-                throw GradleException("Code generation failed.", e)
-            }
-        } finally {
-            GlobalSettings.reset()
+        val settings = GenerateSettings(
+                verbose = verbose.orNull,
+                validateSpec = validateSpec.orNull,
+                generatorName = generatorName.orNull,
+                outputDir = outputDir.orNull,
+                inputSpec = inputSpec.orNull,
+                templateDir = templateDir.orNull,
+                auth = auth.orNull,
+                systemProperties = systemProperties.toHashMap(),
+                configFile = configFile.orNull,
+                skipOverwrite = skipOverwrite.orNull,
+                packageName = packageName.orNull,
+                apiPackage = apiPackage.orNull,
+                modelPackage = modelPackage.orNull,
+                modelNamePrefix = modelNamePrefix.orNull,
+                modelNameSuffix = modelNameSuffix.orNull,
+                instantiationTypes = instantiationTypes.toHashMap(),
+                typeMappings = typeMappings.toHashMap(),
+                additionalProperties = additionalProperties.toHashMap(),
+                serverVariables = serverVariables.toHashMap(),
+                languageSpecificPrimitives = languageSpecificPrimitives.toArrayList(),
+                importMappings = importMappings.toHashMap(),
+                invokerPackage = invokerPackage.orNull,
+                groupId = groupId.orNull,
+                id = id.orNull,
+                version = version.orNull,
+                library = library.orNull,
+                gitHost = gitHost.orNull,
+                gitUserId = gitUserId.orNull,
+                gitRepoId = gitRepoId.orNull,
+                releaseNote = releaseNote.orNull,
+                httpUserAgent = httpUserAgent.orNull,
+                reservedWordsMappings = reservedWordsMappings.toHashMap(),
+                ignoreFileOverride = ignoreFileOverride.orNull,
+                removeOperationIdPrefix = removeOperationIdPrefix.orNull,
+                apiFilesConstrainedTo = apiFilesConstrainedTo.toArrayList(),
+                modelFilesConstrainedTo = modelFilesConstrainedTo.toArrayList(),
+                supportingFilesConstrainedTo = supportingFilesConstrainedTo.toArrayList(),
+                generateModelTests = generateModelTests.orNull,
+                generateModelDocumentation = generateModelDocumentation.orNull,
+                generateApiTests = generateApiTests.orNull,
+                generateApiDocumentation = generateApiDocumentation.orNull,
+                withXml = withXml.orNull,
+                logToStderr = logToStderr.orNull,
+                enablePostProcessFile = enablePostProcessFile.orNull,
+                postProcessFileBatchSize = postProcessFileBatchSize.orNull,
+                incrementalGeneration = incrementalGeneration.orNull,
+                profileGeneration = profileGeneration.orNull,
+                skipValidateSpec = skipValidateSpec.orNull,
+                generateAliasAsModel = generateAliasAsModel.orNull,
+                renderingThreads = renderingThreads.orNull,
+                configOptions = configOptions.toHashMap()
+        )
+
+        workerExecutor.submit(GenerateAction::class.java) {
+            isolationMode = IsolationMode.CLASSLOADER
+            displayName = "Generate ${settings.generatorName} code to ${settings.outputDir}"
+            params(settings)
         }
     }
 }
@@ -24,7 +24,6 @@ import org.gradle.internal.logging.text.StyledTextOutputFactory
 import org.gradle.kotlin.dsl.listProperty
 import org.openapitools.codegen.CodegenConfigLoader
 import org.openapitools.codegen.CodegenType
-import org.openapitools.codegen.meta.GeneratorMetadata
 import org.openapitools.codegen.meta.Stability
 
 /**
@@ -46,7 +45,8 @@ open class GeneratorsTask : DefaultTask() {
     @Suppress("unused")
     @TaskAction
     fun doWork() {
-        val generators = CodegenConfigLoader.getAll()
+        // type and stability are read from the generator index, rather than from constructed generators
+        val generators = CodegenConfigLoader.getDescriptors()
 
         val out = services.get(StyledTextOutputFactory::class.java).create("openapi")
 
@@ -71,17 +71,16 @@ open class GeneratorsTask : DefaultTask() {
                 append(type.name).append(" generators:")
                 append(System.lineSeparator())
 
-                generators.filter { it.tag == type }
+                generators.filter { it.type == type }
                         .sortedBy { it.name }
                         .forEach { generator ->
 
-                            val meta: GeneratorMetadata? = generator.generatorMetadata
-                            val include = stabilities.contains(meta?.stability)
+                            val include = stabilities.contains(generator.stability)
                             if (include) {
                                 append("    - ")
                                 append(generator.name)
 
-                                meta?.stability?.let {
+                                generator.stability?.let {
                                     if (it != Stability.STABLE) {
                                         append(" (${it.value()})")
                                     }
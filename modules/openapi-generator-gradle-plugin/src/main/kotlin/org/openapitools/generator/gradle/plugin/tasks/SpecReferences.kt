@@ -0,0 +1,66 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.generator.gradle.plugin.tasks
+
+import java.io.File
+import java.util.ArrayDeque
+
+/**
+ * The documents a local specification is made of: the specification itself and the files it references with `$ref`,
+ * followed from one file to the next.
+ *
+ * References are found in the text of the documents rather than by parsing them, which is enough to know the files to
+ * track as inputs of a task.
+ */
+internal class SpecReferences private constructor(
+        /**
+         * The specification and the existing local files it references.
+         */
+        val files: Set<File>,
+        /**
+         * Whether a document is referenced by a URL, whose content can't be tracked.
+         */
+        val hasRemoteReferences: Boolean
+) {
+    companion object {
+        // the document part of a reference, e.g. models.yaml in `$ref: 'models.yaml#/Pet'` or `"$ref": "models.yaml"`
+        private val reference = Regex("""\${'$'}ref["']?\s*:\s*["']?([^"'#\s,}\]]*)""")
+
+        fun of(spec: File): SpecReferences {
+            val files = linkedSetOf<File>()
+            var remote = false
+            val pending = ArrayDeque<File>()
+            pending.add(spec.absoluteFile.normalize())
+            while (pending.isNotEmpty()) {
+                val file = pending.poll()
+                if (!file.isFile || !files.add(file)) {
+                    continue
+                }
+                reference.findAll(file.readText()).forEach { match ->
+                    val location = match.groupValues[1]
+                    when {
+                        // a reference within the same document
+                        location.isEmpty() -> Unit
+                        location.contains("://") -> remote = true
+                        else -> pending.add(file.resolveSibling(location).normalize())
+                    }
+                }
+            }
+            return SpecReferences(files, remote)
+        }
+    }
+}
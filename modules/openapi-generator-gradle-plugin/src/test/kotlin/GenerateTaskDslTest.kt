@@ -67,6 +67,75 @@ class GenerateTaskDslTest : TestBase()  {
                 "Expected a successful run, but found ${result.task(":openApiGenerate")?.outcome}")
     }
 
+    @Test
+    fun `openApiGenerate should be up-to-date and restored from the build cache`() {
+        // Arrange
+        val projectFiles = mapOf(
+                "spec.yaml" to javaClass.classLoader.getResourceAsStream("specs/petstore-v3.0.yaml"),
+                "settings.gradle" to "buildCache { local { directory = new File(rootDir, 'build-cache') } }".byteInputStream()
+        )
+        withProject(defaultBuildGradle, projectFiles)
+
+        val runner = GradleRunner.create()
+                .withProjectDir(temp)
+                .withArguments("openApiGenerate", "--build-cache")
+                .withPluginClasspath()
+
+        // Act
+        val first = runner.build()
+        val second = runner.build()
+        File(temp, "build/kotlin").deleteRecursively()
+        val third = runner.build()
+
+        // Assert
+        assertEquals(TaskOutcome.SUCCESS, first.task(":openApiGenerate")?.outcome,
+                "Expected a successful run, but found ${first.task(":openApiGenerate")?.outcome}")
+        assertEquals(TaskOutcome.UP_TO_DATE, second.task(":openApiGenerate")?.outcome,
+                "Expected an up-to-date task, but found ${second.task(":openApiGenerate")?.outcome}")
+        assertEquals(TaskOutcome.FROM_CACHE, third.task(":openApiGenerate")?.outcome,
+                "Expected outputs restored from the build cache, but found ${third.task(":openApiGenerate")?.outcome}")
+        assertTrue(File(temp, "build/kotlin/src/main/kotlin/org/openapitools/example/model/Pet.kt").isFile,
+                "An expected file was not restored from the build cache.")
+    }
+
+    @Test
+    fun `openApiGenerate should run again when a referenced file changes`() {
+        // Arrange
+        val spec = javaClass.classLoader.getResourceAsStream("specs/petstore-v3.0.yaml").bufferedReader().readText()
+                .substringBefore("    Error:")
+                .replace("#/components/schemas/Error", "models.yaml#/Error")
+        val models = """
+            Error:
+              required:
+                - code
+              properties:
+                code:
+                  type: integer
+                  format: int32
+        """.trimIndent()
+        val projectFiles = mapOf(
+                "spec.yaml" to spec.byteInputStream(),
+                "models.yaml" to models.byteInputStream()
+        )
+        withProject(defaultBuildGradle, projectFiles)
+
+        val runner = GradleRunner.create()
+                .withProjectDir(temp)
+                .withArguments("openApiGenerate")
+                .withPluginClasspath()
+
+        // Act
+        val first = runner.build()
+        File(temp, "models.yaml").appendText("\n    message:\n      type: string\n")
+        val second = runner.build()
+
+        // Assert
+        assertEquals(TaskOutcome.SUCCESS, first.task(":openApiGenerate")?.outcome,
+                "Expected a successful run, but found ${first.task(":openApiGenerate")?.outcome}")
+        assertEquals(TaskOutcome.SUCCESS, second.task(":openApiGenerate")?.outcome,
+                "Expected the referenced file to be an input, but found ${second.task(":openApiGenerate")?.outcome}")
+    }
+
     @Test
     fun `openApiValidate should fail on invalid spec`() {
         // Arrange
@@ -257,6 +257,30 @@ public class CodeGenMojo extends AbstractMojo {
     @Parameter(name = "enablePostProcessFile", property = "openapi.generator.maven.plugin.enablePostProcessFile")
     private Boolean enablePostProcessFile;
 
+    /**
+     * Maximum number of files passed to a single invocation of the post-processing command
+     */
+    @Parameter(name = "postProcessFileBatchSize", property = "openapi.generator.maven.plugin.postProcessFileBatchSize")
+    private Integer postProcessFileBatchSize;
+
+    /**
+     * Number of threads used to render and write model and api files
+     */
+    @Parameter(name = "renderingThreads", property = "openapi.generator.maven.plugin.renderingThreads")
+    private Integer renderingThreads;
+
+    /**
+     * Skip rendering and writing files whose inputs are unchanged since the previous generation
+     */
+    @Parameter(name = "incrementalGeneration", property = "openapi.generator.maven.plugin.incrementalGeneration")
+    private Boolean incrementalGeneration;
+
+    /**
+     * Record the time spent in each phase of the generation into .openapi-generator/PROFILE.json
+     */
+    @Parameter(name = "profileGeneration", property = "openapi.generator.maven.plugin.profileGeneration")
+    private Boolean profileGeneration;
+
     /**
      * To skip spec validation
      */
@@ -525,6 +549,22 @@ public class CodeGenMojo extends AbstractMojo {
                 configurator.setEnablePostProcessFile(enablePostProcessFile);
             }
 
+            if (postProcessFileBatchSize != null) {
+                configurator.setPostProcessFileBatchSize(postProcessFileBatchSize);
+            }
+
+            if (renderingThreads != null) {
+                configurator.setRenderingThreads(renderingThreads);
+            }
+
+            if (incrementalGeneration != null) {
+                configurator.setIncrementalGeneration(incrementalGeneration);
+            }
+
+            if (profileGeneration != null) {
+                configurator.setProfileGeneration(profileGeneration);
+            }
+
             if (generateAliasAsModel  != null) {
                 configurator.setGenerateAliasAsModel(generateAliasAsModel);
             }
@@ -25,14 +25,16 @@ package org.openapitools.codegen.online.api;
 import io.swagger.annotations.*;
 import org.openapitools.codegen.CliOption;
 import org.openapitools.codegen.online.model.GeneratorInput;
+import org.openapitools.codegen.online.model.JobStatus;
 import org.openapitools.codegen.online.model.ResponseCode;
-import org.springframework.core.io.Resource;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.context.request.async.DeferredResult;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import javax.validation.Valid;
 import java.util.List;
@@ -52,13 +54,15 @@ public interface GenApi {
     }
 
 
-    @ApiOperation(value = "Downloads a pre-generated file", nickname = "downloadFile", notes = "A valid `fileId` is generated by the `/clients/{language}` or `/servers/{language}` POST operations.  The fileId code can be used just once, after which a new `fileId` will need to be requested.", response = MultipartFile.class, tags={ "clients","servers", })
+    @ApiOperation(value = "Downloads a pre-generated file", nickname = "downloadFile", notes = "A valid `fileId` is generated by the `/clients/{language}` or `/servers/{language}` POST operations, or is the code of a completed generation job.  The fileId code can be used just once, after which a new `fileId` will need to be requested.", response = MultipartFile.class, tags={ "clients","servers", })
     @ApiResponses(value = {
-            @ApiResponse(code = 200, message = "successful operation", response = MultipartFile.class) })
+            @ApiResponse(code = 200, message = "successful operation", response = MultipartFile.class),
+            @ApiResponse(code = 404, message = "unknown, expired or already downloaded file"),
+            @ApiResponse(code = 409, message = "generation job not completed yet") })
     @RequestMapping(value = "/gen/download/{fileId}",
             produces = { "application/octet-stream" },
             method = RequestMethod.GET)
-    default ResponseEntity<Resource> downloadFile(@ApiParam(value = "",required=true) @PathVariable("fileId") String fileId) {
+    default ResponseEntity<StreamingResponseBody> downloadFile(@ApiParam(value = "",required=true) @PathVariable("fileId") String fileId) {
         return getDelegate().downloadFile(fileId);
     }
 
@@ -68,7 +72,7 @@ public interface GenApi {
             @ApiResponse(code = 200, message = "successful operation", response = ResponseCode.class) })
     @RequestMapping(value = "/gen/clients/{language}",
             method = RequestMethod.POST)
-    default ResponseEntity<ResponseCode> generateClient(@ApiParam(value = "The target language for the client library",required=true) @PathVariable("language") String language,@ApiParam(value = "Configuration for building the client library" ,required=true )  @Valid @RequestBody GeneratorInput generatorInput) {
+    default DeferredResult<ResponseEntity<ResponseCode>> generateClient(@ApiParam(value = "The target language for the client library",required=true) @PathVariable("language") String language,@ApiParam(value = "Configuration for building the client library" ,required=true )  @Valid @RequestBody GeneratorInput generatorInput) {
         return getDelegate().generateClient(language, generatorInput);
     }
 
@@ -78,11 +82,45 @@ public interface GenApi {
             @ApiResponse(code = 200, message = "successful operation", response = ResponseCode.class) })
     @RequestMapping(value = "/gen/servers/{framework}",
             method = RequestMethod.POST)
-    default ResponseEntity<ResponseCode> generateServerForLanguage(@ApiParam(value = "framework",required=true) @PathVariable("framework") String framework,@ApiParam(value = "parameters" ,required=true )  @Valid @RequestBody GeneratorInput generatorInput) {
+    default DeferredResult<ResponseEntity<ResponseCode>> generateServerForLanguage(@ApiParam(value = "framework",required=true) @PathVariable("framework") String framework,@ApiParam(value = "parameters" ,required=true )  @Valid @RequestBody GeneratorInput generatorInput) {
         return getDelegate().generateServerForLanguage(framework, generatorInput);
     }
 
 
+    @ApiOperation(value = "Submits a client library generation job", nickname = "submitClientJob", notes = "Accepts a `GeneratorInput` options map for spec location and generation options. The job status can be polled with its code, which is also the `fileId` of the generated client once the job is completed.", response = JobStatus.class, tags={ "clients", })
+    @ApiResponses(value = {
+            @ApiResponse(code = 202, message = "job queued", response = JobStatus.class),
+            @ApiResponse(code = 503, message = "too many jobs in progress") })
+    @RequestMapping(value = "/gen/jobs/clients/{language}",
+            method = RequestMethod.POST)
+    default ResponseEntity<JobStatus> submitClientJob(@ApiParam(value = "The target language for the client library",required=true) @PathVariable("language") String language,@ApiParam(value = "Configuration for building the client library" ,required=true )  @Valid @RequestBody GeneratorInput generatorInput) {
+        return getDelegate().submitClientJob(language, generatorInput);
+    }
+
+
+    @ApiOperation(value = "Submits a server library generation job", nickname = "submitServerJob", notes = "Accepts a `GeneratorInput` options map for spec location and generation options. The job status can be polled with its code, which is also the `fileId` of the generated server once the job is completed.", response = JobStatus.class, tags={ "servers", })
+    @ApiResponses(value = {
+            @ApiResponse(code = 202, message = "job queued", response = JobStatus.class),
+            @ApiResponse(code = 503, message = "too many jobs in progress") })
+    @RequestMapping(value = "/gen/jobs/servers/{framework}",
+            method = RequestMethod.POST)
+    default ResponseEntity<JobStatus> submitServerJob(@ApiParam(value = "framework",required=true) @PathVariable("framework") String framework,@ApiParam(value = "parameters" ,required=true )  @Valid @RequestBody GeneratorInput generatorInput) {
+        return getDelegate().submitServerJob(framework, generatorInput);
+    }
+
+
+    @ApiOperation(value = "Returns the status of a generation job", nickname = "getJobStatus", notes = "Once the job is completed, the status links to the generated files.", response = JobStatus.class, tags={ "clients","servers", })
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "successful operation", response = JobStatus.class),
+            @ApiResponse(code = 404, message = "unknown, expired or already downloaded job") })
+    @RequestMapping(value = "/gen/jobs/{jobId}",
+            produces = { "application/json" },
+            method = RequestMethod.GET)
+    default ResponseEntity<JobStatus> getJobStatus(@ApiParam(value = "The code of the generation job",required=true) @PathVariable("jobId") String jobId) {
+        return getDelegate().getJobStatus(jobId);
+    }
+
+
     @ApiOperation(value = "Returns options for a client library", nickname = "getClientOptions", notes = "", tags={ "clients", })
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "successful operation") })
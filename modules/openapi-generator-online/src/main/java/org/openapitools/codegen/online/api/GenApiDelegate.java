@@ -19,12 +19,14 @@ package org.openapitools.codegen.online.api;
 
 import org.openapitools.codegen.CliOption;
 import org.openapitools.codegen.online.model.GeneratorInput;
+import org.openapitools.codegen.online.model.JobStatus;
 import org.openapitools.codegen.online.model.ResponseCode;
-import org.springframework.core.io.Resource;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Map;
@@ -59,11 +61,11 @@ public interface GenApiDelegate {
     }
 
     /**
-     * @param fileId The unique id of the file, provided in a {@link ResponseCode} response.
+     * @param fileId The unique id of the file, provided in a {@link ResponseCode} or {@link JobStatus} response.
      * @see GenApi#downloadFile
-     * @return A {@link ResponseEntity} of the requested {@link Resource}.
+     * @return A {@link ResponseEntity} streaming the requested file.
      */
-    default ResponseEntity<Resource> downloadFile(String  fileId) {
+    default ResponseEntity<StreamingResponseBody> downloadFile(String  fileId) {
         return new ResponseEntity<>(HttpStatus.NOT_IMPLEMENTED);
 
     }
@@ -72,9 +74,9 @@ public interface GenApiDelegate {
      * @param language The target generator (language is a misnomer here, but kept for API consistency).
      * @param generatorInput The configuration settings to be used during client generation.
      * @see GenApi#generateClient
-     * @return A {@link ResponseEntity} referencing the unique download id and a link to download the requested client code.
+     * @return A {@link DeferredResult} set once the code is generated, with a {@link ResponseEntity} referencing the unique download id and a link to download the requested client code.
      */
-    default ResponseEntity<ResponseCode> generateClient( String  language,
+    default DeferredResult<ResponseEntity<ResponseCode>> generateClient( String  language,
          GeneratorInput  generatorInput) {
         getRequest().ifPresent(request -> {
             for (MediaType mediaType: MediaType.parseMediaTypes(request.getHeader("Accept"))) {
@@ -84,7 +86,9 @@ public interface GenApiDelegate {
                 }
             }
         });
-        return new ResponseEntity<>(HttpStatus.NOT_IMPLEMENTED);
+        DeferredResult<ResponseEntity<ResponseCode>> result = new DeferredResult<>();
+        result.setResult(new ResponseEntity<>(HttpStatus.NOT_IMPLEMENTED));
+        return result;
 
     }
 
@@ -92,9 +96,9 @@ public interface GenApiDelegate {
      * @param framework The target generator name (framework is a slight misnomer here, as we may have a framework like Spring implemented in multiple languages).
      * @param generatorInput The configuration settings to be used during server generation.
      * @see GenApi#generateServerForLanguage
-     * @return A {@link ResponseEntity} referencing the unique download id and a link to download the requested server code.
+     * @return A {@link DeferredResult} set once the code is generated, with a {@link ResponseEntity} referencing the unique download id and a link to download the requested server code.
      */
-    default ResponseEntity<ResponseCode> generateServerForLanguage( String  framework,
+    default DeferredResult<ResponseEntity<ResponseCode>> generateServerForLanguage( String  framework,
          GeneratorInput  generatorInput) {
         getRequest().ifPresent(request -> {
             for (MediaType mediaType: MediaType.parseMediaTypes(request.getHeader("Accept"))) {
@@ -104,6 +108,58 @@ public interface GenApiDelegate {
                 }
             }
         });
+        DeferredResult<ResponseEntity<ResponseCode>> result = new DeferredResult<>();
+        result.setResult(new ResponseEntity<>(HttpStatus.NOT_IMPLEMENTED));
+        return result;
+
+    }
+
+    /**
+     * @param language The target generator (language is a misnomer here, but kept for API consistency).
+     * @param generatorInput The configuration settings to be used during client generation.
+     * @see GenApi#submitClientJob
+     * @return A {@link ResponseEntity} referencing the unique id of the queued generation job.
+     */
+    default ResponseEntity<JobStatus> submitClientJob( String  language,
+         GeneratorInput  generatorInput) {
+        getRequest().ifPresent(request -> {
+            for (MediaType mediaType: MediaType.parseMediaTypes(request.getHeader("Accept"))) {
+                if (mediaType.isCompatibleWith(MediaType.valueOf("*/*"))) {
+                    ApiUtil.setExampleResponse(request, "*/*", "{  \"code\" : \"d40029be-eda6-4d62-b1ef-d05e2e91a72a\",  \"status\" : \"QUEUED\"}");
+                    break;
+                }
+            }
+        });
+        return new ResponseEntity<>(HttpStatus.NOT_IMPLEMENTED);
+
+    }
+
+    /**
+     * @param framework The target generator name (framework is a slight misnomer here, as we may have a framework like Spring implemented in multiple languages).
+     * @param generatorInput The configuration settings to be used during server generation.
+     * @see GenApi#submitServerJob
+     * @return A {@link ResponseEntity} referencing the unique id of the queued generation job.
+     */
+    default ResponseEntity<JobStatus> submitServerJob( String  framework,
+         GeneratorInput  generatorInput) {
+        getRequest().ifPresent(request -> {
+            for (MediaType mediaType: MediaType.parseMediaTypes(request.getHeader("Accept"))) {
+                if (mediaType.isCompatibleWith(MediaType.valueOf("*/*"))) {
+                    ApiUtil.setExampleResponse(request, "*/*", "{  \"code\" : \"d40029be-eda6-4d62-b1ef-d05e2e91a72a\",  \"status\" : \"QUEUED\"}");
+                    break;
+                }
+            }
+        });
+        return new ResponseEntity<>(HttpStatus.NOT_IMPLEMENTED);
+
+    }
+
+    /**
+     * @param jobId The unique id of the generation job, provided in a {@link JobStatus} response.
+     * @see GenApi#getJobStatus
+     * @return A {@link ResponseEntity} of the status of the generation job, linking to the generated code once completed.
+     */
+    default ResponseEntity<JobStatus> getJobStatus(String  jobId) {
         return new ResponseEntity<>(HttpStatus.NOT_IMPLEMENTED);
 
     }
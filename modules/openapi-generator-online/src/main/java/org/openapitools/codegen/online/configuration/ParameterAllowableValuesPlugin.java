@@ -1,7 +1,7 @@
 package org.openapitools.codegen.online.configuration;
 
-import org.openapitools.codegen.CodegenConfig;
 import org.openapitools.codegen.CodegenConfigLoader;
+import org.openapitools.codegen.CodegenConfigLoader.GeneratorDescriptor;
 import org.openapitools.codegen.CodegenType;
 import org.springframework.stereotype.Component;
 import springfox.documentation.service.AllowableListValues;
@@ -19,13 +19,13 @@ public class ParameterAllowableValuesPlugin implements ParameterBuilderPlugin {
     private static List<String> servers = new ArrayList<>();
 
     static {
-        List<CodegenConfig> extensions = CodegenConfigLoader.getAll();
-        for (CodegenConfig config : extensions) {
-            if (config.getTag().equals(CodegenType.CLIENT)
-                    || config.getTag().equals(CodegenType.DOCUMENTATION)) {
-                clients.add(config.getName());
-            } else if (config.getTag().equals(CodegenType.SERVER)) {
-                servers.add(config.getName());
+        // described from the generator index, without constructing every generator
+        for (GeneratorDescriptor generator : CodegenConfigLoader.getDescriptors()) {
+            if (generator.getType() == CodegenType.CLIENT
+                    || generator.getType() == CodegenType.DOCUMENTATION) {
+                clients.add(generator.getName());
+            } else if (generator.getType() == CodegenType.SERVER) {
+                servers.add(generator.getName());
             }
         }
 
@@ -39,10 +39,12 @@ public class ParameterAllowableValuesPlugin implements ParameterBuilderPlugin {
         switch (name) {
             case "getClientOptions":
             case "generateClient":
+            case "submitClientJob":
                 parameterContext.parameterBuilder().allowableValues(new AllowableListValues(clients, "string"));
                 break;
             case "getServerOptions":
             case "generateServerForLanguage":
+            case "submitServerJob":
                 parameterContext.parameterBuilder().allowableValues(new AllowableListValues(servers, "string"));
         }
     }
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ * Copyright 2018 SmartBear Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.online.model;
+
+import io.swagger.annotations.ApiModelProperty;
+
+public class JobStatus {
+    public enum Status {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+
+    private String code;
+    private Status status;
+    private String message;
+    private String link;
+
+    public JobStatus() {}
+
+    public JobStatus(String code, Status status, String message, String link) {
+        setCode(code);
+        setStatus(status);
+        setMessage(message);
+        setLink(link);
+    }
+
+    @ApiModelProperty(value = "Generation job code, which is also the file download code once the job is completed",
+            example = "d40029be-eda6-4d62-b1ef-d05e2e91a72a")
+    public String getCode() {
+        return code;
+    }
+
+    public void setCode(String code) {
+        this.code = code;
+    }
+
+    @ApiModelProperty(value = "Status of the generation job", example = "COMPLETED")
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    @ApiModelProperty(value = "Reason of the failure of the generation job")
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    @ApiModelProperty(
+            value = "URL for fetching the generated code, once the job is completed",
+            example = "http://localhost:8080/api/gen/download/d40029be-eda6-4d62-b1ef-d05e2e91a72a")
+    public String getLink() {
+        return link;
+    }
+
+    public void setLink(String link) {
+        this.link = link;
+    }
+}
@@ -17,34 +17,29 @@
 
 package org.openapitools.codegen.online.service;
 
-import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.openapitools.codegen.CliOption;
-import org.openapitools.codegen.CodegenConfig;
 import org.openapitools.codegen.CodegenConfigLoader;
+import org.openapitools.codegen.CodegenConfigLoader.GeneratorDescriptor;
 import org.openapitools.codegen.CodegenType;
 import org.openapitools.codegen.online.api.GenApiDelegate;
-import org.openapitools.codegen.online.model.Generated;
 import org.openapitools.codegen.online.model.GeneratorInput;
+import org.openapitools.codegen.online.model.JobStatus;
 import org.openapitools.codegen.online.model.ResponseCode;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.io.ByteArrayResource;
-import org.springframework.core.io.Resource;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.DeferredResult;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import org.springframework.web.util.UriComponentsBuilder;
 
-import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.*;
 
 @Service
@@ -52,16 +47,15 @@ public class GenApiService implements GenApiDelegate {
 
     private static List<String> clients = new ArrayList<>();
     private static List<String> servers = new ArrayList<>();
-    private static Map<String, Generated> fileMap = new HashMap<>();
 
     static {
-        List<CodegenConfig> extensions = CodegenConfigLoader.getAll();
-        for (CodegenConfig config : extensions) {
-            if (config.getTag().equals(CodegenType.CLIENT)
-                    || config.getTag().equals(CodegenType.DOCUMENTATION)) {
-                clients.add(config.getName());
-            } else if (config.getTag().equals(CodegenType.SERVER)) {
-                servers.add(config.getName());
+        // described from the generator index, without constructing every generator
+        for (GeneratorDescriptor generator : CodegenConfigLoader.getDescriptors()) {
+            if (generator.getType() == CodegenType.CLIENT
+                    || generator.getType() == CodegenType.DOCUMENTATION) {
+                clients.add(generator.getName());
+            } else if (generator.getType() == CodegenType.SERVER) {
+                servers.add(generator.getName());
             }
         }
 
@@ -72,46 +66,45 @@ public class GenApiService implements GenApiDelegate {
     @Autowired
     private NativeWebRequest request;
 
+    @Autowired
+    private GeneratorJobs jobs;
+
     @Override
     public Optional<NativeWebRequest> getRequest() {
         return Optional.ofNullable(request);
     }
 
     @Override
-    public ResponseEntity<Resource> downloadFile(String fileId) {
-        Generated g = fileMap.get(fileId);
-        System.out.println("looking for fileId " + fileId);
-        System.out.println("got filename " + g.getFilename());
-
-        File file = new File(g.getFilename());
-        Path path = Paths.get(file.getAbsolutePath());
-        ByteArrayResource resource;
-        try {
-            resource = new ByteArrayResource(Files.readAllBytes(path));
-        } catch (FileNotFoundException e) {
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "File not found", e);
-        } catch (IOException e) {
-            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "I/O error while reading file", e);
-        }
-        try {
-            FileUtils.deleteDirectory(file.getParentFile());
-        } catch (IOException e) {
-            System.out.println("failed to delete file " + file.getAbsolutePath());
-        }
+    public ResponseEntity<StreamingResponseBody> downloadFile(String fileId) {
+        GenerationJob job = jobs.take(fileId);
+        Path archive = job.getArchive();
+
+        // the zip archive of the generated files, copied from its temporary file by the async request thread
+        StreamingResponseBody body = out -> {
+            try {
+                Files.copy(archive, out);
+            } finally {
+                jobs.release(job);
+            }
+        };
         return ResponseEntity
                 .ok()
                 .contentType(MediaType.valueOf("application/zip"))
                 .header("Content-Disposition",
-                        "attachment; filename=\"" + g.getFriendlyName() + "-generated.zip\"")
-                .header("Accept-Range", "bytes")
-                //.header("Content-Length", bytes.length)
-                .body(resource);
+                        "attachment; filename=\"" + job.getFriendlyName() + "-generated.zip\"")
+                .body(body);
+    }
+
+    @Override
+    public DeferredResult<ResponseEntity<ResponseCode>> generateClient(String language, GeneratorInput generatorInput) {
+        GenerationJob job = jobs.submit(language, generatorInput, Generator.Type.CLIENT);
+        return getResponse(job);
     }
 
     @Override
-    public ResponseEntity<ResponseCode> generateClient(String language, GeneratorInput generatorInput) {
-        String filename = Generator.generateClient(language, generatorInput);
-        return getResponse(filename, language + "-client");
+    public ResponseEntity<JobStatus> submitClientJob(String language, GeneratorInput generatorInput) {
+        GenerationJob job = jobs.submit(language, generatorInput, Generator.Type.CLIENT);
+        return ResponseEntity.accepted().body(getJobStatus(job));
     }
 
     @Override
@@ -147,17 +140,58 @@ public class GenApiService implements GenApiDelegate {
     }
 
     @Override
-    public ResponseEntity<ResponseCode> generateServerForLanguage(String framework, GeneratorInput generatorInput) {
+    public DeferredResult<ResponseEntity<ResponseCode>> generateServerForLanguage(String framework, GeneratorInput generatorInput) {
+        if (framework == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Framework is required");
+        }
+        GenerationJob job = jobs.submit(framework, generatorInput, Generator.Type.SERVER);
+        return getResponse(job);
+    }
+
+    @Override
+    public ResponseEntity<JobStatus> submitServerJob(String framework, GeneratorInput generatorInput) {
         if (framework == null) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Framework is required");
         }
-        String filename = Generator.generateServer(framework, generatorInput);
-        System.out.println("generated name: " + filename);
+        GenerationJob job = jobs.submit(framework, generatorInput, Generator.Type.SERVER);
+        return ResponseEntity.accepted().body(getJobStatus(job));
+    }
+
+    @Override
+    public ResponseEntity<JobStatus> getJobStatus(String jobId) {
+        return ResponseEntity.ok().body(getJobStatus(jobs.get(jobId)));
+    }
 
-        return getResponse(filename, framework + "-server");
+    /**
+     * Responds once the job is done, without holding the request thread meanwhile.
+     */
+    private DeferredResult<ResponseEntity<ResponseCode>> getResponse(GenerationJob job) {
+        // the link is built from the current request, which is only bound to the request thread
+        String link = getDownloadLink(job);
+        DeferredResult<ResponseEntity<ResponseCode>> result = new DeferredResult<>();
+        job.whenDone().thenAccept(done -> {
+            if (done.getStatus() == JobStatus.Status.FAILED) {
+                result.setErrorResult(done.getFailure());
+            } else {
+                result.setResult(ResponseEntity.ok().body(new ResponseCode(done.getId(), link)));
+            }
+        });
+        return result;
+    }
+
+    private JobStatus getJobStatus(GenerationJob job) {
+        JobStatus.Status status = job.getStatus();
+        switch (status) {
+            case COMPLETED:
+                return new JobStatus(job.getId(), status, null, getDownloadLink(job));
+            case FAILED:
+                return new JobStatus(job.getId(), status, job.getFailure().getReason(), null);
+            default:
+                return new JobStatus(job.getId(), status, null, null);
+        }
     }
 
-    private ResponseEntity<ResponseCode> getResponse(String filename, String friendlyName) {
+    private String getDownloadLink(GenerationJob job) {
         String host = System.getenv("GENERATOR_HOST");
 
         UriComponentsBuilder uriBuilder;
@@ -167,18 +201,7 @@ public class GenApiService implements GenApiDelegate {
             uriBuilder = ServletUriComponentsBuilder.fromCurrentContextPath();
         }
 
-        if (filename != null) {
-            String code = UUID.randomUUID().toString();
-            Generated g = new Generated();
-            g.setFilename(filename);
-            g.setFriendlyName(friendlyName);
-            fileMap.put(code, g);
-            System.out.println(code + ", " + filename);
-            String link = uriBuilder.path("/api/gen/download/").path(code).toUriString();
-            return ResponseEntity.ok().body(new ResponseCode(code, link));
-        } else {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
-        }
+        return uriBuilder.path("/api/gen/download/").path(job.getId()).toUriString();
     }
 
 }
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ * Copyright 2018 SmartBear Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.online.service;
+
+import org.openapitools.codegen.online.model.JobStatus.Status;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * A generation requested to the service, run by {@link GeneratorJobs}: its state and the zip archive of the generated
+ * files, which is kept in a temporary file until it is downloaded or the job expires.
+ */
+public class GenerationJob {
+    private static final Logger LOGGER = LoggerFactory.getLogger(GenerationJob.class);
+
+    private final String id;
+    private final String friendlyName;
+    private final CompletableFuture<GenerationJob> done = new CompletableFuture<>();
+
+    private volatile Status status = Status.QUEUED;
+    private volatile Path archive;
+    private volatile long archiveSize;
+    private volatile ResponseStatusException failure;
+    private volatile long expiresAt = Long.MAX_VALUE;
+
+    GenerationJob(String id, String friendlyName) {
+        this.id = id;
+        this.friendlyName = friendlyName;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getFriendlyName() {
+        return friendlyName;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    /**
+     * @return the zip archive of the generated files, once the job is completed and until it is deleted
+     */
+    public Path getArchive() {
+        return archive;
+    }
+
+    /**
+     * @return the reason of the failure, once the job failed
+     */
+    public ResponseStatusException getFailure() {
+        return failure;
+    }
+
+    /**
+     * @return a stage completed with this job once it is completed or failed, so that callers don't need to block a
+     * thread waiting for it
+     */
+    public CompletionStage<GenerationJob> whenDone() {
+        return done;
+    }
+
+    void started() {
+        this.status = Status.RUNNING;
+    }
+
+    void completed(Path archive, long archiveSize, long expiresAt) {
+        this.archive = archive;
+        this.archiveSize = archiveSize;
+        this.expiresAt = expiresAt;
+        this.status = Status.COMPLETED;
+        done.complete(this);
+    }
+
+    void failed(ResponseStatusException failure, long expiresAt) {
+        this.failure = failure;
+        this.expiresAt = expiresAt;
+        this.status = Status.FAILED;
+        done.complete(this);
+    }
+
+    boolean isExpired(long now) {
+        return now >= expiresAt;
+    }
+
+    /**
+     * Deletes the archive of the generated files.
+     *
+     * @return the size of the deleted archive, 0 if it was deleted already
+     */
+    synchronized long delete() {
+        Path deleted = archive;
+        if (deleted == null) {
+            return 0L;
+        }
+        archive = null;
+        try {
+            Files.deleteIfExists(deleted);
+        } catch (IOException e) {
+            LOGGER.warn("unable to delete {}", deleted, e);
+        }
+        return archiveSize;
+    }
+}
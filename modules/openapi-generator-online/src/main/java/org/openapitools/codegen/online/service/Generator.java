@@ -23,11 +23,11 @@ import io.swagger.v3.core.util.Json;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.parser.core.models.AuthorizationValue;
 import io.swagger.v3.parser.core.models.ParseOptions;
+import org.apache.commons.io.FileUtils;
 import org.openapitools.codegen.CliOption;
 import org.openapitools.codegen.ClientOptInput;
 import org.openapitools.codegen.CodegenConfig;
 import org.openapitools.codegen.CodegenConfigLoader;
-import org.openapitools.codegen.DefaultGenerator;
 import org.openapitools.codegen.online.model.GeneratorInput;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -35,11 +35,14 @@ import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.UUID;
 
 public class Generator {
     private static Logger LOGGER = LoggerFactory.getLogger(Generator.class);
@@ -73,15 +76,16 @@ public class Generator {
         }
     }
 
-    public static String generateClient(String language, GeneratorInput opts) {
-        return generate(language, opts, Type.CLIENT);
-    }
-
-    public static String generateServer(String language, GeneratorInput opts) {
-        return generate(language, opts, Type.SERVER);
-    }
-
-    private static String generate(String language, GeneratorInput opts, Type type) {
+    /**
+     * Generates the files of a client or a server, zipped as they are generated rather than written to disk.
+     *
+     * @param language the target generator
+     * @param opts     the generation options
+     * @param type     the type of the generator
+     * @param out      the stream the zip archive of the generated files is written to
+     * @throws ResponseStatusException if the generation failed
+     */
+    static void generate(String language, GeneratorInput opts, Type type, OutputStream out) {
         LOGGER.debug(String.format(Locale.ROOT,"generate %s for %s", type.getTypeName(), language));
         if (opts == null) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "No options were supplied");
@@ -128,8 +132,9 @@ public class Generator {
         }
 
         ClientOptInput clientOptInput = new ClientOptInput();
-        String outputFolder = getTmpFolder().getAbsolutePath() + File.separator + destPath;
-        String outputFilename = outputFolder + "-bundle.zip";
+        // only holds the folders the generator creates up front, the generated files are zipped instead
+        File rootFolder = new File(System.getProperty("java.io.tmpdir"), "codegen-" + UUID.randomUUID());
+        String outputFolder = rootFolder.getAbsolutePath() + File.separator + destPath;
 
         clientOptInput.openAPI(openapi);
 
@@ -149,46 +154,25 @@ public class Generator {
 
         clientOptInput.setConfig(codegenConfig);
 
+        ZipGenerator generator = new ZipGenerator(outputFolder, out);
         try {
-            List<File> files = new DefaultGenerator().opts(clientOptInput).generate();
-            if (files.size() > 0) {
-                List<File> filesToAdd = new ArrayList<>();
-                LOGGER.debug("adding to " + outputFolder);
-                filesToAdd.add(new File(outputFolder));
-                ZipUtil zip = new ZipUtil();
-                zip.compressFiles(filesToAdd, outputFilename);
-            } else {
+            List<File> files;
+            try {
+                files = generator.opts(clientOptInput).generate();
+            } catch (Exception e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unable to build target: " + e.getMessage(), e);
+            }
+            if (files.isEmpty()) {
                 throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
                         "A target generation was attempted, but no files were created!");
             }
-            for (File file : files) {
-                try {
-                    file.delete();
-                } catch (Exception e) {
-                    LOGGER.error("unable to delete file " + file.getAbsolutePath(), e);
-                }
-            }
             try {
-                new File(outputFolder).delete();
-            } catch (Exception e) {
-                LOGGER.error("unable to delete output folder " + outputFolder, e);
+                generator.finish();
+            } catch (IOException e) {
+                throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Unable to zip target: " + e.getMessage(), e);
             }
-        } catch (Exception e) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unable to build target: " + e.getMessage(), e);
-        }
-        return outputFilename;
-    }
-
-    private static File getTmpFolder() {
-        try {
-            File outputFolder = File.createTempFile("codegen-", "-tmp");
-            outputFolder.delete();
-            outputFolder.mkdir();
-            outputFolder.deleteOnExit();
-            return outputFolder;
-        } catch (Exception e) {
-            e.printStackTrace();
-            throw new RuntimeException("Cannot access tmp folder");
+        } finally {
+            FileUtils.deleteQuietly(rootFolder);
         }
     }
 }
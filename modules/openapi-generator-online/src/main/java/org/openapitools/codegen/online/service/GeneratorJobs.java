@@ -0,0 +1,225 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ * Copyright 2018 SmartBear Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.online.service;
+
+import org.openapitools.codegen.online.model.GeneratorInput;
+import org.openapitools.codegen.online.model.JobStatus.Status;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs the generations requested to the service on a bounded pool of threads, and keeps track of them until their
+ * files are downloaded or they expire.
+ * <p>
+ * Generations which can't be run or queued right away are rejected (with a 503 status), so that a burst of requests
+ * doesn't exhaust the memory of the service. The zip archives of completed generations are kept in temporary files,
+ * whose total size is bounded the same way.
+ */
+@Service
+public class GeneratorJobs implements DisposableBean {
+    private static final Logger LOGGER = LoggerFactory.getLogger(GeneratorJobs.class);
+
+    private final Map<String, GenerationJob> jobs = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor executor;
+    private final long retentionMillis;
+    private final long maxRetainedBytes;
+    private final AtomicLong retainedBytes = new AtomicLong();
+
+    /**
+     * @param threads          number of generations run concurrently, the number of processors if not positive
+     * @param queueCapacity    number of generations waiting for a thread before new ones are rejected
+     * @param retentionMinutes time after which the files of a done job are released if they weren't downloaded
+     * @param maxRetainedMb    total size of the archives waiting to be downloaded, in megabytes, beyond which
+     *                         generations are rejected
+     */
+    @Autowired
+    public GeneratorJobs(@Value("${generator.jobs.threads:0}") int threads,
+                         @Value("${generator.jobs.queue-capacity:16}") int queueCapacity,
+                         @Value("${generator.jobs.retention-minutes:30}") long retentionMinutes,
+                         @Value("${generator.jobs.max-retained-mb:1024}") long maxRetainedMb) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "generator-job-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.retentionMillis = TimeUnit.MINUTES.toMillis(retentionMinutes);
+        this.maxRetainedBytes = maxRetainedMb * 1024L * 1024L;
+    }
+
+    /**
+     * Queues a generation.
+     *
+     * @param language the target generator
+     * @param opts     the generation options
+     * @param type     the type of the generator
+     * @return the queued job
+     * @throws ResponseStatusException if too many generations are already queued or waiting to be downloaded
+     */
+    public GenerationJob submit(String language, GeneratorInput opts, Generator.Type type) {
+        purgeExpired();
+        if (retainedBytes.get() >= maxRetainedBytes) {
+            throw tooManyRetained();
+        }
+        GenerationJob job = new GenerationJob(UUID.randomUUID().toString(), language + "-" + type.getTypeName());
+        jobs.put(job.getId(), job);
+        try {
+            executor.execute(() -> run(job, language, opts, type));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getId());
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                    "Too many generations are in progress, please retry later", e);
+        }
+        return job;
+    }
+
+    /**
+     * @param id the job code
+     * @return the job
+     * @throws ResponseStatusException if there's no such job, or it expired or was downloaded already
+     */
+    public GenerationJob get(String id) {
+        purgeExpired();
+        GenerationJob job = jobs.get(id);
+        if (job == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Unknown or expired code " + id);
+        }
+        return job;
+    }
+
+    /**
+     * Removes a completed job, whose archive is to be downloaded (just once) then deleted with {@link #release(GenerationJob)}.
+     *
+     * @param id the job code
+     * @return the job
+     * @throws ResponseStatusException if there's no such job, or it isn't completed
+     */
+    public GenerationJob take(String id) {
+        GenerationJob job = get(id);
+        if (job.getStatus() == Status.FAILED) {
+            throw job.getFailure();
+        }
+        if (job.getStatus() != Status.COMPLETED) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Generation " + id + " is not completed yet");
+        }
+        if (!jobs.remove(id, job)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Unknown or expired code " + id);
+        }
+        return job;
+    }
+
+    /**
+     * Deletes the archive of a job.
+     *
+     * @param job a job which was taken or expired
+     */
+    void release(GenerationJob job) {
+        retainedBytes.addAndGet(-job.delete());
+    }
+
+    private void run(GenerationJob job, String language, GeneratorInput opts, Generator.Type type) {
+        Path archive = null;
+        try {
+            job.started();
+            archive = Files.createTempFile("codegen-", ".zip");
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(archive))) {
+                Generator.generate(language, opts, type, out);
+            }
+            long size = Files.size(archive);
+            if (retainedBytes.addAndGet(size) > maxRetainedBytes) {
+                retainedBytes.addAndGet(-size);
+                throw tooManyRetained();
+            }
+            job.completed(archive, size, System.currentTimeMillis() + retentionMillis);
+            archive = null;
+        } catch (ResponseStatusException e) {
+            job.failed(e, System.currentTimeMillis() + retentionMillis);
+        } catch (Throwable e) {
+            // errors too (e.g. a stack overflow in a generator): the job must not stay running, its callers would wait forever
+            LOGGER.error("generation {} failed", job.getId(), e);
+            job.failed(new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Unable to build target: " + e.getMessage(), e),
+                    System.currentTimeMillis() + retentionMillis);
+        } finally {
+            if (archive != null) {
+                // not completed, the archive is not kept
+                deleteQuietly(archive);
+            }
+        }
+    }
+
+    private static ResponseStatusException tooManyRetained() {
+        return new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                "Too many generations are waiting to be downloaded, please retry later");
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            LOGGER.warn("unable to delete {}", path, e);
+        }
+    }
+
+    private void purgeExpired() {
+        long now = System.currentTimeMillis();
+        for (GenerationJob job : jobs.values()) {
+            if (job.isExpired(now) && jobs.remove(job.getId(), job)) {
+                LOGGER.debug("deleting expired generation {}", job.getId());
+                release(job);
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+        for (GenerationJob job : jobs.values()) {
+            if (job.getStatus() == Status.QUEUED) {
+                // will never run, its callers are released
+                job.failed(new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "The service is shutting down"), 0L);
+            }
+            release(job);
+        }
+        jobs.clear();
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.online.service;
+
+import org.openapitools.codegen.DefaultGenerator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * A generator which zips the generated files as they are written, instead of writing them to the file system.
+ * <p>
+ * The files are written as entries of a zip archive, under the name of the output folder. Each template is rendered
+ * straight into its entry, so templates rendered concurrently wait for each other rather than being buffered.
+ */
+class ZipGenerator extends DefaultGenerator {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ZipGenerator.class);
+
+    private final Path outputFolder;
+    private final String rootEntry;
+    private final ZipOutputStream zip;
+    private final Set<String> entries = new HashSet<>();
+
+    /**
+     * @param outputFolder the output folder of the generator, whose files are zipped instead of being written
+     * @param out          the stream the zip archive is written to, which is not closed by the generator
+     */
+    ZipGenerator(String outputFolder, OutputStream out) {
+        this.outputFolder = Paths.get(outputFolder).normalize();
+        this.rootEntry = this.outputFolder.getFileName().toString();
+        this.zip = new ZipOutputStream(out);
+    }
+
+    @Override
+    public File writeToFile(String filename, byte[] contents) throws IOException {
+        synchronized (zip) {
+            if (putNextEntry(filename)) {
+                zip.write(contents);
+                zip.closeEntry();
+            }
+        }
+        return Paths.get(filename).toFile();
+    }
+
+    @Override
+    public File writeToFile(String filename, FileContents contents) throws IOException {
+        synchronized (zip) {
+            if (putNextEntry(filename)) {
+                // not closed, which would close the archive
+                Writer writer = new BufferedWriter(new OutputStreamWriter(zip, StandardCharsets.UTF_8));
+                contents.writeTo(writer);
+                writer.flush();
+                zip.closeEntry();
+            }
+        }
+        return Paths.get(filename).toFile();
+    }
+
+    /**
+     * Completes the archive, once the generation is done.
+     *
+     * @throws IOException if the archive cannot be completed
+     */
+    void finish() throws IOException {
+        synchronized (zip) {
+            zip.finish();
+        }
+    }
+
+    /**
+     * @return false if the file was already zipped, in which case it is skipped
+     */
+    private boolean putNextEntry(String filename) throws IOException {
+        Path path = Paths.get(filename).normalize();
+        // files generated outside of the output folder (e.g. by an absolute destination) are kept at its root
+        Path relative = path.startsWith(outputFolder) ? outputFolder.relativize(path) : path.getFileName();
+        String entry = rootEntry + "/" + relative.toString().replace(File.separatorChar, '/');
+        if (!entries.add(entry)) {
+            // an entry can't be replaced once zipped
+            LOGGER.warn("{} was generated more than once, keeping its first contents", entry);
+            return false;
+        }
+        zip.putNextEntry(new ZipEntry(entry));
+        return true;
+    }
+}
@@ -3,17 +3,25 @@ package org.openapitools.codegen.online.api;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.openapitools.codegen.online.model.JobStatus;
 import org.openapitools.codegen.online.model.ResponseCode;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.ByteArrayInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
 
 import static org.hamcrest.Matchers.hasItem;
-import static org.hamcrest.Matchers.not;
 import static org.hamcrest.text.MatchesPattern.matchesPattern;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -87,9 +95,13 @@ public class GenApiControllerTest {
     }
 
     private void generateAndDownload(String type, String name) throws Exception {
-        String result = mockMvc.perform(post("http://test.com:1234/api/gen/" + type + "/" + name)
+        MvcResult generation = mockMvc.perform(post("http://test.com:1234/api/gen/" + type + "/" + name)
                 .contentType(MediaType.APPLICATION_JSON_UTF8)
                 .content("{\"openAPIUrl\": \"" + OPENAPI_URL + "\"}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String result = mockMvc.perform(asyncDispatch(generation))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON_UTF8))
                 .andExpect(jsonPath("$.code").value(matchesPattern(UUID_REGEX)))
@@ -98,20 +110,86 @@ public class GenApiControllerTest {
 
         String code = new ObjectMapper().readValue(result, ResponseCode.class).getCode();
 
-        mockMvc.perform(get("http://test.com:1234/api/gen/download/" + code))
-                .andExpect(content().contentType("application/zip"))
+        download(code);
+    }
+
+    private void download(String code) throws Exception {
+        MvcResult download = mockMvc.perform(get("http://test.com:1234/api/gen/download/" + code))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(download))
                 .andExpect(status().isOk())
-                .andExpect(header().string(HttpHeaders.CONTENT_LENGTH, not(0)));
+                .andExpect(content().contentType("application/zip"))
+                .andExpect(result -> {
+                    try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(result.getResponse().getContentAsByteArray()))) {
+                        ZipEntry entry = zip.getNextEntry();
+                        assertNotNull(entry);
+                        assertTrue(entry.getName().contains("/"));
+                    }
+                });
+
+        mockMvc.perform(get("http://test.com:1234/api/gen/download/" + code))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void generateClientJob() throws Exception {
+        String result = mockMvc.perform(post("http://test.com:1234/api/gen/jobs/clients/java")
+                .contentType(MediaType.APPLICATION_JSON_UTF8)
+                .content("{\"openAPIUrl\": \"" + OPENAPI_URL + "\"}"))
+                .andExpect(status().isAccepted())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON_UTF8))
+                .andExpect(jsonPath("$.code").value(matchesPattern(UUID_REGEX)))
+                .andReturn().getResponse().getContentAsString();
+
+        String code = new ObjectMapper().readValue(result, JobStatus.class).getCode();
+
+        JobStatus status;
+        long deadline = System.currentTimeMillis() + 60_000;
+        do {
+            Thread.sleep(100);
+            status = new ObjectMapper().readValue(mockMvc.perform(get("http://test.com:1234/api/gen/jobs/" + code))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString(), JobStatus.class);
+        } while ((status.getStatus() == JobStatus.Status.QUEUED || status.getStatus() == JobStatus.Status.RUNNING)
+                && System.currentTimeMillis() < deadline);
+
+        assertEquals(JobStatus.Status.COMPLETED, status.getStatus());
+        assertEquals("http://test.com:1234/api/gen/download/" + code, status.getLink());
+        download(code);
+    }
+
+    @Test
+    public void generateClientWithoutSpec() throws Exception {
+        MvcResult generation = mockMvc.perform(post("http://test.com:1234/api/gen/clients/java")
+                .contentType(MediaType.APPLICATION_JSON_UTF8)
+                .content("{}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(generation))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void jobStatusUnknown() throws Exception {
+        mockMvc.perform(get("/api/gen/jobs/unknown"))
+                .andExpect(status().isNotFound());
     }
 
     @Test
     public void generateWIthForwardedHeaders() throws Exception {
-        String result = mockMvc.perform(post("http://test.com:1234/api/gen/clients/java")
+        MvcResult generation = mockMvc.perform(post("http://test.com:1234/api/gen/clients/java")
                 .contentType(MediaType.APPLICATION_JSON_UTF8)
                 .header("X-Forwarded-Proto", "https")
                 .header("X-Forwarded-Host", "forwarded.com")
                 .header("X-Forwarded-Port", "5678")
                 .content("{\"openAPIUrl\": \"" + OPENAPI_URL + "\"}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String result = mockMvc.perform(asyncDispatch(generation))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON_UTF8))
                 .andExpect(jsonPath("$.code").value(matchesPattern(UUID_REGEX)))
@@ -120,10 +198,7 @@ public class GenApiControllerTest {
 
         String code = new ObjectMapper().readValue(result, ResponseCode.class).getCode();
 
-        mockMvc.perform(get("http://test.com:1234/api/gen/download/" + code))
-                .andExpect(content().contentType("application/zip"))
-                .andExpect(status().isOk())
-                .andExpect(header().string(HttpHeaders.CONTENT_LENGTH, not(0)));
+        download(code);
     }
 
 }
\ No newline at end of file
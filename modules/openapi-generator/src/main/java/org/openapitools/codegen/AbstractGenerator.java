@@ -18,9 +18,15 @@
 package org.openapitools.codegen;
 
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
-import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.openapitools.codegen.api.TemplatingGenerator;
 import org.slf4j.Logger;
@@ -33,7 +39,30 @@ import java.util.regex.Pattern;
 
 public abstract class AbstractGenerator implements TemplatingGenerator {
     private static final Logger LOGGER = LoggerFactory.getLogger(AbstractGenerator.class);
-    
+
+    /**
+     * Resolved template paths, keyed by the inputs of the lookup (template dir, embedded template dir, library and template name).
+     * Resolving a template probes the file system and the classpath, which is expensive when done for every generated file.
+     */
+    private final Map<String, String> templatePaths = new ConcurrentHashMap<>();
+
+    /**
+     * Template contents, keyed by resolved template path.
+     */
+    private final Map<String, String> templateContents = new ConcurrentHashMap<>();
+
+    /**
+     * Writes the contents of a file, see {@link #writeToFile(String, FileContents)}.
+     */
+    @FunctionalInterface
+    public interface FileContents {
+        /**
+         * @param writer the writer of the file, which must not be closed
+         * @throws IOException if the contents cannot be produced or written
+         */
+        void writeTo(Writer writer) throws IOException;
+    }
+
     /**
      * Is the minimal-file-update option enabled?
      * 
@@ -64,27 +93,25 @@ public abstract class AbstractGenerator implements TemplatingGenerator {
     @SuppressWarnings("static-method")
     public File writeToFile(String filename, byte contents[]) throws IOException {
         if (getEnableMinimalUpdate()) {
-            String tempFilename = filename + ".tmp";
             // Use Paths.get here to normalize path (for Windows file separator, space escaping on Linux/Mac, etc)
             File outputFile = Paths.get(filename).toFile();
-            File tempFile = null;
+            if (contentEquals(outputFile, contents)) {
+                LOGGER.info("skipping unchanged file " + filename);
+                return outputFile;
+            }
+
+            LOGGER.info("writing file " + filename);
+            Path existing = existingFile(outputFile);
+            if (existing == null) {
+                return writeToFileRaw(filename, contents);
+            }
+            // write to a sibling first so that an interrupted run never leaves a truncated file behind
+            Path tempFile = createTempFile(existing);
             try {
-                tempFile = writeToFileRaw(tempFilename, contents);
-                if (!filesEqual(tempFile, outputFile)) {
-                    LOGGER.info("writing file " + filename);
-                    Files.move(tempFile.toPath(), outputFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
-                    tempFile = null;
-                } else {
-                    LOGGER.info("skipping unchanged file " + filename);
-                }
+                Files.write(tempFile, contents);
+                replaceFile(tempFile, existing);
             } finally {
-                if (tempFile != null && tempFile.exists()) {
-                    try {
-                        tempFile.delete();
-                    } catch (Exception ex) {
-                        LOGGER.error("Error removing temporary file " + tempFile, ex);
-                    }
-                }
+                deleteQuietly(tempFile);
             }
             return outputFile;
         } else {
@@ -93,35 +120,299 @@ public abstract class AbstractGenerator implements TemplatingGenerator {
         }
     }
 
-    private boolean filesEqual(File file1, File file2) throws IOException {
-        return file1.exists() && file2.exists() && Arrays.equals(Files.readAllBytes(file1.toPath()), Files.readAllBytes(file2.toPath()));
+    /**
+     * Writes the contents produced by a callback to a file, encoded as UTF-8 through a buffered writer, so that large
+     * contents (e.g. rendered templates) are never held in memory as a whole.
+     * <p>
+     * With the minimal-file-update option, the contents are compared with the file while they are streamed: an
+     * unchanged file is neither written nor read twice. From their first difference on, they are written to a temporary
+     * sibling of the file which then replaces it, so that a rendering failing half-way leaves the file as it was.
+     *
+     * @param filename The name of file to write
+     * @param contents The callback writing the contents.
+     * @return File representing the written file.
+     * @throws IOException If file cannot be written.
+     */
+    public File writeToFile(String filename, FileContents contents) throws IOException {
+        File outputFile = prepareOutputFile(filename);
+        if (!getEnableMinimalUpdate()) {
+            LOGGER.info("writing file " + filename);
+            try (Writer writer = newWriter(Files.newOutputStream(outputFile.toPath()))) {
+                contents.writeTo(writer);
+            }
+            return outputFile;
+        }
+
+        Path existing = existingFile(outputFile);
+        ComparingOutputStream out = new ComparingOutputStream(existing != null ? existing : outputFile.toPath(), existing != null);
+        boolean written = false;
+        try {
+            try (Writer writer = newWriter(out)) {
+                contents.writeTo(writer);
+            }
+            if (!out.isChanged()) {
+                LOGGER.info("skipping unchanged file " + filename);
+            } else {
+                LOGGER.info("writing file " + filename);
+                if (out.getTempFile() != null) {
+                    replaceFile(out.getTempFile(), existing);
+                }
+            }
+            written = true;
+        } finally {
+            if (out.getTempFile() != null) {
+                // also removed if rendering fails half-way
+                deleteQuietly(out.getTempFile());
+            } else if (!written && existing == null) {
+                // a new file is written in place, it isn't left half-written
+                deleteQuietly(outputFile.toPath());
+            }
+        }
+        return outputFile;
+    }
+
+    /**
+     * Compares the rendered contents with an existing file: the sizes first, then the file is streamed and the
+     * comparison stops at the first difference.
+     *
+     * @param file     existing file
+     * @param contents rendered contents
+     * @return true if the file exists and holds exactly the given contents
+     * @throws IOException if the file cannot be read
+     */
+    static boolean contentEquals(File file, byte[] contents) throws IOException {
+        if (!file.isFile() || file.length() != contents.length) {
+            return false;
+        }
+
+        byte[] buffer = new byte[8192];
+        int offset = 0;
+        try (InputStream in = new FileInputStream(file)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                if (offset + read > contents.length) {
+                    return false;
+                }
+                for (int i = 0; i < read; i++) {
+                    if (buffer[i] != contents[offset + i]) {
+                        return false;
+                    }
+                }
+                offset += read;
+            }
+        }
+        return offset == contents.length;
     }
-    
+
     private File writeToFileRaw(String filename, byte[] contents) throws IOException {
+        File output = prepareOutputFile(filename);
+        Files.write(output.toPath(), contents);
+        return output;
+    }
+
+    private static Writer newWriter(OutputStream out) {
+        // unlike Files.newBufferedWriter, the encoder replaces malformed characters as String.getBytes does
+        return new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return the existing file with its symbolic links resolved, so that the file they point to is replaced rather
+     * than the links themselves, or null if there's no such file
+     */
+    private static Path existingFile(File file) throws IOException {
+        return file.isFile() ? file.toPath().toRealPath() : null;
+    }
+
+    /**
+     * Creates a uniquely named sibling of a file, on its file system so that it can be moved over the file.
+     */
+    private static Path createTempFile(Path file) throws IOException {
+        return Files.createTempFile(file.getParent(), file.getFileName() + ".", ".tmp");
+    }
+
+    /**
+     * Replaces an existing file by its temporary sibling, atomically where the file system supports it. The sibling is
+     * given the permissions of the file it replaces (e.g. of an executable script).
+     */
+    private static void replaceFile(Path tempFile, Path file) throws IOException {
+        try {
+            Files.setPosixFilePermissions(tempFile, Files.getPosixFilePermissions(file));
+        } catch (UnsupportedOperationException e) {
+            // not a POSIX file system
+        }
+        try {
+            Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (Exception ex) {
+            LOGGER.error("Error removing temporary file " + file, ex);
+        }
+    }
+
+    private File prepareOutputFile(String filename) {
         // Use Paths.get here to normalize path (for Windows file separator, space escaping on Linux/Mac, etc)
         File output = Paths.get(filename).toFile();
         if (output.getParent() != null && !new File(output.getParent()).exists()) {
             File parent = Paths.get(output.getParent()).toFile();
             parent.mkdirs();
         }
-        Files.write(output.toPath(), contents);
         return output;
     }
 
+    /**
+     * Compares the bytes written to it with an existing file, and only writes them to a temporary sibling from their
+     * first difference on, along with the identical bytes before it, read again from the file. A file which doesn't
+     * exist yet is written directly.
+     */
+    private static final class ComparingOutputStream extends OutputStream {
+        private final Path file;
+        private final byte[] buffer = new byte[8192];
+        /** The existing file, until the contents differ from it. */
+        private InputStream existing;
+        /** The temporary sibling, once the contents differ from the existing file. */
+        private Path tempFile;
+        /** The temporary sibling or the new file, once the contents differ from the existing file. */
+        private OutputStream out;
+        /** Number of identical bytes written before the first difference. */
+        private long identical;
+
+        ComparingOutputStream(Path file, boolean exists) throws IOException {
+            this.file = file;
+            if (exists) {
+                existing = new BufferedInputStream(Files.newInputStream(file));
+            } else {
+                out = new BufferedOutputStream(Files.newOutputStream(file));
+            }
+        }
+
+        /**
+         * @return true if the contents differ from the existing file, or the file didn't exist
+         */
+        boolean isChanged() {
+            return out != null;
+        }
+
+        /**
+         * @return the temporary sibling the contents were written to, null if the file is unchanged or was written
+         * directly
+         */
+        Path getTempFile() {
+            return tempFile;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (out == null) {
+                int matched = match(b, off, len);
+                identical += matched;
+                if (matched == len) {
+                    return;
+                }
+                diverge();
+                off += matched;
+                len -= matched;
+            }
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (out != null) {
+                out.flush();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                if (out == null && existing.read() != -1) {
+                    // the existing file is longer
+                    diverge();
+                }
+            } finally {
+                if (existing != null) {
+                    existing.close();
+                }
+                if (out != null) {
+                    out.close();
+                }
+            }
+        }
+
+        /**
+         * @return the number of leading bytes equal to the next bytes of the existing file
+         */
+        private int match(byte[] b, int off, int len) throws IOException {
+            int matched = 0;
+            while (matched < len) {
+                int read = existing.read(buffer, 0, Math.min(buffer.length, len - matched));
+                if (read == -1) {
+                    return matched;
+                }
+                for (int i = 0; i < read; i++) {
+                    if (buffer[i] != b[off + matched + i]) {
+                        return matched + i;
+                    }
+                }
+                matched += read;
+            }
+            return matched;
+        }
+
+        private void diverge() throws IOException {
+            existing.close();
+            existing = null;
+            tempFile = createTempFile(file);
+            out = new BufferedOutputStream(Files.newOutputStream(tempFile));
+            if (identical > 0) {
+                try (InputStream in = Files.newInputStream(file)) {
+                    IOUtils.copyLarge(in, out, 0, identical);
+                }
+            }
+        }
+    }
+
     public String readTemplate(String name) {
-        try {
-            Reader reader = getTemplateReader(name);
+        try (Reader reader = getTemplateReader(name)) {
             if (reader == null) {
                 throw new RuntimeException("no file found");
             }
-            Scanner s = new Scanner(reader).useDelimiter("\\A");
-            return s.hasNext() ? s.next() : "";
+            return IOUtils.toString(reader);
         } catch (Exception e) {
             LOGGER.error(e.getMessage());
         }
         throw new RuntimeException("can't load template " + name);
     }
 
+    /**
+     * Reads the contents of a resolved template once, and serves subsequent reads of the same template from memory.
+     *
+     * @param name The resolved template path, see {@link #getFullTemplateFile(CodegenConfig, String)}
+     * @return The template contents
+     */
+    public String readIndexedTemplate(String name) {
+        return templateContents.computeIfAbsent(name, this::readTemplate);
+    }
+
+    /**
+     * Discards all resolved template paths and contents, e.g. when the template dir or library of the config has changed.
+     */
+    public void clearTemplateIndex() {
+        templatePaths.clear();
+        templateContents.clear();
+    }
+
     @SuppressWarnings("squid:S2095")
     // ignored rule as used in the CLI and it's required to return a reader
     public Reader getTemplateReader(String name) {
@@ -151,6 +442,12 @@ public abstract class AbstractGenerator implements TemplatingGenerator {
      * @return String Full template file path
      */
     public String getFullTemplateFile(CodegenConfig config, String templateFile) {
+        final String key = config.templateDir() + File.pathSeparator + config.embeddedTemplateDir()
+                + File.pathSeparator + config.getLibrary() + File.pathSeparator + templateFile;
+        return templatePaths.computeIfAbsent(key, k -> resolveTemplateFile(config, templateFile));
+    }
+
+    private String resolveTemplateFile(CodegenConfig config, String templateFile) {
         //1st the code will check if there's a <template folder>/libraries/<library> folder containing the file
         //2nd it will check for the file in the specified <template folder> folder
         //3rd it will check if there's an <embedded template>/libraries/<library> folder containing the file
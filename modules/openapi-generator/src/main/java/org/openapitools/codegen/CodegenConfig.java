@@ -27,6 +27,7 @@ import io.swagger.v3.oas.models.servers.ServerVariable;
 import org.openapitools.codegen.api.TemplatingEngineAdapter;
 import org.openapitools.codegen.meta.FeatureSet;
 import org.openapitools.codegen.meta.GeneratorMetadata;
+import org.openapitools.codegen.config.RunSettings;
 
 import java.io.File;
 import java.util.List;
@@ -267,12 +268,31 @@ public interface CodegenConfig {
 
     void setEnablePostProcessFile(boolean isEnablePostProcessFile);
 
+    int getPostProcessFileBatchSize();
+
+    void setPostProcessFileBatchSize(int postProcessFileBatchSize);
+
+    /**
+     * Complete the post-processing of files queued by {@link #postProcessFile(File, String)}, if any.
+     * Called once all files have been generated.
+     */
+    void flushPostProcessFiles();
+
     /**
      * Set the OpenAPI instance. This method needs to be called right after the instantiation of the Codegen class.
      * @param openAPI specification being generated
      */
     void setOpenAPI(OpenAPI openAPI);
 
+    /**
+     * Settings of the generation run, to be read instead of {@link org.openapitools.codegen.config.GlobalSettings}.
+     *
+     * @return the settings set by the generator running this instance, else the settings of the calling thread
+     */
+    RunSettings getRunSettings();
+
+    void setRunSettings(RunSettings runSettings);
+
     void setTemplatingEngine(TemplatingEngineAdapter s);
 
     TemplatingEngineAdapter getTemplatingEngine();
@@ -281,10 +301,22 @@ public interface CodegenConfig {
 
     public void setEnableMinimalUpdate(boolean isEnableMinimalUpdate);
 
+    boolean isIncrementalGeneration();
+
+    void setIncrementalGeneration(boolean incrementalGeneration);
+
+    boolean isProfileGeneration();
+
+    void setProfileGeneration(boolean profileGeneration);
+
     boolean isStrictSpecBehavior();
 
     void setStrictSpecBehavior(boolean strictSpecBehavior);
 
+    int getRenderingThreads();
+
+    void setRenderingThreads(int renderingThreads);
+
     FeatureSet getFeatureSet();
 
     void setFeatureSet(FeatureSet featureSet);
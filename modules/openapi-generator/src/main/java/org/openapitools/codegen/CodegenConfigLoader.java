@@ -17,11 +17,47 @@
 
 package org.openapitools.codegen;
 
+import org.openapitools.codegen.meta.GeneratorMetadata;
+import org.openapitools.codegen.meta.Stability;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.ServiceLoader;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Resolves generators by name.
+ * <p>
+ * Generator names are mapped to implementation classes through the index at {@link #INDEX_RESOURCE}, so looking up a
+ * generator only constructs that generator. Index entries also hold the type and stability of the generators, so that
+ * generators can be listed without constructing them. Providers registered via {@code META-INF/services} which are
+ * missing from every index (e.g. custom generators built against an older version) are instantiated once to learn
+ * their name.
+ */
 public class CodegenConfigLoader {
+    private static final Logger LOGGER = LoggerFactory.getLogger(CodegenConfigLoader.class);
+
+    public static final String INDEX_RESOURCE = "META-INF/openapi-generator/generators.properties";
+    static final String SERVICES_RESOURCE = "META-INF/services/" + CodegenConfig.class.getName();
+
+    private static volatile Registry registry;
+
     /**
      * Tries to load config class with SPI first, then with class name directly from classpath
      *
@@ -29,32 +65,216 @@ public class CodegenConfigLoader {
      * @return config class
      */
     public static CodegenConfig forName(String name) {
-        ServiceLoader<CodegenConfig> loader = ServiceLoader.load(CodegenConfig.class, CodegenConfig.class.getClassLoader());
+        Registry current = getRegistry();
 
-        StringBuilder availableConfigs = new StringBuilder();
-
-        for (CodegenConfig config : loader) {
-            if (config.getName().equals(name)) {
-                return config;
-            }
-
-            availableConfigs.append(config.getName()).append("\n");
+        String className = current.classNames.get(name);
+        if (className != null) {
+            return newInstance(className);
         }
 
         // else try to load directly
         try {
             return (CodegenConfig) Class.forName(name).getDeclaredConstructor().newInstance();
         } catch (Exception e) {
-            throw new GeneratorNotFoundException("Can't load config class with name '".concat(name) + "'\nAvailable:\n" + availableConfigs.toString(), e);
+            throw new GeneratorNotFoundException("Can't load config class with name '".concat(name) + "'\nAvailable:\n" + String.join("\n", current.classNames.keySet()) + "\n", e);
         }
     }
 
     public static List<CodegenConfig> getAll() {
-        ServiceLoader<CodegenConfig> loader = ServiceLoader.load(CodegenConfig.class, CodegenConfig.class.getClassLoader());
         List<CodegenConfig> output = new ArrayList<CodegenConfig>();
-        for (CodegenConfig aLoader : loader) {
-            output.add(aLoader);
+        for (String className : getRegistry().providers) {
+            output.add(newInstance(className));
         }
         return output;
     }
+
+    /**
+     * Describes all registered generators, without constructing those listed in an index with their type and stability.
+     *
+     * @return generator descriptors in registration order
+     */
+    public static List<GeneratorDescriptor> getDescriptors() {
+        Registry current = getRegistry();
+        List<GeneratorDescriptor> output = new ArrayList<>();
+        for (String name : current.classNames.keySet()) {
+            output.add(current.descriptor(name));
+        }
+        return output;
+    }
+
+    /**
+     * Names of all registered generators, without constructing any of them.
+     *
+     * @return generator names in registration order
+     */
+    public static Set<String> getNames() {
+        return Collections.unmodifiableSet(getRegistry().classNames.keySet());
+    }
+
+    private static Registry getRegistry() {
+        Registry current = registry;
+        if (current == null) {
+            synchronized (CodegenConfigLoader.class) {
+                current = registry;
+                if (current == null) {
+                    current = new Registry(CodegenConfig.class.getClassLoader());
+                    registry = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private static CodegenConfig newInstance(String className) {
+        try {
+            Class<?> type = Class.forName(className, true, CodegenConfig.class.getClassLoader());
+            return (CodegenConfig) type.getDeclaredConstructor().newInstance();
+        } catch (Exception e) {
+            throw new GeneratorNotFoundException("Can't instantiate config class '" + className + "'", e);
+        }
+    }
+
+    /**
+     * The name, implementation class, type and stability of a registered generator.
+     */
+    public static final class GeneratorDescriptor {
+        private final String name;
+        private final String className;
+        private final CodegenType type;
+        private final Stability stability;
+
+        GeneratorDescriptor(String name, String className, CodegenType type, Stability stability) {
+            this.name = name;
+            this.className = className;
+            this.type = type;
+            this.stability = stability;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getClassName() {
+            return className;
+        }
+
+        /**
+         * @return same as {@link CodegenConfig#getTag()}
+         */
+        public CodegenType getType() {
+            return type;
+        }
+
+        /**
+         * @return same as the stability of {@link CodegenConfig#getGeneratorMetadata()}
+         */
+        public Stability getStability() {
+            return stability;
+        }
+
+        @Override
+        public String toString() {
+            return name + "=" + className + "," + type + "," + stability;
+        }
+    }
+
+    private static final class Registry {
+        /** generator name to implementation class, in provider order */
+        private final Map<String, String> classNames = new LinkedHashMap<>();
+        /** implementation classes as declared in META-INF/services, without duplicates */
+        private final Set<String> providers = new LinkedHashSet<>();
+        /** generator name to descriptor, for index entries with a type and stability and constructed providers */
+        private final Map<String, GeneratorDescriptor> descriptors = new ConcurrentHashMap<>();
+
+        Registry(ClassLoader classLoader) {
+            Properties index = new Properties();
+            for (URL url : resources(classLoader, INDEX_RESOURCE)) {
+                try (InputStream in = url.openStream()) {
+                    index.load(in);
+                } catch (IOException e) {
+                    LOGGER.warn("Unable to read generator index {}", url, e);
+                }
+            }
+
+            // entries are either "className" or "className,TYPE,STABILITY"
+            Map<String, String> namesByClass = new LinkedHashMap<>();
+            Map<String, GeneratorDescriptor> indexed = new HashMap<>();
+            for (String name : index.stringPropertyNames()) {
+                String[] entry = index.getProperty(name).split(",");
+                String className = entry[0].trim();
+                namesByClass.put(className, name);
+                if (entry.length == 3) {
+                    try {
+                        indexed.put(name, new GeneratorDescriptor(name, className,
+                                CodegenType.valueOf(entry[1].trim()), Stability.valueOf(entry[2].trim())));
+                    } catch (IllegalArgumentException e) {
+                        LOGGER.warn("Invalid type or stability for generator '{}' in {}", name, INDEX_RESOURCE);
+                    }
+                }
+            }
+
+            for (URL url : resources(classLoader, SERVICES_RESOURCE)) {
+                providers.addAll(readProviders(url));
+            }
+
+            Set<String> unindexed = new HashSet<>();
+            for (String className : providers) {
+                String name = namesByClass.get(className);
+                if (name == null) {
+                    unindexed.add(className);
+                    CodegenConfig config = newInstance(className);
+                    name = config.getName();
+                    descriptors.putIfAbsent(name, describe(config));
+                } else if (indexed.containsKey(name)) {
+                    descriptors.putIfAbsent(name, indexed.get(name));
+                }
+                classNames.putIfAbsent(name, className);
+            }
+
+            if (!unindexed.isEmpty()) {
+                LOGGER.debug("Generators not listed in {}: {}", INDEX_RESOURCE, unindexed);
+            }
+        }
+
+        GeneratorDescriptor descriptor(String name) {
+            // generators indexed without their type and stability are constructed once to describe them
+            return descriptors.computeIfAbsent(name, n -> describe(newInstance(classNames.get(n))));
+        }
+
+        private static GeneratorDescriptor describe(CodegenConfig config) {
+            GeneratorMetadata meta = config.getGeneratorMetadata();
+            return new GeneratorDescriptor(config.getName(), config.getClass().getName(), config.getTag(),
+                    meta == null ? null : meta.getStability());
+        }
+
+        private static List<URL> resources(ClassLoader classLoader, String name) {
+            try {
+                Enumeration<URL> urls = classLoader == null ? ClassLoader.getSystemResources(name) : classLoader.getResources(name);
+                return Collections.list(urls);
+            } catch (IOException e) {
+                LOGGER.warn("Unable to list {}", name, e);
+                return Collections.emptyList();
+            }
+        }
+
+        private static List<String> readProviders(URL url) {
+            List<String> result = new ArrayList<>();
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(url.openStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    int comment = line.indexOf('#');
+                    if (comment >= 0) {
+                        line = line.substring(0, comment);
+                    }
+                    line = line.trim();
+                    if (!line.isEmpty()) {
+                        result.add(line);
+                    }
+                }
+            } catch (IOException e) {
+                LOGGER.warn("Unable to read generator providers {}", url, e);
+            }
+            return result;
+        }
+    }
 }
@@ -323,6 +323,18 @@ public class CodegenConstants {
     public static final String ENABLE_POST_PROCESS_FILE = "enablePostProcessFile";
     public static final String ENABLE_POST_PROCESS_FILE_DESC = "Enable post-processing file using environment variables.";
 
+    public static final String POST_PROCESS_FILE_BATCH_SIZE = "postProcessFileBatchSize";
+    public static final String POST_PROCESS_FILE_BATCH_SIZE_DESC = "Maximum number of files passed to a single invocation of the post-processing command (default: 1, i.e. one invocation per file as it is written). Larger batches are run in parallel once all files are generated.";
+
+    public static final String INCREMENTAL_GENERATION = "incrementalGeneration";
+    public static final String INCREMENTAL_GENERATION_DESC = "Skip rendering and writing files whose inputs (template data, templates, generator, its options and its version) are unchanged since the previous generation into the same output directory. Fingerprints of the inputs are kept in .openapi-generator/FINGERPRINTS.";
+
+    public static final String PROFILE_GENERATION = "profileGeneration";
+    public static final String PROFILE_GENERATION_DESC = "Record the time spent in each phase of the generation (model and operation processing, template rendering, file writes, post-processing), per template and per generator hook, and write a report to .openapi-generator/PROFILE.json.";
+
+    public static final String RENDERING_THREADS = "renderingThreads";
+    public static final String RENDERING_THREADS_DESC = "Number of threads used to render and write model and api files (default: 1, i.e. sequential).";
+
     public static final String OPEN_API_SPEC_NAME = "openAPISpecName";
 
     public static final String GENERATE_ALIAS_AS_MODEL = "generateAliasAsModel";
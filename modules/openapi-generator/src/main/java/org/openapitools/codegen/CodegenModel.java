@@ -21,6 +21,7 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import io.swagger.v3.oas.models.ExternalDocumentation;
 
 import java.util.*;
+import java.util.function.Supplier;
 
 @JsonIgnoreProperties({"parentModel", "interfaceModels"})
 public class CodegenModel implements IJsonSchemaValidationProperties {
@@ -46,7 +47,15 @@ public class CodegenModel implements IJsonSchemaValidationProperties {
     public Set<String> oneOf = new TreeSet<String>();
     public Set<String> allOf = new TreeSet<String>();
 
-    public String name, classname, title, description, classVarName, modelJson, dataType, xmlPrefix, xmlNamespace, xmlName;
+    public String name, classname, title, description, classVarName, dataType, xmlPrefix, xmlNamespace, xmlName;
+    /**
+     * The JSON representation of the schema of the model. It may be computed lazily, and then stays null until {@link #getModelJson()} is called.
+     *
+     * @deprecated use {@link #getModelJson()} and {@link #setModelJson(String)} instead
+     */
+    @Deprecated
+    public String modelJson;
+    private Supplier<String> modelJsonSupplier;
     public String classFilename; // store the class file name, mainly used for import
     public String unescapedDescription;
     public CodegenDiscriminator discriminator;
@@ -247,12 +256,30 @@ public class CodegenModel implements IJsonSchemaValidationProperties {
         this.mandatory = mandatory;
     }
 
-    public String getModelJson() {
+    public synchronized String getModelJson() {
+        if (modelJsonSupplier != null) {
+            // a value assigned to the field directly takes precedence
+            if (modelJson == null) {
+                modelJson = modelJsonSupplier.get();
+            }
+            modelJsonSupplier = null;
+        }
         return modelJson;
     }
 
-    public void setModelJson(String modelJson) {
+    public synchronized void setModelJson(String modelJson) {
         this.modelJson = modelJson;
+        this.modelJsonSupplier = null;
+    }
+
+    /**
+     * Sets the JSON representation of the schema of the model, computed on first access (e.g. by a template) rather than up front, as few templates use it.
+     *
+     * @param modelJsonSupplier computes the JSON representation of the schema of the model
+     */
+    public synchronized void setModelJsonSupplier(Supplier<String> modelJsonSupplier) {
+        this.modelJson = null;
+        this.modelJsonSupplier = modelJsonSupplier;
     }
 
     public String getName() {
@@ -556,7 +583,7 @@ public class CodegenModel implements IJsonSchemaValidationProperties {
                 Objects.equals(title, that.title) &&
                 Objects.equals(description, that.description) &&
                 Objects.equals(classVarName, that.classVarName) &&
-                Objects.equals(modelJson, that.modelJson) &&
+                Objects.equals(getModelJson(), that.getModelJson()) &&
                 Objects.equals(dataType, that.dataType) &&
                 Objects.equals(xmlPrefix, that.xmlPrefix) &&
                 Objects.equals(xmlNamespace, that.xmlNamespace) &&
@@ -597,7 +624,7 @@ public class CodegenModel implements IJsonSchemaValidationProperties {
     public int hashCode() {
         return Objects.hash(getParent(), getParentSchema(), getInterfaces(), getAllParents(), getParentModel(),
                 getInterfaceModels(), getChildren(), anyOf, oneOf, allOf, getName(), getClassname(), getTitle(),
-                getDescription(), getClassVarName(), getModelJson(), getDataType(), getXmlPrefix(), getXmlNamespace(),
+                getDescription(), getClassVarName(), getDataType(), getXmlPrefix(), getXmlNamespace(),
                 getXmlName(), getClassFilename(), getUnescapedDescription(), getDiscriminator(), getDefaultValue(),
                 getArrayModelType(), isAlias, isString, isInteger, isLong, isNumber, isNumeric, isFloat, isDouble,
                 getVars(), getAllVars(), getRequiredVars(), getOptionalVars(), getReadOnlyVars(), getReadWriteVars(),
@@ -627,7 +654,7 @@ public class CodegenModel implements IJsonSchemaValidationProperties {
         sb.append(", title='").append(title).append('\'');
         sb.append(", description='").append(description).append('\'');
         sb.append(", classVarName='").append(classVarName).append('\'');
-        sb.append(", modelJson='").append(modelJson).append('\'');
+        sb.append(", modelJson='").append(getModelJson()).append('\'');
         sb.append(", dataType='").append(dataType).append('\'');
         sb.append(", xmlPrefix='").append(xmlPrefix).append('\'');
         sb.append(", xmlNamespace='").append(xmlNamespace).append('\'');
@@ -18,6 +18,7 @@
 package org.openapitools.codegen;
 
 import java.util.*;
+import java.util.function.Supplier;
 
 public class CodegenParameter implements IJsonSchemaValidationProperties {
     public boolean isFormParam, isQueryParam, isPathParam, isHeaderParam,
@@ -27,7 +28,14 @@ public class CodegenParameter implements IJsonSchemaValidationProperties {
             collectionFormat, description, unescapedDescription, baseType, defaultValue, enumName, style;
 
     public String example; // example value (x-example)
+    /**
+     * The JSON representation of the parameter. It may be computed lazily, and then stays null until {@link #getJsonSchema()} is called.
+     *
+     * @deprecated use {@link #getJsonSchema()} and {@link #setJsonSchema(String)} instead
+     */
+    @Deprecated
     public String jsonSchema;
+    private Supplier<String> jsonSchemaSupplier;
     public boolean isString, isNumeric, isInteger, isLong, isNumber, isFloat, isDouble, isByteArray, isBinary,
             isBoolean, isDate, isDateTime, isUuid, isUri, isEmail, isFreeFormObject;
     public boolean isListContainer, isMapContainer;
@@ -130,7 +138,10 @@ public class CodegenParameter implements IJsonSchemaValidationProperties {
         output.minItems = this.minItems;
         output.uniqueItems = this.uniqueItems;
         output.multipleOf = this.multipleOf;
-        output.jsonSchema = this.jsonSchema;
+        synchronized (this) {
+            output.jsonSchema = this.jsonSchema;
+            output.jsonSchemaSupplier = this.jsonSchemaSupplier;
+        }
         output.defaultValue = this.defaultValue;
         output.example = this.example;
         output.isEnum = this.isEnum;
@@ -181,9 +192,35 @@ public class CodegenParameter implements IJsonSchemaValidationProperties {
         return output;
     }
 
+    public synchronized String getJsonSchema() {
+        if (jsonSchemaSupplier != null) {
+            // a value assigned to the field directly takes precedence
+            if (jsonSchema == null) {
+                jsonSchema = jsonSchemaSupplier.get();
+            }
+            jsonSchemaSupplier = null;
+        }
+        return jsonSchema;
+    }
+
+    public synchronized void setJsonSchema(String jsonSchema) {
+        this.jsonSchema = jsonSchema;
+        this.jsonSchemaSupplier = null;
+    }
+
+    /**
+     * Sets the JSON representation of the parameter, computed on first access (e.g. by a template) rather than up front, as few templates use it.
+     *
+     * @param jsonSchemaSupplier computes the JSON representation of the parameter
+     */
+    public synchronized void setJsonSchemaSupplier(Supplier<String> jsonSchemaSupplier) {
+        this.jsonSchema = null;
+        this.jsonSchemaSupplier = jsonSchemaSupplier;
+    }
+
     @Override
     public int hashCode() {
-        return Objects.hash(isFormParam, isQueryParam, isPathParam, isHeaderParam, isCookieParam, isBodyParam, hasMore, isContainer, secondaryParam, isCollectionFormatMulti, isPrimitiveType, isModel, isExplode, baseName, paramName, dataType, datatypeWithEnum, dataFormat, collectionFormat, description, unescapedDescription, baseType, defaultValue, enumName, style, example, jsonSchema, isString, isNumeric, isInteger, isLong, isNumber, isFloat, isDouble, isByteArray, isBinary, isBoolean, isDate, isDateTime, isUuid, isUri, isEmail, isFreeFormObject, isListContainer, isMapContainer, isFile, isEnum, _enum, allowableValues, items, mostInnerItems, vendorExtensions, hasValidation, getMaxProperties(), getMinProperties(), isNullable, required, getMaximum(), getExclusiveMaximum(), getMinimum(), getExclusiveMinimum(), getMaxLength(), getMinLength(), getPattern(), getMaxItems(), getMinItems(), getUniqueItems(), multipleOf);
+        return Objects.hash(isFormParam, isQueryParam, isPathParam, isHeaderParam, isCookieParam, isBodyParam, hasMore, isContainer, secondaryParam, isCollectionFormatMulti, isPrimitiveType, isModel, isExplode, baseName, paramName, dataType, datatypeWithEnum, dataFormat, collectionFormat, description, unescapedDescription, baseType, defaultValue, enumName, style, example, isString, isNumeric, isInteger, isLong, isNumber, isFloat, isDouble, isByteArray, isBinary, isBoolean, isDate, isDateTime, isUuid, isUri, isEmail, isFreeFormObject, isListContainer, isMapContainer, isFile, isEnum, _enum, allowableValues, items, mostInnerItems, vendorExtensions, hasValidation, getMaxProperties(), getMinProperties(), isNullable, required, getMaximum(), getExclusiveMaximum(), getMinimum(), getExclusiveMinimum(), getMaxLength(), getMinLength(), getPattern(), getMaxItems(), getMinItems(), getUniqueItems(), multipleOf);
     }
 
     @Override
@@ -243,7 +280,7 @@ public class CodegenParameter implements IJsonSchemaValidationProperties {
                 Objects.equals(enumName, that.enumName) &&
                 Objects.equals(style, that.style) &&
                 Objects.equals(example, that.example) &&
-                Objects.equals(jsonSchema, that.jsonSchema) &&
+                Objects.equals(getJsonSchema(), that.getJsonSchema()) &&
                 Objects.equals(_enum, that._enum) &&
                 Objects.equals(allowableValues, that.allowableValues) &&
                 Objects.equals(items, that.items) &&
@@ -290,7 +327,7 @@ public class CodegenParameter implements IJsonSchemaValidationProperties {
         sb.append(", enumName='").append(enumName).append('\'');
         sb.append(", style='").append(style).append('\'');
         sb.append(", example='").append(example).append('\'');
-        sb.append(", jsonSchema='").append(jsonSchema).append('\'');
+        sb.append(", jsonSchema='").append(getJsonSchema()).append('\'');
         sb.append(", isString=").append(isString);
         sb.append(", isNumeric=").append(isNumeric);
         sb.append(", isInteger=").append(isInteger);
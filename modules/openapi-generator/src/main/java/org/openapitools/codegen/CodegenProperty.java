@@ -18,6 +18,7 @@
 package org.openapitools.codegen;
 
 import java.util.*;
+import java.util.function.Supplier;
 
 public class CodegenProperty implements Cloneable, IJsonSchemaValidationProperties {
     public String openApiType, baseName, complexType, getter, setter, description, dataType,
@@ -46,7 +47,14 @@ public class CodegenProperty implements Cloneable, IJsonSchemaValidationProperti
      */
     public String example;
 
+    /**
+     * The JSON representation of the schema of the property. It may be computed lazily, and then stays null until {@link #getJsonSchema()} is called.
+     *
+     * @deprecated use {@link #getJsonSchema()} and {@link #setJsonSchema(String)} instead
+     */
+    @Deprecated
     public String jsonSchema;
+    private Supplier<String> jsonSchemaSupplier;
     public String minimum;
     public String maximum;
     public Number multipleOf;
@@ -295,12 +303,30 @@ public class CodegenProperty implements Cloneable, IJsonSchemaValidationProperti
         this.example = example;
     }
 
-    public String getJsonSchema() {
+    public synchronized String getJsonSchema() {
+        if (jsonSchemaSupplier != null) {
+            // a value assigned to the field directly takes precedence
+            if (jsonSchema == null) {
+                jsonSchema = jsonSchemaSupplier.get();
+            }
+            jsonSchemaSupplier = null;
+        }
         return jsonSchema;
     }
 
-    public void setJsonSchema(String jsonSchema) {
+    public synchronized void setJsonSchema(String jsonSchema) {
         this.jsonSchema = jsonSchema;
+        this.jsonSchemaSupplier = null;
+    }
+
+    /**
+     * Sets the JSON representation of the schema of the property, computed on first access (e.g. by a template) rather than up front, as few templates use it.
+     *
+     * @param jsonSchemaSupplier computes the JSON representation of the schema of the property
+     */
+    public synchronized void setJsonSchemaSupplier(Supplier<String> jsonSchemaSupplier) {
+        this.jsonSchema = null;
+        this.jsonSchemaSupplier = jsonSchemaSupplier;
     }
 
     @Override
@@ -548,7 +574,7 @@ public class CodegenProperty implements Cloneable, IJsonSchemaValidationProperti
         sb.append(", minLength=").append(minLength);
         sb.append(", pattern='").append(pattern).append('\'');
         sb.append(", example='").append(example).append('\'');
-        sb.append(", jsonSchema='").append(jsonSchema).append('\'');
+        sb.append(", jsonSchema='").append(getJsonSchema()).append('\'');
         sb.append(", minimum='").append(minimum).append('\'');
         sb.append(", maximum='").append(maximum).append('\'');
         sb.append(", exclusiveMinimum=").append(exclusiveMinimum);
@@ -678,7 +704,7 @@ public class CodegenProperty implements Cloneable, IJsonSchemaValidationProperti
                 Objects.equals(minLength, that.minLength) &&
                 Objects.equals(pattern, that.pattern) &&
                 Objects.equals(example, that.example) &&
-                Objects.equals(jsonSchema, that.jsonSchema) &&
+                Objects.equals(getJsonSchema(), that.getJsonSchema()) &&
                 Objects.equals(minimum, that.minimum) &&
                 Objects.equals(maximum, that.maximum) &&
                 Objects.equals(_enum, that._enum) &&
@@ -704,7 +730,7 @@ public class CodegenProperty implements Cloneable, IJsonSchemaValidationProperti
         return Objects.hash(openApiType, baseName, complexType, getter, setter, description,
                 dataType, datatypeWithEnum, dataFormat, name, min, max, defaultValue,
                 defaultValueWithParam, baseType, containerType, title, unescapedDescription,
-                maxLength, minLength, pattern, example, jsonSchema, minimum, maximum,
+                maxLength, minLength, pattern, example, minimum, maximum,
                 exclusiveMinimum, exclusiveMaximum, hasMore, required, deprecated, secondaryParam,
                 hasMoreNonReadOnly, isPrimitiveType, isModel, isContainer, isString, isNumeric,
                 isInteger, isLong, isNumber, isFloat, isDouble, isByteArray, isBinary, isFile,
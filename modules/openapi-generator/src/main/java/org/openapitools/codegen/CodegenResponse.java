@@ -18,6 +18,7 @@
 package org.openapitools.codegen;
 
 import java.util.*;
+import java.util.function.Supplier;
 
 public class CodegenResponse implements IJsonSchemaValidationProperties {
     public final List<CodegenProperty> headers = new ArrayList<CodegenProperty>();
@@ -52,7 +53,14 @@ public class CodegenResponse implements IJsonSchemaValidationProperties {
     public boolean isBinary = false;
     public boolean isFile = false;
     public Object schema;
+    /**
+     * The JSON representation of the response. It may be computed lazily, and then stays null until {@link #getJsonSchema()} is called.
+     *
+     * @deprecated use {@link #getJsonSchema()} and {@link #setJsonSchema(String)} instead
+     */
+    @Deprecated
     public String jsonSchema;
+    private Supplier<String> jsonSchemaSupplier;
     public Map<String, Object> vendorExtensions = new HashMap<String, Object>();
     private Integer maxProperties;
     private Integer minProperties;
@@ -68,12 +76,38 @@ public class CodegenResponse implements IJsonSchemaValidationProperties {
     public String pattern;
     public Number multipleOf;
 
+    public synchronized String getJsonSchema() {
+        if (jsonSchemaSupplier != null) {
+            // a value assigned to the field directly takes precedence
+            if (jsonSchema == null) {
+                jsonSchema = jsonSchemaSupplier.get();
+            }
+            jsonSchemaSupplier = null;
+        }
+        return jsonSchema;
+    }
+
+    public synchronized void setJsonSchema(String jsonSchema) {
+        this.jsonSchema = jsonSchema;
+        this.jsonSchemaSupplier = null;
+    }
+
+    /**
+     * Sets the JSON representation of the response, computed on first access (e.g. by a template) rather than up front, as few templates use it.
+     *
+     * @param jsonSchemaSupplier computes the JSON representation of the response
+     */
+    public synchronized void setJsonSchemaSupplier(Supplier<String> jsonSchemaSupplier) {
+        this.jsonSchema = null;
+        this.jsonSchemaSupplier = jsonSchemaSupplier;
+    }
+
     @Override
     public int hashCode() {
         return Objects.hash(headers, code, message, hasMore, examples, dataType, baseType, containerType, hasHeaders,
                 isString, isNumeric, isInteger, isLong, isNumber, isFloat, isDouble, isByteArray, isBoolean, isDate,
                 isDateTime, isUuid, isEmail, isModel, isFreeFormObject, isDefault, simpleType, primitiveType,
-                isMapContainer, isListContainer, isBinary, isFile, schema, jsonSchema, vendorExtensions,
+                isMapContainer, isListContainer, isBinary, isFile, schema, vendorExtensions,
                 getMaxProperties(), getMinProperties(), uniqueItems, getMaxItems(), getMinItems(), getMaxLength(),
                 getMinLength(), exclusiveMinimum, exclusiveMaximum, getMinimum(), getMaximum(), getPattern());
     }
@@ -115,7 +149,7 @@ public class CodegenResponse implements IJsonSchemaValidationProperties {
                 Objects.equals(baseType, that.baseType) &&
                 Objects.equals(containerType, that.containerType) &&
                 Objects.equals(schema, that.schema) &&
-                Objects.equals(jsonSchema, that.jsonSchema) &&
+                Objects.equals(getJsonSchema(), that.getJsonSchema()) &&
                 Objects.equals(vendorExtensions, that.vendorExtensions) &&
                 Objects.equals(getMaxProperties(), that.getMaxProperties()) &&
                 Objects.equals(getMinProperties(), that.getMinProperties()) &&
@@ -298,7 +332,7 @@ public class CodegenResponse implements IJsonSchemaValidationProperties {
         sb.append(", isBinary=").append(isBinary);
         sb.append(", isFile=").append(isFile);
         sb.append(", schema=").append(schema);
-        sb.append(", jsonSchema='").append(jsonSchema).append('\'');
+        sb.append(", jsonSchema='").append(getJsonSchema()).append('\'');
         sb.append(", vendorExtensions=").append(vendorExtensions);
         sb.append(", maxProperties=").append(maxProperties);
         sb.append(", minProperties=").append(minProperties);
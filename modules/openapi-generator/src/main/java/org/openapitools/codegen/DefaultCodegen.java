@@ -45,7 +45,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.openapitools.codegen.CodegenDiscriminator.MappedModel;
 import org.openapitools.codegen.api.TemplatingEngineAdapter;
-import org.openapitools.codegen.config.GlobalSettings;
+import org.openapitools.codegen.config.RunSettings;
 import org.openapitools.codegen.examples.ExampleGenerator;
 import org.openapitools.codegen.meta.FeatureSet;
 import org.openapitools.codegen.meta.GeneratorMetadata;
@@ -59,6 +59,7 @@ import org.openapitools.codegen.templating.mustache.LowercaseLambda;
 import org.openapitools.codegen.templating.mustache.TitlecaseLambda;
 import org.openapitools.codegen.templating.mustache.UppercaseLambda;
 import org.openapitools.codegen.utils.ModelUtils;
+import org.openapitools.codegen.utils.PostProcessFileExecutor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -186,19 +187,30 @@ public class DefaultCodegen implements CodegenConfig {
     protected String ignoreFilePathOverride;
     // flag to indicate whether to use environment variable to post process file
     protected boolean enablePostProcessFile = false;
+    protected int postProcessFileBatchSize = 1;
+    private PostProcessFileExecutor postProcessFileExecutor;
     private TemplatingEngineAdapter templatingEngine = new MustacheEngineAdapter();
 
     // flag to indicate whether to only update files whose contents have changed
     protected boolean enableMinimalUpdate = false;
 
+    // flag to indicate whether to skip files whose inputs are unchanged since the previous generation
+    protected boolean incrementalGeneration = false;
+    protected boolean profileGeneration = false;
+
     // acts strictly upon a spec, potentially modifying it to have consistent behavior across generators.
     protected boolean strictSpecBehavior = true;
+    // number of threads used to render model and api files
+    protected int renderingThreads = 1;
     // flag to indicate whether enum value prefixes are removed
     protected boolean removeEnumValuePrefix = true;
 
     // make openapi available to all methods
     protected OpenAPI openAPI;
 
+    // settings of the generation run, set by the generator
+    private RunSettings runSettings;
+
     public List<CliOption> cliOptions() {
         return cliOptions;
     }
@@ -274,6 +286,11 @@ public class DefaultCodegen implements CodegenConfig {
                     .get(CodegenConstants.ENABLE_POST_PROCESS_FILE).toString()));
         }
 
+        if (additionalProperties.containsKey(CodegenConstants.POST_PROCESS_FILE_BATCH_SIZE)) {
+            this.setPostProcessFileBatchSize(Integer.parseInt(additionalProperties
+                    .get(CodegenConstants.POST_PROCESS_FILE_BATCH_SIZE).toString()));
+        }
+
         if (additionalProperties.containsKey(CodegenConstants.GENERATE_ALIAS_AS_MODEL)) {
             ModelUtils.setGenerateAliasAsModel(Boolean.valueOf(additionalProperties
                     .get(CodegenConstants.GENERATE_ALIAS_AS_MODEL).toString()));
@@ -415,11 +432,22 @@ public class DefaultCodegen implements CodegenConfig {
         return objs;
     }
 
+    /**
+     * Marks the properties whose type (or item type) refers back to the model declaring them, directly or through
+     * other models. Such a property and its model belong to the same strongly connected component of the model
+     * dependency graph, so all properties are marked after a single pass over the graph.
+     *
+     * @param models all models, by name
+     */
     public void setCircularReferences(Map<String, CodegenModel> models) {
         final Map<String, List<CodegenProperty>> dependencyMap = models.entrySet().stream()
             .collect(Collectors.toMap(Entry::getKey, entry -> getModelDependencies(entry.getValue())));
 
-        models.keySet().forEach(name -> setCircularReferencesOnProperties(name, dependencyMap));
+        final Map<String, Integer> components = getStronglyConnectedComponents(dependencyMap);
+        dependencyMap.forEach((name, properties) -> {
+            final Integer component = components.get(name);
+            properties.forEach(prop -> prop.isCircularReference = component.equals(components.get(getDependencyName(prop))));
+        });
     }
 
     private List<CodegenProperty> getModelDependencies(CodegenModel model) {
@@ -434,35 +462,77 @@ public class DefaultCodegen implements CodegenConfig {
             .collect(Collectors.toList());
     }
 
-    private void setCircularReferencesOnProperties(final String root,
-                                                   final Map<String, List<CodegenProperty>> dependencyMap) {
-        dependencyMap.getOrDefault(root, new ArrayList<>()).stream()
-            .forEach(prop -> {
-                final List<String> unvisited =
-                    Collections.singletonList(prop.isContainer ? prop.items.dataType : prop.dataType);
-                prop.isCircularReference = isCircularReference(root,
-                                                               new HashSet<>(),
-                                                               new ArrayList<>(unvisited),
-                                                               dependencyMap);
-            });
+    private static String getDependencyName(CodegenProperty prop) {
+        return prop.isContainer ? prop.items.dataType : prop.dataType;
     }
 
-    private boolean isCircularReference(final String root,
-                                        final Set<String> visited,
-                                        final List<String> unvisited,
-                                        final Map<String, List<CodegenProperty>> dependencyMap) {
-        for (int i = 0; i < unvisited.size(); i++) {
-            final String next = unvisited.get(i);
-            if (!visited.contains(next)) {
-                if (next.equals(root)) {
-                    return true;
+    /**
+     * Tarjan's algorithm, iterative so that long dependency chains can't overflow the stack.
+     *
+     * @param dependencyMap model name to the properties referring to other types
+     * @return model name to the id of its strongly connected component
+     */
+    private static Map<String, Integer> getStronglyConnectedComponents(final Map<String, List<CodegenProperty>> dependencyMap) {
+        final Map<String, Integer> index = new HashMap<>();
+        final Map<String, Integer> lowLink = new HashMap<>();
+        final Map<String, Integer> components = new HashMap<>();
+        final Deque<String> stack = new ArrayDeque<>();
+        final Set<String> onStack = new HashSet<>();
+
+        final Deque<String> path = new ArrayDeque<>();
+        final Deque<Iterator<CodegenProperty>> pending = new ArrayDeque<>();
+
+        for (String root : dependencyMap.keySet()) {
+            if (index.containsKey(root)) {
+                continue;
+            }
+            index.put(root, index.size());
+            lowLink.put(root, index.get(root));
+            stack.push(root);
+            onStack.add(root);
+            path.push(root);
+            pending.push(dependencyMap.get(root).iterator());
+
+            while (!path.isEmpty()) {
+                final String current = path.peek();
+                final Iterator<CodegenProperty> successors = pending.peek();
+                if (successors.hasNext()) {
+                    final String next = getDependencyName(successors.next());
+                    if (!dependencyMap.containsKey(next)) {
+                        // not a model, can't lead back to one
+                        continue;
+                    }
+                    if (!index.containsKey(next)) {
+                        index.put(next, index.size());
+                        lowLink.put(next, index.get(next));
+                        stack.push(next);
+                        onStack.add(next);
+                        path.push(next);
+                        pending.push(dependencyMap.get(next).iterator());
+                    } else if (onStack.contains(next)) {
+                        lowLink.put(current, Math.min(lowLink.get(current), index.get(next)));
+                    }
+                    continue;
+                }
+
+                path.pop();
+                pending.pop();
+                if (lowLink.get(current).equals(index.get(current))) {
+                    final Integer component = index.get(current);
+                    String member;
+                    do {
+                        member = stack.pop();
+                        onStack.remove(member);
+                        components.put(member, component);
+                    } while (!member.equals(current));
+                }
+                if (!path.isEmpty()) {
+                    final String parent = path.peek();
+                    lowLink.put(parent, Math.min(lowLink.get(parent), lowLink.get(current)));
                 }
-                dependencyMap.getOrDefault(next, new ArrayList<>())
-                    .forEach(prop -> unvisited.add(prop.isContainer ? prop.items.dataType : prop.dataType));
-                visited.add(next);
             }
         }
-        return false;
+        return components;
     }
 
     // override with any special post-processing
@@ -601,6 +671,20 @@ public class DefaultCodegen implements CodegenConfig {
         this.openAPI = openAPI;
     }
 
+    @Override
+    public RunSettings getRunSettings() {
+        if (runSettings == null) {
+            // not run by a generator (e.g. in tests), use the settings of the calling thread
+            runSettings = RunSettings.fromGlobalSettings();
+        }
+        return runSettings;
+    }
+
+    @Override
+    public void setRunSettings(RunSettings runSettings) {
+        this.runSettings = runSettings;
+    }
+
     // override with any special post-processing
     @SuppressWarnings("static-method")
     public Map<String, Object> postProcessOperationsWithModels(Map<String, Object> objs, List<Object> allModels) {
@@ -1906,7 +1990,9 @@ public class DefaultCodegen implements CodegenConfig {
         m.classname = toModelName(name);
         m.classVarName = toVarName(name);
         m.classFilename = toModelFilename(name);
-        m.modelJson = Json.pretty(schema);
+        // computed on first access, few templates use it
+        final Schema modelSchema = schema;
+        m.setModelJsonSupplier(() -> Json.pretty(modelSchema));
         m.externalDocumentation = schema.getExternalDocs();
         if (schema.getExtensions() != null && !schema.getExtensions().isEmpty()) {
             m.getVendorExtensions().putAll(schema.getExtensions());
@@ -1941,8 +2027,8 @@ public class DefaultCodegen implements CodegenConfig {
             }
 
             // parent model
-            final String parentName = ModelUtils.getParentName(composed, allDefinitions);
-            final List<String> allParents = ModelUtils.getAllParentsName(composed, allDefinitions, false);
+            final String parentName = ModelUtils.getParentName(this.openAPI, composed);
+            final List<String> allParents = ModelUtils.getAllParentsName(this.openAPI, composed, false);
             final Schema parent = StringUtils.isBlank(parentName) || allDefinitions == null ? null : allDefinitions.get(parentName);
 
             // TODO revise the logic below to set dicriminator, xml attributes
@@ -2150,15 +2236,12 @@ public class DefaultCodegen implements CodegenConfig {
             }
         } else {
             Map<String, Schema> allDefinitions = ModelUtils.getSchemas(this.openAPI);
-            allDefinitions.forEach((childName, child) -> {
+            for (String childName : ModelUtils.getDescendants(this.openAPI, schemaName)) {
+                Schema child = allDefinitions.get(childName);
                 if (child instanceof ComposedSchema && ((ComposedSchema) child).getAllOf() != null) {
-
-                    final List<String> parentSchemas = ModelUtils.getAllParentsName((ComposedSchema) child, allDefinitions, true);
-                    if (parentSchemas.contains(schemaName)) {
-                        discriminator.getMappedModels().add(new MappedModel(childName, toModelName(childName)));
-                    }
+                    discriminator.getMappedModels().add(new MappedModel(childName, toModelName(childName)));
                 }
-            });
+            }
         }
         return discriminator;
     }
@@ -2261,7 +2344,8 @@ public class DefaultCodegen implements CodegenConfig {
         property.example = toExampleValue(p);
         property.defaultValue = toDefaultValue(p);
         property.defaultValueWithParam = toDefaultValueWithParam(name, p);
-        property.jsonSchema = Json.pretty(p);
+        final Schema propertySchema = p;
+        property.setJsonSchemaSupplier(() -> Json.pretty(propertySchema));
 
         if (p.getDeprecated() != null) {
             property.deprecated = p.getDeprecated();
@@ -3090,7 +3174,7 @@ public class DefaultCodegen implements CodegenConfig {
         // TODO need to revise and test examples in responses
         // ApiResponse does not support examples at the moment
         //r.examples = toExamples(response.getExamples());
-        r.jsonSchema = Json.pretty(response);
+        r.setJsonSchemaSupplier(() -> Json.pretty(response));
         if (response.getExtensions() != null && !response.getExtensions().isEmpty()) {
             r.vendorExtensions.putAll(response.getExtensions());
         }
@@ -3283,11 +3367,11 @@ public class DefaultCodegen implements CodegenConfig {
         if (parameter.getRequired() != null) {
             codegenParameter.required = parameter.getRequired();
         }
-        codegenParameter.jsonSchema = Json.pretty(parameter);
+        codegenParameter.setJsonSchemaSupplier(() -> Json.pretty(parameter));
 
-        if (GlobalSettings.getProperty("debugParser") != null) {
+        if (getRunSettings().isDebugParser()) {
             LOGGER.info("working on Parameter " + parameter.getName());
-            LOGGER.info("JSON schema: " + codegenParameter.jsonSchema);
+            LOGGER.info("JSON schema: " + codegenParameter.getJsonSchema());
         }
 
         if (parameter.getExtensions() != null && !parameter.getExtensions().isEmpty()) {
@@ -4994,7 +5078,7 @@ public class DefaultCodegen implements CodegenConfig {
         codegenParameter.dataFormat = codegenProperty.dataFormat;
         codegenParameter.description = escapeText(codegenProperty.description);
         codegenParameter.unescapedDescription = codegenProperty.getDescription();
-        codegenParameter.jsonSchema = Json.pretty(propertySchema);
+        codegenParameter.setJsonSchemaSupplier(() -> Json.pretty(propertySchema));
         codegenParameter.defaultValue = codegenProperty.getDefaultValue();
 
         if (codegenProperty.getVendorExtensions() != null && !codegenProperty.getVendorExtensions().isEmpty()) {
@@ -5468,6 +5552,54 @@ public class DefaultCodegen implements CodegenConfig {
         this.enablePostProcessFile = enablePostProcessFile;
     }
 
+    /**
+     * Maximum number of files passed to a single invocation of the post-processing command.
+     *
+     * @return the batch size, 1 meaning each file is processed as soon as it is written
+     */
+    public int getPostProcessFileBatchSize() {
+        return postProcessFileBatchSize;
+    }
+
+    /**
+     * Set the maximum number of files passed to a single invocation of the post-processing command.
+     *
+     * @param postProcessFileBatchSize the batch size, 1 to process each file as soon as it is written
+     */
+    public void setPostProcessFileBatchSize(int postProcessFileBatchSize) {
+        this.postProcessFileBatchSize = postProcessFileBatchSize;
+    }
+
+    /**
+     * Run a post-processing command on a generated file, the path of the file being appended to the command.
+     * Depending on {@link #getPostProcessFileBatchSize()}, the file is processed right away or queued until
+     * {@link #flushPostProcessFiles()}.
+     *
+     * @param command command to run, e.g. "gofmt -w"
+     * @param file    file to be processed
+     */
+    protected void executePostProcessFile(String command, File file) {
+        synchronized (this) {
+            if (postProcessFileExecutor == null) {
+                postProcessFileExecutor = new PostProcessFileExecutor(postProcessFileBatchSize,
+                        Runtime.getRuntime().availableProcessors());
+            }
+        }
+        postProcessFileExecutor.submit(command, file);
+    }
+
+    @Override
+    public void flushPostProcessFiles() {
+        PostProcessFileExecutor executor;
+        synchronized (this) {
+            executor = postProcessFileExecutor;
+            postProcessFileExecutor = null;
+        }
+        if (executor != null) {
+            executor.flush();
+        }
+    }
+
     /**
      * Get the boolean value indicating the state of the option for updating only changed files
      */
@@ -5486,6 +5618,42 @@ public class DefaultCodegen implements CodegenConfig {
         this.enableMinimalUpdate = enableMinimalUpdate;
     }
 
+    /**
+     * Get the boolean value indicating the state of the option for skipping files whose inputs are unchanged
+     */
+    @Override
+    public boolean isIncrementalGeneration() {
+        return incrementalGeneration;
+    }
+
+    /**
+     * Set the boolean value indicating the state of the option for skipping files whose inputs are unchanged
+     *
+     * @param incrementalGeneration true to enable incremental generation
+     */
+    @Override
+    public void setIncrementalGeneration(boolean incrementalGeneration) {
+        this.incrementalGeneration = incrementalGeneration;
+    }
+
+    /**
+     * Get the boolean value indicating the state of the option for recording a profile of the generation
+     */
+    @Override
+    public boolean isProfileGeneration() {
+        return profileGeneration;
+    }
+
+    /**
+     * Set the boolean value indicating the state of the option for recording a profile of the generation
+     *
+     * @param profileGeneration true to write .openapi-generator/PROFILE.json
+     */
+    @Override
+    public void setProfileGeneration(boolean profileGeneration) {
+        this.profileGeneration = profileGeneration;
+    }
+
     /**
      * Indicates whether the codegen configuration should treat documents as strictly defined by the OpenAPI specification.
      *
@@ -5507,6 +5675,26 @@ public class DefaultCodegen implements CodegenConfig {
         this.strictSpecBehavior = strictSpecBehavior;
     }
 
+    /**
+     * Get the number of threads used to render and write model and api files.
+     *
+     * @return the number of rendering threads, 1 for sequential rendering
+     */
+    @Override
+    public int getRenderingThreads() {
+        return this.renderingThreads;
+    }
+
+    /**
+     * Set the number of threads used to render and write model and api files.
+     *
+     * @param renderingThreads the number of rendering threads, 1 for sequential rendering
+     */
+    @Override
+    public void setRenderingThreads(final int renderingThreads) {
+        this.renderingThreads = renderingThreads;
+    }
+
     @Override
     public FeatureSet getFeatureSet() {
         return this.featureSet;
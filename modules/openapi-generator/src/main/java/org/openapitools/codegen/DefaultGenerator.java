@@ -33,8 +33,10 @@ import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.openapitools.codegen.config.GlobalSettings;
+import org.openapitools.codegen.config.RunSettings;
 import org.openapitools.codegen.api.TemplatingEngineAdapter;
 import org.openapitools.codegen.ignore.CodegenIgnoreProcessor;
+import org.openapitools.codegen.ignore.rules.RuleSet;
 import org.openapitools.codegen.languages.PythonClientExperimentalCodegen;
 import org.openapitools.codegen.meta.GeneratorMetadata;
 import org.openapitools.codegen.meta.Stability;
@@ -49,12 +51,27 @@ import org.slf4j.LoggerFactory;
 
 import java.io.*;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.ZonedDateTime;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class DefaultGenerator extends AbstractGenerator implements Generator {
     protected final Logger LOGGER = LoggerFactory.getLogger(DefaultGenerator.class);
+    // template data which changes on every run and must not invalidate files generated by a previous run
+    private static final Set<String> FINGERPRINT_IGNORED_KEYS = new HashSet<>(Arrays.asList("generatedDate", "generatedYear"));
+    private static final Pattern PARTIAL_REFERENCE = Pattern.compile("\\{\\{#?>\\s*([^\\s}]+)");
     protected CodegenConfig config;
     protected ClientOptInput opts;
     protected OpenAPI openAPI;
@@ -68,10 +85,21 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
     private Boolean generateModelTests = null;
     private Boolean generateModelDocumentation = null;
     private Boolean generateMetadata = true;
+    private RunSettings runSettings;
     private String basePath;
     private String basePathWithoutHost;
     private String contextPath;
     private Map<String, String> generatorPropertyDefaults = new HashMap<>();
+    // incremental generation: fingerprints of the previous run, of the templates, and of the inputs shared by the files
+    // of the current phase of the run (see #refreshFingerprints)
+    private FingerprintManifest fingerprints;
+    private final Map<String, String> templateFingerprints = new ConcurrentHashMap<>();
+    private String runFingerprint;
+    private String inputsFingerprint;
+    private TemplateDataDigest.Units fingerprintUnits;
+    private final Set<File> unchangedFiles = Collections.newSetFromMap(new ConcurrentHashMap<>());
+    // records where the run spends its time, when enabled (see CodegenConfig#isProfileGeneration)
+    private GenerationProfiler profiler = new GenerationProfiler(false);
 
     @Override
     public boolean getEnableMinimalUpdate() {
@@ -84,6 +112,9 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
         this.openAPI = opts.getOpenAPI();
         this.config = opts.getConfig();
         this.templatingEngine = this.config.getTemplatingEngine();
+        // taken again once the generator has processed its options, see configureGeneratorProperties
+        this.runSettings = RunSettings.fromGlobalSettings();
+        clearTemplateIndex();
 
         String ignoreFileLocation = this.config.getIgnoreFilePathOverride();
         if (ignoreFileLocation != null) {
@@ -144,11 +175,14 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
     }
 
     private void configureGeneratorProperties() {
+        // the settings of this run are looked up once, rather than in GlobalSettings by each thread of the run
+        runSettings = RunSettings.fromGlobalSettings();
+
         // allows generating only models by specifying a CSV of models to generate, or empty for all
         // NOTE: Boolean.TRUE is required below rather than `true` because of JVM boxing constraints and type inference.
-        generateApis = GlobalSettings.getProperty(CodegenConstants.APIS) != null ? Boolean.TRUE : getGeneratorPropertyDefaultSwitch(CodegenConstants.APIS, null);
-        generateModels = GlobalSettings.getProperty(CodegenConstants.MODELS) != null ? Boolean.TRUE : getGeneratorPropertyDefaultSwitch(CodegenConstants.MODELS, null);
-        generateSupportingFiles = GlobalSettings.getProperty(CodegenConstants.SUPPORTING_FILES) != null ? Boolean.TRUE : getGeneratorPropertyDefaultSwitch(CodegenConstants.SUPPORTING_FILES, null);
+        generateApis = runSettings.getApis() != null ? Boolean.TRUE : getGeneratorPropertyDefaultSwitch(CodegenConstants.APIS, null);
+        generateModels = runSettings.getModels() != null ? Boolean.TRUE : getGeneratorPropertyDefaultSwitch(CodegenConstants.MODELS, null);
+        generateSupportingFiles = runSettings.getSupportingFiles() != null ? Boolean.TRUE : getGeneratorPropertyDefaultSwitch(CodegenConstants.SUPPORTING_FILES, null);
 
         if (generateApis == null && generateModels == null && generateSupportingFiles == null) {
             // no specifics are set, generate everything
@@ -166,10 +200,10 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
         }
         // model/api tests and documentation options rely on parent generate options (api or model) and no other options.
         // They default to true in all scenarios and can only be marked false explicitly
-        generateModelTests = GlobalSettings.getProperty(CodegenConstants.MODEL_TESTS) != null ? Boolean.valueOf(GlobalSettings.getProperty(CodegenConstants.MODEL_TESTS)) : getGeneratorPropertyDefaultSwitch(CodegenConstants.MODEL_TESTS, true);
-        generateModelDocumentation = GlobalSettings.getProperty(CodegenConstants.MODEL_DOCS) != null ? Boolean.valueOf(GlobalSettings.getProperty(CodegenConstants.MODEL_DOCS)) : getGeneratorPropertyDefaultSwitch(CodegenConstants.MODEL_DOCS, true);
-        generateApiTests = GlobalSettings.getProperty(CodegenConstants.API_TESTS) != null ? Boolean.valueOf(GlobalSettings.getProperty(CodegenConstants.API_TESTS)) : getGeneratorPropertyDefaultSwitch(CodegenConstants.API_TESTS, true);
-        generateApiDocumentation = GlobalSettings.getProperty(CodegenConstants.API_DOCS) != null ? Boolean.valueOf(GlobalSettings.getProperty(CodegenConstants.API_DOCS)) : getGeneratorPropertyDefaultSwitch(CodegenConstants.API_DOCS, true);
+        generateModelTests = runSettings.getModelTests() != null ? runSettings.getModelTests() : getGeneratorPropertyDefaultSwitch(CodegenConstants.MODEL_TESTS, true);
+        generateModelDocumentation = runSettings.getModelDocs() != null ? runSettings.getModelDocs() : getGeneratorPropertyDefaultSwitch(CodegenConstants.MODEL_DOCS, true);
+        generateApiTests = runSettings.getApiTests() != null ? runSettings.getApiTests() : getGeneratorPropertyDefaultSwitch(CodegenConstants.API_TESTS, true);
+        generateApiDocumentation = runSettings.getApiDocs() != null ? runSettings.getApiDocs() : getGeneratorPropertyDefaultSwitch(CodegenConstants.API_DOCS, true);
 
         // Additional properties added for tests to exclude references in project related files
         config.additionalProperties().put(CodegenConstants.GENERATE_API_TESTS, generateApiTests);
@@ -185,17 +219,27 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
             config.additionalProperties().put(CodegenConstants.EXCLUDE_TESTS, true);
         }
 
-        if (GlobalSettings.getProperty("debugOpenAPI") != null) {
+        if (runSettings.isDebugOpenAPI()) {
             System.out.println(SerializerUtils.toJsonString(openAPI));
-        } else if (GlobalSettings.getProperty("debugSwagger") != null) {
+        } else if (runSettings.isDebugSwagger()) {
             // This exists for backward compatibility
             // We fall to this block only if debugOpenAPI is null. No need to dump this twice.
             LOGGER.info("Please use system property 'debugOpenAPI' instead of 'debugSwagger'.");
             System.out.println(SerializerUtils.toJsonString(openAPI));
         }
 
-        config.processOpts();
-        config.preprocessOpenAPI(openAPI);
+        try (GenerationProfiler.Span processOpts = profiler.start("processOpts")) {
+            config.processOpts();
+        }
+        // generators may set generateAliasAsModel while processing their options
+        runSettings = runSettings.withGenerateAliasAsModel(ModelUtils.isGenerateAliasAsModel());
+        config.setRunSettings(runSettings);
+        ModelUtils.setRunSettings(openAPI, runSettings);
+
+        try (GenerationProfiler.Span preprocess = profiler.start("preprocessOpenAPI")) {
+            config.preprocessOpenAPI(openAPI);
+        }
+        ModelUtils.invalidateCaches(openAPI);
 
         // set OpenAPI to make these available to all methods
         config.setOpenAPI(openAPI);
@@ -293,9 +337,7 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
             File written = processTemplateToFile(models, templateName, filename);
             if (written != null) {
                 files.add(written);
-                if (config.isEnablePostProcessFile()) {
-                    config.postProcessFile(written, "model-test");
-                }
+                postProcessFile(written, "model-test");
             }
         }
     }
@@ -312,9 +354,7 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
             File written = processTemplateToFile(models, templateName, filename);
             if (written != null) {
                 files.add(written);
-                if (config.isEnablePostProcessFile()) {
-                    config.postProcessFile(written, "model-doc");
-                }
+                postProcessFile(written, "model-doc");
             }
         }
     }
@@ -330,9 +370,7 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
             File written = processTemplateToFile(models, templateName, filename);
             if (written != null) {
                 files.add(written);
-                if (config.isEnablePostProcessFile()) {
-                    config.postProcessFile(written, "model");
-                }
+                postProcessFile(written, "model");
             }
         }
     }
@@ -347,7 +385,7 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
             return;
         }
 
-        String modelNames = GlobalSettings.getProperty("models");
+        String modelNames = runSettings.getModels();
         Set<String> modelsToGenerate = null;
         if (modelNames != null && !modelNames.isEmpty()) {
             modelsToGenerate = new HashSet<String>(Arrays.asList(modelNames.split(",")));
@@ -420,8 +458,8 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
             } */
         });
 
-        Boolean skipFormModel = GlobalSettings.getProperty(CodegenConstants.SKIP_FORM_MODEL) != null ?
-                Boolean.valueOf(GlobalSettings.getProperty(CodegenConstants.SKIP_FORM_MODEL)) :
+        Boolean skipFormModel = runSettings.getSkipFormModel() != null ?
+                runSettings.getSkipFormModel() :
                 getGeneratorPropertyDefaultSwitch(CodegenConstants.SKIP_FORM_MODEL, false);
 
         // process models only
@@ -450,13 +488,13 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
                     LOGGER.info("Model " + name + " not generated since it's a free-form object");
                     continue;
                 } else if (ModelUtils.isMapSchema(schema)) { // check to see if it's a "map" model
-                    if (!ModelUtils.isGenerateAliasAsModel() && (schema.getProperties() == null || schema.getProperties().isEmpty())) {
+                    if (!runSettings.isGenerateAliasAsModel() && (schema.getProperties() == null || schema.getProperties().isEmpty())) {
                         // schema without property, i.e. alias to map
                         LOGGER.info("Model " + name + " not generated since it's an alias to map (without property) and `generateAliasAsModel` is set to false (default)");
                         continue;
                     }
                 } else if (ModelUtils.isArraySchema(schema)) { // check to see if it's an "array" model
-                    if (!ModelUtils.isGenerateAliasAsModel() && (schema.getProperties() == null || schema.getProperties().isEmpty())) {
+                    if (!runSettings.isGenerateAliasAsModel() && (schema.getProperties() == null || schema.getProperties().isEmpty())) {
                         // schema without property, i.e. alias to array
                         LOGGER.info("Model " + name + " not generated since it's an alias to array (without property) and `generateAliasAsModel` is set to false (default)");
                         continue;
@@ -475,12 +513,17 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
         }
 
         // loop through all models to update children models, isSelfReference, isCircularReference, etc
-        allProcessedModels = config.updateAllModels(allProcessedModels);
+        try (GenerationProfiler.Span update = profiler.start("updateAllModels")) {
+            allProcessedModels = config.updateAllModels(allProcessedModels);
+        }
 
         // post process all processed models
-        allProcessedModels = config.postProcessAllModels(allProcessedModels);
+        try (GenerationProfiler.Span postProcess = profiler.start("postProcessAllModels")) {
+            allProcessedModels = config.postProcessAllModels(allProcessedModels);
+        }
 
         // generate files based on processed models
+        List<Callable<List<File>>> renderTasks = new ArrayList<>();
         for (String modelName : allProcessedModels.keySet()) {
             Map<String, Object> models = (Map<String, Object>) allProcessedModels.get(modelName);
             models.put("modelPackage", config.modelPackage());
@@ -502,36 +545,100 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
                 }
 
                 allModels.add(modelTemplate);
-
-                // to generate model files
-                generateModel(files, models, modelName);
-
-                if (generateModelTests) {
-                    // to generate model test files
-                    generateModelTests(files, models, modelName);
-                }
-                if (generateModelDocumentation) {
-                    // to generate model documentation files
-                    generateModelDocumentation(files, models, modelName);
-                }
             } catch (Exception e) {
                 throw new RuntimeException("Could not generate model '" + modelName + "'", e);
             }
+
+            Callable<List<File>> renderTask = () -> {
+                List<File> written = new ArrayList<>();
+                try {
+                    // to generate model files
+                    generateModel(written, models, modelName);
+
+                    if (generateModelTests) {
+                        // to generate model test files
+                        generateModelTests(written, models, modelName);
+                    }
+                    if (generateModelDocumentation) {
+                        // to generate model documentation files
+                        generateModelDocumentation(written, models, modelName);
+                    }
+                } catch (Exception e) {
+                    throw new RuntimeException("Could not generate model '" + modelName + "'", e);
+                }
+                return written;
+            };
+            renderOrQueue(files, renderTasks, profiler.wrap(renderTask));
         }
-        if (GlobalSettings.getProperty("debugModels") != null) {
+        renderQueued(files, renderTasks);
+        if (runSettings.isDebugModels()) {
             LOGGER.info("############ Model info ############");
             Json.prettyPrint(allModels);
         }
 
     }
 
+    private void generateApi(List<File> files, Map<String, Object> operation, String tag) throws IOException {
+        for (String templateName : config.apiTemplateFiles().keySet()) {
+            String filename = config.apiFilename(templateName, tag);
+            if (!config.shouldOverwrite(filename) && new File(filename).exists()) {
+                LOGGER.info("Skipped overwriting " + filename);
+                continue;
+            }
+
+            File written = processTemplateToFile(operation, templateName, filename);
+            if (written != null) {
+                files.add(written);
+                postProcessFile(written, "api");
+            }
+        }
+
+        if (generateApiTests) {
+            // to generate api test files
+            for (String templateName : config.apiTestTemplateFiles().keySet()) {
+                String filename = config.apiTestFilename(templateName, tag);
+                // do not overwrite test file that already exists
+                if (new File(filename).exists()) {
+                    LOGGER.info("File exists. Skipped overwriting " + filename);
+                    continue;
+                }
+
+                File written = processTemplateToFile(operation, templateName, filename);
+                if (written != null) {
+                    files.add(written);
+                    postProcessFile(written, "api-test");
+                }
+            }
+        }
+
+        if (generateApiDocumentation) {
+            // to generate api documentation files
+            for (String templateName : config.apiDocTemplateFiles().keySet()) {
+                String filename = config.apiDocFilename(templateName, tag);
+                if (!config.shouldOverwrite(filename) && new File(filename).exists()) {
+                    LOGGER.info("Skipped overwriting " + filename);
+                    continue;
+                }
+
+                File written = processTemplateToFile(operation, templateName, filename);
+                if (written != null) {
+                    files.add(written);
+                    postProcessFile(written, "api-doc");
+                }
+            }
+        }
+    }
+
     private void generateApis(List<File> files, List<Object> allOperations, List<Object> allModels) {
         if (!generateApis) {
             return;
         }
-        Map<String, List<CodegenOperation>> paths = processPaths(this.openAPI.getPaths());
+        Map<String, List<CodegenOperation>> paths;
+        try (GenerationProfiler.Span processPaths = profiler.start("processPaths")) {
+            paths = processPaths(this.openAPI.getPaths());
+        }
         Set<String> apisToGenerate = null;
-        String apiNames = GlobalSettings.getProperty("apis");
+        String apiNames = runSettings.getApis();
         if (apiNames != null && !apiNames.isEmpty()) {
             apisToGenerate = new HashSet<String>(Arrays.asList(apiNames.split(",")));
         }
@@ -544,7 +651,9 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
             }
             paths = updatedPaths;
         }
+        List<Callable<List<File>>> renderTasks = new ArrayList<>();
         for (String tag : paths.keySet()) {
+            Map<String, Object> operation;
             try {
                 List<CodegenOperation> ops = paths.get(tag);
                 Collections.sort(ops, new Comparator<CodegenOperation>() {
@@ -553,7 +662,7 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
                         return ObjectUtils.compare(one.operationId, another.operationId);
                     }
                 });
-                Map<String, Object> operation = processOperations(config, tag, ops, allModels);
+                operation = processOperations(config, tag, ops, allModels);
                 URL url = URLPathUtils.getServerURL(openAPI, config.serverVariableOverrides());
                 operation.put("basePath", basePath);
                 operation.put("basePathWithoutHost", config.encodePath(url.getPath()).replaceAll("/$", ""));
@@ -611,71 +720,82 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
                         oo.put("hasMore", "true");
                     }
                 }
+            } catch (Exception e) {
+                throw new RuntimeException("Could not generate api file for '" + tag + "'", e);
+            }
 
-                for (String templateName : config.apiTemplateFiles().keySet()) {
-                    String filename = config.apiFilename(templateName, tag);
-                    if (!config.shouldOverwrite(filename) && new File(filename).exists()) {
-                        LOGGER.info("Skipped overwriting " + filename);
-                        continue;
-                    }
-
-                    File written = processTemplateToFile(operation, templateName, filename);
-                    if (written != null) {
-                        files.add(written);
-                        if (config.isEnablePostProcessFile()) {
-                            config.postProcessFile(written, "api");
-                        }
-                    }
+            Callable<List<File>> renderTask = () -> {
+                List<File> written = new ArrayList<>();
+                try {
+                    generateApi(written, operation, tag);
+                } catch (Exception e) {
+                    throw new RuntimeException("Could not generate api file for '" + tag + "'", e);
                 }
+                return written;
+            };
+            renderOrQueue(files, renderTasks, profiler.wrap(renderTask));
+        }
+        renderQueued(files, renderTasks);
+        if (runSettings.isDebugOperations()) {
+            LOGGER.info("############ Operation info ############");
+            Json.prettyPrint(allOperations);
+        }
 
-                if (generateApiTests) {
-                    // to generate api test files
-                    for (String templateName : config.apiTestTemplateFiles().keySet()) {
-                        String filename = config.apiTestFilename(templateName, tag);
-                        // do not overwrite test file that already exists
-                        if (new File(filename).exists()) {
-                            LOGGER.info("File exists. Skipped overwriting " + filename);
-                            continue;
-                        }
+    }
 
-                        File written = processTemplateToFile(operation, templateName, filename);
-                        if (written != null) {
-                            files.add(written);
-                            if (config.isEnablePostProcessFile()) {
-                                config.postProcessFile(written, "api-test");
-                            }
-                        }
-                    }
-                }
+    /**
+     * Renders the files of a single model or api bundle. With sequential rendering (the default) the task runs immediately,
+     * otherwise it is queued and executed by {@link #renderQueued(List, List)} once all bundles have been processed.
+     *
+     * @param files       The list of generated files
+     * @param renderTasks The queue of pending rendering tasks
+     * @param renderTask  The task rendering and writing the files of one bundle
+     */
+    private void renderOrQueue(List<File> files, List<Callable<List<File>>> renderTasks, Callable<List<File>> renderTask) {
+        if (config.getRenderingThreads() > 1) {
+            renderTasks.add(renderTask);
+            return;
+        }
 
-                if (generateApiDocumentation) {
-                    // to generate api documentation files
-                    for (String templateName : config.apiDocTemplateFiles().keySet()) {
-                        String filename = config.apiDocFilename(templateName, tag);
-                        if (!config.shouldOverwrite(filename) && new File(filename).exists()) {
-                            LOGGER.info("Skipped overwriting " + filename);
-                            continue;
-                        }
+        try {
+            files.addAll(renderTask.call());
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
 
-                        File written = processTemplateToFile(operation, templateName, filename);
-                        if (written != null) {
-                            files.add(written);
-                            if (config.isEnablePostProcessFile()) {
-                                config.postProcessFile(written, "api-doc");
-                            }
-                        }
-                    }
-                }
+    /**
+     * Executes queued rendering tasks on a pool of {@link CodegenConfig#getRenderingThreads()} threads.
+     * Files are added in the order in which the tasks were queued, regardless of completion order.
+     *
+     * @param files       The list of generated files
+     * @param renderTasks The queue of pending rendering tasks
+     */
+    private void renderQueued(List<File> files, List<Callable<List<File>>> renderTasks) {
+        if (renderTasks.isEmpty()) {
+            return;
+        }
 
-            } catch (Exception e) {
-                throw new RuntimeException("Could not generate api file for '" + tag + "'", e);
+        int threads = Math.min(config.getRenderingThreads(), renderTasks.size());
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (Future<List<File>> future : executor.invokeAll(renderTasks)) {
+                files.addAll(future.get());
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while rendering files", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RuntimeException(e.getCause());
+        } finally {
+            executor.shutdownNow();
+            renderTasks.clear();
         }
-        if (GlobalSettings.getProperty("debugOperations") != null) {
-            LOGGER.info("############ Operation info ############");
-            Json.prettyPrint(allOperations);
-        }
-
     }
 
     private void generateSupportingFiles(List<File> files, Map<String, Object> bundle) {
@@ -683,7 +803,7 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
             return;
         }
         Set<String> supportingFilesToGenerate = null;
-        String supportingFiles = GlobalSettings.getProperty(CodegenConstants.SUPPORTING_FILES);
+        String supportingFiles = runSettings.getSupportingFiles();
         if (supportingFiles != null && !supportingFiles.isEmpty()) {
             supportingFilesToGenerate = new HashSet<String>(Arrays.asList(supportingFiles.split(",")));
         }
@@ -719,15 +839,12 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
                     continue;
                 }
 
-                if (ignoreProcessor.allowsFile(new File(outputFilename))) {
+                RuleSet.Decision ignoreDecision = ignoreProcessor.explain(new File(outputFilename));
+                if (ignoreDecision.isAllowed()) {
                     if (Arrays.stream(templatingEngine.getFileExtensions()).anyMatch(templateFile::endsWith)) {
-                        String templateContent = templatingEngine.compileTemplate(this, bundle, support.templateFile);
-                        writeToFile(outputFilename, templateContent);
-                        File written = new File(outputFilename);
+                        File written = renderToFile(bundle, support.templateFile, outputFilename);
                         files.add(written);
-                        if (config.isEnablePostProcessFile()) {
-                            config.postProcessFile(written, "supporting-mustache");
-                        }
+                        postProcessFile(written, "supporting-mustache");
                     } else {
                         InputStream in = null;
 
@@ -741,12 +858,10 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
                         }
                         File outputFile = writeInputStreamToFile(outputFilename, in, templateFile);
                         files.add(outputFile);
-                        if (config.isEnablePostProcessFile()) {
-                            config.postProcessFile(outputFile, "supporting-common");
-                        }
+                        postProcessFile(outputFile, "supporting-common");
                     }
                 } else {
-                    LOGGER.info("Skipped generation of " + outputFilename + " due to rule in .openapi-generator-ignore");
+                    LOGGER.info("Skipped generation of " + outputFilename + " due to rule '" + ignoreDecision.getExcludedBy().getDefinition() + "' in .openapi-generator-ignore");
                 }
             } catch (Exception e) {
                 throw new RuntimeException("Could not generate supporting file '" + support + "'", e);
@@ -767,9 +882,7 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
                 throw new RuntimeException("Could not generate supporting file '" + openapiGeneratorIgnore + "'", e);
             }
             files.add(ignoreFile);
-            if (config.isEnablePostProcessFile()) {
-                config.postProcessFile(ignoreFile, "openapi-generator-ignore");
-            }
+            postProcessFile(ignoreFile, "openapi-generator-ignore");
         }
 
         if (generateMetadata) {
@@ -778,9 +891,7 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
             try {
                 writeToFile(versionMetadata, ImplementationVersion.read());
                 files.add(versionMetadataFile);
-                if (config.isEnablePostProcessFile()) {
-                    config.postProcessFile(ignoreFile, "openapi-generator-version");
-                }
+                postProcessFile(ignoreFile, "openapi-generator-version");
             } catch (IOException e) {
                 throw new RuntimeException("Could not generate supporting file '" + versionMetadata + "'", e);
             }
@@ -879,9 +990,11 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
             m.hasMoreModels = true;
         }
 
-        config.postProcessSupportingFileData(bundle);
+        try (GenerationProfiler.Span postProcess = profiler.start("postProcessSupportingFileData")) {
+            config.postProcessSupportingFileData(bundle);
+        }
 
-        if (GlobalSettings.getProperty("debugSupportingFiles") != null) {
+        if (runSettings.isDebugSupportingFiles()) {
             LOGGER.info("############ Supporting file info ############");
             Json.prettyPrint(bundle);
         }
@@ -916,29 +1029,77 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
             }
         }
 
-        // resolve inline models
-        InlineModelResolver inlineModelResolver = new InlineModelResolver();
-        inlineModelResolver.flatten(openAPI);
+        profiler = new GenerationProfiler(config.isProfileGeneration());
+        List<File> files = new ArrayList<File>();
+        try (GenerationProfiler.Span ignored = profiler.start("generate")) {
+            // resolve inline models
+            try (GenerationProfiler.Span flatten = profiler.start("flattenInlineModels")) {
+                InlineModelResolver inlineModelResolver = new InlineModelResolver();
+                inlineModelResolver.flatten(openAPI);
+            }
 
-        configureGeneratorProperties();
-        configureOpenAPIInfo();
+            try (GenerationProfiler.Span configure = profiler.start("configure")) {
+                configureGeneratorProperties();
+                configureOpenAPIInfo();
 
-        // If the template adapter is mustache, we'll set the config-modified Compiler.
-        configPostProcessMustacheCompiler();
+                // If the template adapter is mustache, we'll set the config-modified Compiler.
+                configPostProcessMustacheCompiler();
 
-        List<File> files = new ArrayList<File>();
-        // models
-        List<String> filteredSchemas = ModelUtils.getSchemasUsedOnlyInFormParam(openAPI);
-        List<Object> allModels = new ArrayList<Object>();
-        generateModels(files, allModels, filteredSchemas);
-        // apis
-        List<Object> allOperations = new ArrayList<Object>();
-        generateApis(files, allOperations, allModels);
-
-        // supporting files
-        Map<String, Object> bundle = buildSupportFileBundle(allOperations, allModels);
-        generateSupportingFiles(files, bundle);
-        config.processOpenAPI(openAPI);
+                if (config.isIncrementalGeneration()) {
+                    fingerprints = FingerprintManifest.load(config.outputFolder());
+                    runFingerprint = computeRunFingerprint();
+                    templateFingerprints.clear();
+                }
+            }
+
+            // models
+            List<String> filteredSchemas = ModelUtils.getSchemasUsedOnlyInFormParam(openAPI);
+            List<Object> allModels = new ArrayList<Object>();
+            try (GenerationProfiler.Span models = profiler.start("generateModels")) {
+                refreshFingerprints();
+                generateModels(files, allModels, filteredSchemas);
+            }
+            // apis
+            List<Object> allOperations = new ArrayList<Object>();
+            try (GenerationProfiler.Span apis = profiler.start("generateApis")) {
+                refreshFingerprints();
+                generateApis(files, allOperations, allModels);
+            }
+
+            // supporting files
+            try (GenerationProfiler.Span supportingFiles = profiler.start("generateSupportingFiles")) {
+                Map<String, Object> bundle = buildSupportFileBundle(allOperations, allModels);
+                refreshFingerprints();
+                generateSupportingFiles(files, bundle);
+            }
+            if (config.isEnablePostProcessFile()) {
+                try (GenerationProfiler.Span postProcess = profiler.start("flushPostProcessFiles")) {
+                    config.flushPostProcessFiles();
+                }
+            }
+            if (fingerprints != null) {
+                if (!unchangedFiles.isEmpty()) {
+                    LOGGER.info("Skipped {} file(s) whose inputs are unchanged since the previous generation", unchangedFiles.size());
+                }
+                fingerprints.save();
+                fingerprints = null;
+                fingerprintUnits = null;
+                unchangedFiles.clear();
+            }
+            try (GenerationProfiler.Span processOpenAPI = profiler.start("processOpenAPI")) {
+                config.processOpenAPI(openAPI);
+            }
+        }
+
+        if (profiler.isEnabled()) {
+            try {
+                File report = profiler.writeReport(config);
+                files.add(report);
+                LOGGER.info("Generation profile written to {}", report);
+            } catch (IOException e) {
+                LOGGER.warn("Could not write the generation profile: {}", e.getMessage());
+            }
+        }
 
         // reset GlobalSettings, so that the running thread can be reused for another generator-run
         GlobalSettings.reset();
@@ -948,7 +1109,7 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
 
     @Override
     public String getFullTemplateContents(String templateName) {
-        return readTemplate(getFullTemplateFile(config, templateName));
+        return readIndexedTemplate(getFullTemplateFile(config, templateName));
     }
 
     /**
@@ -957,6 +1118,11 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
      * @param name the template name (e.g. model.mustache)
      * @return The {@link Path} to the template
      */
+    @Override
+    public void templateCompiled(String name, long nanos) {
+        profiler.compiled(name, nanos);
+    }
+
     @Override
     public Path getFullTemplatePath(String name) {
         String fullPath = getFullTemplateFile(config, name);
@@ -965,16 +1131,187 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
 
     protected File processTemplateToFile(Map<String, Object> templateData, String templateName, String outputFilename) throws IOException {
         String adjustedOutputFilename = outputFilename.replaceAll("//", "/").replace('/', File.separatorChar);
-        if (ignoreProcessor.allowsFile(new File(adjustedOutputFilename))) {
-            String templateContent = templatingEngine.compileTemplate(this, templateData, templateName);
-            writeToFile(adjustedOutputFilename, templateContent);
-            return new File(adjustedOutputFilename);
+        RuleSet.Decision ignoreDecision = ignoreProcessor.explain(new File(adjustedOutputFilename));
+        if (ignoreDecision.isAllowed()) {
+            return renderToFile(templateData, templateName, adjustedOutputFilename);
+        }
+
+        LOGGER.info("Skipped generation of " + adjustedOutputFilename + " due to rule '" + ignoreDecision.getExcludedBy().getDefinition() + "' in .openapi-generator-ignore");
+        return null;
+    }
+
+    /**
+     * Renders a template to a file, unless incremental generation is enabled and the file was generated from the same
+     * inputs by a previous run.
+     */
+    private File renderToFile(Map<String, Object> templateData, String templateName, String outputFilename) throws IOException {
+        File outputFile = new File(outputFilename);
+        String fingerprint = null;
+        if (fingerprints != null) {
+            // computed before rendering, as templates (e.g. through lambdas) may modify their data; the entries shared with
+            // the additional properties are covered by the inputs of the phase
+            fingerprint = new TemplateDataDigest(FINGERPRINT_IGNORED_KEYS, fingerprintUnits)
+                    .add(getInputsFingerprint())
+                    .add(templateName)
+                    .add(templateFingerprints.computeIfAbsent(templateName, this::computeTemplateFingerprint))
+                    .add(outputFile.getPath())
+                    .addTemplateData(templateData, config.additionalProperties())
+                    .hex();
+            if (fingerprints.isUnchanged(outputFile, fingerprint)) {
+                LOGGER.debug("Skipped generation of {}, its inputs are unchanged", outputFilename);
+                unchangedFiles.add(outputFile);
+                return outputFile;
+            }
+        }
+
+        try (GenerationProfiler.Span render = profiler.template(templateName)) {
+            // the template is written to the file as it renders, rather than rendered to a string first
+            writeToFile(outputFilename, writer -> templatingEngine.compileTemplate(this, templateData, templateName, writer));
+        }
+        if (fingerprint != null) {
+            fingerprints.written(outputFile, fingerprint);
+        }
+        return outputFile;
+    }
+
+    /**
+     * Fingerprint of a template along with the partials it includes, recursively. Partials are resolved as the
+     * templating engines do, trying each of their file extensions.
+     */
+    private String computeTemplateFingerprint(String templateName) {
+        TemplateDataDigest digest = new TemplateDataDigest(Collections.emptySet());
+        Set<String> seen = new HashSet<>();
+        Deque<String> pending = new ArrayDeque<>();
+        pending.add(getFullTemplateContents(templateName));
+        while (!pending.isEmpty()) {
+            String contents = pending.poll();
+            digest.add(contents);
+            Matcher partials = PARTIAL_REFERENCE.matcher(contents);
+            while (partials.find()) {
+                String partial = partials.group(1);
+                if (seen.add(partial)) {
+                    digest.add(partial);
+                    String partialContents = readPartial(partial);
+                    if (partialContents != null) {
+                        pending.add(partialContents);
+                    }
+                }
+            }
         }
+        return digest.hex();
+    }
 
-        LOGGER.info("Skipped generation of " + adjustedOutputFilename + " due to rule in .openapi-generator-ignore");
+    private String readPartial(String name) {
+        for (String extension : templatingEngine.getFileExtensions()) {
+            try {
+                return getFullTemplateContents(name + "." + extension);
+            } catch (RuntimeException e) {
+                // try the next extension
+            }
+        }
         return null;
     }
 
+    /**
+     * Discards the fingerprints of the inputs shared by the files of the previous phase of the run: the generator may
+     * change its options as well as the models and operations between phases (e.g. in postProcessAllModels).
+     */
+    private synchronized void refreshFingerprints() {
+        if (fingerprints != null) {
+            inputsFingerprint = null;
+            fingerprintUnits = new TemplateDataDigest.Units();
+        }
+    }
+
+    /**
+     * @return the fingerprint of the inputs shared by the files of the current phase of the run, computed when its
+     * first file is rendered
+     */
+    private synchronized String getInputsFingerprint() {
+        if (inputsFingerprint == null) {
+            inputsFingerprint = computeInputsFingerprint();
+        }
+        return inputsFingerprint;
+    }
+
+    /**
+     * Fingerprint of the inputs shared by the files of a phase of a run: those of the run, and the options of the
+     * generator (additional properties, mappings and packages) along with the version of its code.
+     */
+    private String computeInputsFingerprint() {
+        Map<String, Object> options = new LinkedHashMap<>();
+        options.put("generator", config);
+        options.put("additionalProperties", config.additionalProperties());
+        options.put("typeMapping", config.typeMapping());
+        options.put("instantiationTypes", config.instantiationTypes());
+        options.put("importMapping", config.importMapping());
+        options.put("languageSpecificPrimitives", config.languageSpecificPrimitives());
+        options.put("reservedWordsMappings", config.reservedWordsMappings());
+        options.put("serverVariableOverrides", config.serverVariableOverrides());
+        options.put("vendorExtensions", config.vendorExtensions());
+        options.put("apiPackage", config.apiPackage());
+        options.put("modelPackage", config.modelPackage());
+
+        return new TemplateDataDigest(FINGERPRINT_IGNORED_KEYS)
+                .add(runFingerprint)
+                .addTemplateData(options)
+                .hex();
+    }
+
+    /**
+     * Fingerprint of the inputs shared by all the files of a run: the generator and its version, the templating
+     * engine, the library and the contents of the user-provided template directory, if any. Embedded templates only
+     * change along with the version of the generator.
+     */
+    private String computeRunFingerprint() {
+        TemplateDataDigest digest = new TemplateDataDigest(Collections.emptySet())
+                .add(config.getClass().getName())
+                .add(ImplementationVersion.read())
+                .add(templatingEngine.getIdentifier())
+                .add(config.getLibrary());
+
+        String templateDir = config.templateDir();
+        if (templateDir != null && new File(templateDir).isDirectory()) {
+            Path root = java.nio.file.Paths.get(templateDir);
+            try (Stream<Path> paths = Files.walk(root)) {
+                for (Path path : paths.filter(Files::isRegularFile).sorted().collect(Collectors.toList())) {
+                    digest.add(root.relativize(path).toString())
+                            .add(new String(Files.readAllBytes(path), StandardCharsets.UTF_8));
+                }
+            } catch (IOException e) {
+                // files will be generated again by the next run, as the fingerprint changes
+                LOGGER.warn("Could not read the template directory {}: {}", templateDir, e.getMessage());
+                digest.add(UUID.randomUUID().toString());
+            }
+        }
+        return digest.hex();
+    }
+
+    private void postProcessFile(File file, String fileType) {
+        if (config.isEnablePostProcessFile() && !unchangedFiles.contains(file)) {
+            try (GenerationProfiler.Span postProcess = profiler.start("postProcessFile")) {
+                config.postProcessFile(file, fileType);
+            }
+        }
+    }
+
+    @Override
+    public File writeToFile(String filename, byte[] contents) throws IOException {
+        try (GenerationProfiler.Span write = profiler.start("write")) {
+            File file = super.writeToFile(filename, contents);
+            profiler.written(contents.length);
+            return file;
+        }
+    }
+
+    @Override
+    public File writeToFile(String filename, FileContents contents) throws IOException {
+        // written while rendering, so the time is recorded by the render phase
+        File file = super.writeToFile(filename, contents);
+        profiler.written(file.length());
+        return file;
+    }
+
     public Map<String, List<CodegenOperation>> processPaths(Paths paths) {
         Map<String, List<CodegenOperation>> ops = new TreeMap<String, List<CodegenOperation>>();
         for (String resourcePath : paths.keySet()) {
@@ -996,7 +1333,7 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
             return;
         }
 
-        if (GlobalSettings.getProperty("debugOperations") != null) {
+        if (runSettings.isDebugOperations()) {
             LOGGER.info("processOperation: resourcePath= " + resourcePath + "\t;" + httpMethod + " " + operation + "\n");
         }
 
@@ -1057,7 +1394,10 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
         final List<SecurityRequirement> globalSecurities = openAPI.getSecurity();
         for (Tag tag : tags) {
             try {
-                CodegenOperation codegenOperation = config.fromOperation(resourcePath, httpMethod, operation, path.getServers());
+                CodegenOperation codegenOperation;
+                try (GenerationProfiler.Span fromOperation = profiler.start("fromOperation")) {
+                    codegenOperation = config.fromOperation(resourcePath, httpMethod, operation, path.getServers());
+                }
                 codegenOperation.tags = new ArrayList<>(tags);
                 config.addOperationToGroup(config.sanitizeTag(tag.getName()), resourcePath, operation, codegenOperation, operations);
 
@@ -1152,7 +1492,9 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
             operations.put("hasImport", true);
         }
 
-        config.postProcessOperationsWithModels(operations, allModels);
+        try (GenerationProfiler.Span postProcess = profiler.start("postProcessOperationsWithModels")) {
+            config.postProcessOperationsWithModels(operations, allModels);
+        }
         if (objs.size() > 0) {
             List<CodegenOperation> os = (List<CodegenOperation>) objs.get("operation");
 
@@ -1173,7 +1515,10 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
             Schema schema = definitions.get(key);
             if (schema == null)
                 throw new RuntimeException("schema cannot be null in processModels");
-            CodegenModel cm = config.fromModel(key, schema);
+            CodegenModel cm;
+            try (GenerationProfiler.Span fromModel = profiler.start("fromModel")) {
+                cm = config.fromModel(key, schema);
+            }
             Map<String, Object> mo = new HashMap<String, Object>();
             mo.put("model", cm);
             mo.put("importPath", config.toModelImport(cm.classname));
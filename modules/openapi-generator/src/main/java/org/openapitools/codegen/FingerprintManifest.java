@@ -0,0 +1,170 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ * Copyright 2018 SmartBear Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Fingerprints of the inputs each file was generated from, stored in {@code .openapi-generator/FINGERPRINTS} of the
+ * output folder and used by incremental generation to skip files whose inputs didn't change since the last run.
+ * <p>
+ * Each entry maps the path of a generated file (relative to the output folder) to the fingerprint of its inputs along
+ * with the length and modification time the file had when the run completed, so that files modified or deleted
+ * outside of the generator (e.g. by hand, or by a post-processing step of a later run) are regenerated.
+ */
+final class FingerprintManifest {
+    private static final Logger LOGGER = LoggerFactory.getLogger(FingerprintManifest.class);
+
+    static final String FILENAME = ".openapi-generator" + File.separator + "FINGERPRINTS";
+
+    private final File outputFolder;
+    private final File manifestFile;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    /** files written during this run, their length and modification time are recorded on {@link #save()} */
+    private final Map<String, String> written = new ConcurrentHashMap<>();
+
+    private FingerprintManifest(File outputFolder) {
+        this.outputFolder = outputFolder.getAbsoluteFile();
+        this.manifestFile = new File(this.outputFolder, FILENAME);
+    }
+
+    /**
+     * Loads the manifest of the given output folder; a missing or unreadable manifest results in an empty one.
+     *
+     * @param outputFolder output folder of the generator
+     * @return the manifest
+     */
+    static FingerprintManifest load(String outputFolder) {
+        FingerprintManifest manifest = new FingerprintManifest(new File(outputFolder));
+        if (manifest.manifestFile.isFile()) {
+            Properties properties = new Properties();
+            try (InputStream in = Files.newInputStream(manifest.manifestFile.toPath())) {
+                properties.load(in);
+            } catch (IOException e) {
+                LOGGER.warn("Could not read {}, all files will be generated: {}", manifest.manifestFile, e.getMessage());
+                return manifest;
+            }
+            for (String path : properties.stringPropertyNames()) {
+                Entry entry = Entry.parse(properties.getProperty(path));
+                if (entry != null) {
+                    manifest.entries.put(path, entry);
+                }
+            }
+        }
+        return manifest;
+    }
+
+    /**
+     * @param file        generated file
+     * @param fingerprint fingerprint of the inputs the file would be generated from
+     * @return true if the file exists as it was left by the run which generated it from the same inputs
+     */
+    boolean isUnchanged(File file, String fingerprint) {
+        Entry entry = entries.get(key(file));
+        return entry != null && entry.fingerprint.equals(fingerprint)
+                && file.isFile() && file.length() == entry.length && file.lastModified() == entry.lastModified;
+    }
+
+    /**
+     * Records the fingerprint of the inputs a file was generated from during this run.
+     *
+     * @param file        generated file
+     * @param fingerprint fingerprint of its inputs
+     */
+    void written(File file, String fingerprint) {
+        written.put(key(file), fingerprint);
+    }
+
+    /**
+     * Saves the manifest, to be called once generated files are post-processed.
+     */
+    void save() {
+        for (Map.Entry<String, String> e : written.entrySet()) {
+            File file = new File(outputFolder, e.getKey());
+            if (file.isFile()) {
+                entries.put(e.getKey(), new Entry(e.getValue(), file.length(), file.lastModified()));
+            }
+        }
+        written.clear();
+
+        Properties properties = new Properties();
+        // sorted so that the manifest doesn't change needlessly between runs
+        for (Map.Entry<String, Entry> e : new TreeMap<>(entries).entrySet()) {
+            if (new File(outputFolder, e.getKey()).isFile()) {
+                properties.setProperty(e.getKey(), e.getValue().toString());
+            }
+        }
+
+        try {
+            Files.createDirectories(manifestFile.getParentFile().toPath());
+            try (OutputStream out = Files.newOutputStream(manifestFile.toPath())) {
+                properties.store(out, "Fingerprints of the inputs of generated files, used by incremental generation");
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Could not write {}, all files will be generated by the next run: {}", manifestFile, e.getMessage());
+        }
+    }
+
+    private String key(File file) {
+        Path path = file.getAbsoluteFile().toPath().normalize();
+        Path root = outputFolder.toPath().normalize();
+        String key = path.startsWith(root) ? root.relativize(path).toString() : path.toString();
+        return key.replace(File.separatorChar, '/');
+    }
+
+    private static final class Entry {
+        final String fingerprint;
+        final long length;
+        final long lastModified;
+
+        Entry(String fingerprint, long length, long lastModified) {
+            this.fingerprint = fingerprint;
+            this.length = length;
+            this.lastModified = lastModified;
+        }
+
+        static Entry parse(String value) {
+            String[] parts = value.split(" ");
+            if (parts.length != 3) {
+                return null;
+            }
+            try {
+                return new Entry(parts[0], Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
+        @Override
+        public String toString() {
+            return fingerprint + " " + length + " " + lastModified;
+        }
+    }
+}
@@ -0,0 +1,343 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ * Copyright 2018 SmartBear Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.swagger.v3.core.util.Json;
+import org.openapitools.codegen.utils.StringUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+import java.time.ZonedDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records where a generation run spends its time: phases of {@link DefaultGenerator#generate()} and generator hooks
+ * (e.g. {@link CodegenConfig#fromModel(String, io.swagger.v3.oas.models.media.Schema)}), templates and file writes.
+ * <p>
+ * Phases nest: a phase is identified by its stack, the names of the enclosing phases and its own joined with
+ * <code>;</code> (e.g. <code>generateModels;fromModel</code>), and rendering tasks run by other threads keep the stack
+ * they were created in (see {@link #wrap(Callable)}). For each stack, the report holds the number of calls, their total
+ * wall time and, where the JVM supports it, the bytes allocated by the calling thread. The report also lists the stacks
+ * in the folded format of flame graph tools, with the time spent in each phase itself. The statistics of the caches of
+ * camelized and underscored words are those of the calls made since the run started (by any thread of the process).
+ * <p>
+ * A disabled profiler records nothing, its spans are shared no-ops.
+ */
+final class GenerationProfiler {
+    static final String REPORT_FILE = "PROFILE.json";
+
+    private static final Span NOOP = () -> {
+    };
+
+    private static final Object THREAD_MX_BEAN;
+    private static final Method THREAD_ALLOCATED_BYTES;
+
+    static {
+        // com.sun.management.ThreadMXBean isn't available on all JVMs, allocations are only reported when it is
+        Object bean = null;
+        Method allocatedBytes = null;
+        try {
+            Class<?> type = Class.forName("com.sun.management.ThreadMXBean");
+            Object threads = ManagementFactory.getThreadMXBean();
+            if (type.isInstance(threads)
+                    && Boolean.TRUE.equals(type.getMethod("isThreadAllocatedMemorySupported").invoke(threads))
+                    && Boolean.TRUE.equals(type.getMethod("isThreadAllocatedMemoryEnabled").invoke(threads))) {
+                bean = threads;
+                allocatedBytes = type.getMethod("getThreadAllocatedBytes", long.class);
+            }
+        } catch (Exception | LinkageError e) {
+            // allocations are not reported
+        }
+        THREAD_MX_BEAN = bean;
+        THREAD_ALLOCATED_BYTES = allocatedBytes;
+    }
+
+    /**
+     * A phase being recorded, closed once the phase completes.
+     */
+    interface Span extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    private final boolean enabled;
+    private final ZonedDateTime startedAt = ZonedDateTime.now();
+    private final long startedNanos = System.nanoTime();
+    private final ThreadLocal<Deque<String>> stacks = ThreadLocal.withInitial(ArrayDeque::new);
+    private final Map<String, Stats> phases = new ConcurrentHashMap<>();
+    private final Map<String, Stats> templates = new ConcurrentHashMap<>();
+    private final Map<String, Stats> compilations = new ConcurrentHashMap<>();
+    private final LongAdder filesWritten = new LongAdder();
+    private final LongAdder bytesWritten = new LongAdder();
+    /** The statistics of the caches when the run started, the caches being shared by the whole process. */
+    private final Map<String, CacheStats> cacheStatsAtStart;
+
+    GenerationProfiler(boolean enabled) {
+        this.enabled = enabled;
+        this.cacheStatsAtStart = enabled ? StringUtils.getCacheStats() : Collections.emptyMap();
+    }
+
+    boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Starts a phase, nested in the phase currently running on this thread (if any).
+     *
+     * @param name the name of the phase
+     * @return the span to close once the phase completes
+     */
+    Span start(String name) {
+        if (!enabled) {
+            return NOOP;
+        }
+        Deque<String> stack = stacks.get();
+        String path = stack.isEmpty() ? name : stack.peek() + ';' + name;
+        stack.push(path);
+        long allocatedBefore = allocatedBytes();
+        long before = System.nanoTime();
+        return () -> {
+            long nanos = System.nanoTime() - before;
+            long allocated = allocatedBefore < 0 ? -1 : allocatedBytes() - allocatedBefore;
+            stack.pop();
+            phases.computeIfAbsent(path, p -> new Stats()).add(nanos, allocated);
+        };
+    }
+
+    /**
+     * Starts the rendering of a template, which is recorded as a <code>render</code> phase and per template. Templates
+     * are written to their file as they render, so the phase includes the write. The compilation of the template, when
+     * reported by the templating engine (see {@link #compiled(String, long)}), is recorded as a nested phase.
+     *
+     * @param templateName the name of the template
+     * @return the span to close once the template is rendered
+     */
+    Span template(String templateName) {
+        if (!enabled) {
+            return NOOP;
+        }
+        Span render = start("render");
+        long before = System.nanoTime();
+        return () -> {
+            long nanos = System.nanoTime() - before;
+            render.close();
+            templates.computeIfAbsent(templateName, t -> new Stats()).add(nanos, -1);
+        };
+    }
+
+    /**
+     * Records the compilation of a template, as a <code>compile</code> phase nested in the phase currently running on
+     * this thread and per template.
+     *
+     * @param templateName the name of the template
+     * @param nanos        the time spent compiling the template
+     */
+    void compiled(String templateName, long nanos) {
+        if (enabled) {
+            String parent = stacks.get().peek();
+            phases.computeIfAbsent(parent == null ? "compile" : parent + ";compile", p -> new Stats()).add(nanos, -1);
+            compilations.computeIfAbsent(templateName, t -> new Stats()).add(nanos, -1);
+        }
+    }
+
+    /**
+     * Records a file write.
+     *
+     * @param bytes the number of bytes written
+     */
+    void written(long bytes) {
+        if (enabled) {
+            filesWritten.increment();
+            bytesWritten.add(bytes);
+        }
+    }
+
+    /**
+     * Binds a task to the phase currently running on this thread, so that its phases are recorded as nested ones when it
+     * runs on another thread.
+     *
+     * @param task a task
+     * @param <T>  the result type of the task
+     * @return the bound task
+     */
+    <T> Callable<T> wrap(Callable<T> task) {
+        if (!enabled) {
+            return task;
+        }
+        String parent = stacks.get().peek();
+        return () -> {
+            Deque<String> stack = stacks.get();
+            // the task may also run right away, on the thread which created it
+            boolean push = parent != null && !parent.equals(stack.peek());
+            if (push) {
+                stack.push(parent);
+            }
+            try {
+                return task.call();
+            } finally {
+                if (push) {
+                    stack.pop();
+                }
+            }
+        };
+    }
+
+    /**
+     * Writes the report to {@link #REPORT_FILE} in the metadata folder of the output directory.
+     *
+     * @param config the generator of the run
+     * @return the report file
+     * @throws IOException if the report can't be written
+     */
+    File writeReport(CodegenConfig config) throws IOException {
+        File report = new File(config.outputFolder() + File.separator + ".openapi-generator" + File.separator + REPORT_FILE);
+        if (report.getParentFile() != null) {
+            report.getParentFile().mkdirs();
+        }
+        Json.mapper().writerWithDefaultPrettyPrinter().writeValue(report, report(config));
+        return report;
+    }
+
+    Map<String, Object> report(CodegenConfig config) {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("generator", config.getName());
+        report.put("startedAt", startedAt.toString());
+        report.put("wallMillis", millis(System.nanoTime() - startedNanos));
+        report.put("renderingThreads", config.getRenderingThreads());
+        report.put("allocatedBytesSupported", THREAD_ALLOCATED_BYTES != null);
+
+        Map<String, Stats> sortedPhases = new TreeMap<>(phases);
+        List<Map<String, Object>> phaseReports = new ArrayList<>();
+        List<String> folded = new ArrayList<>();
+        for (Map.Entry<String, Stats> phase : sortedPhases.entrySet()) {
+            String path = phase.getKey();
+            Stats stats = phase.getValue();
+            long selfNanos = Math.max(0, stats.nanos.sum() - childrenNanos(sortedPhases, path));
+
+            Map<String, Object> phaseReport = new LinkedHashMap<>();
+            phaseReport.put("stack", path);
+            phaseReport.put("name", path.substring(path.lastIndexOf(';') + 1));
+            phaseReport.put("count", stats.count.sum());
+            phaseReport.put("totalMillis", millis(stats.nanos.sum()));
+            phaseReport.put("selfMillis", millis(selfNanos));
+            phaseReport.put("maxMillis", millis(stats.maxNanos.get()));
+            if (THREAD_ALLOCATED_BYTES != null) {
+                phaseReport.put("allocatedBytes", stats.allocatedBytes.sum());
+            }
+            phaseReports.add(phaseReport);
+            folded.add(path + ' ' + TimeUnit.NANOSECONDS.toMicros(selfNanos));
+        }
+        report.put("phases", phaseReports);
+
+        List<Map.Entry<String, Stats>> sortedTemplates = new ArrayList<>(templates.entrySet());
+        sortedTemplates.sort(Comparator.comparingLong((Map.Entry<String, Stats> t) -> t.getValue().nanos.sum()).reversed());
+        List<Map<String, Object>> templateReports = new ArrayList<>();
+        for (Map.Entry<String, Stats> template : sortedTemplates) {
+            Stats stats = template.getValue();
+            Map<String, Object> templateReport = new LinkedHashMap<>();
+            templateReport.put("template", template.getKey());
+            templateReport.put("count", stats.count.sum());
+            templateReport.put("totalMillis", millis(stats.nanos.sum()));
+            Stats compileStats = compilations.get(template.getKey());
+            templateReport.put("compileMillis", compileStats == null ? 0d : millis(compileStats.nanos.sum()));
+            templateReport.put("maxMillis", millis(stats.maxNanos.get()));
+            templateReports.add(templateReport);
+        }
+        report.put("templates", templateReports);
+
+        Map<String, Object> files = new LinkedHashMap<>();
+        files.put("written", filesWritten.sum());
+        files.put("bytes", bytesWritten.sum());
+        report.put("files", files);
+
+        Map<String, Object> caches = new LinkedHashMap<>();
+        for (Map.Entry<String, CacheStats> cache : StringUtils.getCacheStats().entrySet()) {
+            CacheStats atStart = cacheStatsAtStart.get(cache.getKey());
+            CacheStats stats = atStart == null ? cache.getValue() : cache.getValue().minus(atStart);
+            Map<String, Object> cacheReport = new LinkedHashMap<>();
+            cacheReport.put("hits", stats.hitCount());
+            cacheReport.put("misses", stats.missCount());
+            cacheReport.put("hitRate", stats.hitRate());
+            cacheReport.put("evictions", stats.evictionCount());
+            caches.put(cache.getKey(), cacheReport);
+        }
+        report.put("caches", caches);
+
+        report.put("folded", folded);
+        return report;
+    }
+
+    private static long childrenNanos(Map<String, Stats> phases, String path) {
+        String prefix = path + ';';
+        long nanos = 0;
+        for (Map.Entry<String, Stats> phase : phases.entrySet()) {
+            String child = phase.getKey();
+            if (child.startsWith(prefix) && child.indexOf(';', prefix.length()) < 0) {
+                nanos += phase.getValue().nanos.sum();
+            }
+        }
+        return nanos;
+    }
+
+    private static double millis(long nanos) {
+        return Math.round(nanos / 1_000d) / 1_000d;
+    }
+
+    private static long allocatedBytes() {
+        if (THREAD_ALLOCATED_BYTES == null) {
+            return -1;
+        }
+        try {
+            return (Long) THREAD_ALLOCATED_BYTES.invoke(THREAD_MX_BEAN, Thread.currentThread().getId());
+        } catch (Exception e) {
+            return -1;
+        }
+    }
+
+    private static final class Stats {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+        private final LongAdder allocatedBytes = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        void add(long nanos, long allocatedBytes) {
+            count.increment();
+            this.nanos.add(nanos);
+            if (allocatedBytes > 0) {
+                this.allocatedBytes.add(allocatedBytes);
+            }
+            maxNanos.accumulateAndGet(nanos, Math::max);
+        }
+    }
+}
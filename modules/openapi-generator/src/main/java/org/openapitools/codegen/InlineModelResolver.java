@@ -17,7 +17,6 @@
 
 package org.openapitools.codegen;
 
-import io.swagger.v3.core.util.Json;
 import io.swagger.v3.oas.models.*;
 import io.swagger.v3.oas.models.callbacks.Callback;
 import io.swagger.v3.oas.models.media.*;
@@ -35,11 +34,18 @@ import java.util.stream.Collectors;
 public class InlineModelResolver {
     private OpenAPI openapi;
     private Map<String, Schema> addedModels = new HashMap<String, Schema>();
+    // generated model names by structural fingerprint of their schema
     private Map<String, String> generatedSignature = new HashMap<String, String>();
+    private SchemaFingerprint schemaFingerprint = new SchemaFingerprint();
+    // for each base name, the suffix from which to look for a unique model name (lower suffixes are taken)
+    private Map<String, Integer> uniqueNameSuffixes = new HashMap<String, Integer>();
     static Logger LOGGER = LoggerFactory.getLogger(InlineModelResolver.class);
 
     void flatten(OpenAPI openapi) {
         this.openapi = openapi;
+        this.generatedSignature.clear();
+        this.schemaFingerprint = new SchemaFingerprint();
+        this.uniqueNameSuffixes.clear();
 
         if (openapi.getComponents() == null) {
             openapi.setComponents(new Components());
@@ -51,6 +57,8 @@ public class InlineModelResolver {
 
         flattenPaths(openapi);
         flattenComponents(openapi);
+
+        ModelUtils.invalidateCaches(openapi);
     }
 
     /**
@@ -446,15 +454,11 @@ public class InlineModelResolver {
     }
 
     private String matchGenerated(Schema model) {
-        String json = Json.pretty(model);
-        if (generatedSignature.containsKey(json)) {
-            return generatedSignature.get(json);
-        }
-        return null;
+        return generatedSignature.get(schemaFingerprint.of(model));
     }
 
     private void addGenerated(String name, Schema model) {
-        generatedSignature.put(Json.pretty(model), name);
+        generatedSignature.put(schemaFingerprint.of(model), name);
     }
 
     /**
@@ -473,15 +477,14 @@ public class InlineModelResolver {
             return name;
         }
 
-        String uniqueName = name;
-        int count = 0;
-        while (true) {
-            if (!openapi.getComponents().getSchemas().containsKey(uniqueName)) {
-                return uniqueName;
-            }
+        // schemas are only added while flattening, so the names probed by previous calls are still taken
+        int count = uniqueNameSuffixes.getOrDefault(name, 0);
+        String uniqueName = count == 0 ? name : name + "_" + count;
+        while (openapi.getComponents().getSchemas().containsKey(uniqueName)) {
             uniqueName = name + "_" + ++count;
         }
-        // TODO it would probably be a good idea to check against a list of used uniqueNames to make sure there are no collisions
+        uniqueNameSuffixes.put(name, count);
+        return uniqueName;
     }
 
     private void flattenProperties(Map<String, Schema> properties, String path) {
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ * Copyright 2018 SmartBear Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.Schema;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Structural fingerprints of schemas: two schemas have the same fingerprint when they have the same JSON
+ * representation (the schema name and Java type are not part of it), without serializing them.
+ * <p>
+ * A fingerprint is a SHA-256 digest of the schema's own attributes and of the fingerprints of its subschemas, which are
+ * computed once per schema instance. Schemas are therefore expected not to change once fingerprinted, which holds for
+ * the inline schemas handled by {@link InlineModelResolver} as their own inline schemas are flattened first.
+ * A schema containing itself gets a fingerprint as well (its JSON representation wouldn't), which is not cached.
+ * <p>
+ * Attributes are listed explicitly, in {@link #ATTRIBUTES}: SchemaFingerprintTest fails when the JSON representation
+ * of schemas has an attribute which is not in the list, e.g. after an upgrade of swagger-models, so that schemas
+ * differing in an attribute which isn't fingerprinted are never merged.
+ */
+final class SchemaFingerprint {
+    /**
+     * The attributes of the JSON representation of schemas which are part of their fingerprint.
+     */
+    static final Set<String> ATTRIBUTES = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            "title", "multipleOf", "maximum", "exclusiveMaximum", "minimum", "exclusiveMinimum", "maxLength",
+            "minLength", "pattern", "maxItems", "minItems", "uniqueItems", "maxProperties", "minProperties", "required",
+            "type", "not", "properties", "additionalProperties", "description", "format", "$ref", "nullable",
+            "readOnly", "writeOnly", "example", "externalDocs", "deprecated", "xml", "extensions", "enum", "default",
+            "discriminator", "items", "allOf", "anyOf", "oneOf")));
+
+    private final Map<Schema, String> fingerprints = new IdentityHashMap<>();
+    private final Set<Schema> inProgress = Collections.newSetFromMap(new IdentityHashMap<>());
+    private int cycles;
+
+    /**
+     * @param schema a schema
+     * @return the fingerprint of the schema
+     */
+    String of(Schema schema) {
+        String fingerprint = fingerprints.get(schema);
+        if (fingerprint != null) {
+            return fingerprint;
+        }
+        if (!inProgress.add(schema)) {
+            cycles++;
+            return "cycle";
+        }
+
+        int cyclesBefore = cycles;
+        Digest digest = new Digest();
+        try {
+            digest.add("title", schema.getTitle());
+            digest.add("multipleOf", schema.getMultipleOf());
+            digest.add("maximum", schema.getMaximum());
+            digest.add("exclusiveMaximum", schema.getExclusiveMaximum());
+            digest.add("minimum", schema.getMinimum());
+            digest.add("exclusiveMinimum", schema.getExclusiveMinimum());
+            digest.add("maxLength", schema.getMaxLength());
+            digest.add("minLength", schema.getMinLength());
+            digest.add("pattern", schema.getPattern());
+            digest.add("maxItems", schema.getMaxItems());
+            digest.add("minItems", schema.getMinItems());
+            digest.add("uniqueItems", schema.getUniqueItems());
+            digest.add("maxProperties", schema.getMaxProperties());
+            digest.add("minProperties", schema.getMinProperties());
+            digest.add("required", schema.getRequired());
+            digest.add("type", schema.getType());
+            if (schema.getNot() != null) {
+                digest.add("not", of(schema.getNot()));
+            }
+            if (schema.getProperties() != null) {
+                Map<String, Schema> properties = schema.getProperties();
+                digest.add("properties", properties.size());
+                for (Map.Entry<String, Schema> property : properties.entrySet()) {
+                    digest.add(property.getKey(), property.getValue() == null ? null : of(property.getValue()));
+                }
+            }
+            Object additionalProperties = schema.getAdditionalProperties();
+            if (additionalProperties instanceof Schema) {
+                digest.add("additionalProperties", of((Schema) additionalProperties));
+            } else {
+                digest.add("additionalProperties", additionalProperties);
+            }
+            digest.add("description", schema.getDescription());
+            digest.add("format", schema.getFormat());
+            digest.add("$ref", schema.get$ref());
+            digest.add("nullable", schema.getNullable());
+            digest.add("readOnly", schema.getReadOnly());
+            digest.add("writeOnly", schema.getWriteOnly());
+            digest.add("example", schema.getExample());
+            digest.add("externalDocs", schema.getExternalDocs());
+            digest.add("deprecated", schema.getDeprecated());
+            digest.add("xml", schema.getXml());
+            if (schema.getExtensions() != null && !schema.getExtensions().isEmpty()) {
+                // extensions are serialized as attributes of the schema, so an empty map isn't serialized
+                digest.add("extensions", schema.getExtensions());
+            }
+            digest.add("enum", schema.getEnum());
+            digest.add("default", schema.getDefault());
+            digest.add("discriminator", schema.getDiscriminator());
+            if (schema instanceof ArraySchema && ((ArraySchema) schema).getItems() != null) {
+                digest.add("items", of(((ArraySchema) schema).getItems()));
+            }
+            if (schema instanceof ComposedSchema) {
+                ComposedSchema composed = (ComposedSchema) schema;
+                addAll(digest, "allOf", composed.getAllOf());
+                addAll(digest, "anyOf", composed.getAnyOf());
+                addAll(digest, "oneOf", composed.getOneOf());
+            }
+        } finally {
+            inProgress.remove(schema);
+        }
+
+        fingerprint = digest.result();
+        if (cycles == cyclesBefore) {
+            fingerprints.put(schema, fingerprint);
+        }
+        return fingerprint;
+    }
+
+    private void addAll(Digest digest, String name, List<Schema> schemas) {
+        if (schemas != null) {
+            digest.add(name, schemas.size());
+            for (Schema schema : schemas) {
+                digest.add(null, schema == null ? null : of(schema));
+            }
+        }
+    }
+
+    private static final class Digest {
+        private final MessageDigest digest;
+
+        Digest() {
+            try {
+                digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        void add(String name, Object value) {
+            if (value == null) {
+                // absent attributes are not serialized either
+                return;
+            }
+            String text;
+            if (value instanceof String) {
+                text = "s" + value;
+            } else if (value instanceof Number || value instanceof Boolean) {
+                text = "v" + value;
+            } else {
+                try {
+                    text = "j" + Json.mapper().writeValueAsString(value);
+                } catch (JsonProcessingException e) {
+                    text = "o" + value;
+                }
+            }
+            update(name == null ? "" : name);
+            update(text);
+        }
+
+        private void update(String text) {
+            byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+            int length = bytes.length;
+            digest.update(new byte[]{(byte) (length >>> 24), (byte) (length >>> 16), (byte) (length >>> 8), (byte) length});
+            digest.update(bytes);
+        }
+
+        String result() {
+            return Base64.getEncoder().encodeToString(digest.digest());
+        }
+    }
+}
@@ -0,0 +1,351 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ * Copyright 2018 SmartBear Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen;
+
+import io.swagger.v3.oas.models.OpenAPI;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.io.File;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Computes a SHA-256 digest of the data passed to a template: maps, collections and arrays are walked in iteration
+ * order, the public fields and bean properties of generator and parser model objects (e.g. {@link CodegenModel},
+ * {@link CodegenOperation}) are walked, and any other value contributes its type and string representation.
+ * <p>
+ * Objects reached more than once (including cycles such as a model and its parent) are only walked the first time.
+ * A public field with a getter is read through the getter only, which is also what templates do. Objects without a
+ * string representation of their own, such as the generator itself ({@link CodegenConfig}) or lambdas, contribute
+ * their type and the version of its code; the options of the generator are expected to be digested separately.
+ * <p>
+ * Models, operations and the document itself can be digested once for the data of several files, see {@link Units}.
+ */
+final class TemplateDataDigest {
+    private static final Map<Class<?>, List<Accessor>> ACCESSORS = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, String> CODE_VERSIONS = new ConcurrentHashMap<>();
+
+    // levels of a digest, see Units
+    private static final int FILE = 0;
+    private static final int UNIT = 1;
+    private static final int REFERENCED_UNIT = 2;
+
+    private final MessageDigest digest;
+    private final Set<String> ignoredKeys;
+    private final Units units;
+    private final int level;
+    private final Object unit;
+    private final Map<Object, Integer> visited = new IdentityHashMap<>();
+
+    /**
+     * @param ignoredKeys map keys whose entries must not contribute to the digest (e.g. timestamps), at any depth
+     */
+    TemplateDataDigest(Set<String> ignoredKeys) {
+        this(ignoredKeys, null);
+    }
+
+    /**
+     * @param ignoredKeys map keys whose entries must not contribute to the digest (e.g. timestamps), at any depth
+     * @param units       digests of the models, operations and documents reached, shared with the digests of other files
+     */
+    TemplateDataDigest(Set<String> ignoredKeys, Units units) {
+        this(ignoredKeys, units, FILE, null);
+    }
+
+    private TemplateDataDigest(Set<String> ignoredKeys, Units units, int level, Object unit) {
+        try {
+            this.digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        this.ignoredKeys = ignoredKeys;
+        this.units = units;
+        this.level = level;
+        this.unit = unit;
+    }
+
+    TemplateDataDigest add(String value) {
+        visit(value);
+        return this;
+    }
+
+    TemplateDataDigest addTemplateData(Map<String, ?> templateData) {
+        visit(templateData);
+        return this;
+    }
+
+    /**
+     * @param templateData the data of a template
+     * @param sharedData   data digested separately (e.g. the additional properties of the generator): the entries of
+     *                     the template data holding the same value are left out
+     * @return this digest
+     */
+    TemplateDataDigest addTemplateData(Map<String, ?> templateData, Map<String, ?> sharedData) {
+        visited.put(templateData, visited.size());
+        put('M', templateData.size());
+        for (Map.Entry<String, ?> entry : templateData.entrySet()) {
+            String key = entry.getKey();
+            if (!ignoredKeys.contains(key) && !(sharedData.containsKey(key) && sharedData.get(key) == entry.getValue())) {
+                visit(key);
+                visit(entry.getValue());
+            }
+        }
+        return this;
+    }
+
+    String hex() {
+        StringBuilder sb = new StringBuilder();
+        for (byte b : digest.digest()) {
+            sb.append(String.format(Locale.ROOT, "%02x", b));
+        }
+        return sb.toString();
+    }
+
+    private void visit(Object value) {
+        if (value == null) {
+            put('0', 0);
+        } else if (value instanceof String) {
+            String s = (String) value;
+            put('S', s.length());
+            digest.update(s.getBytes(StandardCharsets.UTF_8));
+        } else if (value instanceof Number || value instanceof Boolean || value instanceof Character || value instanceof Enum) {
+            putText(value.getClass().getName() + '=' + value);
+        } else if (value instanceof CodegenConfig) {
+            putText(typeName(value.getClass()) + '@' + codeVersion(value.getClass()));
+        } else if (units != null && value != unit && isUnit(value)) {
+            if (level == FILE) {
+                putText(units.digest(value, ignoredKeys, UNIT));
+            } else if (level == UNIT) {
+                putText(units.digest(value, ignoredKeys, REFERENCED_UNIT));
+            } else {
+                putText(unitName(value));
+            }
+        } else if (visited.containsKey(value)) {
+            // already walked, refer to it by position
+            put('R', visited.get(value));
+        } else {
+            visited.put(value, visited.size());
+            if (value instanceof Map) {
+                Map<?, ?> map = (Map<?, ?>) value;
+                put('M', map.size());
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    if (!ignoredKeys.contains(entry.getKey())) {
+                        visit(entry.getKey());
+                        visit(entry.getValue());
+                    }
+                }
+            } else if (value instanceof Collection) {
+                Collection<?> collection = (Collection<?>) value;
+                put('L', collection.size());
+                for (Object item : collection) {
+                    visit(item);
+                }
+            } else if (value.getClass().isArray()) {
+                int length = Array.getLength(value);
+                put('A', length);
+                for (int i = 0; i < length; i++) {
+                    visit(Array.get(value, i));
+                }
+            } else if (isWalked(value.getClass())) {
+                putText(typeName(value.getClass()));
+                for (Accessor accessor : accessors(value.getClass())) {
+                    try {
+                        visit(accessor.get(value));
+                    } catch (Exception e) {
+                        putText(accessor.property);
+                    }
+                }
+            } else if (hasStringRepresentation(value.getClass())) {
+                putText(value.getClass().getName() + '=' + value);
+            } else {
+                // e.g. a lambda, whose string representation changes from one run to the next
+                putText(typeName(value.getClass()) + '@' + codeVersion(value.getClass()));
+            }
+        }
+    }
+
+    /**
+     * Digests of the models, operations and documents reached by the template data of several files (e.g. the models
+     * listed by every supporting file), computed once and then only referred to by the digests of the files.
+     * <p>
+     * In the digest of a model or operation, the other models and operations it reaches contribute their own digest,
+     * in which the models and operations they reach in turn only contribute their name. This way cycles (e.g. a model
+     * and its parent) are never walked.
+     * <p>
+     * The digests are only valid as long as the objects are not modified: a new instance must be used for each phase
+     * of a run (models, apis, supporting files).
+     */
+    static final class Units {
+        private final Map<Object, String> digests = Collections.synchronizedMap(new IdentityHashMap<>());
+        private final Map<Object, String> referencedDigests = Collections.synchronizedMap(new IdentityHashMap<>());
+
+        private String digest(Object unit, Set<String> ignoredKeys, int level) {
+            Map<Object, String> cache = level == UNIT ? digests : referencedDigests;
+            String digest = cache.get(unit);
+            if (digest == null) {
+                // computed outside of the lock: concurrent files may compute the same digest twice
+                TemplateDataDigest unitDigest = new TemplateDataDigest(ignoredKeys, this, level, unit);
+                unitDigest.visit(unit);
+                digest = unitDigest.hex();
+                cache.put(unit, digest);
+            }
+            return digest;
+        }
+    }
+
+    private static boolean isUnit(Object value) {
+        return value instanceof CodegenModel || value instanceof CodegenOperation || value instanceof OpenAPI;
+    }
+
+    private static String unitName(Object unit) {
+        if (unit instanceof CodegenModel) {
+            return "model " + ((CodegenModel) unit).name;
+        } else if (unit instanceof CodegenOperation) {
+            CodegenOperation operation = (CodegenOperation) unit;
+            return "operation " + operation.httpMethod + ' ' + operation.path + ' ' + operation.operationId;
+        }
+        return "document";
+    }
+
+    /**
+     * Class name which is the same from one JVM to the next, i.e. without the suffix of lambda classes.
+     */
+    private static String typeName(Class<?> type) {
+        String name = type.getName();
+        int lambda = name.indexOf("$$Lambda");
+        return lambda < 0 ? name : name.substring(0, lambda) + "$$Lambda";
+    }
+
+    /**
+     * Version of the code of a class which is not part of the generator itself (e.g. of a custom generator or of its
+     * lambdas): the length and modification time of its jar, or of its class file. The code of the generator is
+     * covered by its version.
+     */
+    private static String codeVersion(Class<?> type) {
+        return CODE_VERSIONS.computeIfAbsent(type, t -> {
+            CodeSource source = t.getProtectionDomain().getCodeSource();
+            CodeSource own = TemplateDataDigest.class.getProtectionDomain().getCodeSource();
+            if (source == null || source.getLocation() == null || (own != null && source.getLocation().equals(own.getLocation()))) {
+                return "";
+            }
+            try {
+                File file = new File(source.getLocation().toURI());
+                if (file.isDirectory()) {
+                    String name = typeName(t);
+                    if (name.endsWith("$$Lambda")) {
+                        name = name.substring(0, name.length() - "$$Lambda".length());
+                    }
+                    file = new File(file, name.replace('.', File.separatorChar) + ".class");
+                }
+                return file.length() + ":" + file.lastModified();
+            } catch (Exception e) {
+                return source.getLocation().toString();
+            }
+        });
+    }
+
+    private static boolean hasStringRepresentation(Class<?> type) {
+        try {
+            return type.getMethod("toString").getDeclaringClass() != Object.class;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private static boolean isWalked(Class<?> type) {
+        String name = type.getName();
+        return name.startsWith("org.openapitools.") || name.startsWith("io.swagger.");
+    }
+
+    /**
+     * Public fields and bean property getters (most generator objects only have the former, parser objects the latter).
+     * Public fields also exposed by a getter are left out.
+     */
+    private static List<Accessor> accessors(Class<?> type) {
+        return ACCESSORS.computeIfAbsent(type, t -> {
+            List<Accessor> accessors = new ArrayList<>();
+            Set<String> properties = new HashSet<>();
+            try {
+                for (PropertyDescriptor property : Introspector.getBeanInfo(t, Object.class).getPropertyDescriptors()) {
+                    Method getter = property.getReadMethod();
+                    if (getter != null && Modifier.isPublic(getter.getDeclaringClass().getModifiers())) {
+                        accessors.add(new Accessor(property.getName(), getter));
+                        properties.add(property.getName());
+                    }
+                }
+            } catch (IntrospectionException e) {
+                // public fields only
+            }
+            for (Field field : t.getFields()) {
+                if (!Modifier.isStatic(field.getModifiers()) && !properties.contains(field.getName())) {
+                    accessors.add(new Accessor(field.getName(), field));
+                }
+            }
+            return accessors;
+        });
+    }
+
+    /**
+     * A public field or a getter, along with the name of the property it reads.
+     */
+    private static final class Accessor {
+        private final String property;
+        private final Member member;
+
+        Accessor(String property, Member member) {
+            this.property = property;
+            this.member = member;
+        }
+
+        Object get(Object target) throws Exception {
+            return member instanceof Field ? ((Field) member).get(target) : ((Method) member).invoke(target);
+        }
+    }
+
+    private void putText(String text) {
+        put('T', text.length());
+        digest.update(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void put(char tag, int length) {
+        digest.update((byte) tag);
+        digest.update((byte) (length >>> 24));
+        digest.update((byte) (length >>> 16));
+        digest.update((byte) (length >>> 8));
+        digest.update((byte) length);
+    }
+}
@@ -70,6 +70,7 @@ public class CodegenConfigurator {
     private Map<String, String> reservedWordMappings = new HashMap<>();
     private Map<String, String> serverVariables = new HashMap<>();
     private String auth;
+    private ParsedSpecCache parsedSpecCache;
 
     public CodegenConfigurator() {
 
@@ -238,6 +239,26 @@ public class CodegenConfigurator {
         return this;
     }
 
+    public CodegenConfigurator setIncrementalGeneration(boolean incrementalGeneration) {
+        workflowSettingsBuilder.withIncrementalGeneration(incrementalGeneration);
+        return this;
+    }
+
+    public CodegenConfigurator setProfileGeneration(boolean profileGeneration) {
+        workflowSettingsBuilder.withProfileGeneration(profileGeneration);
+        return this;
+    }
+
+    public CodegenConfigurator setRenderingThreads(int renderingThreads) {
+        workflowSettingsBuilder.withRenderingThreads(renderingThreads);
+        return this;
+    }
+
+    public CodegenConfigurator setPostProcessFileBatchSize(int postProcessFileBatchSize) {
+        workflowSettingsBuilder.withPostProcessFileBatchSize(postProcessFileBatchSize);
+        return this;
+    }
+
     public CodegenConfigurator setGenerateAliasAsModel(boolean generateAliasAsModel) {
         // TODO: Move to GlobalSettings?
         ModelUtils.setGenerateAliasAsModel(generateAliasAsModel);
@@ -359,6 +380,18 @@ public class CodegenConfigurator {
         return this;
     }
 
+    /**
+     * Shares parsed specifications with other configurators, so that a specification they all generate from is parsed
+     * just once.
+     *
+     * @param parsedSpecCache the shared parsed specifications, or null to parse the specification every time
+     * @return this configurator
+     */
+    public CodegenConfigurator setParsedSpecCache(ParsedSpecCache parsedSpecCache) {
+        this.parsedSpecCache = parsedSpecCache;
+        return this;
+    }
+
     public CodegenConfigurator setReleaseNote(String releaseNote) {
         generatorSettingsBuilder.withReleaseNote(releaseNote);
         return this;
@@ -446,10 +479,15 @@ public class CodegenConfigurator {
         }
 
         // TODO: Support custom spec loader implementations (https://github.com/OpenAPITools/openapi-generator/issues/844)
-        final List<AuthorizationValue> authorizationValues = AuthParser.parse(this.auth);
         ParseOptions options = new ParseOptions();
         options.setResolve(true);
-        SwaggerParseResult result = new OpenAPIParser().readLocation(inputSpec, authorizationValues, options);
+        SwaggerParseResult result;
+        if (parsedSpecCache != null) {
+            result = parsedSpecCache.parse(inputSpec, this.auth, options);
+        } else {
+            final List<AuthorizationValue> authorizationValues = AuthParser.parse(this.auth);
+            result = new OpenAPIParser().readLocation(inputSpec, authorizationValues, options);
+        }
 
         // TODO: Move custom validations to a separate type as part of a "Workflow"
         Set<String> validationMessages = new HashSet<>(result.getMessages());
@@ -514,8 +552,12 @@ public class CodegenConfigurator {
         config.setIgnoreFilePathOverride(workflowSettings.getIgnoreFileOverride());
         config.setRemoveOperationIdPrefix(workflowSettings.isRemoveOperationIdPrefix());
         config.setEnablePostProcessFile(workflowSettings.isEnablePostProcessFile());
+        config.setPostProcessFileBatchSize(workflowSettings.getPostProcessFileBatchSize());
         config.setEnableMinimalUpdate(workflowSettings.isEnableMinimalUpdate());
+        config.setIncrementalGeneration(workflowSettings.isIncrementalGeneration());
+        config.setProfileGeneration(workflowSettings.isProfileGeneration());
         config.setStrictSpecBehavior(workflowSettings.isStrictSpecBehavior());
+        config.setRenderingThreads(workflowSettings.getRenderingThreads());
 
         TemplatingEngineAdapter templatingEngine = TemplatingEngineLoader.byIdentifier(workflowSettings.getTemplatingEngineName());
         config.setTemplatingEngine(templatingEngine);
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ * Copyright 2018 SmartBear Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.swagger.v3.oas.models.OpenAPI;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Deep copies of parsed specifications, through the bean properties of their model objects.
+ * <p>
+ * Copies keep the type of model objects (e.g. {@link io.swagger.v3.oas.models.media.ArraySchema}), which a
+ * serialization round trip wouldn't, as well as objects referenced more than once. Properties are copied with their
+ * setter or, when the setter transforms values (e.g. {@code Schema#setRequired} sorts them), their fluent method.
+ */
+final class OpenAPICopier {
+    private static final String MODELS_PACKAGE = "io.swagger.v3.oas.models.";
+    private static final Map<Class<?>, List<Property>> PROPERTIES = new ConcurrentHashMap<>();
+
+    private final Map<Object, Object> copies = new IdentityHashMap<>();
+
+    /**
+     * @param openAPI a specification, not modified while it's copied
+     * @return a copy of the specification sharing no mutable object with it
+     */
+    static OpenAPI copy(OpenAPI openAPI) {
+        return (OpenAPI) new OpenAPICopier().copyValue(openAPI);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object copyValue(Object value) {
+        if (value == null) {
+            return null;
+        }
+        Object copy = copies.get(value);
+        if (copy != null) {
+            return copy;
+        }
+        if (value instanceof Enum) {
+            copy = value;
+        } else if (isModel(value.getClass())) {
+            copy = newInstance(value.getClass());
+            copies.put(value, copy);
+            if (value instanceof Map) {
+                // e.g. Paths, ApiResponses
+                Map<Object, Object> map = (Map<Object, Object>) copy;
+                for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                    map.put(entry.getKey(), copyValue(entry.getValue()));
+                }
+            }
+            for (Property property : properties(value.getClass())) {
+                property.copy(value, copy, this);
+            }
+        } else if (value instanceof Map) {
+            Map<Object, Object> map = (Map<Object, Object>) newCollection(value, LinkedHashMap::new);
+            copies.put(value, map);
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                map.put(entry.getKey(), copyValue(entry.getValue()));
+            }
+            copy = map;
+        } else if (value instanceof Collection) {
+            Collection<Object> collection = (Collection<Object>) newCollection(value,
+                    value instanceof Set ? LinkedHashSet::new : ArrayList::new);
+            copies.put(value, collection);
+            for (Object item : (Collection<?>) value) {
+                collection.add(copyValue(item));
+            }
+            copy = collection;
+        } else if (value instanceof JsonNode) {
+            copy = ((JsonNode) value).deepCopy();
+            copies.put(value, copy);
+        } else {
+            // strings, numbers, enums and other values which aren't modified by generators
+            copy = value;
+        }
+        return copy;
+    }
+
+    private static boolean isModel(Class<?> type) {
+        for (Class<?> t = type; t != null && t != Object.class; t = t.getSuperclass()) {
+            if (t.getName().startsWith(MODELS_PACKAGE)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Maps and collections are copied to the same type (e.g. a HashMap to a HashMap, so that entries added by
+     * generators are in the same order) when it's a public type of the JDK, or to the given type.
+     */
+    private static Object newCollection(Object value, Supplier<Object> fallback) {
+        Class<?> type = value.getClass();
+        if (type.getName().startsWith("java.util.") && Modifier.isPublic(type.getModifiers())) {
+            try {
+                return type.getConstructor().newInstance();
+            } catch (ReflectiveOperationException e) {
+                // e.g. no default constructor
+            }
+        }
+        return fallback.get();
+    }
+
+    private static Object newInstance(Class<?> type) {
+        try {
+            return type.getConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Unable to copy a specification object of type " + type.getName(), e);
+        }
+    }
+
+    private static List<Property> properties(Class<?> type) {
+        return PROPERTIES.computeIfAbsent(type, t -> {
+            List<Property> properties = new ArrayList<>();
+            try {
+                for (PropertyDescriptor descriptor : Introspector.getBeanInfo(t, Object.class).getPropertyDescriptors()) {
+                    Method getter = descriptor.getReadMethod();
+                    Method setter = descriptor.getWriteMethod();
+                    Method fluent;
+                    try {
+                        fluent = getter == null ? null : t.getMethod(descriptor.getName(), getter.getReturnType());
+                    } catch (NoSuchMethodException e) {
+                        fluent = null;
+                    }
+                    if (getter != null && (setter != null || fluent != null)) {
+                        properties.add(new Property(getter, setter, fluent));
+                    }
+                }
+            } catch (IntrospectionException e) {
+                throw new IllegalStateException("Unable to copy a specification object of type " + t.getName(), e);
+            }
+            return properties;
+        });
+    }
+
+    private static final class Property {
+        private final Method getter;
+        private final Method setter;
+        private final Method fluent;
+
+        Property(Method getter, Method setter, Method fluent) {
+            this.getter = getter;
+            this.setter = setter;
+            this.fluent = fluent;
+        }
+
+        void copy(Object from, Object to, OpenAPICopier copier) {
+            try {
+                Object value = getter.invoke(from);
+                // new instances may have defaults (e.g. the format of an IntegerSchema), which null values override
+                if (value == null && getter.invoke(to) == null) {
+                    return;
+                }
+                Object copy = copier.copyValue(value);
+                if (setter != null) {
+                    setter.invoke(to, copy);
+                }
+                if (fluent != null && getter.invoke(to) != copy) {
+                    // the setter transformed the value (e.g. Schema#setRequired sorts it), the fluent method may not
+                    fluent.invoke(to, copy);
+                }
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                throw new IllegalStateException("Unable to copy property " + getter.getName() + " of " + from.getClass().getName(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ * Copyright 2018 SmartBear Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.config;
+
+import io.swagger.parser.OpenAPIParser;
+import io.swagger.v3.parser.core.models.AuthorizationValue;
+import io.swagger.v3.parser.core.models.ParseOptions;
+import io.swagger.v3.parser.core.models.SwaggerParseResult;
+import org.openapitools.codegen.auth.AuthParser;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Specifications parsed once for several configurators, e.g. when generating several targets from the same
+ * specification in batch (see {@link CodegenConfigurator#setParsedSpecCache(ParsedSpecCache)}).
+ * <p>
+ * Parsed specifications are keyed by location, content (for local files), authorization and parse options. Each
+ * configurator gets its own deep copy of the parsed specification, as generators modify it (e.g. in
+ * {@code preprocessOpenAPI} or when flattening inline models). This class is thread-safe, and a specification requested
+ * by several threads at once is parsed just once.
+ */
+public class ParsedSpecCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ParsedSpecCache.class);
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Parses a specification, or copies it if it was parsed already.
+     *
+     * @param inputSpec location of the specification
+     * @param auth      authorization to fetch the specification, as supported by {@link AuthParser}
+     * @param options   parse options
+     * @return the result of parsing the specification, which the caller is free to modify
+     */
+    public SwaggerParseResult parse(String inputSpec, String auth, ParseOptions options) {
+        Entry entry = entries.computeIfAbsent(key(inputSpec, auth, options), k -> new Entry());
+        SwaggerParseResult parsed = entry.get(() -> read(inputSpec, AuthParser.parse(auth), options));
+
+        SwaggerParseResult result = new SwaggerParseResult();
+        result.setMessages(parsed.getMessages() == null ? null : new ArrayList<>(parsed.getMessages()));
+        result.setOpenAPI(parsed.getOpenAPI() == null ? null : OpenAPICopier.copy(parsed.getOpenAPI()));
+        return result;
+    }
+
+    /**
+     * Reads a specification which isn't cached yet.
+     *
+     * @param inputSpec           location of the specification
+     * @param authorizationValues authorizations to fetch the specification
+     * @param options             parse options
+     * @return the result of parsing the specification
+     */
+    protected SwaggerParseResult read(String inputSpec, List<AuthorizationValue> authorizationValues, ParseOptions options) {
+        return new OpenAPIParser().readLocation(inputSpec, authorizationValues, options);
+    }
+
+    private static String key(String inputSpec, String auth, ParseOptions options) {
+        StringBuilder key = new StringBuilder();
+        File file = new File(inputSpec);
+        if (file.isFile()) {
+            // the same file may be referred to by different paths, and may change between generations
+            try {
+                key.append(file.getCanonicalPath()).append('\n').append(sha256(Files.readAllBytes(file.toPath())));
+            } catch (IOException e) {
+                LOGGER.debug("Unable to read {}, it's cached by location: {}", inputSpec, e.getMessage());
+                key.setLength(0);
+                key.append(inputSpec);
+            }
+        } else {
+            key.append(inputSpec);
+        }
+        key.append('\n').append(auth)
+                .append('\n').append(options.isResolve())
+                .append(options.isResolveCombinators())
+                .append(options.isResolveFully())
+                .append(options.isFlatten())
+                .append(options.isFlattenComposedSchemas())
+                .append(options.isSkipMatches());
+        return key.toString();
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return Base64.getEncoder().encodeToString(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class Entry {
+        private SwaggerParseResult result;
+
+        synchronized SwaggerParseResult get(Supplier<SwaggerParseResult> parser) {
+            if (result == null) {
+                result = parser.get();
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ * Copyright 2018 SmartBear Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.config;
+
+import org.openapitools.codegen.CodegenConstants;
+
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Immutable snapshot of the settings of a generation run which are otherwise looked up in {@link GlobalSettings}:
+ * the selection of files to generate, {@code generateAliasAsModel} and the debug flags.
+ * <p>
+ * {@link org.openapitools.codegen.DefaultGenerator} takes the snapshot once per run, on the thread calling
+ * {@code generate()}, and passes it on to the generator and to {@link org.openapitools.codegen.utils.ModelUtils}.
+ * Code running during the run (including on the threads rendering files) reads the snapshot rather than the
+ * thread-local properties, which are neither cheap to look up nor necessarily those of the run on pooled threads.
+ */
+public final class RunSettings {
+    private final String apis;
+    private final String models;
+    private final String supportingFiles;
+    private final Boolean apiTests;
+    private final Boolean apiDocs;
+    private final Boolean modelTests;
+    private final Boolean modelDocs;
+    private final Boolean skipFormModel;
+    private final boolean generateAliasAsModel;
+    private final boolean debugOpenAPI;
+    private final boolean debugSwagger;
+    private final boolean debugModels;
+    private final boolean debugOperations;
+    private final boolean debugSupportingFiles;
+    private final boolean debugParser;
+
+    private RunSettings(Function<String, String> properties) {
+        apis = properties.apply(CodegenConstants.APIS);
+        models = properties.apply(CodegenConstants.MODELS);
+        supportingFiles = properties.apply(CodegenConstants.SUPPORTING_FILES);
+        apiTests = toBoolean(properties.apply(CodegenConstants.API_TESTS));
+        apiDocs = toBoolean(properties.apply(CodegenConstants.API_DOCS));
+        modelTests = toBoolean(properties.apply(CodegenConstants.MODEL_TESTS));
+        modelDocs = toBoolean(properties.apply(CodegenConstants.MODEL_DOCS));
+        skipFormModel = toBoolean(properties.apply(CodegenConstants.SKIP_FORM_MODEL));
+        generateAliasAsModel = Boolean.parseBoolean(properties.apply(CodegenConstants.GENERATE_ALIAS_AS_MODEL));
+        debugOpenAPI = properties.apply("debugOpenAPI") != null;
+        debugSwagger = properties.apply("debugSwagger") != null;
+        debugModels = properties.apply("debugModels") != null;
+        debugOperations = properties.apply("debugOperations") != null;
+        debugSupportingFiles = properties.apply("debugSupportingFiles") != null;
+        debugParser = properties.apply("debugParser") != null;
+    }
+
+    private RunSettings(RunSettings settings, boolean generateAliasAsModel) {
+        this.apis = settings.apis;
+        this.models = settings.models;
+        this.supportingFiles = settings.supportingFiles;
+        this.apiTests = settings.apiTests;
+        this.apiDocs = settings.apiDocs;
+        this.modelTests = settings.modelTests;
+        this.modelDocs = settings.modelDocs;
+        this.skipFormModel = settings.skipFormModel;
+        this.generateAliasAsModel = generateAliasAsModel;
+        this.debugOpenAPI = settings.debugOpenAPI;
+        this.debugSwagger = settings.debugSwagger;
+        this.debugModels = settings.debugModels;
+        this.debugOperations = settings.debugOperations;
+        this.debugSupportingFiles = settings.debugSupportingFiles;
+        this.debugParser = settings.debugParser;
+    }
+
+    /**
+     * @return the settings currently set in the {@link GlobalSettings} of the calling thread
+     */
+    public static RunSettings fromGlobalSettings() {
+        return new RunSettings(GlobalSettings::getProperty);
+    }
+
+    /**
+     * @param properties settings keyed by the names of their {@link GlobalSettings} properties
+     * @return the settings
+     */
+    public static RunSettings of(Map<String, String> properties) {
+        return new RunSettings(properties::get);
+    }
+
+    /**
+     * @param generateAliasAsModel whether to generate alias (array, map) as model
+     * @return a copy of these settings with the given value of {@code generateAliasAsModel}
+     */
+    public RunSettings withGenerateAliasAsModel(boolean generateAliasAsModel) {
+        return generateAliasAsModel == this.generateAliasAsModel ? this : new RunSettings(this, generateAliasAsModel);
+    }
+
+    private static Boolean toBoolean(String value) {
+        return value == null ? null : Boolean.valueOf(value);
+    }
+
+    /**
+     * @return comma separated names of the APIs to generate (empty for all), or null if not set
+     */
+    public String getApis() {
+        return apis;
+    }
+
+    /**
+     * @return comma separated names of the models to generate (empty for all), or null if not set
+     */
+    public String getModels() {
+        return models;
+    }
+
+    /**
+     * @return comma separated names of the supporting files to generate (empty for all), or null if not set
+     */
+    public String getSupportingFiles() {
+        return supportingFiles;
+    }
+
+    /**
+     * @return whether to generate API tests, or null if not set
+     */
+    public Boolean getApiTests() {
+        return apiTests;
+    }
+
+    /**
+     * @return whether to generate API documentation, or null if not set
+     */
+    public Boolean getApiDocs() {
+        return apiDocs;
+    }
+
+    /**
+     * @return whether to generate model tests, or null if not set
+     */
+    public Boolean getModelTests() {
+        return modelTests;
+    }
+
+    /**
+     * @return whether to generate model documentation, or null if not set
+     */
+    public Boolean getModelDocs() {
+        return modelDocs;
+    }
+
+    /**
+     * @return whether to skip the generation of models only used by form parameters, or null if not set
+     */
+    public Boolean getSkipFormModel() {
+        return skipFormModel;
+    }
+
+    public boolean isGenerateAliasAsModel() {
+        return generateAliasAsModel;
+    }
+
+    public boolean isDebugOpenAPI() {
+        return debugOpenAPI;
+    }
+
+    public boolean isDebugSwagger() {
+        return debugSwagger;
+    }
+
+    public boolean isDebugModels() {
+        return debugModels;
+    }
+
+    public boolean isDebugOperations() {
+        return debugOperations;
+    }
+
+    public boolean isDebugSupportingFiles() {
+        return debugSupportingFiles;
+    }
+
+    public boolean isDebugParser() {
+        return debugParser;
+    }
+}
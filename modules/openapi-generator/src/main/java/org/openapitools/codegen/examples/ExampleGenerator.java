@@ -17,6 +17,8 @@
 
 package org.openapitools.codegen.examples;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.swagger.v3.core.util.Json;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.media.ArraySchema;
@@ -28,6 +30,8 @@ import org.slf4j.LoggerFactory;
 
 import java.math.BigDecimal;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 public class ExampleGenerator {
     private static final Logger LOGGER = LoggerFactory.getLogger(ExampleGenerator.class);
@@ -44,6 +48,9 @@ public class ExampleGenerator {
     private static final String URI = "uri";
     private static final String STATUS_CODE = "statusCode";
 
+    // keyed by identity (weak keys), so that all the generators created for a document share the examples of its models
+    private static final Cache<OpenAPI, ModelExamples> modelExamplesCache = Caffeine.newBuilder().weakKeys().build();
+
     protected Map<String, Schema> examples;
     private OpenAPI openAPI;
     private Random random;
@@ -156,7 +163,8 @@ public class ExampleGenerator {
                 if (modelName != null && (mediaType.startsWith(MIME_TYPE_JSON) || mediaType.contains("*/*"))) {
                     final Schema schema = this.examples.get(modelName);
                     if (schema != null) {
-                        String example = Json.pretty(resolveModelToExample(modelName, mediaType, schema, processedModels));
+                        String example = modelExample(modelName, MIME_TYPE_JSON,
+                                () -> Json.pretty(resolveModelToExample(modelName, mediaType, schema, processedModels)));
 
                         if (example != null) {
                             kv.put(EXAMPLE, example);
@@ -165,7 +173,8 @@ public class ExampleGenerator {
                     }
                 } else if (modelName != null && mediaType.startsWith(MIME_TYPE_XML)) {
                     final Schema schema = this.examples.get(modelName);
-                    String example = new XmlExampleGenerator(this.examples).toXml(schema, 0, Collections.<String>emptySet());
+                    String example = schema == null ? "" : modelExample(modelName, MIME_TYPE_XML,
+                            () -> new XmlExampleGenerator(this.examples).toXml(schema, 0, Collections.<String>emptySet()));
                     if (example != null) {
                         kv.put(EXAMPLE, example);
                         output.add(kv);
@@ -217,6 +226,37 @@ public class ExampleGenerator {
         return output;
     }
 
+    /**
+     * Returns the serialized example of a model, computing it on first use for the document. The example tree of a model
+     * is kept in the schema by {@link #resolveModelToExample(String, String, Schema, Set)} and does not change once
+     * built, so its serialization is shared by all the operations using the model, whatever their JSON (or XML) media
+     * type.
+     *
+     * @param modelName name of the model
+     * @param format    {@link #MIME_TYPE_JSON} or {@link #MIME_TYPE_XML}
+     * @param example   serializes the example
+     * @return the serialized example
+     */
+    private String modelExample(String modelName, String format, Supplier<String> example) {
+        if (openAPI == null) {
+            return example.get();
+        }
+        ModelExamples modelExamples = modelExamplesCache.getIfPresent(openAPI);
+        if (modelExamples == null || !modelExamples.isCurrent(this.examples)) {
+            modelExamples = new ModelExamples(this.examples);
+            modelExamplesCache.put(openAPI, modelExamples);
+        }
+        Map<String, String> serialized = MIME_TYPE_XML.equals(format) ? modelExamples.xml : modelExamples.json;
+        String value = serialized.get(modelName);
+        if (value == null) {
+            value = example.get();
+            if (value != null) {
+                serialized.put(modelName, value);
+            }
+        }
+        return value;
+    }
+
     private Object resolvePropertyToExample(String propertyName, String mediaType, Schema property, Set<String> processedModels) {
         LOGGER.debug("Resolving example for property {}...", property);
         if (property.getExample() != null) {
@@ -354,4 +394,25 @@ public class ExampleGenerator {
             return null;
         }
     }
+
+    /**
+     * Serialized examples of the models of a document, per model name.
+     */
+    private static final class ModelExamples {
+        final Map<String, String> json = new ConcurrentHashMap<>();
+        final Map<String, String> xml = new ConcurrentHashMap<>();
+
+        // used to detect whether the examples were computed from other schemas, or schemas were added or removed since
+        private final Map<String, Schema> schemasStamp;
+        private final int schemasCount;
+
+        ModelExamples(Map<String, Schema> schemas) {
+            this.schemasStamp = schemas;
+            this.schemasCount = schemas == null ? 0 : schemas.size();
+        }
+
+        boolean isCurrent(Map<String, Schema> schemas) {
+            return schemas == schemasStamp && (schemas == null ? 0 : schemas.size()) == schemasCount;
+        }
+    }
 }
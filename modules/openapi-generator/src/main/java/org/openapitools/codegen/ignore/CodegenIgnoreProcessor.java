@@ -19,15 +19,17 @@ package org.openapitools.codegen.ignore;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.io.Files;
-import org.openapitools.codegen.ignore.rules.DirectoryRule;
 import org.openapitools.codegen.ignore.rules.Rule;
+import org.openapitools.codegen.ignore.rules.RuleSet;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.*;
+import java.net.URI;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
 
@@ -39,9 +41,11 @@ public class CodegenIgnoreProcessor {
     private static final Logger LOGGER = LoggerFactory.getLogger(CodegenIgnoreProcessor.class);
 
     private File ignoreFile = null;
+    private URI baseDirectory = null;
 
     private List<Rule> exclusionRules = new ArrayList<>();
     private List<Rule> inclusionRules = new ArrayList<>();
+    private RuleSet ruleSet = RuleSet.compile(Collections.emptyList(), Collections.emptyList());
 
     /**
      * Loads the default ignore file (.openapi-generator-ignore) from the specified path.
@@ -83,6 +87,7 @@ public class CodegenIgnoreProcessor {
             try {
                 loadCodegenRules(targetIgnoreFile);
                 this.ignoreFile = targetIgnoreFile;
+                this.baseDirectory = targetIgnoreFile.getAbsoluteFile().getParentFile().toURI();
             } catch (IOException e) {
                 LOGGER.error(String.format(Locale.ROOT, "Could not process %s.", targetIgnoreFile.getName()), e.getMessage());
             }
@@ -130,6 +135,7 @@ public class CodegenIgnoreProcessor {
                 }
             }
         }
+        ruleSet = RuleSet.compile(exclusionRules, inclusionRules);
     }
 
     /**
@@ -141,67 +147,26 @@ public class CodegenIgnoreProcessor {
      */
     public boolean allowsFile(final File targetFile) {
         if(this.ignoreFile == null) return true;
-
-        File file = new File(this.ignoreFile.getParentFile().toURI().relativize(targetFile.toURI()).getPath());
-        Boolean directoryExcluded = false;
-        Boolean exclude = false;
         if(exclusionRules.size() == 0 && inclusionRules.size() == 0) {
             return true;
         }
 
-        // NOTE: We *must* process all exclusion rules
-        for (int i = 0; i < exclusionRules.size(); i++) {
-            Rule current = exclusionRules.get(i);
-            Rule.Operation op = current.evaluate(file.getPath());
-
-            switch (op){
-                case EXCLUDE:
-                    exclude = true;
-
-                    // Include rule can't override rules that exclude a file by some parent directory.
-                    if(current instanceof DirectoryRule) {
-                        directoryExcluded = true;
-                    }
-                    break;
-                case INCLUDE:
-                    // This won't happen here.
-                    break;
-                case NOOP:
-                    break;
-                case EXCLUDE_AND_TERMINATE:
-                    i = exclusionRules.size();
-                    break;
-            }
-        }
+        return explain(targetFile).isAllowed();
+    }
 
-        if(exclude) {
-            // Only need to process inclusion rules if we've been excluded
-            for (int i = 0; exclude && i < inclusionRules.size(); i++) {
-                Rule current = inclusionRules.get(i);
-                Rule.Operation op = current.evaluate(file.getPath());
-
-                // At this point exclude=true means the file should be ignored.
-                // op == INCLUDE means we have to flip that flag.
-                if(op.equals(Rule.Operation.INCLUDE)) {
-                    if(current instanceof DirectoryRule && directoryExcluded) {
-                        // e.g
-                        // baz/
-                        // !foo/bar/baz/
-                        // NOTE: Possibly surprising side effect:
-                        // foo/bar/baz/
-                        // !bar/
-                        exclude = false;
-                    } else if (!directoryExcluded) {
-                        // e.g.
-                        // **/*.log
-                        // !ISSUE_1234.log
-                        exclude = false;
-                    }
-                }
-            }
+    /**
+     * Evaluates a file like {@link #allowsFile(File)}, reporting the rules which decided whether it is allowed.
+     *
+     * @param targetFile The file to check against exclusion rules from the ignore file.
+     * @return The decision, along with the exclusion rule matching the file and the inclusion rule allowing it again, if any.
+     */
+    public RuleSet.Decision explain(final File targetFile) {
+        if(this.ignoreFile == null) {
+            return ruleSet.evaluate(targetFile.getPath());
         }
 
-        return Boolean.FALSE.equals(exclude);
+        File file = new File(baseDirectory.relativize(targetFile.toURI()).getPath());
+        return ruleSet.evaluate(file.getPath());
     }
 
     /**
@@ -18,6 +18,7 @@
 package org.openapitools.codegen.ignore.rules;
 
 import java.nio.file.FileSystems;
+import java.nio.file.Path;
 import java.nio.file.PathMatcher;
 import java.util.List;
 
@@ -40,6 +41,12 @@ public class DirectoryRule extends FileRule {
 
     @Override
     public Boolean matches(String relativePath) {
-        return contentsMatcher.matches(FileSystems.getDefault().getPath(relativePath)) || directoryMatcher.matches(FileSystems.getDefault().getPath(relativePath));
+        return matches(relativePath, null);
+    }
+
+    @Override
+    Boolean matches(String relativePath, Path path) {
+        Path target = path != null ? path : FileSystems.getDefault().getPath(relativePath);
+        return contentsMatcher.matches(target) || directoryMatcher.matches(target);
     }
 }
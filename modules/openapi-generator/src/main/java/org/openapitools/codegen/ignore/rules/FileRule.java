@@ -18,6 +18,7 @@
 package org.openapitools.codegen.ignore.rules;
 
 import java.nio.file.FileSystems;
+import java.nio.file.Path;
 import java.nio.file.PathMatcher;
 import java.util.List;
 
@@ -32,6 +33,11 @@ public class FileRule extends Rule {
 
     @Override
     public Boolean matches(String relativePath) {
-        return matcher.matches(FileSystems.getDefault().getPath(relativePath));
+        return matches(relativePath, null);
+    }
+
+    @Override
+    Boolean matches(String relativePath, Path path) {
+        return matcher.matches(path != null ? path : FileSystems.getDefault().getPath(relativePath));
     }
 }
@@ -17,6 +17,7 @@
 
 package org.openapitools.codegen.ignore.rules;
 
+import java.nio.file.Path;
 import java.util.List;
 
 public class InvalidRule extends Rule {
@@ -37,6 +38,11 @@ public class InvalidRule extends Rule {
         return Operation.NOOP;
     }
 
+    @Override
+    Operation evaluate(String relativePath, Path path) {
+        return Operation.NOOP;
+    }
+
     public String getReason() {
         return reason;
     }
@@ -27,6 +27,8 @@ import java.util.regex.Pattern;
 public class RootedFileRule extends Rule {
     private String definedFilename = null;
     private String definedExtension = null;
+    // compiled once, when the filename has a wildcard
+    private Pattern filenamePattern = null;
 
     RootedFileRule(List<Part> syntax, String definition) {
         super(syntax, definition);
@@ -34,16 +36,32 @@ public class RootedFileRule extends Rule {
         int separatorIndex = definition.lastIndexOf(".");
         definedFilename = getFilenamePart(definition, separatorIndex);
         definedExtension = getExtensionPart(definition, separatorIndex);
+
+        if (definedFilename.contains(IgnoreLineParser.Token.MATCH_ANY.getPattern())) {
+            // TODO: Evaluate any other escape requirements here.
+            filenamePattern = Pattern.compile(
+                    definedFilename
+                            .replaceAll(Pattern.quote("."), "\\\\Q.\\\\E")
+                            .replaceAll(Pattern.quote("*"), ".*?") // non-greedy match on 0+ any character
+            );
+        }
     }
 
-    private String getFilenamePart(final String input, int stopIndex){
+    private static String getFilenamePart(final String input, int stopIndex){
         return input.substring('/' == input.charAt(0) ? 1 : 0, stopIndex > 0 ? stopIndex : input.length());
     }
 
-    private String getExtensionPart(final String input, int stopIndex) {
+    static String getExtensionPart(final String input, int stopIndex) {
         return input.substring(stopIndex > 0 ? stopIndex+1: input.length(), input.length());
     }
 
+    /**
+     * @return the extension a path must have to match this rule, or {@code *} for any extension
+     */
+    String getDefinedExtension() {
+        return definedExtension;
+    }
+
     @Override
     public Boolean matches(String relativePath) {
         // NOTE: Windows-style separator isn't supported, so File.pathSeparator would be incorrect here.
@@ -57,14 +75,8 @@ public class RootedFileRule extends Rule {
             final String extension = getExtensionPart(relativePath, separatorIndex);
             boolean extensionMatches = definedExtension.equals(extension) || definedExtension.equals(IgnoreLineParser.Token.MATCH_ANY.getPattern());
 
-            if(extensionMatches && definedFilename.contains(IgnoreLineParser.Token.MATCH_ANY.getPattern())) {
-                // TODO: Evaluate any other escape requirements here.
-                Pattern regex = Pattern.compile(
-                        definedFilename
-                                .replaceAll(Pattern.quote("."), "\\\\Q.\\\\E")
-                                .replaceAll(Pattern.quote("*"), ".*?") // non-greedy match on 0+ any character
-                );
-                return regex.matcher(filename).matches();
+            if(extensionMatches && filenamePattern != null) {
+                return filenamePattern.matcher(filename).matches();
             }
 
             return extensionMatches && definedFilename.equals(filename);
@@ -17,7 +17,9 @@
 
 package org.openapitools.codegen.ignore.rules;
 
+import java.nio.file.Path;
 import java.util.List;
+import java.util.regex.PatternSyntaxException;
 
 public abstract class Rule {
 
@@ -35,6 +37,17 @@ public abstract class Rule {
 
     public abstract Boolean matches(String relativePath);
 
+    /**
+     * Same as {@link #matches(String)}, for rules matching parsed paths.
+     *
+     * @param relativePath The path relative to the ignore file
+     * @param path         The parsed path, or null to parse it if needed
+     * @return {@code true} if the rule matches the path
+     */
+    Boolean matches(String relativePath, Path path) {
+        return matches(relativePath);
+    }
+
     public String getDefinition() {
         return this.definition;
     }
@@ -76,7 +89,11 @@ public abstract class Rule {
     }
 
     public Operation evaluate(String relativePath) {
-        if (Boolean.TRUE.equals(matches(relativePath))) {
+        return evaluate(relativePath, null);
+    }
+
+    Operation evaluate(String relativePath, Path path) {
+        if (Boolean.TRUE.equals(matches(relativePath, path))) {
             if(Boolean.TRUE.equals(this.getNegated())) {
                 return this.getIncludeOperation();
             }
@@ -182,7 +199,7 @@ public abstract class Rule {
                 }
 
             }
-        } catch (ParserException e) {
+        } catch (ParserException | PatternSyntaxException e) {
             return new InvalidRule(null, definition, e.getMessage());
         }
 
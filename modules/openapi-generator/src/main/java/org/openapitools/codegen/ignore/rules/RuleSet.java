@@ -0,0 +1,313 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ * Copyright 2018 SmartBear Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.ignore.rules;
+
+import java.nio.file.FileSystems;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The exclusion and inclusion rules of an ignore file, compiled to evaluate many paths.
+ * <p>
+ * Rules are indexed by what a path must have for them to match: the literal file name or extension of their last
+ * segment, the literal first segment of their pattern, or the extension of a rooted file. A path is parsed once and
+ * only evaluated against the rules of its buckets (and the rules which couldn't be indexed), in the order of the
+ * ignore file, with the same outcome as evaluating every rule.
+ */
+public final class RuleSet {
+    private static final String GLOB_SPECIAL_CHARS = "*?[]{}\\";
+    // glob patterns match paths case-insensitively on some platforms (e.g. Windows)
+    private static final boolean CASE_INSENSITIVE = FileSystems.getDefault().getPathMatcher("glob:A")
+            .matches(FileSystems.getDefault().getPath("a"));
+
+    private final Index exclusions;
+    private final Index inclusions;
+
+    private RuleSet(List<Rule> exclusionRules, List<Rule> inclusionRules) {
+        this.exclusions = new Index(exclusionRules);
+        this.inclusions = new Index(inclusionRules);
+    }
+
+    /**
+     * @param exclusionRules The exclusion rules, in the order of the ignore file
+     * @param inclusionRules The inclusion (negated) rules, in the order of the ignore file
+     * @return The compiled rules
+     */
+    public static RuleSet compile(List<Rule> exclusionRules, List<Rule> inclusionRules) {
+        return new RuleSet(exclusionRules, inclusionRules);
+    }
+
+    /**
+     * Evaluates a path against the rules.
+     *
+     * @param relativePath The path, relative to the ignore file
+     * @return The decision along with the rules it is based on
+     */
+    public Decision evaluate(String relativePath) {
+        Query query = new Query(relativePath);
+
+        Rule excludedBy = null;
+        boolean directoryExcluded = false;
+        // NOTE: We *must* process all exclusion rules
+        for (Rule current : exclusions.candidates(query)) {
+            Rule.Operation op = current.evaluate(relativePath, query.path);
+            if (op == Rule.Operation.EXCLUDE_AND_TERMINATE) {
+                // stops the evaluation of exclusion rules, without excluding the path by itself
+                break;
+            }
+            if (op == Rule.Operation.EXCLUDE) {
+                if (excludedBy == null) {
+                    excludedBy = current;
+                }
+                // Include rule can't override rules that exclude a file by some parent directory.
+                if (current instanceof DirectoryRule) {
+                    directoryExcluded = true;
+                }
+            }
+        }
+
+        if (excludedBy == null) {
+            return new Decision(relativePath, true, null, null);
+        }
+
+        // Only need to process inclusion rules if we've been excluded
+        for (Rule current : inclusions.candidates(query)) {
+            if (current.evaluate(relativePath, query.path) == Rule.Operation.INCLUDE) {
+                // e.g. "baz/" then "!foo/bar/baz/", or "**/*.log" then "!ISSUE_1234.log"
+                if ((current instanceof DirectoryRule && directoryExcluded) || !directoryExcluded) {
+                    return new Decision(relativePath, true, excludedBy, current);
+                }
+            }
+        }
+        return new Decision(relativePath, false, excludedBy, null);
+    }
+
+    private static String key(String value) {
+        return CASE_INSENSITIVE ? value.toLowerCase(Locale.ROOT) : value;
+    }
+
+    private static int lastSpecialChar(String glob) {
+        int last = -1;
+        for (int i = 0; i < GLOB_SPECIAL_CHARS.length(); i++) {
+            last = Math.max(last, glob.lastIndexOf(GLOB_SPECIAL_CHARS.charAt(i)));
+        }
+        return last;
+    }
+
+    /**
+     * The keys of a path, computed once per evaluation.
+     */
+    private static final class Query {
+        final String relativePath;
+        // null if the path can't be parsed, in which case every rule is evaluated (and parses it in turn)
+        final Path path;
+        final String fileName;
+        final String extension;
+        final String firstSegment;
+        final String rootedExtension;
+
+        Query(String relativePath) {
+            this.relativePath = relativePath;
+
+            Path parsed;
+            try {
+                parsed = FileSystems.getDefault().getPath(relativePath);
+            } catch (InvalidPathException e) {
+                parsed = null;
+            }
+            this.path = parsed;
+
+            if (parsed != null) {
+                String name = parsed.getFileName() == null ? "" : parsed.getFileName().toString();
+                int dot = name.lastIndexOf('.');
+                this.fileName = key(name);
+                this.extension = dot < 0 ? null : key(name.substring(dot + 1));
+                this.firstSegment = parsed.isAbsolute() || parsed.getNameCount() < 2 ? null : key(parsed.getName(0).toString());
+            } else {
+                this.fileName = this.extension = this.firstSegment = null;
+            }
+
+            // see RootedFileRule#matches
+            this.rootedExtension = relativePath.lastIndexOf("/") <= 0
+                    ? RootedFileRule.getExtensionPart(relativePath, relativePath.lastIndexOf("."))
+                    : null;
+        }
+    }
+
+    /**
+     * Rules of one kind (exclusion or inclusion), indexed.
+     */
+    private static final class Index {
+        private final List<Rule> rules;
+        private final Map<Rule, Integer> positions = new HashMap<>();
+        private final Map<String, List<Rule>> byFileName = new HashMap<>();
+        private final Map<String, List<Rule>> byExtension = new HashMap<>();
+        private final Map<String, List<Rule>> byFirstSegment = new HashMap<>();
+        private final Map<String, List<Rule>> rootedByExtension = new HashMap<>();
+        private final List<Rule> rootedAnyExtension = new ArrayList<>();
+        private final List<Rule> unindexed = new ArrayList<>();
+
+        Index(List<Rule> rules) {
+            this.rules = new ArrayList<>(rules);
+            for (Rule rule : this.rules) {
+                positions.putIfAbsent(rule, positions.size());
+                add(rule);
+            }
+        }
+
+        private void add(Rule rule) {
+            if (rule instanceof InvalidRule) {
+                // never matches
+                return;
+            }
+            if (rule instanceof RootedFileRule) {
+                String extension = ((RootedFileRule) rule).getDefinedExtension();
+                if (IgnoreLineParser.Token.MATCH_ANY.getPattern().equals(extension)) {
+                    rootedAnyExtension.add(rule);
+                } else {
+                    rootedByExtension.computeIfAbsent(extension, k -> new ArrayList<>()).add(rule);
+                }
+                return;
+            }
+            if (!(rule instanceof FileRule)) {
+                unindexed.add(rule);
+                return;
+            }
+
+            String glob = rule.getPattern();
+            if (!(rule instanceof DirectoryRule)) {
+                // the last segment of a path matching the glob ends with the literal suffix of the glob's last segment
+                String lastSegment = glob.substring(glob.lastIndexOf('/') + 1);
+                int special = lastSpecialChar(lastSegment);
+                if (special < 0) {
+                    byFileName.computeIfAbsent(key(lastSegment), k -> new ArrayList<>()).add(rule);
+                    return;
+                }
+                String suffix = lastSegment.substring(special + 1);
+                int dot = suffix.lastIndexOf('.');
+                if (dot >= 0) {
+                    byExtension.computeIfAbsent(key(suffix.substring(dot + 1)), k -> new ArrayList<>()).add(rule);
+                    return;
+                }
+            }
+
+            // a path matching the glob starts with the glob's literal first segment (followed by a separator)
+            int slash = glob.indexOf('/');
+            if (slash > 0) {
+                String firstSegment = glob.substring(0, slash);
+                if (lastSpecialChar(firstSegment) < 0) {
+                    byFirstSegment.computeIfAbsent(key(firstSegment), k -> new ArrayList<>()).add(rule);
+                    return;
+                }
+            }
+            unindexed.add(rule);
+        }
+
+        /**
+         * @return the rules which may match the path, in the order of the ignore file
+         */
+        List<Rule> candidates(Query query) {
+            if (query.path == null) {
+                return rules;
+            }
+            List<Rule> candidates = new ArrayList<>(unindexed);
+            addAll(candidates, byFileName, query.fileName);
+            addAll(candidates, byExtension, query.extension);
+            addAll(candidates, byFirstSegment, query.firstSegment);
+            if (query.rootedExtension != null) {
+                addAll(candidates, rootedByExtension, query.rootedExtension);
+                candidates.addAll(rootedAnyExtension);
+            }
+            if (candidates.size() > 1) {
+                candidates.sort(Comparator.comparing(positions::get));
+            }
+            return candidates;
+        }
+
+        private static void addAll(List<Rule> candidates, Map<String, List<Rule>> bucket, String key) {
+            if (key != null) {
+                List<Rule> rules = bucket.get(key);
+                if (rules != null) {
+                    candidates.addAll(rules);
+                }
+            }
+        }
+    }
+
+    /**
+     * The outcome of evaluating a path against the rules, along with the rules it is based on.
+     */
+    public static final class Decision {
+        private final String relativePath;
+        private final boolean allowed;
+        private final Rule excludedBy;
+        private final Rule includedBy;
+
+        Decision(String relativePath, boolean allowed, Rule excludedBy, Rule includedBy) {
+            this.relativePath = relativePath;
+            this.allowed = allowed;
+            this.excludedBy = excludedBy;
+            this.includedBy = includedBy;
+        }
+
+        /**
+         * @return The evaluated path, relative to the ignore file
+         */
+        public String getRelativePath() {
+            return relativePath;
+        }
+
+        /**
+         * @return {@code true} if the path is allowed (not ignored)
+         */
+        public boolean isAllowed() {
+            return allowed;
+        }
+
+        /**
+         * @return The first exclusion rule matching the path, or null if none does
+         */
+        public Rule getExcludedBy() {
+            return excludedBy;
+        }
+
+        /**
+         * @return The inclusion rule which allows the path again once excluded, or null if none does
+         */
+        public Rule getIncludedBy() {
+            return includedBy;
+        }
+
+        @Override
+        public String toString() {
+            if (excludedBy == null) {
+                return relativePath + ": allowed, no rule matches";
+            } else if (includedBy != null) {
+                return String.format(Locale.ROOT, "%s: allowed, excluded by '%s' then included by '%s'",
+                        relativePath, excludedBy.getDefinition(), includedBy.getDefinition());
+            }
+            return String.format(Locale.ROOT, "%s: ignored, excluded by '%s'", relativePath, excludedBy.getDefinition());
+        }
+    }
+}
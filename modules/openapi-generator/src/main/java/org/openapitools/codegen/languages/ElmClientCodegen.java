@@ -818,19 +818,7 @@ public class ElmClientCodegen extends DefaultCodegen implements CodegenConfig {
         // only process files with elm extension
         if ("elm".equals(FilenameUtils.getExtension(file.toString()))) {
             // e.g. elm-format -w yourcode.elm
-            String command = elmPostProcessFile + " " + file.toString();
-
-            try {
-                Process p = Runtime.getRuntime().exec(command);
-                int exitValue = p.waitFor();
-                if (exitValue != 0) {
-                    LOGGER.error("Error running the command ({}). Exit code: {}", command, exitValue);
-                } else {
-                    LOGGER.info("Successfully executed: " + command);
-                }
-            } catch (Exception e) {
-                LOGGER.error("Error running the command ({}). Exception: {}", command, e.getMessage());
-            }
+            executePostProcessFile(elmPostProcessFile, file);
         }
     }
 }
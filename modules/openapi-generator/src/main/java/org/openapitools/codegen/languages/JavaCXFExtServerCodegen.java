@@ -1331,7 +1331,8 @@ public class JavaCXFExtServerCodegen extends JavaCXFServerCodegen implements CXF
                     throw new RuntimeException("Failed to canonicalize file " + testDataFileStr, e);
                 }
 
-                testDataCache = JsonCache.Factory.instance.get("test-data").mergePolicy(MergePolicy.KEEP_EXISTING)
+                // caches of this generation run, not shared with others running in the same process
+                testDataCache = JsonCache.Factory.instance.create().mergePolicy(MergePolicy.KEEP_EXISTING)
                         .child('/' + invokerPackage);
                 if (this.testDataFile.exists()) {
                     try {
@@ -1357,7 +1358,7 @@ public class JavaCXFExtServerCodegen extends JavaCXFServerCodegen implements CXF
                     throw new RuntimeException("Failed to canonicalize file " + testDataControlFileStr, e);
                 }
 
-                testDataControlCache = JsonCache.Factory.instance.get("test-data-control")
+                testDataControlCache = JsonCache.Factory.instance.create()
                         .mergePolicy(MergePolicy.KEEP_EXISTING).child('/' + invokerPackage);
                 if (this.testDataControlFile.exists()) {
                     try {
@@ -1402,7 +1403,7 @@ public class JavaCXFExtServerCodegen extends JavaCXFServerCodegen implements CXF
 
     @Override
     public String toDefaultValue(Schema p) {
-        if (ModelUtils.isGenerateAliasAsModel() && StringUtils.isNotEmpty(p.get$ref())) {
+        if (ModelUtils.isGenerateAliasAsModel(openAPI) && StringUtils.isNotEmpty(p.get$ref())) {
             Schema<?> ref = ModelUtils.getReferencedSchema(this.openAPI, p);
             if (ModelUtils.isArraySchema(ref) || ModelUtils.isMapSchema(ref)) {
                 String typeDeclaration = getTypeDeclaration(p);
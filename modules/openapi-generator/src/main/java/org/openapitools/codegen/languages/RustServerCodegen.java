@@ -246,10 +246,6 @@ public class RustServerCodegen extends DefaultCodegen implements CodegenConfig {
     public void processOpts() {
         super.processOpts();
 
-        if (!Boolean.TRUE.equals(ModelUtils.isGenerateAliasAsModel())) {
-            LOGGER.warn("generateAliasAsModel is set to false, which means array/map will be generated as model instead and the resulting code may have issues. Please enable `generateAliasAsModel` to address the issue.");
-        }
-
         setPackageName((String) additionalProperties.getOrDefault(CodegenConstants.PACKAGE_NAME, "openapi_client"));
 
         if (additionalProperties.containsKey(CodegenConstants.PACKAGE_VERSION)) {
@@ -315,6 +311,11 @@ public class RustServerCodegen extends DefaultCodegen implements CodegenConfig {
 
     @Override
     public void preprocessOpenAPI(OpenAPI openAPI) {
+        // read from the settings of the run, which are bound once the options are processed
+        if (!getRunSettings().isGenerateAliasAsModel()) {
+            LOGGER.warn("generateAliasAsModel is set to false, which means array/map will be generated as model instead and the resulting code may have issues. Please enable `generateAliasAsModel` to address the issue.");
+        }
+
         Info info = openAPI.getInfo();
         List<String> versionComponents = new ArrayList<>(Arrays.asList(info.getVersion().split("[.]")));
         if (versionComponents.size() < 1) {
@@ -16,10 +16,13 @@
 
 package org.openapitools.codegen.templating;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.jknack.handlebars.Context;
 import com.github.jknack.handlebars.Handlebars;
 import com.github.jknack.handlebars.Jackson2Helper;
 import com.github.jknack.handlebars.Template;
+import com.github.jknack.handlebars.cache.ConcurrentMapTemplateCache;
 import com.github.jknack.handlebars.context.FieldValueResolver;
 import com.github.jknack.handlebars.context.JavaBeanValueResolver;
 import com.github.jknack.handlebars.context.MapValueResolver;
@@ -31,18 +34,44 @@ import com.github.jknack.handlebars.io.TemplateLoader;
 import com.github.jknack.handlebars.io.TemplateSource;
 import org.openapitools.codegen.api.AbstractTemplatingEngineAdapter;
 import org.openapitools.codegen.api.TemplatingGenerator;
+import org.openapitools.codegen.config.GlobalSettings;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.io.Writer;
 import java.util.Locale;
 import java.util.Map;
 
 
 public class HandlebarsEngineAdapter extends AbstractTemplatingEngineAdapter {
     static Logger LOGGER = LoggerFactory.getLogger(HandlebarsEngineAdapter.class);
+
+    /**
+     * Allow advanced users to modify the number of template sources held by the adapter.
+     */
+    static final String CACHE_SIZE_PROPERTY = "org.openapitools.codegen.templating.handlebars.cachesize";
+
+    /**
+     * Allow advanced users to disable template caching, e.g. while iterating on templates in a long-running process.
+     */
+    static final String ENABLE_CACHE_PROPERTY = "org.openapitools.codegen.templating.handlebars.cache.enabled";
+
     private final String[] extensions = new String[]{"handlebars", "hbs"};
 
+    private final int maxCacheSize;
+    private final boolean cacheEnabled;
+
+    /**
+     * The engine of the generator currently rendering templates, see {@link #engineFor(TemplatingGenerator)}.
+     */
+    private volatile Engine engine;
+
+    public HandlebarsEngineAdapter() {
+        this.maxCacheSize = Integer.parseInt(GlobalSettings.getProperty(CACHE_SIZE_PROPERTY, "500"));
+        this.cacheEnabled = Boolean.parseBoolean(GlobalSettings.getProperty(ENABLE_CACHE_PROPERTY, "true"));
+    }
+
     /**
      * Provides an identifier used to load the adapter. This could be a name, uuid, or any other string.
      *
@@ -55,32 +84,50 @@ public class HandlebarsEngineAdapter extends AbstractTemplatingEngineAdapter {
 
     public String compileTemplate(TemplatingGenerator generator,
                                   Map<String, Object> bundle, String templateFile) throws IOException {
-        TemplateLoader loader = new AbstractTemplateLoader() {
-            @Override
-            public TemplateSource sourceAt(String location) {
-                return findTemplate(generator, location);
-            }
-        };
+        Template tmpl = compile(generator, templateFile);
+        return tmpl.apply(contextOf(bundle));
+    }
+
+    @Override
+    public void compileTemplate(TemplatingGenerator generator, Map<String, Object> bundle,
+                                String templateFile, Writer writer) throws IOException {
+        Template tmpl = compile(generator, templateFile);
+        tmpl.apply(contextOf(bundle), writer);
+    }
 
-        Context context = Context
+    private Template compile(TemplatingGenerator generator, String templateFile) throws IOException {
+        long before = System.nanoTime();
+        // a template compiled already is taken from the template cache of the handlebars instance
+        Template tmpl = engineFor(generator).handlebars.compile(templateFile);
+        generator.templateCompiled(templateFile, System.nanoTime() - before);
+        return tmpl;
+    }
+
+    private Context contextOf(Map<String, Object> bundle) {
+        return Context
                 .newBuilder(bundle)
                 .resolver(
                         MapValueResolver.INSTANCE,
                         JavaBeanValueResolver.INSTANCE,
                         FieldValueResolver.INSTANCE)
                 .build();
+    }
 
-        Handlebars handlebars = new Handlebars(loader);
-        handlebars.registerHelperMissing((obj, options) -> {
-            LOGGER.warn(String.format(Locale.ROOT, "Unregistered helper name '%s', processing template:\n%s", options.helperName, options.fn.text()));
-            return "";
-        });
-        handlebars.registerHelper("json", Jackson2Helper.INSTANCE);
-        StringHelpers.register(handlebars);
-        handlebars.registerHelpers(ConditionalHelpers.class);
-        handlebars.registerHelpers(org.openapitools.codegen.templating.handlebars.StringHelpers.class);
-        Template tmpl = handlebars.compile(templateFile);
-        return tmpl.apply(context);
+    /**
+     * Templates are resolved by the generator (template directory, library...), so a configured {@link Handlebars}
+     * instance and its templates are only reused while rendering for the same generator, i.e. during one generation run.
+     */
+    private Engine engineFor(TemplatingGenerator generator) {
+        Engine current = engine;
+        if (current != null && current.generator == generator) {
+            return current;
+        }
+        synchronized (this) {
+            if (engine == null || engine.generator != generator) {
+                engine = new Engine(generator);
+            }
+            return engine;
+        }
     }
 
     public TemplateSource findTemplate(TemplatingGenerator generator, String templateFile) {
@@ -93,9 +140,61 @@ public class HandlebarsEngineAdapter extends AbstractTemplatingEngineAdapter {
         throw new RuntimeException("couldnt find a subtemplate " + templateFile);
     }
 
+    /**
+     * Discards all compiled templates and template sources held by this adapter.
+     * Subsequent calls re-read templates from the template directories.
+     */
+    public void clearTemplateCache() {
+        synchronized (this) {
+            engine = null;
+        }
+    }
+
     @Override
     public String[] getFileExtensions() {
         return extensions;
     }
-}
 
+    /**
+     * A {@link Handlebars} instance with its helpers registered, which is safe to share between rendering threads, and
+     * the templates it has loaded. Compiled templates (including partials) are cached by the handlebars instance itself,
+     * keyed by their source.
+     */
+    private final class Engine {
+        private final TemplatingGenerator generator;
+        private final Handlebars handlebars;
+
+        /**
+         * Template sources, keyed by template location as requested by templates and the generator.
+         */
+        private final Cache<String, TemplateSource> sources;
+
+        Engine(TemplatingGenerator generator) {
+            this.generator = generator;
+            this.sources = Caffeine.newBuilder().maximumSize(maxCacheSize).build();
+
+            TemplateLoader loader = new AbstractTemplateLoader() {
+                @Override
+                public TemplateSource sourceAt(String location) {
+                    if (!cacheEnabled) {
+                        return findTemplate(generator, location);
+                    }
+                    return sources.get(location, l -> findTemplate(generator, l));
+                }
+            };
+
+            handlebars = new Handlebars(loader);
+            if (cacheEnabled) {
+                handlebars.with(new ConcurrentMapTemplateCache());
+            }
+            handlebars.registerHelperMissing((obj, options) -> {
+                LOGGER.warn(String.format(Locale.ROOT, "Unregistered helper name '%s', processing template:\n%s", options.helperName, options.fn.text()));
+                return "";
+            });
+            handlebars.registerHelper("json", Jackson2Helper.INSTANCE);
+            StringHelpers.register(handlebars);
+            handlebars.registerHelpers(ConditionalHelpers.class);
+            handlebars.registerHelpers(org.openapitools.codegen.templating.handlebars.StringHelpers.class);
+        }
+    }
+}
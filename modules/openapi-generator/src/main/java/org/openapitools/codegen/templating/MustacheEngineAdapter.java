@@ -16,18 +16,31 @@
 
 package org.openapitools.codegen.templating;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.samskivert.mustache.Mustache;
 import com.samskivert.mustache.Template;
 import org.openapitools.codegen.api.TemplatingEngineAdapter;
 import org.openapitools.codegen.api.TemplatingGenerator;
+import org.openapitools.codegen.config.GlobalSettings;
 
 import java.io.IOException;
 import java.io.Reader;
 import java.io.StringReader;
+import java.io.Writer;
 import java.util.Map;
 
 
 public class MustacheEngineAdapter implements TemplatingEngineAdapter {
+    /**
+     * Allow advanced users to modify the number of compiled templates (and partial sources) held by the adapter.
+     */
+    static final String CACHE_SIZE_PROPERTY = "org.openapitools.codegen.templating.mustache.cachesize";
+
+    /**
+     * Allow advanced users to disable template caching, e.g. while iterating on templates in a long-running process.
+     */
+    static final String ENABLE_CACHE_PROPERTY = "org.openapitools.codegen.templating.mustache.cache.enabled";
 
     /**
      * Provides an identifier used to load the adapter. This could be a name, uuid, or any other string.
@@ -42,33 +55,92 @@ public class MustacheEngineAdapter implements TemplatingEngineAdapter {
     public String[] extensions = new String[]{"mustache"};
     Mustache.Compiler compiler = Mustache.compiler();
 
+    /**
+     * Compiled templates, keyed by the resolved template path (which already reflects templateDir and library overrides).
+     * Compiled templates hold on to the compiler and partial loader they were created with, so this cache is
+     * invalidated whenever the compiler changes (i.e. once per generation run, see {@link #setCompiler(Mustache.Compiler)}).
+     */
+    private final Cache<String, Template> templateCache;
+
+    /**
+     * Partial template sources, keyed by resolved template path.
+     */
+    private final Cache<String, String> partialCache;
+
+    private final boolean cacheEnabled;
+
+    public MustacheEngineAdapter() {
+        int maxCacheSize = Integer.parseInt(GlobalSettings.getProperty(CACHE_SIZE_PROPERTY, "500"));
+        this.cacheEnabled = Boolean.parseBoolean(GlobalSettings.getProperty(ENABLE_CACHE_PROPERTY, "true"));
+        this.templateCache = Caffeine.newBuilder().maximumSize(maxCacheSize).build();
+        this.partialCache = Caffeine.newBuilder().maximumSize(maxCacheSize).build();
+    }
+
     @Override
     public String compileTemplate(TemplatingGenerator generator, Map<String, Object> bundle,
                                   String templateFile) throws IOException {
-        Template tmpl = compiler
+        return getTemplate(generator, templateFile).execute(bundle);
+    }
+
+    @Override
+    public void compileTemplate(TemplatingGenerator generator, Map<String, Object> bundle,
+                                String templateFile, Writer writer) throws IOException {
+        getTemplate(generator, templateFile).execute(bundle, writer);
+    }
+
+    private Template getTemplate(TemplatingGenerator generator, String templateFile) {
+        if (cacheEnabled) {
+            String key = generator.getFullTemplatePath(templateFile).toString();
+            return templateCache.get(key, k -> compile(generator, templateFile));
+        }
+        return compile(generator, templateFile);
+    }
+
+    private Template compile(TemplatingGenerator generator, String templateFile) {
+        long before = System.nanoTime();
+        Template template = compiler
                 .withLoader(name -> findTemplate(generator, name))
                 .defaultValue("")
                 .compile(generator.getFullTemplateContents(templateFile));
-
-        return tmpl.execute(bundle);
+        generator.templateCompiled(templateFile, System.nanoTime() - before);
+        return template;
     }
 
     public Reader findTemplate(TemplatingGenerator generator, String name) {
         for (String extension : extensions) {
             try {
-                return new StringReader(generator.getFullTemplateContents(name + "." + extension));
+                return new StringReader(readPartial(generator, name + "." + extension));
             } catch (Exception ignored) {
             }
         }
         throw new RuntimeException("couldnt find a subtemplate " + name);
     }
 
+    private String readPartial(TemplatingGenerator generator, String templateFile) {
+        if (!cacheEnabled) {
+            return generator.getFullTemplateContents(templateFile);
+        }
+        String key = generator.getFullTemplatePath(templateFile).toString();
+        return partialCache.get(key, k -> generator.getFullTemplateContents(templateFile));
+    }
+
+    /**
+     * Discards all compiled templates and partial sources held by this adapter.
+     * Subsequent calls re-read templates from the template directories.
+     */
+    public void clearTemplateCache() {
+        templateCache.invalidateAll();
+        partialCache.invalidateAll();
+    }
+
     public Mustache.Compiler getCompiler() {
         return compiler;
     }
 
     public void setCompiler(Mustache.Compiler compiler) {
         this.compiler = compiler;
+        // templates compiled by the previous compiler (and its loader) must not be reused
+        clearTemplateCache();
     }
 
     @Override
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ * Copyright 2018 SmartBear Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.utils;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.Schema;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Inheritance hierarchy of the component schemas of an OpenAPI document.
+ * <p>
+ * Parents are resolved once per composed schema with {@link ModelUtils#getParentName(ComposedSchema, Map)} and
+ * {@link ModelUtils#getAllParentsName(ComposedSchema, Map, boolean)}; ancestors, children and descendants are then
+ * derived from them, so that looking up the subtypes of a schema does not walk every schema of the document again.
+ * Lists follow the order of the component schemas. The index is not modified once built, apart from memoized
+ * discriminator lookups, and can be shared between threads.
+ */
+final class InheritanceIndex {
+    private final Map<String, Schema> schemas;
+    private final Map<Schema, String> names = new IdentityHashMap<>();
+
+    private final Map<String, String> parent = new HashMap<>();
+    private final Map<String, List<String>> parents = new HashMap<>();
+    private final Map<String, List<String>> ancestors = new HashMap<>();
+    private final Map<String, List<String>> children = new LinkedHashMap<>();
+    private final Map<String, List<String>> descendants = new HashMap<>();
+    private final Map<String, Boolean> discriminatorOwners = new ConcurrentHashMap<>();
+
+    // used to detect whether component schemas were replaced, added or removed since the index was built
+    private final int schemasCount;
+
+    InheritanceIndex(OpenAPI openAPI) {
+        this.schemas = ModelUtils.getSchemas(openAPI);
+        this.schemasCount = schemas.size();
+
+        for (Entry<String, Schema> entry : schemas.entrySet()) {
+            if (entry.getValue() == null) {
+                continue;
+            }
+            names.putIfAbsent(entry.getValue(), entry.getKey());
+            if (ModelUtils.isComposedSchema(entry.getValue())) {
+                ComposedSchema composed = (ComposedSchema) entry.getValue();
+                String parentName = ModelUtils.getParentName(composed, schemas);
+                parent.put(entry.getKey(), parentName);
+                parents.put(entry.getKey(), Collections.unmodifiableList(ModelUtils.getAllParentsName(composed, schemas, false)));
+                if (parentName != null) {
+                    children.computeIfAbsent(parentName, k -> new ArrayList<>()).add(entry.getKey());
+                }
+            }
+        }
+
+        for (String name : parents.keySet()) {
+            ancestors(name, new HashSet<>());
+        }
+        for (String name : schemas.keySet()) {
+            for (String ancestor : ancestors.getOrDefault(name, Collections.emptyList())) {
+                List<String> subtypes = descendants.computeIfAbsent(ancestor, k -> new ArrayList<>());
+                // an ancestor may be reached through several parents
+                if (subtypes.isEmpty() || !subtypes.get(subtypes.size() - 1).equals(name)) {
+                    subtypes.add(name);
+                }
+            }
+        }
+    }
+
+    boolean isCurrent(OpenAPI openAPI) {
+        Map<String, Schema> current = ModelUtils.getSchemas(openAPI);
+        return current == schemas && current.size() == schemasCount;
+    }
+
+    /**
+     * @param schema a schema
+     * @return the name of the component schema, or null if the schema is not one of the component schemas
+     */
+    String nameOf(Schema schema) {
+        return names.get(schema);
+    }
+
+    /**
+     * @param name name of a composed component schema
+     * @return same as {@link ModelUtils#getParentName(ComposedSchema, Map)}
+     */
+    String getParent(String name) {
+        return parent.get(name);
+    }
+
+    /**
+     * @param name name of a composed component schema
+     * @return same as {@link ModelUtils#getAllParentsName(ComposedSchema, Map, boolean)} without ancestors
+     */
+    List<String> getParents(String name) {
+        return parents.getOrDefault(name, Collections.emptyList());
+    }
+
+    /**
+     * @param name name of a composed component schema
+     * @return same as {@link ModelUtils#getAllParentsName(ComposedSchema, Map, boolean)} with ancestors
+     */
+    List<String> getAncestors(String name) {
+        return ancestors.getOrDefault(name, Collections.emptyList());
+    }
+
+    /**
+     * @return the composed schemas per parent name, as resolved by {@link #getParent(String)}
+     */
+    Map<String, List<String>> getChildren() {
+        return Collections.unmodifiableMap(children);
+    }
+
+    /**
+     * @param name name of a component schema
+     * @return the composed schemas having the schema among their ancestors
+     */
+    List<String> getDescendants(String name) {
+        return Collections.unmodifiableList(descendants.getOrDefault(name, Collections.emptyList()));
+    }
+
+    /**
+     * @param name name of a component schema
+     * @return whether the schema declares a discriminator, or inherits one through references or composition
+     */
+    boolean hasOrInheritsDiscriminator(String name) {
+        Schema schema = schemas.get(name);
+        return schema != null && discriminatorOwners.computeIfAbsent(name, k -> ModelUtils.hasOrInheritsDiscriminator(schema, schemas));
+    }
+
+    /**
+     * Ancestors are the direct parents, each followed by its own ancestors when it is a composed schema whose
+     * discriminator makes it a parent. A parent only kept as the single parent without discriminator is not walked.
+     */
+    private List<String> ancestors(String name, Set<String> visiting) {
+        List<String> known = ancestors.get(name);
+        if (known != null) {
+            return known;
+        }
+        List<String> direct = parents.get(name);
+        if (direct == null) {
+            return Collections.emptyList();
+        }
+        if (!visiting.add(name)) {
+            // inheritance cycle: stop here rather than walking it forever
+            return Collections.emptyList();
+        }
+        List<String> result = new ArrayList<>();
+        for (String parentName : direct) {
+            result.add(parentName);
+            if (parents.containsKey(parentName) && hasOrInheritsDiscriminator(parentName)) {
+                result.addAll(ancestors(parentName, visiting));
+            }
+        }
+        visiting.remove(name);
+        List<String> unmodifiable = Collections.unmodifiableList(result);
+        ancestors.put(name, unmodifiable);
+        return unmodifiable;
+    }
+}
@@ -41,9 +41,10 @@ import com.fasterxml.jackson.databind.node.JsonNodeType;
  * within the tree (thus converting the tree to a <i>graph</i>), in which case the same object may be retrieved using
  * any of the corresponding paths. However, this shared object becomes multiple independent objects when serialised to
  * JSON and if subsequently loaded into a cache instance. Such graphs <b>must</b> be acyclic: storing a cyclic graph in
- * the tree will cause a stack overflow when the cache is saved. Instances are not guaranteed threadsafe and require
- * external synchronisation if mutator methods may be called concurrently from multiple threads. Sparse arrays are not
- * supported - all array elements have a value, even if it is null.
+ * the tree will cause a stack overflow when the cache is saved. A cache root and its children may be used concurrently
+ * from multiple threads: queries can run in parallel, whereas mutations, loads and saves are exclusive. Sequences of
+ * calls are not atomic, and container nodes returned by <code>get()</code> methods must not be accessed while other
+ * threads mutate the cache. Sparse arrays are not supported - all array elements have a value, even if it is null.
  * <p>
  * <em>N.B. some <code>getXxx()</code> methods can return mutable objects, mutations to which will be unobserved by the
  * cache instance, thus compromising the reliability of the <code>flush*()</code> methods. Callers relying on these
@@ -80,7 +81,8 @@ public interface JsonCache {
         Factory instance = JsonCacheImpl.FactoryImpl.instance;
 
         /**
-         * Returns a new cache root instance.
+         * Returns a new cache root instance. Code generators must use their own roots, so that generation runs in
+         * the same process (e.g. in a batch or a service) do not share cached data.
          *
          * @return A new instance.
          */
@@ -88,7 +90,8 @@ public interface JsonCache {
 
         /**
          * Returns the singleton cache root instance for the specified key. The same instance is returned every time the
-         * method is called with the same <code>key</code> value, being lazily created on the first such call.
+         * method is called with the same <code>key</code> value, being lazily created on the first such call. These
+         * instances are shared by the whole process.
          *
          * @param key The instance key.
          * @return The singleton instance for <code>key</code>.
@@ -189,12 +192,35 @@ public interface JsonCache {
         MergePolicy getMergePolicy();
 
         /**
-         * Indicates whether the cached has unsaved changes.
+         * Indicates whether the cached has unsaved changes. Setting a value equal to the existing one is not a change.
          *
          * @return <code>true</code> if there are unsaved changes.
          */
         boolean isDirty();
 
+        /**
+         * Indicates whether the sub-tree at the specified location has unsaved changes, including changes to its
+         * ancestors which replaced or removed it. The default implementation reports whether the cache has unsaved
+         * changes anywhere.
+         *
+         * @param ptr A pointer to the sub-tree.
+         * @return <code>true</code> if there are unsaved changes.
+         */
+        default boolean isDirty(JsonPointer ptr) {
+            return isDirty();
+        }
+
+        /**
+         * Indicates whether the sub-tree at the specified location has unsaved changes, including changes to its
+         * ancestors which replaced or removed it.
+         *
+         * @param path A JSON Pointer path to the sub-tree.
+         * @return <code>true</code> if there are unsaved changes.
+         */
+        default boolean isDirty(String path) {
+            return isDirty(JsonPointer.compile(path));
+        }
+
         /**
          * Loads the cache from the specified file. If the cache is already loaded, merges the incoming tree according
          * to the current {@link #mergePolicy(MergePolicy) merge policy}. The call has no effect if the file does not
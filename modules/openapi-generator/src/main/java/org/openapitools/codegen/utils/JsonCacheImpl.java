@@ -34,13 +34,22 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.NavigableSet;
 import java.util.Objects;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.regex.Pattern;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -54,6 +63,11 @@ import com.fasterxml.jackson.databind.node.POJONode;
 
 /**
  * A cache implementation for loading, querying, mutating and saving a JSON object graph.
+ * <p>
+ * Access to the tree is guarded by a read-write lock owned by the root, which child caches go through: queries may run
+ * concurrently, mutations, loads and saves are exclusive. Files are read and written token by token, merging an
+ * incoming file into a loaded tree only reads the parts of it which are actually merged, and modifications are recorded
+ * per pointer so that {@link #flush(File)} only writes a tree which was changed.
  *
  * @author Adrian Price, TIBCO Software Inc.
  * @since 4.0.0
@@ -692,10 +706,16 @@ class JsonCacheImpl implements JsonCache.Root {
 
     protected static final Logger LOGGER = LoggerFactory.getLogger(JsonCacheImpl.class);
 
-    protected boolean isDirty;
+    /**
+     * Pointers at which the tree was modified since it was loaded or saved. Pointers below one of them are not recorded,
+     * see {@link #setDirty(String)}.
+     */
+    protected final NavigableSet<String> dirtyPaths = new TreeSet<>();
 
     protected boolean isLoaded;
 
+    protected final ReadWriteLock lock = new ReentrantReadWriteLock();
+
     protected ObjectMapper mapper;
 
     protected MergePolicy mergePolicy = MergePolicy.MERGE_RECURSIVE;
@@ -741,30 +761,35 @@ class JsonCacheImpl implements JsonCache.Root {
     }
 
     protected JsonCache add(JsonPointer ptr, JsonNode node) {
-        // If ptr ends with an array index, this implies inserting at the specified index.
-        // If ptr does not end with an array index, this implies appending to the end of the array.
-        // In both cases the array in question and its ancestors must be created if they do not already exist.
-        String lastProperty = ptr.last().getMatchingProperty();
-        boolean isIndexed = isInteger(lastProperty);
-        ContainerNode<?> container = ensureContainerExists(ptr, !isIndexed);
-        switch (container.getNodeType()) {
-            case ARRAY:
-                ArrayNode array = (ArrayNode) container;
-                int index = isIndexed ? Integer.parseInt(lastProperty) : array.size();
-                if (index < array.size()) {
-                    array.insert(index, node);
-                } else {
-                    // Fill any gap between current size and index with nulls (Jackson doesn't support sparse arrays).
-                    for (int i = array.size(); i < index; i++)
-                        array.add(array.nullNode());
-                    array.add(node);
-                }
-                break;
-            default:
-                throw new IllegalArgumentException(ptr + " does not identify an array");
+        lock.writeLock().lock();
+        try {
+            // If ptr ends with an array index, this implies inserting at the specified index.
+            // If ptr does not end with an array index, this implies appending to the end of the array.
+            // In both cases the array in question and its ancestors must be created if they do not already exist.
+            String lastProperty = ptr.last().getMatchingProperty();
+            boolean isIndexed = isInteger(lastProperty);
+            ContainerNode<?> container = ensureContainerExists(ptr, !isIndexed);
+            switch (container.getNodeType()) {
+                case ARRAY:
+                    ArrayNode array = (ArrayNode) container;
+                    int index = isIndexed ? Integer.parseInt(lastProperty) : array.size();
+                    if (index < array.size()) {
+                        array.insert(index, node);
+                    } else {
+                        // Fill any gap between current size and index with nulls (Jackson doesn't support sparse arrays).
+                        for (int i = array.size(); i < index; i++)
+                            array.add(array.nullNode());
+                        array.add(node);
+                    }
+                    break;
+                default:
+                    throw new IllegalArgumentException(ptr + " does not identify an array");
+            }
+            setDirty(isIndexed ? ptr.head() : ptr);
+            return this;
+        } finally {
+            lock.writeLock().unlock();
         }
-        setDirty();
-        return this;
     }
 
     @Override
@@ -839,20 +864,30 @@ class JsonCacheImpl implements JsonCache.Root {
 
     @Override
     public void delete(JsonPointer ptr) {
-        JsonPointer head = ptr.head();
-        if (head == null) {
-            root = null;
-        } else if (root != null) {
-            JsonNode parent = root.at(head);
-            if (parent.isArray()) {
-                ((ArrayNode) parent).remove(Integer.parseInt(ptr.last().getMatchingProperty()));
-            } else if (parent.isObject()) {
-                ((ObjectNode) parent).remove(ptr.last().getMatchingProperty());
-            } else {
-                throw new IllegalArgumentException(ptr + " does not identify a deletable node");
+        lock.writeLock().lock();
+        try {
+            JsonPointer head = ptr.head();
+            if (head == null) {
+                if (root != null) {
+                    root = null;
+                    setDirty(ptr);
+                }
+            } else if (root != null) {
+                JsonNode parent = root.at(head);
+                if (parent.isArray()) {
+                    // removing an element shifts the next ones
+                    if (((ArrayNode) parent).remove(Integer.parseInt(ptr.last().getMatchingProperty())) != null)
+                        setDirty(head);
+                } else if (parent.isObject()) {
+                    if (((ObjectNode) parent).remove(ptr.last().getMatchingProperty()) != null)
+                        setDirty(ptr);
+                } else {
+                    throw new IllegalArgumentException(ptr + " does not identify a deletable node");
+                }
             }
+        } finally {
+            lock.writeLock().unlock();
         }
-        setDirty();
     }
 
     @Override
@@ -882,6 +917,7 @@ class JsonCacheImpl implements JsonCache.Root {
             root = isInteger(ptr.getMatchingProperty()) // split
                     ? JsonNodeFactory.instance.arrayNode()
                     : JsonNodeFactory.instance.objectNode();
+            setDirty(ptr);
         }
         String lastProperty = ptr.last().getMatchingProperty();
         Deque<String> stack = new ArrayDeque<>();
@@ -931,7 +967,7 @@ class JsonCacheImpl implements JsonCache.Root {
                         throw new IllegalArgumentException(ancestorProperty + " does not identify an array node");
                 }
             }
-            setDirty();
+            setDirty(ptr);
         }
 
         return (ContainerNode<?>) ancestor;
@@ -939,7 +975,12 @@ class JsonCacheImpl implements JsonCache.Root {
 
     @Override
     public boolean exists(JsonPointer ptr) {
-        return root != null && !root.at(ptr).isMissingNode();
+        lock.readLock().lock();
+        try {
+            return root != null && !root.at(ptr).isMissingNode();
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     @Override
@@ -949,15 +990,25 @@ class JsonCacheImpl implements JsonCache.Root {
 
     @Override
     public Root flush(File file) throws CacheException {
-        if (isDirty)
-            save(file);
+        lock.writeLock().lock();
+        try {
+            if (!dirtyPaths.isEmpty())
+                save(file);
+        } finally {
+            lock.writeLock().unlock();
+        }
         return this;
     }
 
     @Override
     public Root flush(OutputStream out) throws CacheException {
-        if (isDirty)
-            save(out);
+        lock.writeLock().lock();
+        try {
+            if (!dirtyPaths.isEmpty())
+                save(out);
+        } finally {
+            lock.writeLock().unlock();
+        }
         return this;
     }
 
@@ -999,54 +1050,55 @@ class JsonCacheImpl implements JsonCache.Root {
 
     @Override
     public Object get(JsonPointer ptr) throws CacheException {
-        Object result;
-        if (root == null) {
-            result = null;
-        } else {
-            try {
-                JsonNode node = root.at(ptr);
-                switch (node.getNodeType()) {
-                    case ARRAY:
-                    case OBJECT:
-                        result = node;
-                        break;
-                    case BINARY:
-                        result = node.binaryValue();
-                        break;
-                    case BOOLEAN:
-                        result = node.booleanValue();
-                        break;
-                    case NUMBER:
-                        result = node.numberValue();
-                        break;
-                    case POJO:
-                        result = ((POJONode) node).getPojo();
-                        break;
-                    case STRING:
-                        result = node.textValue();
-                        break;
-                    default:
-                        result = null;
-                        break;
+        lock.readLock().lock();
+        try {
+            Object result;
+            if (root == null) {
+                result = null;
+            } else {
+                try {
+                    JsonNode node = root.at(ptr);
+                    switch (node.getNodeType()) {
+                        case ARRAY:
+                        case OBJECT:
+                            result = node;
+                            break;
+                        case BINARY:
+                            result = node.binaryValue();
+                            break;
+                        case BOOLEAN:
+                            result = node.booleanValue();
+                            break;
+                        case NUMBER:
+                            result = node.numberValue();
+                            break;
+                        case POJO:
+                            result = ((POJONode) node).getPojo();
+                            break;
+                        case STRING:
+                            result = node.textValue();
+                            break;
+                        default:
+                            result = null;
+                            break;
+                    }
+                } catch (IOException e) {
+                    throw new CacheException(e);
                 }
-            } catch (IOException e) {
-                throw new CacheException(e);
             }
+            return result;
+        } finally {
+            lock.readLock().unlock();
         }
-        return result;
     }
 
     @Override
     public Object get(JsonPointer ptr, Object defaultValue) throws CacheException {
         Objects.requireNonNull(defaultValue, "defaultValue is required");
-        Object result;
-        if (exists(ptr)) {
-            result = get(ptr);
-        } else {
+        return getOrSetDefault(ptr, () -> get(ptr), () -> {
             set(ptr, defaultValue);
-            result = defaultValue;
-        }
-        return result;
+            return defaultValue;
+        });
     }
 
     @Override
@@ -1061,20 +1113,21 @@ class JsonCacheImpl implements JsonCache.Root {
 
     @Override
     public BigDecimal getBigDecimal(JsonPointer ptr) {
-        return root == null ? null : root.at(ptr).decimalValue();
+        lock.readLock().lock();
+        try {
+            return root == null ? null : root.at(ptr).decimalValue();
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     @Override
     public BigDecimal getBigDecimal(JsonPointer ptr, BigDecimal defaultValue) throws CacheException {
         Objects.requireNonNull(defaultValue, "defaultValue is required");
-        BigDecimal result;
-        if (exists(ptr)) {
-            result = getBigDecimal(ptr);
-        } else {
+        return getOrSetDefault(ptr, () -> getBigDecimal(ptr), () -> {
             set(ptr, defaultValue);
-            result = defaultValue;
-        }
-        return result;
+            return defaultValue;
+        });
     }
 
     @Override
@@ -1090,20 +1143,21 @@ class JsonCacheImpl implements JsonCache.Root {
 
     @Override
     public BigInteger getBigInteger(JsonPointer ptr) {
-        return root == null ? null : root.at(ptr).bigIntegerValue();
+        lock.readLock().lock();
+        try {
+            return root == null ? null : root.at(ptr).bigIntegerValue();
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     @Override
     public BigInteger getBigInteger(JsonPointer ptr, BigInteger defaultValue) throws CacheException {
         Objects.requireNonNull(defaultValue, "defaultValue is required");
-        BigInteger result;
-        if (exists(ptr)) {
-            result = getBigInteger(ptr);
-        } else {
+        return getOrSetDefault(ptr, () -> getBigInteger(ptr), () -> {
             set(ptr, defaultValue);
-            result = defaultValue;
-        }
-        return result;
+            return defaultValue;
+        });
     }
 
     @Override
@@ -1118,24 +1172,25 @@ class JsonCacheImpl implements JsonCache.Root {
 
     @Override
     public byte[] getBinary(JsonPointer ptr) throws CacheException {
+        lock.readLock().lock();
         try {
-            return root == null ? null : root.at(ptr).binaryValue();
-        } catch (IOException e) {
-            throw new CacheException(e);
+            try {
+                return root == null ? null : root.at(ptr).binaryValue();
+            } catch (IOException e) {
+                throw new CacheException(e);
+            }
+        } finally {
+            lock.readLock().unlock();
         }
     }
 
     @Override
     public byte[] getBinary(JsonPointer ptr, byte[] defaultValue) throws CacheException {
         Objects.requireNonNull(defaultValue, "defaultValue is required");
-        byte[] result;
-        if (exists(ptr)) {
-            result = getBinary(ptr);
-        } else {
+        return getOrSetDefault(ptr, () -> getBinary(ptr), () -> {
             set(ptr, defaultValue);
-            result = defaultValue;
-        }
-        return result;
+            return defaultValue;
+        });
     }
 
     @Override
@@ -1150,19 +1205,20 @@ class JsonCacheImpl implements JsonCache.Root {
 
     @Override
     public boolean getBoolean(JsonPointer ptr) {
-        return root != null && root.at(ptr).booleanValue();
+        lock.readLock().lock();
+        try {
+            return root != null && root.at(ptr).booleanValue();
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     @Override
     public boolean getBoolean(JsonPointer ptr, boolean defaultValue) throws CacheException {
-        boolean result;
-        if (exists(ptr)) {
-            result = getBoolean(ptr);
-        } else {
+        return getOrSetDefault(ptr, () -> getBoolean(ptr), () -> {
             set(ptr, defaultValue);
-            result = defaultValue;
-        }
-        return result;
+            return defaultValue;
+        });
     }
 
     @Override
@@ -1177,20 +1233,21 @@ class JsonCacheImpl implements JsonCache.Root {
 
     @Override
     public double getDouble(JsonPointer ptr) {
-        return root == null ? 0.0D : root.at(ptr).doubleValue();
+        lock.readLock().lock();
+        try {
+            return root == null ? 0.0D : root.at(ptr).doubleValue();
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     @Override
     public double getDouble(JsonPointer ptr, double defaultValue) throws CacheException {
         Objects.requireNonNull(defaultValue, "defaultValue is required");
-        double result;
-        if (exists(ptr)) {
-            result = getDouble(ptr);
-        } else {
+        return getOrSetDefault(ptr, () -> getDouble(ptr), () -> {
             set(ptr, defaultValue);
-            result = defaultValue;
-        }
-        return result;
+            return defaultValue;
+        });
     }
 
     @Override
@@ -1205,19 +1262,20 @@ class JsonCacheImpl implements JsonCache.Root {
 
     @Override
     public float getFloat(JsonPointer ptr) {
-        return root == null ? 0.0F : root.at(ptr).floatValue();
+        lock.readLock().lock();
+        try {
+            return root == null ? 0.0F : root.at(ptr).floatValue();
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     @Override
     public float getFloat(JsonPointer ptr, float defaultValue) throws CacheException {
-        float result;
-        if (exists(ptr)) {
-            result = getFloat(ptr);
-        } else {
+        return getOrSetDefault(ptr, () -> getFloat(ptr), () -> {
             set(ptr, defaultValue);
-            result = defaultValue;
-        }
-        return result;
+            return defaultValue;
+        });
     }
 
     @Override
@@ -1232,19 +1290,20 @@ class JsonCacheImpl implements JsonCache.Root {
 
     @Override
     public int getInt(JsonPointer ptr) {
-        return root == null ? 0 : root.at(ptr).intValue();
+        lock.readLock().lock();
+        try {
+            return root == null ? 0 : root.at(ptr).intValue();
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     @Override
     public int getInt(JsonPointer ptr, int defaultValue) throws CacheException {
-        int result;
-        if (exists(ptr)) {
-            result = getInt(ptr);
-        } else {
+        return getOrSetDefault(ptr, () -> getInt(ptr), () -> {
             set(ptr, defaultValue);
-            result = defaultValue;
-        }
-        return result;
+            return defaultValue;
+        });
     }
 
     @Override
@@ -1259,19 +1318,20 @@ class JsonCacheImpl implements JsonCache.Root {
 
     @Override
     public long getLong(JsonPointer ptr) {
-        return root == null ? 0L : root.at(ptr).longValue();
+        lock.readLock().lock();
+        try {
+            return root == null ? 0L : root.at(ptr).longValue();
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     @Override
     public long getLong(JsonPointer ptr, long defaultValue) throws CacheException {
-        long result;
-        if (exists(ptr)) {
-            result = getLong(ptr);
-        } else {
+        return getOrSetDefault(ptr, () -> getLong(ptr), () -> {
             set(ptr, defaultValue);
-            result = defaultValue;
-        }
-        return result;
+            return defaultValue;
+        });
     }
 
     @Override
@@ -1296,7 +1356,12 @@ class JsonCacheImpl implements JsonCache.Root {
 
     @Override
     public JsonNodeType getNodeType(JsonPointer ptr) {
-        return root.at(ptr).getNodeType();
+        lock.readLock().lock();
+        try {
+            return root == null ? JsonNodeType.MISSING : root.at(ptr).getNodeType();
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     @Override
@@ -1330,20 +1395,21 @@ class JsonCacheImpl implements JsonCache.Root {
 
     @Override
     public Number getNumber(JsonPointer ptr) {
-        return root == null ? null : root.at(ptr).numberValue();
+        lock.readLock().lock();
+        try {
+            return root == null ? null : root.at(ptr).numberValue();
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     @Override
     public Number getNumber(JsonPointer ptr, Number defaultValue) throws CacheException {
         Objects.requireNonNull(defaultValue, "defaultValue is required");
-        Number result;
-        if (exists(ptr)) {
-            result = getNumber(ptr);
-        } else {
+        return getOrSetDefault(ptr, () -> getNumber(ptr), () -> {
             set(ptr, defaultValue);
-            result = defaultValue;
-        }
-        return result;
+            return defaultValue;
+        });
     }
 
     @Override
@@ -1358,33 +1424,34 @@ class JsonCacheImpl implements JsonCache.Root {
 
     @Override
     public <T> T getObject(JsonPointer ptr, Class<T> type) throws CacheException {
-        T result;
-        if (root == null) {
-            result = null;
-        } else {
-            JsonNode node = root.at(ptr);
-            Object value = node.isPojo() && !JsonNode.class.isAssignableFrom(type) ? ((POJONode) node).getPojo() : node;
-            if ((value != null) && (value.getClass() == type)) {
-                result = (T) value;
+        lock.readLock().lock();
+        try {
+            T result;
+            if (root == null) {
+                result = null;
             } else {
-                result = mapper.convertValue(value, type);
+                JsonNode node = root.at(ptr);
+                Object value = node.isPojo() && !JsonNode.class.isAssignableFrom(type) ? ((POJONode) node).getPojo() : node;
+                if ((value != null) && (value.getClass() == type)) {
+                    result = (T) value;
+                } else {
+                    result = mapper.convertValue(value, type);
+                }
             }
+            return result;
+        } finally {
+            lock.readLock().unlock();
         }
-        return result;
     }
 
     @Override
     @SuppressWarnings("unchecked")
     public <T> T getObject(JsonPointer ptr, T defaultValue) throws CacheException {
         Objects.requireNonNull(defaultValue, "defaultValue is required");
-        T result;
-        if (exists(ptr)) {
-            result = (T) getObject(ptr, defaultValue.getClass());
-        } else {
+        return getOrSetDefault(ptr, () -> (T) getObject(ptr, defaultValue.getClass()), () -> {
             set(ptr, defaultValue);
-            result = defaultValue;
-        }
-        return result;
+            return defaultValue;
+        });
     }
 
     @Override
@@ -1399,40 +1466,41 @@ class JsonCacheImpl implements JsonCache.Root {
 
     @Override
     public <T> List<T> getObjects(JsonPointer ptr, Class<T> type) throws CacheException {
-        List<T> result;
+        lock.readLock().lock();
+        try {
+            List<T> result;
 
-        if (root == null) {
-            result = null;
-        } else {
-            JsonNode node = root.at(ptr);
-            switch (node.getNodeType()) {
-                case ARRAY:
-                case OBJECT:
-                    result = new ArrayList<T>(node.size());
-                    Iterator<JsonNode> elements = node.elements();
-                    while (elements.hasNext())
-                        result.add(mapper.convertValue(elements.next(), type));
-                    break;
-                default:
-                    result = Collections.emptyList();
-                    break;
+            if (root == null) {
+                result = null;
+            } else {
+                JsonNode node = root.at(ptr);
+                switch (node.getNodeType()) {
+                    case ARRAY:
+                    case OBJECT:
+                        result = new ArrayList<T>(node.size());
+                        Iterator<JsonNode> elements = node.elements();
+                        while (elements.hasNext())
+                            result.add(mapper.convertValue(elements.next(), type));
+                        break;
+                    default:
+                        result = Collections.emptyList();
+                        break;
+                }
             }
-        }
 
-        return result;
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     @Override
     public <T> List<T> getObjects(JsonPointer ptr, Class<T> type, List<T> defaultValue) throws CacheException {
         Objects.requireNonNull(defaultValue, "defaultValue is required");
-        List<T> result;
-        if (exists(ptr)) {
-            result = getObjects(ptr, type);
-        } else {
+        return getOrSetDefault(ptr, () -> getObjects(ptr, type), () -> {
             set(ptr, defaultValue);
-            result = defaultValue;
-        }
-        return result;
+            return defaultValue;
+        });
     }
 
     @Override
@@ -1447,19 +1515,20 @@ class JsonCacheImpl implements JsonCache.Root {
 
     @Override
     public short getShort(JsonPointer ptr) {
-        return root == null ? (short) 0 : root.at(ptr).shortValue();
+        lock.readLock().lock();
+        try {
+            return root == null ? (short) 0 : root.at(ptr).shortValue();
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     @Override
     public short getShort(JsonPointer ptr, short defaultValue) {
-        short result;
-        if (exists(ptr)) {
-            result = getShort(ptr);
-        } else {
+        return getOrSetDefault(ptr, () -> getShort(ptr), () -> {
             set(ptr, defaultValue);
-            result = defaultValue;
-        }
-        return result;
+            return defaultValue;
+        });
     }
 
     @Override
@@ -1474,20 +1543,21 @@ class JsonCacheImpl implements JsonCache.Root {
 
     @Override
     public String getString(JsonPointer ptr) {
-        return root == null ? null : root.at(ptr).textValue();
+        lock.readLock().lock();
+        try {
+            return root == null ? null : root.at(ptr).textValue();
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     @Override
     public String getString(JsonPointer ptr, String defaultValue) {
         Objects.requireNonNull(defaultValue, "defaultValue is required");
-        String result;
-        if (exists(ptr)) {
-            result = getString(ptr);
-        } else {
+        return getOrSetDefault(ptr, () -> getString(ptr), () -> {
             set(ptr, defaultValue);
-            result = defaultValue;
-        }
-        return result;
+            return defaultValue;
+        });
     }
 
     @Override
@@ -1523,13 +1593,90 @@ class JsonCacheImpl implements JsonCache.Root {
 
     @Override
     public boolean isDirty() {
-        return isDirty;
+        lock.readLock().lock();
+        try {
+            return !dirtyPaths.isEmpty();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean isDirty(JsonPointer ptr) {
+        String path = ptr.toString();
+        lock.readLock().lock();
+        try {
+            // a modification at the node or at one of its ancestors, or below the node
+            return hasSameOrAncestor(path) || !descendants(path).isEmpty();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @param path A pointer.
+     * @return Whether the pointer, or one of its ancestors, is dirty: one lookup per segment.
+     */
+    private boolean hasSameOrAncestor(String path) {
+        if (dirtyPaths.contains(path))
+            return true;
+        // segments are separated by '/', which is escaped within property names
+        for (int i = path.indexOf('/'); i >= 0; i = path.indexOf('/', i + 1)) {
+            if (dirtyPaths.contains(path.substring(0, i)))
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * @param path A pointer.
+     * @return The dirty pointers below it, which sort between its children ('/' is followed by '0').
+     */
+    private SortedSet<String> descendants(String path) {
+        return dirtyPaths.subSet(path + '/', path + '0');
     }
 
     protected boolean isInteger(String s) {
         return INTEGER.matcher(s).matches();
     }
 
+    /**
+     * An access to a node of the tree.
+     *
+     * @param <T> The type of the value.
+     * @param <E> The type of the exception thrown by the access.
+     */
+    @FunctionalInterface
+    protected interface Access<T, E extends Exception> {
+        T get() throws E;
+    }
+
+    /**
+     * Reads a node, or sets it to a default value if it doesn't exist. The write lock is only taken in the latter case,
+     * so that reading existing values doesn't serialize the readers.
+     *
+     * @param ptr        A <a href="https://tools.ietf.org/html/rfc6901">JSON Pointer</a> to the node.
+     * @param getter     Reads the node.
+     * @param setDefault Sets the node to the default value, and returns it.
+     * @return The value of the node.
+     */
+    protected <T, E extends Exception> T getOrSetDefault(JsonPointer ptr, Access<T, E> getter, Access<T, E> setDefault) throws E {
+        lock.readLock().lock();
+        try {
+            if (exists(ptr))
+                return getter.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+        lock.writeLock().lock();
+        try {
+            // the node may have been set since the read lock was released
+            return exists(ptr) ? getter.get() : setDefault.get();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
     @Override
     public Root load(File file) throws CacheException {
         Objects.requireNonNull(file, "file is required");
@@ -1546,25 +1693,37 @@ class JsonCacheImpl implements JsonCache.Root {
     @Override
     public Root load(InputStream in) throws CacheException {
         Objects.requireNonNull(in, "in is required");
-        try (InputStream is = in) {
+        lock.writeLock().lock();
+        try (InputStream is = in; JsonParser parser = mapper.getFactory().createParser(is)) {
             if (isLoaded) {
-                if (mergePolicy != MergePolicy.NO_MERGE) {
-                    ContainerNode<?> tree = (ContainerNode<?>) mapper.readTree(in);
-
-                    // The cache is already loaded, so merge the incoming object tree into the existing root.
-                    merge(root, tree);
+                if (mergePolicy != MergePolicy.NO_MERGE && parser.nextToken() != null) {
+                    if (root == null) {
+                        root = readRoot(parser);
+                        setDirty("");
+                    } else {
+                        // The cache is already loaded, so merge the incoming object tree into the existing root.
+                        merge(parser, root, "");
+                    }
                 }
             } else {
-                root = (ContainerNode<?>) mapper.readTree(in);
-                isDirty = false;
+                root = parser.nextToken() == null ? null : readRoot(parser);
+                dirtyPaths.clear();
                 isLoaded = true;
             }
         } catch (IOException e) {
             throw new CacheException(e);
+        } finally {
+            lock.writeLock().unlock();
         }
         return this;
     }
 
+    private ContainerNode<?> readRoot(JsonParser parser) throws IOException, CacheException {
+        if (!parser.getCurrentToken().isStructStart())
+            throw new CacheException("the root node must be an object or an array");
+        return mapper.readTree(parser);
+    }
+
     @Override
     public Root mapper(ObjectMapper mapper) {
         Objects.requireNonNull(mapper, "mapper is required");
@@ -1572,60 +1731,73 @@ class JsonCacheImpl implements JsonCache.Root {
         return this;
     }
 
-    protected void merge(ContainerNode<?> dest, ContainerNode<?> src) {
-        if (dest.getNodeType() == src.getNodeType()) {
-            if (dest.isArray()) {
-                ArrayNode destArray = (ArrayNode) dest;
-                ArrayNode srcArray = (ArrayNode) src;
-                outer:
-                for (int i = 0; i < srcArray.size(); i++) {
-                    // Only add a source element if it is not already present in the destination array.
-                    JsonNode srcElem = srcArray.get(i);
-                    for (int j = 0; j < destArray.size(); j++) {
-                        if (destArray.get(j).equals(srcElem))
-                            continue outer;
-                    }
-                    destArray.add(srcElem);
+    /**
+     * Merges the container the parser is positioned on into an existing container, according to the merge policy.
+     * Incoming values which are not merged are skipped rather than read.
+     *
+     * @param parser The parser, left on the last token of the incoming container.
+     * @param dest   The existing container.
+     * @param path   The pointer to <code>dest</code>.
+     * @throws IOException if the incoming container could not be read.
+     */
+    protected void merge(JsonParser parser, ContainerNode<?> dest, String path) throws IOException {
+        JsonToken token = parser.getCurrentToken();
+        if (dest.isArray() && token == JsonToken.START_ARRAY) {
+            ArrayNode destArray = (ArrayNode) dest;
+            outer:
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                // Only add a source element if it is not already present in the destination array.
+                JsonNode srcElem = mapper.readTree(parser);
+                for (int j = 0; j < destArray.size(); j++) {
+                    if (destArray.get(j).equals(srcElem))
+                        continue outer;
                 }
-            } else if (dest.isObject()) {
-                ObjectNode destObject = (ObjectNode) dest;
-                ObjectNode srcObject = (ObjectNode) src;
-                Iterator<Entry<String, JsonNode>> fields = srcObject.fields();
-                while (fields.hasNext()) {
-                    Entry<String, JsonNode> field = fields.next();
-                    String fieldName = field.getKey();
-                    JsonNode srcChild = field.getValue();
-                    if (destObject.has(fieldName)) {
-                        JsonNode destChild = destObject.get(fieldName);
-                        switch (mergePolicy) {
-                            case OVERWRITE_EXISTING:
+                destArray.add(srcElem);
+                setDirty(path);
+            }
+        } else if (dest.isObject() && token == JsonToken.START_OBJECT) {
+            ObjectNode destObject = (ObjectNode) dest;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken valueToken = parser.nextToken();
+                String fieldPath = path + '/' + fieldName.replace("~", "~0").replace("/", "~1");
+                JsonNode destChild = destObject.get(fieldName);
+                if (destChild != null) {
+                    switch (mergePolicy) {
+                        case OVERWRITE_EXISTING:
+                            JsonNode srcChild = mapper.readTree(parser);
+                            if (!srcChild.equals(destChild)) {
                                 destObject.set(fieldName, srcChild);
                                 // Mark the cache as dirty as we've added items from another file.
-                                isDirty = true;
-                                LOGGER.info("Existing root property '" + fieldName
-                                        + "' has been overwritten by incoming data");
-                                break;
-                            case MERGE_RECURSIVE:
-                                if (destChild.isContainerNode() && srcChild.isContainerNode())
-                                    merge((ContainerNode<?>) destChild, (ContainerNode<?>) srcChild);
-                                break;
-                            case KEEP_EXISTING:
-                                LOGGER.info("Existing root property '" + fieldName
-                                        + "' will not be overwritten by incoming data");
-                            default:
-                                // Nothing to do.
-                                break;
-                        }
-                    } else {
-                        destObject.set(fieldName, srcChild);
-                        LOGGER.info("New property '" + fieldName + "' has been added from incoming data");
-                        // Mark the cache as dirty as we've added items from another file.
-                        isDirty = true;
+                                setDirty(fieldPath);
+                            }
+                            LOGGER.info("Existing root property '" + fieldName
+                                    + "' has been overwritten by incoming data");
+                            break;
+                        case MERGE_RECURSIVE:
+                            if (destChild.isContainerNode() && valueToken.isStructStart())
+                                merge(parser, (ContainerNode<?>) destChild, fieldPath);
+                            else
+                                parser.skipChildren();
+                            break;
+                        case KEEP_EXISTING:
+                            LOGGER.info("Existing root property '" + fieldName
+                                    + "' will not be overwritten by incoming data");
+                        default:
+                            // Nothing to do.
+                            parser.skipChildren();
+                            break;
                     }
+                } else {
+                    destObject.set(fieldName, mapper.readTree(parser));
+                    LOGGER.info("New property '" + fieldName + "' has been added from incoming data");
+                    // Mark the cache as dirty as we've added items from another file.
+                    setDirty(fieldPath);
                 }
             }
         } else {
             LOGGER.warn("Cannot merge containers of differing types");
+            parser.skipChildren();
         }
     }
 
@@ -1739,26 +1911,37 @@ class JsonCacheImpl implements JsonCache.Root {
     @Override
     public Root save(File file) throws CacheException {
         Objects.requireNonNull(file, "file is required");
-        file.getParentFile().mkdirs();
+        lock.writeLock().lock();
         try {
+            file.getParentFile().mkdirs();
             save(new FileOutputStream(file));
         } catch (FileNotFoundException e) {
             throw new CacheException(e);
+        } finally {
+            lock.writeLock().unlock();
         }
         return this;
     }
 
     @Override
     public Root save(OutputStream out) throws CacheException {
-        if (root == null || root.isMissingNode())
-            throw new CacheException("null or missing root node");
-        Objects.requireNonNull(out, "out is required");
-        try (OutputStream o = out) {
-            mapper.writeValue(o, root);
-        } catch (IOException e) {
-            throw new CacheException(e);
+        // exclusive, so that modifications made while saving are neither written partially nor lost from dirtyPaths
+        lock.writeLock().lock();
+        try {
+            if (root == null || root.isMissingNode())
+                throw new CacheException("null or missing root node");
+            Objects.requireNonNull(out, "out is required");
+            try (OutputStream o = out; JsonGenerator generator = mapper.getFactory().createGenerator(o, JsonEncoding.UTF8)) {
+                if (mapper.isEnabled(SerializationFeature.INDENT_OUTPUT))
+                    generator.useDefaultPrettyPrinter();
+                mapper.writeTree(generator, root);
+            } catch (IOException e) {
+                throw new CacheException(e);
+            }
+            dirtyPaths.clear();
+        } finally {
+            lock.writeLock().unlock();
         }
-        isDirty = false;
         return this;
     }
 
@@ -1794,36 +1977,45 @@ class JsonCacheImpl implements JsonCache.Root {
 
     @Override
     public JsonCache set(JsonPointer ptr, List<?> values) throws CacheException {
-        // Note: if the node identified by ptr is not an array, we must create one before populating it.
-        ArrayNode array;
-        ContainerNode<?> container = ensureContainerExists(ptr);
-        JsonNode target = container.at(ptr.last());
-        if (target.isArray()) {
-            array = (ArrayNode) target;
-        } else {
-            String property = ptr.last().getMatchingProperty();
-            array = container.arrayNode();
-            switch (container.getNodeType()) {
-                case ARRAY:
-                    int index = Integer.parseInt(property);
-                    ((ArrayNode) container).set(index, array);
-                    break;
-                case OBJECT:
-                    ((ObjectNode) container).set(property, array);
-                    break;
-                default:
-                    throw new CacheException(ptr + " does not identify an array");
+        lock.writeLock().lock();
+        try {
+            // Note: if the node identified by ptr is not an array, we must create one before populating it.
+            ArrayNode array;
+            ContainerNode<?> container = ensureContainerExists(ptr);
+            JsonNode target = container.at(ptr.last());
+            if (target.isArray()) {
+                array = (ArrayNode) target;
+            } else {
+                String property = ptr.last().getMatchingProperty();
+                array = container.arrayNode();
+                switch (container.getNodeType()) {
+                    case ARRAY:
+                        int index = Integer.parseInt(property);
+                        ((ArrayNode) container).set(index, array);
+                        break;
+                    case OBJECT:
+                        ((ObjectNode) container).set(property, array);
+                        break;
+                    default:
+                        throw new CacheException(ptr + " does not identify an array");
+                }
+                setDirty(ptr);
             }
-        }
 
-        // Now that the target array exists, we can populate it.
-        array.removeAll();
-        for (Object value : values) {
-            JsonNode node = nodeFor(value);
-            array.add(node);
+            // Now that the target array exists, we can populate it, unless it already holds the same values.
+            List<JsonNode> nodes = new ArrayList<>(values.size());
+            for (Object value : values) {
+                nodes.add(nodeFor(value));
+            }
+            if (array.size() != nodes.size() || !array.equals(array.arrayNode().addAll(nodes))) {
+                array.removeAll();
+                array.addAll(nodes);
+                setDirty(ptr);
+            }
+            return this;
+        } finally {
+            lock.writeLock().unlock();
         }
-        setDirty();
-        return this;
     }
 
     @Override
@@ -1833,30 +2025,39 @@ class JsonCacheImpl implements JsonCache.Root {
 
     @Override
     public JsonCache set(JsonPointer ptr, Object value) {
-        String property = ptr.last().getMatchingProperty();
-        ContainerNode<?> container = ensureContainerExists(ptr);
-        JsonNode node = nodeFor(value);
-        switch (container.getNodeType()) {
-            case ARRAY:
-                ArrayNode array = (ArrayNode) container;
-                int index = Integer.parseInt(property);
-                if (index < array.size()) {
-                    array.set(index, node);
-                } else {
-                    // Fill any gap between current size and index with nulls (Jackson doesn't support sparse arrays).
-                    for (int i = array.size(); i < index; i++)
-                        array.add(array.nullNode());
-                    array.add(node);
-                }
-                break;
-            case OBJECT:
-                ((ObjectNode) container).set(property, node);
-                break;
-            default:
-                throw new IllegalArgumentException(ptr + " does not identify a settable container");
-        }
-        setDirty();
-        return this;
+        lock.writeLock().lock();
+        try {
+            String property = ptr.last().getMatchingProperty();
+            ContainerNode<?> container = ensureContainerExists(ptr);
+            JsonNode node = nodeFor(value);
+            switch (container.getNodeType()) {
+                case ARRAY:
+                    ArrayNode array = (ArrayNode) container;
+                    int index = Integer.parseInt(property);
+                    if (index < array.size()) {
+                        if (node.equals(array.get(index)))
+                            return this;
+                        array.set(index, node);
+                    } else {
+                        // Fill any gap between current size and index with nulls (Jackson doesn't support sparse arrays).
+                        for (int i = array.size(); i < index; i++)
+                            array.add(array.nullNode());
+                        array.add(node);
+                    }
+                    break;
+                case OBJECT:
+                    if (node.equals(container.get(property)))
+                        return this;
+                    ((ObjectNode) container).set(property, node);
+                    break;
+                default:
+                    throw new IllegalArgumentException(ptr + " does not identify a settable container");
+            }
+            setDirty(ptr);
+            return this;
+        } finally {
+            lock.writeLock().unlock();
+        }
     }
 
     @Override
@@ -1924,14 +2125,37 @@ class JsonCacheImpl implements JsonCache.Root {
         return set(JsonPointer.compile(path), value);
     }
 
-    protected void setDirty() {
-        isDirty = true;
+    /**
+     * Records a modification of the tree.
+     *
+     * @param ptr A pointer to the modified node.
+     */
+    protected void setDirty(JsonPointer ptr) {
+        setDirty(ptr.toString());
+    }
+
+    /**
+     * Records a modification of the tree, unless the pointer or one of its ancestors is already recorded. Recorded
+     * pointers below it are collapsed into it, so that the recorded pointers don't grow with every node written.
+     *
+     * @param path A pointer to the modified node.
+     */
+    protected void setDirty(String path) {
+        if (!hasSameOrAncestor(path)) {
+            descendants(path).clear();
+            dirtyPaths.add(path);
+        }
         isLoaded = true;
     }
 
     @Override
     public int size(JsonPointer ptr) {
-        return root == null ? 0 : root.at(ptr).size();
+        lock.readLock().lock();
+        try {
+            return root == null ? 0 : root.at(ptr).size();
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     @Override
@@ -1941,14 +2165,24 @@ class JsonCacheImpl implements JsonCache.Root {
 
     @Override
     public String toString() {
-        return "JsonCacheImpl [root=" + root + ']';
+        lock.readLock().lock();
+        try {
+            return "JsonCacheImpl [root=" + root + ']';
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     @Override
     public Root unload() {
-        isLoaded = false;
-        isDirty = false;
-        root = null;
+        lock.writeLock().lock();
+        try {
+            isLoaded = false;
+            dirtyPaths.clear();
+            root = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
         return this;
     }
 }
@@ -17,9 +17,9 @@
 
 package org.openapitools.codegen.utils;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.swagger.v3.oas.models.OpenAPI;
-import io.swagger.v3.oas.models.Operation;
-import io.swagger.v3.oas.models.PathItem;
 import io.swagger.v3.oas.models.callbacks.Callback;
 import io.swagger.v3.oas.models.headers.Header;
 import io.swagger.v3.oas.models.media.*;
@@ -28,15 +28,17 @@ import io.swagger.v3.oas.models.parameters.RequestBody;
 import io.swagger.v3.oas.models.responses.ApiResponse;
 import io.swagger.v3.parser.util.SchemaTypeUtil;
 import org.apache.commons.lang3.StringUtils;
+import org.openapitools.codegen.CodegenConstants;
 import org.openapitools.codegen.CodegenModel;
 import org.openapitools.codegen.IJsonSchemaValidationProperties;
 import org.openapitools.codegen.config.GlobalSettings;
+import org.openapitools.codegen.config.RunSettings;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.math.BigDecimal;
 import java.util.*;
-import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import static org.openapitools.codegen.utils.OnceLogger.once;
@@ -46,7 +48,12 @@ public class ModelUtils {
 
     private static final String URI_FORMAT = "uri";
 
-    private static final String generateAliasAsModelKey = "generateAliasAsModel";
+    // keyed by identity (weak keys), so documents are neither compared deeply nor retained by the cache
+    private static final Cache<OpenAPI, InheritanceIndex> inheritanceIndexCache = Caffeine.newBuilder().weakKeys().build();
+    private static final Cache<OpenAPI, UnaliasedSchemas> unaliasedSchemasCache = Caffeine.newBuilder().weakKeys().build();
+    private static final Cache<OpenAPI, RunSettings> runSettingsCache = Caffeine.newBuilder().weakKeys().build();
+
+    private static final String generateAliasAsModelKey = CodegenConstants.GENERATE_ALIAS_AS_MODEL;
     public static void setGenerateAliasAsModel(boolean value) {
         GlobalSettings.setProperty(generateAliasAsModelKey, Boolean.toString(value));
     }
@@ -55,6 +62,30 @@ public class ModelUtils {
         return Boolean.parseBoolean(GlobalSettings.getProperty(generateAliasAsModelKey, "false"));
     }
 
+    /**
+     * Binds the settings of a generation run to the specification it generates from, so that they are not looked up in
+     * {@link GlobalSettings} (possibly from another thread than the one running the generator) for this specification.
+     *
+     * @param openAPI     specification
+     * @param runSettings settings of the run
+     */
+    public static void setRunSettings(OpenAPI openAPI, RunSettings runSettings) {
+        if (openAPI != null) {
+            runSettingsCache.put(openAPI, runSettings);
+            unaliasedSchemasCache.invalidate(openAPI);
+        }
+    }
+
+    /**
+     * @param openAPI specification
+     * @return whether to generate alias (array, map) as model for the specification: the value of the run settings
+     * bound to it, else {@link #isGenerateAliasAsModel()}
+     */
+    public static boolean isGenerateAliasAsModel(OpenAPI openAPI) {
+        RunSettings runSettings = openAPI == null ? null : runSettingsCache.getIfPresent(openAPI);
+        return runSettings != null ? runSettings.isGenerateAliasAsModel() : isGenerateAliasAsModel();
+    }
+
     /**
      * Searches for the model by name in the map of models and returns it
      *
@@ -91,23 +122,14 @@ public class ModelUtils {
      */
     public static List<String> getAllUsedSchemas(OpenAPI openAPI) {
         Map<String, List<String>> childrenMap = getChildrenMap(openAPI);
-        List<String> allUsedSchemas = new ArrayList<String>();
-        visitOpenAPI(openAPI, (s, t) -> {
-            if (s.get$ref() != null) {
-                String ref = getSimpleRef(s.get$ref());
-                if (!allUsedSchemas.contains(ref)) {
-                    allUsedSchemas.add(ref);
-                }
-                if (childrenMap.containsKey(ref)) {
-                    for (String child : childrenMap.get(ref)) {
-                        if (!allUsedSchemas.contains(child)) {
-                            allUsedSchemas.add(child);
-                        }
-                    }
-                }
+        Set<String> allUsedSchemas = new LinkedHashSet<>();
+        for (String ref : new SchemaUsage(openAPI).getReferenced()) {
+            allUsedSchemas.add(ref);
+            if (childrenMap.containsKey(ref)) {
+                allUsedSchemas.addAll(childrenMap.get(ref));
             }
-        });
-        return allUsedSchemas;
+        }
+        return new ArrayList<>(allUsedSchemas);
     }
 
     /**
@@ -117,32 +139,30 @@ public class ModelUtils {
      * @return schemas a list of unused schemas
      */
     public static List<String> getUnusedSchemas(OpenAPI openAPI) {
-        final  Map<String, List<String>> childrenMap;
-        Map<String, List<String>> tmpChildrenMap;
+        Map<String, List<String>> childrenMap;
         try {
-            tmpChildrenMap = getChildrenMap(openAPI);
+            childrenMap = getChildrenMap(openAPI);
         } catch (NullPointerException npe) {
             // in rare cases, such as a spec document with only one top-level oneOf schema and multiple referenced schemas,
             // the stream used in getChildrenMap will raise an NPE. Rather than modify getChildrenMap which is used by getAllUsedSchemas,
             // we'll catch here as a workaround for this edge case.
-            tmpChildrenMap = new HashMap<>();
+            childrenMap = new HashMap<>();
         }
 
-        childrenMap = tmpChildrenMap;
-        List<String> unusedSchemas = new ArrayList<String>();
-
-        Map<String, Schema> schemas = getSchemas(openAPI);
-        unusedSchemas.addAll(schemas.keySet());
+        Set<String> usedSchemas = new HashSet<>();
+        for (String ref : new SchemaUsage(openAPI).getReferenced()) {
+            usedSchemas.add(ref);
+            if (childrenMap.containsKey(ref)) {
+                usedSchemas.addAll(childrenMap.get(ref));
+            }
+        }
 
-        visitOpenAPI(openAPI, (s, t) -> {
-            if (s.get$ref() != null) {
-                String ref = getSimpleRef(s.get$ref());
-                unusedSchemas.remove(ref);
-                if (childrenMap.containsKey(ref)) {
-                    unusedSchemas.removeAll(childrenMap.get(ref));
-                }
+        List<String> unusedSchemas = new ArrayList<String>();
+        for (String name : getSchemas(openAPI).keySet()) {
+            if (!usedSchemas.contains(name)) {
+                unusedSchemas.add(name);
             }
-        });
+        }
         return unusedSchemas;
     }
 
@@ -153,178 +173,44 @@ public class ModelUtils {
      * @return schemas a list of schemas
      */
     public static List<String> getSchemasUsedOnlyInFormParam(OpenAPI openAPI) {
-        List<String> schemasUsedInFormParam = new ArrayList<String>();
-        List<String> schemasUsedInOtherCases = new ArrayList<String>();
-
-        visitOpenAPI(openAPI, (s, t) -> {
-            if (s.get$ref() != null) {
-                String ref = getSimpleRef(s.get$ref());
-                if ("application/x-www-form-urlencoded".equalsIgnoreCase(t) ||
-                        "multipart/form-data".equalsIgnoreCase(t)) {
-                    schemasUsedInFormParam.add(ref);
-                } else {
-                    schemasUsedInOtherCases.add(ref);
-                }
-            }
-        });
-        return schemasUsedInFormParam.stream().filter(n -> !schemasUsedInOtherCases.contains(n)).collect(Collectors.toList());
+        SchemaUsage usage = new SchemaUsage(openAPI);
+        Set<String> schemasUsedInOtherCases = usage.getReferencedElsewhere();
+        return usage.getReferencedInForm().stream().filter(n -> !schemasUsedInOtherCases.contains(n)).collect(Collectors.toList());
     }
 
     /**
-     * Private method used by several methods ({@link #getAllUsedSchemas(OpenAPI)},
-     * {@link #getUnusedSchemas(OpenAPI)},
-     * {@link #getSchemasUsedOnlyInFormParam(OpenAPI)}, ...) to traverse all paths of an
-     * OpenAPI instance and call the visitor functional interface when a schema is found.
+     * Inheritance hierarchy shared by {@link #getChildrenMap(OpenAPI)}, {@link #getParentName(OpenAPI, ComposedSchema)},
+     * {@link #getAllParentsName(OpenAPI, ComposedSchema, boolean)} and {@link #getDescendants(OpenAPI, String)}. It is
+     * built once per OpenAPI instance and rebuilt when component schemas are added or removed.
      *
      * @param openAPI specification
-     * @param visitor functional interface (can be defined as a lambda) called each time a schema is found.
+     * @return the inheritance hierarchy of the component schemas of the specification
      */
-    private static void visitOpenAPI(OpenAPI openAPI, OpenAPISchemaVisitor visitor) {
-        Map<String, PathItem> paths = openAPI.getPaths();
-        List<String> visitedSchemas = new ArrayList<>();
-
-        if (paths != null) {
-            for (PathItem path : paths.values()) {
-                visitPathItem(path, openAPI, visitor, visitedSchemas);
-            }
+    private static InheritanceIndex getInheritanceIndex(OpenAPI openAPI) {
+        if (openAPI == null) {
+            return new InheritanceIndex(null);
         }
-    }
-
-    private static void visitPathItem(PathItem pathItem, OpenAPI openAPI, OpenAPISchemaVisitor visitor, List<String> visitedSchemas) {
-        List<Operation> allOperations = pathItem.readOperations();
-        if (allOperations != null) {
-            for (Operation operation : allOperations) {
-                //Params:
-                visitParameters(openAPI, operation.getParameters(), visitor, visitedSchemas);
-
-                //RequestBody:
-                RequestBody requestBody = getReferencedRequestBody(openAPI, operation.getRequestBody());
-                if (requestBody != null) {
-                    visitContent(openAPI, requestBody.getContent(), visitor, visitedSchemas);
-                }
-
-                //Responses:
-                if (operation.getResponses() != null) {
-                    for (ApiResponse r : operation.getResponses().values()) {
-                        ApiResponse apiResponse = getReferencedApiResponse(openAPI, r);
-                        if (apiResponse != null) {
-                            visitContent(openAPI, apiResponse.getContent(), visitor, visitedSchemas);
-                            if (apiResponse.getHeaders() != null) {
-                                for (Entry<String, Header> e : apiResponse.getHeaders().entrySet()) {
-                                    Header header = getReferencedHeader(openAPI, e.getValue());
-                                    if (header.getSchema() != null) {
-                                        visitSchema(openAPI, header.getSchema(), e.getKey(), visitedSchemas, visitor);
-                                    }
-                                    visitContent(openAPI, header.getContent(), visitor, visitedSchemas);
-                                }
-                            }
-                        }
-                    }
-                }
-
-                //Callbacks:
-                if (operation.getCallbacks() != null) {
-                    for (Callback c : operation.getCallbacks().values()) {
-                        Callback callback = getReferencedCallback(openAPI, c);
-                        if (callback != null) {
-                            for (PathItem p : callback.values()) {
-                                visitPathItem(p, openAPI, visitor, visitedSchemas);
-                            }
-                        }
-                    }
-                }
-            }
-        }
-        //Params:
-        visitParameters(openAPI, pathItem.getParameters(), visitor, visitedSchemas);
-    }
-
-    private static void visitParameters(OpenAPI openAPI, List<Parameter> parameters, OpenAPISchemaVisitor visitor,
-            List<String> visitedSchemas) {
-        if (parameters != null) {
-            for (Parameter p : parameters) {
-                Parameter parameter = getReferencedParameter(openAPI, p);
-                if (parameter != null) {
-                    if (parameter.getSchema() != null) {
-                        visitSchema(openAPI, parameter.getSchema(), null, visitedSchemas, visitor);
-                    }
-                    visitContent(openAPI, parameter.getContent(), visitor, visitedSchemas);
-                } else {
-                    once(LOGGER).warn("Unreferenced parameter(s) found.");
-                }
-            }
-        }
-    }
-
-    private static void visitContent(OpenAPI openAPI, Content content, OpenAPISchemaVisitor visitor, List<String> visitedSchemas) {
-        if (content != null) {
-            for (Entry<String, MediaType> e : content.entrySet()) {
-                if (e.getValue().getSchema() != null) {
-                    visitSchema(openAPI, e.getValue().getSchema(), e.getKey(), visitedSchemas, visitor);
-                }
-            }
+        InheritanceIndex index = inheritanceIndexCache.getIfPresent(openAPI);
+        if (index == null || !index.isCurrent(openAPI)) {
+            index = new InheritanceIndex(openAPI);
+            inheritanceIndexCache.put(openAPI, index);
         }
+        return index;
     }
 
-    private static void visitSchema(OpenAPI openAPI, Schema schema, String mimeType, List<String> visitedSchemas, OpenAPISchemaVisitor visitor) {
-        visitor.visit(schema, mimeType);
-        if (schema.get$ref() != null) {
-            String ref = getSimpleRef(schema.get$ref());
-            if (!visitedSchemas.contains(ref)) {
-                visitedSchemas.add(ref);
-                Schema referencedSchema = getSchemas(openAPI).get(ref);
-                if (referencedSchema != null) {
-                    visitSchema(openAPI, referencedSchema, mimeType, visitedSchemas, visitor);
-                }
-            }
-        }
-        if (schema instanceof ComposedSchema) {
-            List<Schema> oneOf = ((ComposedSchema) schema).getOneOf();
-            if (oneOf != null) {
-                for (Schema s : oneOf) {
-                    visitSchema(openAPI, s, mimeType, visitedSchemas, visitor);
-                }
-            }
-            List<Schema> allOf = ((ComposedSchema) schema).getAllOf();
-            if (allOf != null) {
-                for (Schema s : allOf) {
-                    visitSchema(openAPI, s, mimeType, visitedSchemas, visitor);
-                }
-            }
-            List<Schema> anyOf = ((ComposedSchema) schema).getAnyOf();
-            if (anyOf != null) {
-                for (Schema s : anyOf) {
-                    visitSchema(openAPI, s, mimeType, visitedSchemas, visitor);
-                }
-            }
-        } else if (schema instanceof ArraySchema) {
-            Schema itemsSchema = ((ArraySchema) schema).getItems();
-            if (itemsSchema != null) {
-                visitSchema(openAPI, itemsSchema, mimeType, visitedSchemas, visitor);
-            }
-        } else if (isMapSchema(schema)) {
-            Object additionalProperties = schema.getAdditionalProperties();
-            if (additionalProperties instanceof Schema) {
-                visitSchema(openAPI, (Schema) additionalProperties, mimeType, visitedSchemas, visitor);
-            }
-        }
-        if (schema.getNot() != null) {
-            visitSchema(openAPI, schema.getNot(), mimeType, visitedSchemas, visitor);
-        }
-        Map<String, Schema> properties = schema.getProperties();
-        if (properties != null) {
-            for (Schema property : properties.values()) {
-                visitSchema(openAPI, property, mimeType, visitedSchemas, visitor);
-            }
+    /**
+     * Discard any analysis cached for the given specification (inheritance and alias resolution). Must be called after modifying the document in place
+     * (e.g. when flattening inline schemas or in {@link org.openapitools.codegen.CodegenConfig#preprocessOpenAPI(OpenAPI)}).
+     *
+     * @param openAPI specification
+     */
+    public static void invalidateCaches(OpenAPI openAPI) {
+        if (openAPI != null) {
+            inheritanceIndexCache.invalidate(openAPI);
+            unaliasedSchemasCache.invalidate(openAPI);
         }
     }
 
-    @FunctionalInterface
-    private static interface OpenAPISchemaVisitor {
-
-        public void visit(Schema schema, String mimeType);
-    }
-
     public static String getSimpleRef(String ref) {
         if (ref.startsWith("#/components/")) {
             ref = ref.substring(ref.lastIndexOf("/") + 1);
@@ -839,43 +725,91 @@ public class ModelUtils {
         }
 
         if (schema != null && StringUtils.isNotEmpty(schema.get$ref())) {
-            Schema ref = allSchemas.get(ModelUtils.getSimpleRef(schema.get$ref()));
-            if (ref == null) {
-                once(LOGGER).warn("{} is not defined", schema.get$ref());
-                return schema;
-            } else if (ref.getEnum() != null && !ref.getEnum().isEmpty()) {
-                // top-level enum class
-                return schema;
-            } else if (isArraySchema(ref)) {
-                if (isGenerateAliasAsModel()) {
-                    return schema; // generate a model extending array
+            // the outcome only depends on the referenced name, so each alias chain is resolved once per document
+            UnaliasedSchemas unaliased = getUnaliasedSchemas(openAPI, allSchemas);
+            String name = ModelUtils.getSimpleRef(schema.get$ref());
+            Schema resolved = unaliased.resolved.get(name);
+            if (resolved == null) {
+                resolved = resolveAlias(openAPI, allSchemas, schema, unaliased.generateAliasAsModel);
+                unaliased.resolved.put(name, resolved == schema ? UnaliasedSchemas.NOT_AN_ALIAS : resolved);
+            }
+            return resolved == UnaliasedSchemas.NOT_AN_ALIAS ? schema : resolved;
+        }
+        return schema;
+    }
+
+    private static Schema resolveAlias(OpenAPI openAPI, Map<String, Schema> allSchemas, Schema schema, boolean generateAliasAsModel) {
+        Schema ref = allSchemas.get(ModelUtils.getSimpleRef(schema.get$ref()));
+        if (ref == null) {
+            once(LOGGER).warn("{} is not defined", schema.get$ref());
+            return schema;
+        } else if (ref.getEnum() != null && !ref.getEnum().isEmpty()) {
+            // top-level enum class
+            return schema;
+        } else if (isArraySchema(ref)) {
+            if (generateAliasAsModel) {
+                return schema; // generate a model extending array
+            } else {
+                return unaliasSchema(openAPI, ref);
+            }
+        } else if (isComposedSchema(ref)) {
+            return schema;
+        } else if (isMapSchema(ref)) {
+            if (ref.getProperties() != null && !ref.getProperties().isEmpty()) // has at least one property
+                return schema; // treat it as model
+            else {
+                if (generateAliasAsModel) {
+                    return schema; // generate a model extending map
                 } else {
-                    return unaliasSchema(openAPI, allSchemas.get(ModelUtils.getSimpleRef(schema.get$ref())));
+                    // treat it as a typical map
+                    return unaliasSchema(openAPI, ref);
                 }
-            } else if (isComposedSchema(ref)) {
+            }
+        } else if (isObjectSchema(ref)) { // model
+            if (ref.getProperties() != null && !ref.getProperties().isEmpty()) { // has at least one property
                 return schema;
-            } else if (isMapSchema(ref)) {
-                if (ref.getProperties() != null && !ref.getProperties().isEmpty()) // has at least one property
-                    return schema; // treat it as model
-                else {
-                    if (isGenerateAliasAsModel()) {
-                        return schema; // generate a model extending map
-                    } else {
-                        // treat it as a typical map
-                        return unaliasSchema(openAPI, allSchemas.get(ModelUtils.getSimpleRef(schema.get$ref())));
-                    }
-                }
-            } else if (isObjectSchema(ref)) { // model
-                if (ref.getProperties() != null && !ref.getProperties().isEmpty()) { // has at least one property
-                    return schema;
-                } else { // free form object (type: object)
-                    return unaliasSchema(openAPI, allSchemas.get(ModelUtils.getSimpleRef(schema.get$ref())));
-                }
-            } else {
-                return unaliasSchema(openAPI, allSchemas.get(ModelUtils.getSimpleRef(schema.get$ref())));
+            } else { // free form object (type: object)
+                return unaliasSchema(openAPI, ref);
             }
+        } else {
+            return unaliasSchema(openAPI, ref);
+        }
+    }
+
+    private static UnaliasedSchemas getUnaliasedSchemas(OpenAPI openAPI, Map<String, Schema> allSchemas) {
+        boolean generateAliasAsModel = isGenerateAliasAsModel(openAPI);
+        UnaliasedSchemas unaliased = unaliasedSchemasCache.getIfPresent(openAPI);
+        if (unaliased == null || !unaliased.isCurrent(allSchemas, generateAliasAsModel)) {
+            unaliased = new UnaliasedSchemas(allSchemas, generateAliasAsModel);
+            unaliasedSchemasCache.put(openAPI, unaliased);
+        }
+        return unaliased;
+    }
+
+    /**
+     * Outcome of {@link #unaliasSchema(OpenAPI, Schema)} per referenced schema name, for one document.
+     */
+    private static final class UnaliasedSchemas {
+        /** marks names for which the referencing schema itself is returned */
+        static final Schema NOT_AN_ALIAS = new Schema();
+
+        final Map<String, Schema> resolved = new ConcurrentHashMap<>();
+
+        // used to detect whether component schemas were replaced, added or removed since the entries were resolved
+        private final Map<String, Schema> schemasStamp;
+        private final int schemasCount;
+        final boolean generateAliasAsModel;
+
+        UnaliasedSchemas(Map<String, Schema> schemas, boolean generateAliasAsModel) {
+            this.schemasStamp = schemas;
+            this.schemasCount = schemas.size();
+            this.generateAliasAsModel = generateAliasAsModel;
+        }
+
+        boolean isCurrent(Map<String, Schema> schemas, boolean generateAliasAsModel) {
+            return schemas == schemasStamp && schemas.size() == schemasCount
+                    && this.generateAliasAsModel == generateAliasAsModel;
         }
-        return schema;
     }
 
     public static Schema getAdditionalProperties(Schema schema) {
@@ -910,16 +844,27 @@ public class ModelUtils {
         return null;
     }
 
+    /**
+     * Return the composed schemas in the 'components/schemas' section per parent name (see
+     * {@link #getParentName(ComposedSchema, Map)}). Composed schemas without a parent are left out.
+     *
+     * @param openAPI specification
+     * @return the names of the child schemas per parent name
+     */
     public static Map<String, List<String>> getChildrenMap(OpenAPI openAPI) {
-        Map<String, Schema> allSchemas = getSchemas(openAPI);
-
-        // FIXME: The collect here will throw NPE if a spec document has only a single oneOf hierarchy.
-        Map<String, List<Entry<String, Schema>>> groupedByParent = allSchemas.entrySet().stream()
-            .filter(entry -> isComposedSchema(entry.getValue()))
-            .collect(Collectors.groupingBy(entry -> getParentName((ComposedSchema) entry.getValue(), allSchemas)));
+        return getInheritanceIndex(openAPI).getChildren();
+    }
 
-        return groupedByParent.entrySet().stream()
-                .collect(Collectors.toMap(entry -> entry.getKey(), entry -> entry.getValue().stream().map(e -> e.getKey()).collect(Collectors.toList())));
+    /**
+     * Return the composed schemas in the 'components/schemas' section having the given schema among their ancestors
+     * (see {@link #getAllParentsName(ComposedSchema, Map, boolean)}), in the order of the section.
+     *
+     * @param openAPI specification
+     * @param name    name of a schema in the 'components/schemas' section
+     * @return the names of the descendants of the schema
+     */
+    public static List<String> getDescendants(OpenAPI openAPI, String name) {
+        return getInheritanceIndex(openAPI).getDescendants(name);
     }
 
 
@@ -1007,6 +952,20 @@ public class ModelUtils {
         return null;
     }
 
+    /**
+     * Same as {@link #getParentName(ComposedSchema, Map)} with the component schemas of the specification, looked up
+     * in its inheritance index when the composed schema is one of the component schemas.
+     *
+     * @param openAPI        specification
+     * @param composedSchema schema (alias or direct reference)
+     * @return the name of the parent model
+     */
+    public static String getParentName(OpenAPI openAPI, ComposedSchema composedSchema) {
+        InheritanceIndex index = getInheritanceIndex(openAPI);
+        String name = index.nameOf(composedSchema);
+        return name != null ? index.getParent(name) : getParentName(composedSchema, getSchemas(openAPI));
+    }
+
     /**
      * Get the list of parent model names from the schemas (allOf, anyOf, oneOf).
      *
@@ -1054,7 +1013,25 @@ public class ModelUtils {
         return names;
     }
 
-    private static boolean hasOrInheritsDiscriminator(Schema schema, Map<String, Schema> allSchemas) {
+    /**
+     * Same as {@link #getAllParentsName(ComposedSchema, Map, boolean)} with the component schemas of the specification,
+     * looked up in its inheritance index when the composed schema is one of the component schemas.
+     *
+     * @param openAPI          specification
+     * @param composedSchema   schema (alias or direct reference)
+     * @param includeAncestors if true, include the indirect ancestors in the return value. If false, return the direct parents.
+     * @return the names of the parent models
+     */
+    public static List<String> getAllParentsName(OpenAPI openAPI, ComposedSchema composedSchema, boolean includeAncestors) {
+        InheritanceIndex index = getInheritanceIndex(openAPI);
+        String name = index.nameOf(composedSchema);
+        if (name == null) {
+            return getAllParentsName(composedSchema, getSchemas(openAPI), includeAncestors);
+        }
+        return new ArrayList<>(includeAncestors ? index.getAncestors(name) : index.getParents(name));
+    }
+
+    static boolean hasOrInheritsDiscriminator(Schema schema, Map<String, Schema> allSchemas) {
         if (schema.getDiscriminator() != null && StringUtils.isNotEmpty(schema.getDiscriminator().getPropertyName())) {
             return true;
         }
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ * Copyright 2018 SmartBear Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.utils;
+
+import org.apache.commons.io.IOUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringTokenizer;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the post-processing command (e.g. a formatter set via an environment variable) on generated files.
+ * <p>
+ * With a batch size of 1, each file is processed right away by its own invocation of the command, which is how
+ * generators have always done it. With a larger batch size, files are queued per command and {@link #flush()}
+ * passes up to {@code batchSize} paths to each invocation, running the invocations on a bounded pool of threads.
+ * If an invocation fails, the files of that batch are processed one by one so the failing file can be identified.
+ * <p>
+ * The command is split on whitespace, as it always has been, while file paths are passed as arguments of their own so
+ * that paths containing spaces are preserved. The output of the command is consumed while it runs, so that a
+ * formatter reporting on many files at once cannot block on a full pipe.
+ */
+public class PostProcessFileExecutor {
+    private static final Logger LOGGER = LoggerFactory.getLogger(PostProcessFileExecutor.class);
+
+    /**
+     * Keep batched command lines well below the limits of common platforms (e.g. 32K characters on Windows).
+     */
+    static final int MAX_COMMAND_LENGTH = 8000;
+
+    private final int batchSize;
+    private final int threads;
+    private final Map<String, List<File>> pending = new LinkedHashMap<>();
+
+    /**
+     * @param batchSize maximum number of files passed to a single invocation of a command; 1 processes files immediately
+     * @param threads   maximum number of commands running concurrently when flushing batches
+     */
+    public PostProcessFileExecutor(int batchSize, int threads) {
+        this.batchSize = Math.max(1, batchSize);
+        this.threads = Math.max(1, threads);
+    }
+
+    /**
+     * Post-process a file with the given command, the path of the file being appended to the command.
+     *
+     * @param command command to run, e.g. "gofmt -w"
+     * @param file    file to be processed
+     */
+    public void submit(String command, File file) {
+        if (batchSize == 1) {
+            run(command, Collections.singletonList(file));
+            return;
+        }
+        synchronized (this) {
+            pending.computeIfAbsent(command, k -> new ArrayList<>()).add(file);
+        }
+    }
+
+    /**
+     * Process all queued files and wait for the commands to complete.
+     */
+    public synchronized void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<Runnable> batches = new ArrayList<>();
+        for (Map.Entry<String, List<File>> entry : pending.entrySet()) {
+            String command = entry.getKey();
+            for (List<File> batch : split(command, entry.getValue())) {
+                batches.add(() -> runBatch(command, batch));
+            }
+        }
+        pending.clear();
+
+        if (batches.size() == 1 || threads == 1) {
+            batches.forEach(Runnable::run);
+            return;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, batches.size()));
+        try {
+            batches.forEach(executor::execute);
+            executor.shutdown();
+            while (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                LOGGER.debug("Waiting for post-processing commands to complete");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.error("Interrupted while waiting for post-processing commands to complete");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private List<List<File>> split(String command, List<File> files) {
+        List<List<File>> batches = new ArrayList<>();
+        List<File> batch = new ArrayList<>();
+        int length = command.length();
+        for (File file : files) {
+            int fileLength = file.toString().length() + 1;
+            if (!batch.isEmpty() && (batch.size() == batchSize || length + fileLength > MAX_COMMAND_LENGTH)) {
+                batches.add(batch);
+                batch = new ArrayList<>();
+                length = command.length();
+            }
+            batch.add(file);
+            length += fileLength;
+        }
+        batches.add(batch);
+        return batches;
+    }
+
+    private void runBatch(String command, List<File> files) {
+        if (!run(command, files) && files.size() > 1) {
+            LOGGER.warn("Post-processing {} files at once failed, processing them one by one", files.size());
+            for (File file : files) {
+                run(command, Collections.singletonList(file));
+            }
+        }
+    }
+
+    private static boolean run(String command, List<File> files) {
+        List<String> arguments = new ArrayList<>();
+        StringTokenizer tokens = new StringTokenizer(command);
+        while (tokens.hasMoreTokens()) {
+            arguments.add(tokens.nextToken());
+        }
+        for (File file : files) {
+            arguments.add(file.toString());
+        }
+        String commandLine = String.join(" ", arguments);
+
+        try {
+            Process p = new ProcessBuilder(arguments).redirectErrorStream(true).start();
+            // read until the command exits, it would block once the pipe buffer is full otherwise
+            String output;
+            try (InputStream in = p.getInputStream()) {
+                output = IOUtils.toString(in, StandardCharsets.UTF_8).trim();
+            }
+            int exitValue = p.waitFor();
+            if (exitValue != 0) {
+                LOGGER.error("Error running the command ({}). Exit code: {}", commandLine, exitValue);
+                if (!output.isEmpty()) {
+                    LOGGER.error("Output of the command: {}", output);
+                }
+                return false;
+            }
+            LOGGER.info("Successfully executed: " + commandLine);
+            if (!output.isEmpty()) {
+                LOGGER.debug("Output of the command: {}", output);
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.error("Error running the command ({}). Exception: {}", commandLine, e.getMessage());
+            return false;
+        } catch (Exception e) {
+            LOGGER.error("Error running the command ({}). Exception: {}", commandLine, e.getMessage());
+            return false;
+        }
+    }
+}
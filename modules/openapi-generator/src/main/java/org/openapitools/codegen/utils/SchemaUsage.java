@@ -0,0 +1,267 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ * Copyright 2018 SmartBear Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.utils;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.callbacks.Callback;
+import io.swagger.v3.oas.models.headers.Header;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import static org.openapitools.codegen.utils.OnceLogger.once;
+
+/**
+ * Reachability of the schemas referenced from the paths of an OpenAPI document.
+ * <p>
+ * References between component schemas form a graph which is built lazily (each component is walked at most once)
+ * and then traversed from every schema found in parameters, request bodies, responses and callbacks. Results are
+ * kept in insertion-ordered sets, matching the order in which a depth-first walk of the document meets them.
+ * <p>
+ * Reachability from form media types and from other media types is tracked separately: a schema reached through a
+ * form request first and through a json response later is reachable from both, whatever the order of the walk.
+ * <p>
+ * The analysis is computed for each call of the {@link ModelUtils} methods using it, so that changes made to the
+ * document in between are always taken into account.
+ */
+final class SchemaUsage {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SchemaUsage.class);
+
+    private final Map<String, Schema> schemas;
+    private final Map<String, List<String>> references = new HashMap<>();
+
+    /** referenced schema names, whatever the media type */
+    private final Set<String> referenced = new LinkedHashSet<>();
+    /** referenced schema names reachable from form media types */
+    private final Set<String> referencedInForm = new LinkedHashSet<>();
+    /** referenced schema names reachable from any other media type (or no media type at all) */
+    private final Set<String> referencedElsewhere = new LinkedHashSet<>();
+
+    SchemaUsage(OpenAPI openAPI) {
+        this.schemas = ModelUtils.getSchemas(openAPI);
+
+        Map<String, PathItem> paths = openAPI.getPaths();
+        if (paths != null) {
+            for (PathItem path : paths.values()) {
+                visitPathItem(openAPI, path);
+            }
+        }
+    }
+
+    Set<String> getReferenced() {
+        return Collections.unmodifiableSet(referenced);
+    }
+
+    Set<String> getReferencedInForm() {
+        return Collections.unmodifiableSet(referencedInForm);
+    }
+
+    Set<String> getReferencedElsewhere() {
+        return Collections.unmodifiableSet(referencedElsewhere);
+    }
+
+    private void visitPathItem(OpenAPI openAPI, PathItem pathItem) {
+        List<Operation> allOperations = pathItem.readOperations();
+        if (allOperations != null) {
+            for (Operation operation : allOperations) {
+                //Params:
+                visitParameters(openAPI, operation.getParameters());
+
+                //RequestBody:
+                RequestBody requestBody = ModelUtils.getReferencedRequestBody(openAPI, operation.getRequestBody());
+                if (requestBody != null) {
+                    visitContent(requestBody.getContent());
+                }
+
+                //Responses:
+                if (operation.getResponses() != null) {
+                    for (ApiResponse r : operation.getResponses().values()) {
+                        ApiResponse apiResponse = ModelUtils.getReferencedApiResponse(openAPI, r);
+                        if (apiResponse != null) {
+                            visitContent(apiResponse.getContent());
+                            if (apiResponse.getHeaders() != null) {
+                                for (Entry<String, Header> e : apiResponse.getHeaders().entrySet()) {
+                                    Header header = ModelUtils.getReferencedHeader(openAPI, e.getValue());
+                                    if (header.getSchema() != null) {
+                                        visitRoot(header.getSchema(), e.getKey());
+                                    }
+                                    visitContent(header.getContent());
+                                }
+                            }
+                        }
+                    }
+                }
+
+                //Callbacks:
+                if (operation.getCallbacks() != null) {
+                    for (Callback c : operation.getCallbacks().values()) {
+                        Callback callback = ModelUtils.getReferencedCallback(openAPI, c);
+                        if (callback != null) {
+                            for (PathItem p : callback.values()) {
+                                visitPathItem(openAPI, p);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        //Params:
+        visitParameters(openAPI, pathItem.getParameters());
+    }
+
+    private void visitParameters(OpenAPI openAPI, List<Parameter> parameters) {
+        if (parameters != null) {
+            for (Parameter p : parameters) {
+                Parameter parameter = ModelUtils.getReferencedParameter(openAPI, p);
+                if (parameter != null) {
+                    if (parameter.getSchema() != null) {
+                        visitRoot(parameter.getSchema(), null);
+                    }
+                    visitContent(parameter.getContent());
+                } else {
+                    once(LOGGER).warn("Unreferenced parameter(s) found.");
+                }
+            }
+        }
+    }
+
+    private void visitContent(Content content) {
+        if (content != null) {
+            for (Entry<String, MediaType> e : content.entrySet()) {
+                if (e.getValue().getSchema() != null) {
+                    visitRoot(e.getValue().getSchema(), e.getKey());
+                }
+            }
+        }
+    }
+
+    private void visitRoot(Schema schema, String mimeType) {
+        List<String> refs = new ArrayList<>();
+        collectReferences(schema, refs);
+        if (refs.isEmpty()) {
+            return;
+        }
+
+        reach(refs, referenced);
+        if ("application/x-www-form-urlencoded".equalsIgnoreCase(mimeType) ||
+                "multipart/form-data".equalsIgnoreCase(mimeType)) {
+            reach(refs, referencedInForm);
+        } else {
+            reach(refs, referencedElsewhere);
+        }
+    }
+
+    /**
+     * Depth-first walk of the reference graph, adding each schema name to {@code reached} the first time it is met.
+     * Iterative so that long reference chains in large documents can't overflow the stack.
+     */
+    private void reach(List<String> roots, Set<String> reached) {
+        Deque<Iterator<String>> stack = new ArrayDeque<>();
+        stack.push(roots.iterator());
+        while (!stack.isEmpty()) {
+            Iterator<String> it = stack.peek();
+            if (!it.hasNext()) {
+                stack.pop();
+                continue;
+            }
+            String ref = it.next();
+            if (reached.add(ref)) {
+                List<String> next = referencesOf(ref);
+                if (!next.isEmpty()) {
+                    stack.push(next.iterator());
+                }
+            }
+        }
+    }
+
+    private List<String> referencesOf(String name) {
+        List<String> refs = references.get(name);
+        if (refs == null) {
+            refs = new ArrayList<>();
+            Schema schema = schemas.get(name);
+            if (schema != null) {
+                collectReferences(schema, refs);
+            }
+            references.put(name, refs);
+        }
+        return refs;
+    }
+
+    /**
+     * Collects the names referenced by a schema and its inline subschemas, without following the references.
+     */
+    private static void collectReferences(Schema schema, List<String> refs) {
+        if (schema.get$ref() != null) {
+            refs.add(ModelUtils.getSimpleRef(schema.get$ref()));
+        }
+        if (schema instanceof ComposedSchema) {
+            ComposedSchema composed = (ComposedSchema) schema;
+            collectReferences(composed.getOneOf(), refs);
+            collectReferences(composed.getAllOf(), refs);
+            collectReferences(composed.getAnyOf(), refs);
+        } else if (schema instanceof ArraySchema) {
+            Schema itemsSchema = ((ArraySchema) schema).getItems();
+            if (itemsSchema != null) {
+                collectReferences(itemsSchema, refs);
+            }
+        } else if (ModelUtils.isMapSchema(schema)) {
+            Object additionalProperties = schema.getAdditionalProperties();
+            if (additionalProperties instanceof Schema) {
+                collectReferences((Schema) additionalProperties, refs);
+            }
+        }
+        if (schema.getNot() != null) {
+            collectReferences(schema.getNot(), refs);
+        }
+        Map<String, Schema> properties = schema.getProperties();
+        if (properties != null) {
+            for (Schema property : properties.values()) {
+                collectReferences(property, refs);
+            }
+        }
+    }
+
+    private static void collectReferences(List<Schema> schemas, List<String> refs) {
+        if (schemas != null) {
+            for (Schema s : schemas) {
+                collectReferences(s, refs);
+            }
+        }
+    }
+}
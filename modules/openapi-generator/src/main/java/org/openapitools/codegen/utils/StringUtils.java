@@ -1,24 +1,47 @@
 package org.openapitools.codegen.utils;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.openapitools.codegen.config.GlobalSettings;
+
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.HashMap;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 public class StringUtils {
-    // A cache of camelized words. The camelize() method is invoked many times with the same
-    // arguments, this cache is used to optimized performance.
-    private static Map<Boolean, Map<String, String>> camelizedWords =
-        new HashMap<Boolean, Map<String, String>>();
+    /**
+     * Allow advanced users to modify the number of words held by each of the camelize() and underscore() caches.
+     */
+    static final String CACHE_SIZE_PROPERTY = "org.openapitools.codegen.utils.namecache.cachesize";
+
+    private static final int MAX_CACHE_SIZE = Integer.parseInt(GlobalSettings.getProperty(CACHE_SIZE_PROPERTY, "100000"));
 
-    // A cache of underscored words, used to optimize the performance of the underscore() method.
-    private static Map<String, String> underscoreWords = new HashMap<String, String>();
+    // Caches of camelized and underscored words. These methods are invoked many times with the same arguments, the
+    // caches are used to optimize performance. They are bounded and thread-safe, as generators may run concurrently
+    // (e.g. batch generation, the online generator) and templates may be rendered on multiple threads.
+    private static final Cache<String, String> camelizedWords = newCache();
+    private static final Cache<String, String> lowerCamelizedWords = newCache();
+    private static final Cache<String, String> underscoreWords = newCache();
+
+    private static final Pattern underscoreAcronymPattern = Pattern.compile("([A-Z]+)([A-Z][a-z])");
+    private static final Pattern underscoreWordPattern = Pattern.compile("([a-z\\d])([A-Z])");
+
+    private static Cache<String, String> newCache() {
+        return Caffeine.newBuilder().maximumSize(MAX_CACHE_SIZE).recordStats().build();
+    }
 
-    static {
-        camelizedWords.put(false, new HashMap<String, String>());
-        camelizedWords.put(true, new HashMap<String, String>());
+    /**
+     * @return the statistics of the caches of camelized and underscored words, by cache name
+     */
+    public static Map<String, CacheStats> getCacheStats() {
+        Map<String, CacheStats> stats = new LinkedHashMap<>();
+        stats.put("camelize", camelizedWords.stats());
+        stats.put("camelizeLowercaseFirstLetter", lowerCamelizedWords.stats());
+        stats.put("underscore", underscoreWords.stats());
+        return stats;
     }
 
     /**
@@ -30,26 +53,22 @@ public class StringUtils {
      * @return The underscored version of the word
      */
     public static String underscore(final String word) {
-        String result = underscoreWords.get(word);
-        if (result != null) {
-            return result;
-        }
-        String firstPattern = "([A-Z]+)([A-Z][a-z])";
-        String secondPattern = "([a-z\\d])([A-Z])";
+        return underscoreWords.get(word, StringUtils::doUnderscore);
+    }
+
+    private static String doUnderscore(String word) {
         String replacementPattern = "$1_$2";
         // Replace package separator with slash.
-        result = word.replaceAll("\\.", "/");
+        String result = word.replace('.', '/');
         // Replace $ with two underscores for inner classes.
-        result = result.replaceAll("\\$", "__");
+        result = result.replace("$", "__");
         // Replace capital letter with _ plus lowercase letter.
-        result = result.replaceAll(firstPattern, replacementPattern);
-        result = result.replaceAll(secondPattern, replacementPattern);
+        result = underscoreAcronymPattern.matcher(result).replaceAll(replacementPattern);
+        result = underscoreWordPattern.matcher(result).replaceAll(replacementPattern);
         result = result.replace('-', '_');
         // replace space with underscore
         result = result.replace(' ', '_');
-        result = result.toLowerCase(Locale.ROOT);
-        underscoreWords.put(word, result);
-        return result;
+        return result.toLowerCase(Locale.ROOT);
     }
 
     /**
@@ -74,11 +93,6 @@ public class StringUtils {
         return camelize(word, false);
     }
 
-    private static Pattern camelizeSlashPattern = Pattern.compile("\\/(.?)");
-    private static Pattern camelizeUppercasePattern = Pattern.compile("(\\.?)(\\w)([^\\.]*)$");
-    private static Pattern camelizeUnderscorePattern = Pattern.compile("(_)(.)");
-    private static Pattern camelizeHyphenPattern = Pattern.compile("(-)(.)");
-
     /**
      * Camelize name (parameter, property, method, etc)
      *
@@ -87,79 +101,147 @@ public class StringUtils {
      * @return camelized string
      */
     public static String camelize(String word, boolean lowercaseFirstLetter) {
-        String inputWord = word;
-        String camelized = camelizedWords.get(lowercaseFirstLetter).get(word);
-        if (camelized != null) {
-            return camelized;
-        }
-        // Replace all slashes with dots (package separator)
-        Matcher m = camelizeSlashPattern.matcher(word);
-        while (m.find()) {
-            word = m.replaceFirst("." + m.group(1)/*.toUpperCase()*/); // FIXME: a parameter should not be assigned. Also declare the methods parameters as 'final'.
-            m = camelizeSlashPattern.matcher(word);
+        if (lowercaseFirstLetter) {
+            return lowerCamelizedWords.get(word, w -> doCamelize(w, true));
         }
+        return camelizedWords.get(word, w -> doCamelize(w, false));
+    }
+
+    private static String doCamelize(String word, boolean lowercaseFirstLetter) {
+        word = new Camelizer(word.length()).camelize(word);
 
-        // case out dots
-        String[] parts = word.split("\\.");
-        StringBuilder f = new StringBuilder();
-        for (String z : parts) {
-            if (z.length() > 0) {
-                f.append(Character.toUpperCase(z.charAt(0))).append(z.substring(1));
+        if (lowercaseFirstLetter && word.length() > 0) {
+            int i = 0;
+            char charAt = word.charAt(i);
+            while (i + 1 < word.length() && !((charAt >= 'a' && charAt <= 'z') || (charAt >= 'A' && charAt <= 'Z'))) {
+                i = i + 1;
+                charAt = word.charAt(i);
             }
+            i = i + 1;
+            word = word.substring(0, i).toLowerCase(Locale.ROOT) + word.substring(i);
         }
-        word = f.toString();
 
-        m = camelizeSlashPattern.matcher(word);
-        while (m.find()) {
-            word = m.replaceFirst("" + Character.toUpperCase(m.group(1).charAt(0)) + m.group(1).substring(1)/*.toUpperCase()*/);
-            m = camelizeSlashPattern.matcher(word);
+        // remove all underscore
+        return word.indexOf('_') < 0 ? word : word.replace("_", "");
+    }
+
+    /**
+     * Camelizes a word in a single pass over its characters, each of them going through the following steps in turn:
+     * <ol>
+     * <li>the first character of the word and of each part separated by dots or slashes (package separators) is
+     * uppercased, and the separators removed</li>
+     * <li>the first ASCII word character (letter, digit or underscore) is uppercased</li>
+     * <li>underscores are removed, uppercasing the following character (underscore_case to camelCase)</li>
+     * <li>hyphens are removed, uppercasing the following character (hyphen-case to camelCase)</li>
+     * </ol>
+     */
+    private static final class Camelizer {
+        private final StringBuilder camelized;
+        private boolean partStart = true;
+        private boolean seenWordCharacter;
+        private boolean pendingBackslash;
+        private boolean pendingUnderscore;
+        private boolean pendingHyphen;
+
+        Camelizer(int length) {
+            this.camelized = new StringBuilder(length);
         }
 
-        // Uppercase the class name.
-        m = camelizeUppercasePattern.matcher(word);
-        if (m.find()) {
-            String rep = m.group(1) + m.group(2).toUpperCase(Locale.ROOT) + m.group(3);
-            rep = rep.replaceAll("\\$", "\\\\\\$");
-            word = m.replaceAll(rep);
+        String camelize(String word) {
+            for (int i = 0; i < word.length(); ) {
+                int c = word.codePointAt(i);
+                i += Character.charCount(c);
+                splitParts(c);
+            }
+            if (pendingBackslash) {
+                underscoreToCamelCase('\\');
+            }
+            if (pendingUnderscore) {
+                hyphenToCamelCase('_');
+            }
+            if (pendingHyphen) {
+                camelized.append('-');
+            }
+            return camelized.toString();
         }
 
-        // Remove all underscores (underscore_case to camelCase)
-        m = camelizeUnderscorePattern.matcher(word);
-        while (m.find()) {
-            String original = m.group(2);
-            String upperCase = original.toUpperCase(Locale.ROOT);
-            if (original.equals(upperCase)) {
-                word = word.replaceFirst("_", "");
-            } else {
-                word = m.replaceFirst(upperCase);
+        private void splitParts(int c) {
+            if (c == '.' || c == '/') {
+                partStart = true;
+                return;
             }
-            m = camelizeUnderscorePattern.matcher(word);
+            if (partStart) {
+                partStart = false;
+                if (!Character.isSupplementaryCodePoint(c)) {
+                    c = Character.toUpperCase((char) c);
+                }
+            }
+            uppercaseFirstWordCharacter(c);
         }
 
-        // Remove all hyphens (hyphen-case to camelCase)
-        m = camelizeHyphenPattern.matcher(word);
-        while (m.find()) {
-            word = m.replaceFirst(m.group(2).toUpperCase(Locale.ROOT));
-            m = camelizeHyphenPattern.matcher(word);
+        private void uppercaseFirstWordCharacter(int c) {
+            if (!seenWordCharacter) {
+                if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_') {
+                    seenWordCharacter = true;
+                    if (c >= 'a' && c <= 'z') {
+                        c = Character.toUpperCase(c);
+                    }
+                }
+            } else if (pendingBackslash) {
+                pendingBackslash = false;
+            } else if (c == '\\') {
+                // following characters are escaped by a backslash, as they used to go through a regex replacement
+                pendingBackslash = true;
+                return;
+            }
+            underscoreToCamelCase(c);
         }
 
-        if (lowercaseFirstLetter && word.length() > 0) {
-            int i = 0;
-            char charAt = word.charAt(i);
-            while (i + 1 < word.length() && !((charAt >= 'a' && charAt <= 'z') || (charAt >= 'A' && charAt <= 'Z'))) {
-                i = i + 1;
-                charAt = word.charAt(i);
+        private void underscoreToCamelCase(int c) {
+            if (c == '_') {
+                pendingUnderscore = true;
+                return;
+            }
+            if (pendingUnderscore) {
+                pendingUnderscore = false;
+                if (isLineTerminator(c)) {
+                    hyphenToCamelCase('_');
+                    hyphenToCamelCase(c);
+                } else {
+                    upperCase(c).codePoints().forEach(this::hyphenToCamelCase);
+                }
+            } else {
+                hyphenToCamelCase(c);
             }
-            i = i + 1;
-            word = word.substring(0, i).toLowerCase(Locale.ROOT) + word.substring(i);
         }
 
-        // remove all underscore
-        word = word.replaceAll("_", "");
+        private void hyphenToCamelCase(int c) {
+            if (c == '-') {
+                pendingHyphen = true;
+                return;
+            }
+            if (pendingHyphen) {
+                pendingHyphen = false;
+                if (isLineTerminator(c)) {
+                    camelized.append('-').appendCodePoint(c);
+                } else {
+                    camelized.append(upperCase(c));
+                }
+            } else {
+                camelized.appendCodePoint(c);
+            }
+        }
 
-        // Add to the cache.
-        camelizedWords.get(lowercaseFirstLetter).put(inputWord, word);
-        return word;
+        private static String upperCase(int c) {
+            return new String(Character.toChars(c)).toUpperCase(Locale.ROOT);
+        }
+
+        /**
+         * Characters which are not matched by "." in a regular expression, thus not camelized.
+         */
+        private static boolean isLineTerminator(int c) {
+            return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+        }
     }
 
     /**
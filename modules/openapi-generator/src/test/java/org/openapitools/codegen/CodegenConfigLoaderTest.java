@@ -0,0 +1,70 @@
+package org.openapitools.codegen;
+
+import org.openapitools.codegen.meta.Stability;
+import org.testng.annotations.Test;
+
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.ServiceLoader;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+
+public class CodegenConfigLoaderTest {
+
+    @Test
+    public void indexMatchesServiceProviders() throws Exception {
+        Properties index = new Properties();
+        try (InputStream in = getClass().getClassLoader().getResourceAsStream(CodegenConfigLoader.INDEX_RESOURCE)) {
+            assertNotNull(in);
+            index.load(in);
+        }
+
+        int providers = 0;
+        for (CodegenConfig config : ServiceLoader.load(CodegenConfig.class, CodegenConfig.class.getClassLoader())) {
+            providers++;
+            String expected = config.getClass().getName() + "," + config.getTag() + "," + config.getGeneratorMetadata().getStability();
+            assertEquals(index.getProperty(config.getName()), expected,
+                    "Generator '" + config.getName() + "' must be listed in " + CodegenConfigLoader.INDEX_RESOURCE);
+        }
+        assertEquals(index.size(), providers);
+    }
+
+    @Test
+    public void forNameResolvesRegisteredNameAndClassName() {
+        CodegenConfig byName = CodegenConfigLoader.forName("java");
+        assertEquals(byName.getName(), "java");
+
+        CodegenConfig byClass = CodegenConfigLoader.forName(byName.getClass().getName());
+        assertEquals(byClass.getClass(), byName.getClass());
+    }
+
+    @Test
+    public void getAllMatchesNames() {
+        assertEquals(CodegenConfigLoader.getAll().size(), CodegenConfigLoader.getNames().size());
+        assertTrue(CodegenConfigLoader.getNames().contains("go"));
+    }
+
+    @Test
+    public void descriptorsMatchGenerators() {
+        Map<String, CodegenConfigLoader.GeneratorDescriptor> descriptors = new HashMap<>();
+        for (CodegenConfigLoader.GeneratorDescriptor descriptor : CodegenConfigLoader.getDescriptors()) {
+            descriptors.put(descriptor.getName(), descriptor);
+        }
+        assertEquals(descriptors.keySet(), CodegenConfigLoader.getNames());
+
+        CodegenConfigLoader.GeneratorDescriptor go = descriptors.get("go");
+        assertEquals(go.getType(), CodegenType.CLIENT);
+        assertEquals(go.getStability(), Stability.STABLE);
+        assertEquals(descriptors.get("nodejs-server-deprecated").getStability(), Stability.DEPRECATED);
+        assertEquals(descriptors.get("avro-schema").getType(), CodegenType.SCHEMA);
+    }
+
+    @Test(expectedExceptions = GeneratorNotFoundException.class)
+    public void forNameRejectsUnknownGenerator() {
+        CodegenConfigLoader.forName("not-a-generator");
+    }
+}
@@ -18,9 +18,12 @@
 package org.openapitools.codegen;
 
 import com.google.common.collect.Sets;
+import com.samskivert.mustache.Mustache;
 import com.samskivert.mustache.Mustache.Lambda;
+import com.samskivert.mustache.Template;
 
 import io.swagger.parser.OpenAPIParser;
+import io.swagger.v3.core.util.Json;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
@@ -220,6 +223,37 @@ public class DefaultCodegenTest {
         Assert.assertEquals(codegenParameter.defaultValue, "-efg");
     }
 
+    @Test
+    public void testJsonRepresentationsAreComputedOnFirstAccess() {
+        final OpenAPI openAPI = TestUtils.parseSpec("src/test/resources/3_0/petstore.yaml");
+        final DefaultCodegen codegen = new DefaultCodegen();
+        codegen.setOpenAPI(openAPI);
+
+        CodegenModel pet = codegen.fromModel("Pet", openAPI.getComponents().getSchemas().get("Pet"));
+        Assert.assertNull(pet.modelJson);
+        CodegenProperty name = pet.vars.stream().filter(v -> "name".equals(v.baseName)).findFirst().get();
+        Assert.assertNull(name.jsonSchema);
+
+        // templates read them through their getters
+        Template template = Mustache.compiler().escapeHTML(false).compile("{{modelJson}}|{{#vars}}{{#required}}{{jsonSchema}}{{/required}}{{/vars}}");
+        Assert.assertEquals(template.execute(pet), Json.pretty(openAPI.getComponents().getSchemas().get("Pet")) + "|"
+                + Json.pretty(openAPI.getComponents().getSchemas().get("Pet").getProperties().get("name"))
+                + Json.pretty(openAPI.getComponents().getSchemas().get("Pet").getProperties().get("photoUrls")));
+        Assert.assertNotNull(pet.modelJson);
+
+        // a value set directly takes precedence
+        CodegenModel category = codegen.fromModel("Category", openAPI.getComponents().getSchemas().get("Category"));
+        category.modelJson = "{}";
+        Assert.assertEquals(category.getModelJson(), "{}");
+
+        Operation operation = openAPI.getPaths().get("/pet/{petId}").getGet();
+        CodegenOperation co = codegen.fromOperation("/pet/{petId}", "get", operation, null);
+        Assert.assertNull(co.pathParams.get(0).jsonSchema);
+        Assert.assertEquals(co.pathParams.get(0).getJsonSchema(), Json.pretty(operation.getParameters().get(0)));
+        Assert.assertEquals(co.pathParams.get(0).copy().getJsonSchema(), co.pathParams.get(0).getJsonSchema());
+        Assert.assertEquals(co.responses.get(0).getJsonSchema(), Json.pretty(operation.getResponses().get(co.responses.get(0).code)));
+    }
+
     @Test
     public void testEnsureNoDuplicateProduces() {
         final OpenAPI openAPI = TestUtils.parseSpec("src/test/resources/3_0/two-responses.yaml");
@@ -1301,4 +1335,49 @@ public class DefaultCodegenTest {
         Assert.assertTrue(roundCNext.isCircularReference);
         Assert.assertFalse(roundCOut.isCircularReference);
     }
+
+    @Test
+    public void testCircularReferencesDetectionThroughContainersAndSelfReferences() {
+        // given
+        DefaultCodegen codegen = new DefaultCodegen();
+        final CodegenProperty nodeParent = new CodegenProperty();
+        nodeParent.baseName = "parent";
+        nodeParent.dataType = "Node";
+        final CodegenProperty nodeChildren = new CodegenProperty();
+        nodeChildren.baseName = "children";
+        nodeChildren.isContainer = true;
+        nodeChildren.items = new CodegenProperty();
+        nodeChildren.items.dataType = "Leaf";
+        final CodegenProperty leafOwners = new CodegenProperty();
+        leafOwners.baseName = "owners";
+        leafOwners.isContainer = true;
+        leafOwners.items = new CodegenProperty();
+        leafOwners.items.dataType = "Node";
+        final CodegenProperty leafName = new CodegenProperty();
+        leafName.baseName = "name";
+        leafName.dataType = "String";
+        final CodegenProperty treeRoot = new CodegenProperty();
+        treeRoot.baseName = "root";
+        treeRoot.dataType = "Node";
+        final CodegenModel nodeModel = new CodegenModel();
+        nodeModel.setAllVars(Arrays.asList(nodeParent, nodeChildren));
+        final CodegenModel leafModel = new CodegenModel();
+        leafModel.setAllVars(Arrays.asList(leafOwners, leafName));
+        final CodegenModel treeModel = new CodegenModel();
+        treeModel.setAllVars(Collections.singletonList(treeRoot));
+        final Map<String, CodegenModel> models = new HashMap<>();
+        models.put("Tree", treeModel);
+        models.put("Node", nodeModel);
+        models.put("Leaf", leafModel);
+
+        // when
+        codegen.setCircularReferences(models);
+
+        // then
+        Assert.assertTrue(nodeParent.isCircularReference);
+        Assert.assertTrue(nodeChildren.isCircularReference);
+        Assert.assertTrue(leafOwners.isCircularReference);
+        Assert.assertFalse(leafName.isCircularReference);
+        Assert.assertFalse(treeRoot.isCircularReference);
+    }
 }
@@ -1,6 +1,8 @@
 package org.openapitools.codegen;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import io.swagger.models.Response;
+import io.swagger.v3.core.util.Json;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.PathItem;
@@ -13,15 +15,25 @@ import io.swagger.v3.oas.models.parameters.QueryParameter;
 import io.swagger.v3.oas.models.parameters.RequestBody;
 import io.swagger.v3.oas.models.responses.ApiResponse;
 import io.swagger.v3.oas.models.responses.ApiResponses;
+import org.openapitools.codegen.config.CodegenConfigurator;
 import org.openapitools.codegen.utils.ModelUtils;
 import org.testng.Assert;
+import org.testng.SkipException;
 import org.testng.annotations.Test;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 public class DefaultGeneratorTest {
 
@@ -149,4 +161,288 @@ public class DefaultGeneratorTest {
         Assert.assertFalse(testPathTmp.exists());
         testPath.delete();
     }
+
+    @Test
+    public void minimalUpdateRewritesChangedContents() throws IOException {
+        DefaultCodegen codegen = new DefaultCodegen();
+        codegen.setEnableMinimalUpdate(true);
+        ClientOptInput opts = new ClientOptInput();
+        opts.setOpenAPI(TestUtils.createOpenAPI());
+        opts.setConfig(codegen);
+        DefaultGenerator generator = new DefaultGenerator();
+        generator.opts(opts);
+
+        File testPath = Files.createTempDirectory("minimal").resolve("nested/changed.test").toFile();
+        generator.writeToFile(testPath.toString(), "some file contents");
+        Assert.assertEquals(new String(Files.readAllBytes(testPath.toPath()), StandardCharsets.UTF_8), "some file contents");
+
+        // same size, different contents
+        generator.writeToFile(testPath.toString(), "some file CONTENTS");
+        Assert.assertEquals(new String(Files.readAllBytes(testPath.toPath()), StandardCharsets.UTF_8), "some file CONTENTS");
+        assertNoTempFiles(testPath);
+
+        Assert.assertTrue(AbstractGenerator.contentEquals(testPath, "some file CONTENTS".getBytes(StandardCharsets.UTF_8)));
+        Assert.assertFalse(AbstractGenerator.contentEquals(testPath, "some file CONTENTS!".getBytes(StandardCharsets.UTF_8)));
+        Assert.assertFalse(AbstractGenerator.contentEquals(new File(testPath.getParentFile(), "missing"), new byte[0]));
+    }
+
+    @Test
+    public void minimalUpdateComparesStreamedContents() throws IOException {
+        DefaultCodegen codegen = new DefaultCodegen();
+        codegen.setEnableMinimalUpdate(true);
+        ClientOptInput opts = new ClientOptInput();
+        opts.setOpenAPI(TestUtils.createOpenAPI());
+        opts.setConfig(codegen);
+        DefaultGenerator generator = new DefaultGenerator();
+        generator.opts(opts);
+
+        File testPath = Files.createTempDirectory("minimal").resolve("nested/streamed.test").toFile();
+        generator.writeToFile(testPath.toString(), writer -> writer.write("some file cont\u00e9nts"));
+        Assert.assertEquals(new String(Files.readAllBytes(testPath.toPath()), StandardCharsets.UTF_8), "some file cont\u00e9nts");
+        Assert.assertTrue(testPath.setLastModified(1000L));
+
+        generator.writeToFile(testPath.toString(), writer -> writer.write("some file cont\u00e9nts"));
+        Assert.assertEquals(testPath.lastModified(), 1000L);
+        assertNoTempFiles(testPath);
+
+        generator.writeToFile(testPath.toString(), writer -> writer.write("some file CONT\u00c9NTS"));
+        Assert.assertEquals(new String(Files.readAllBytes(testPath.toPath()), StandardCharsets.UTF_8), "some file CONT\u00c9NTS");
+        assertNoTempFiles(testPath);
+
+        generator.writeToFile(testPath.toString(), writer -> writer.write("some file CONT"));
+        Assert.assertEquals(new String(Files.readAllBytes(testPath.toPath()), StandardCharsets.UTF_8), "some file CONT");
+        generator.writeToFile(testPath.toString(), writer -> writer.write("some file CONTENTS"));
+        Assert.assertEquals(new String(Files.readAllBytes(testPath.toPath()), StandardCharsets.UTF_8), "some file CONTENTS");
+        assertNoTempFiles(testPath);
+    }
+
+    @Test
+    public void failedRenderingKeepsExistingFile() throws IOException {
+        DefaultCodegen codegen = new DefaultCodegen();
+        codegen.setEnableMinimalUpdate(true);
+        ClientOptInput opts = new ClientOptInput();
+        opts.setOpenAPI(TestUtils.createOpenAPI());
+        opts.setConfig(codegen);
+        DefaultGenerator generator = new DefaultGenerator();
+        generator.opts(opts);
+
+        File testPath = Files.createTempDirectory("failed").resolve("streamed.test").toFile();
+        generator.writeToFile(testPath.toString(), writer -> writer.write("some file contents"));
+        for (File file : new File[]{testPath, new File(testPath.getParentFile(), "new.test")}) {
+            try {
+                generator.writeToFile(file.toString(), writer -> {
+                    writer.write("some other");
+                    writer.flush();
+                    throw new IOException("rendering failed");
+                });
+                Assert.fail("the rendering failure must be propagated");
+            } catch (IOException e) {
+                Assert.assertEquals(e.getMessage(), "rendering failed");
+            }
+        }
+        Assert.assertEquals(new String(Files.readAllBytes(testPath.toPath()), StandardCharsets.UTF_8), "some file contents");
+        Assert.assertFalse(new File(testPath.getParentFile(), "new.test").exists());
+        assertNoTempFiles(testPath);
+    }
+
+    @Test
+    public void minimalUpdateReplacesLinkedFilesOnly() throws IOException {
+        DefaultCodegen codegen = new DefaultCodegen();
+        codegen.setEnableMinimalUpdate(true);
+        ClientOptInput opts = new ClientOptInput();
+        opts.setOpenAPI(TestUtils.createOpenAPI());
+        opts.setConfig(codegen);
+        DefaultGenerator generator = new DefaultGenerator();
+        generator.opts(opts);
+
+        Path folder = Files.createTempDirectory("minimal");
+        Path target = Files.write(folder.resolve("target.test"), "some file contents".getBytes(StandardCharsets.UTF_8));
+        Path link;
+        try {
+            link = Files.createSymbolicLink(folder.resolve("linked.test"), target.getFileName());
+        } catch (UnsupportedOperationException | IOException e) {
+            throw new SkipException("symbolic links are not supported", e);
+        }
+        // a file of the user, named as the temporary files used to be
+        Path userFile = Files.write(folder.resolve("linked.test.tmp"), "user contents".getBytes(StandardCharsets.UTF_8));
+
+        generator.writeToFile(link.toString(), writer -> writer.write("some file CONTENTS"));
+        generator.writeToFile(link.toString(), "some other contents");
+
+        Assert.assertTrue(Files.isSymbolicLink(link));
+        Assert.assertEquals(new String(Files.readAllBytes(target), StandardCharsets.UTF_8), "some other contents");
+        Assert.assertEquals(new String(Files.readAllBytes(userFile), StandardCharsets.UTF_8), "user contents");
+        assertNoTempFiles(target.toFile());
+    }
+
+    private static void assertNoTempFiles(File file) {
+        String[] tempFiles = file.getParentFile().list((dir, name) -> name.startsWith(file.getName() + ".") && name.endsWith(".tmp"));
+        Assert.assertEquals(tempFiles.length, 0);
+    }
+
+    @Test
+    public void parallelRenderingMatchesSequentialRendering() throws IOException {
+        Path sequentialOutput = Files.createTempDirectory("sequential");
+        Path parallelOutput = Files.createTempDirectory("parallel");
+
+        List<File> sequentialFiles = generatePetstore(sequentialOutput, 1);
+        List<File> parallelFiles = generatePetstore(parallelOutput, 4);
+
+        List<Path> sequentialPaths = sequentialFiles.stream().map(f -> sequentialOutput.relativize(f.toPath())).collect(Collectors.toList());
+        List<Path> parallelPaths = parallelFiles.stream().map(f -> parallelOutput.relativize(f.toPath())).collect(Collectors.toList());
+        Assert.assertEquals(parallelPaths, sequentialPaths);
+
+        for (Path path : sequentialPaths) {
+            Assert.assertEquals(Files.readAllBytes(parallelOutput.resolve(path)), Files.readAllBytes(sequentialOutput.resolve(path)), path.toString());
+        }
+    }
+
+    @Test
+    public void incrementalGenerationSkipsFilesWithUnchangedInputs() throws IOException {
+        Path output = Files.createTempDirectory("incremental");
+        Path petModel = output.resolve("model_pet.go");
+        Path tagModel = output.resolve("model_tag.go");
+
+        List<String> written = generateIncrementally(output, null);
+        Assert.assertTrue(written.contains(petModel.toString()));
+        Assert.assertTrue(written.contains(tagModel.toString()));
+        Assert.assertTrue(output.resolve(".openapi-generator/FINGERPRINTS").toFile().isFile());
+
+        // nothing changed, only files which don't go through templates (and metadata) are written again
+        written = generateIncrementally(output, null);
+        Assert.assertFalse(written.contains(petModel.toString()));
+        Assert.assertFalse(written.contains(tagModel.toString()));
+        Assert.assertFalse(written.contains(output.resolve("api_pet.go").toString()));
+        Assert.assertFalse(written.contains(output.resolve("README.md").toString()));
+
+        // files modified outside of the generator are generated again
+        byte[] tagContents = Files.readAllBytes(tagModel);
+        Files.write(tagModel, "modified".getBytes(StandardCharsets.UTF_8));
+        written = generateIncrementally(output, null);
+        Assert.assertTrue(written.contains(tagModel.toString()));
+        Assert.assertEquals(Files.readAllBytes(tagModel), tagContents);
+
+        // a change of the spec only affects the files generated from the changed model
+        written = generateIncrementally(output, openAPI -> openAPI.getComponents().getSchemas().get("Pet")
+                .addProperties("nickname", new StringSchema()));
+        Assert.assertTrue(written.contains(petModel.toString()));
+        Assert.assertFalse(written.contains(tagModel.toString()));
+        Assert.assertTrue(new String(Files.readAllBytes(petModel), StandardCharsets.UTF_8).contains("Nickname"));
+    }
+
+    private List<String> generateIncrementally(Path output, Consumer<OpenAPI> specChange) {
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+                .setGeneratorName("go")
+                .setInputSpec("src/test/resources/3_0/petstore.yaml")
+                .setIncrementalGeneration(true)
+                .setOutputDir(output.toAbsolutePath().toString().replace("\\", "/"));
+        ClientOptInput input = configurator.toClientOptInput();
+        if (specChange != null) {
+            specChange.accept(input.getOpenAPI());
+        }
+
+        List<String> written = Collections.synchronizedList(new ArrayList<>());
+        DefaultGenerator generator = new DefaultGenerator() {
+            @Override
+            public File writeToFile(String filename, byte[] contents) throws IOException {
+                written.add(new File(filename).getAbsolutePath());
+                return super.writeToFile(filename, contents);
+            }
+
+            @Override
+            public File writeToFile(String filename, FileContents contents) throws IOException {
+                written.add(new File(filename).getAbsolutePath());
+                return super.writeToFile(filename, contents);
+            }
+        };
+        generator.opts(input).generate();
+        return written;
+    }
+
+    @Test
+    public void profiledGenerationWritesReport() throws IOException {
+        Path output = Files.createTempDirectory("profile");
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+                .setGeneratorName("go")
+                .setInputSpec("src/test/resources/3_0/petstore.yaml")
+                .setProfileGeneration(true)
+                .setRenderingThreads(2)
+                .setOutputDir(output.toAbsolutePath().toString().replace("\\", "/"));
+
+        List<File> files = new DefaultGenerator().opts(configurator.toClientOptInput()).generate();
+        File report = output.resolve(".openapi-generator/PROFILE.json").toFile();
+        Assert.assertTrue(files.contains(report));
+
+        JsonNode profile = Json.mapper().readTree(report);
+        Assert.assertEquals(profile.get("generator").asText(), "go");
+        Map<String, JsonNode> phases = new HashMap<>();
+        for (JsonNode phase : profile.get("phases")) {
+            phases.put(phase.get("stack").asText(), phase);
+        }
+        Assert.assertEquals(phases.get("generate").get("count").asLong(), 1);
+        // 6 schemas and 2 inline form objects, rendered on other threads but attributed to their phase
+        Assert.assertEquals(phases.get("generate;generateModels;fromModel").get("count").asLong(), 8);
+        Assert.assertTrue(phases.containsKey("generate;generateModels;render"));
+        // compiled once per run, apart from its renderings
+        Assert.assertTrue(phases.containsKey("generate;generateModels;render;compile"));
+        Assert.assertTrue(phases.containsKey("generate;generateApis;processPaths;fromOperation"));
+        Assert.assertTrue(phases.containsKey("generate;generateSupportingFiles;write"));
+
+        List<String> templates = new ArrayList<>();
+        profile.get("templates").forEach(template -> {
+            templates.add(template.get("template").asText());
+            Assert.assertTrue(template.has("compileMillis"));
+        });
+        Assert.assertTrue(templates.contains("model.mustache"));
+        Assert.assertTrue(templates.contains("api.mustache"));
+        Assert.assertEquals(profile.get("files").get("written").asLong(), files.size() - 1);
+        Assert.assertTrue(profile.get("files").get("bytes").asLong() > 0);
+        Assert.assertTrue(profile.get("caches").has("camelize"));
+        Assert.assertEquals(profile.get("folded").size(), phases.size());
+    }
+
+    @Test
+    public void generationIsNotProfiledByDefault() throws IOException {
+        Path output = Files.createTempDirectory("noprofile");
+        generatePetstore(output, 1);
+        Assert.assertFalse(output.resolve(".openapi-generator/PROFILE.json").toFile().exists());
+    }
+
+    private List<File> generatePetstore(Path output, int renderingThreads) {
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+                .setGeneratorName("go")
+                .setInputSpec("src/test/resources/3_0/petstore.yaml")
+                .setRenderingThreads(renderingThreads)
+                .setOutputDir(output.toAbsolutePath().toString().replace("\\", "/"));
+
+        DefaultGenerator generator = new DefaultGenerator();
+        return generator.opts(configurator.toClientOptInput()).generate();
+    }
+
+    @Test
+    public void templateLookupsAreServedFromIndex() throws IOException {
+        Path templateDir = Files.createTempDirectory("templates");
+        Path customTemplate = templateDir.resolve("model.mustache");
+        Files.write(customTemplate, "custom".getBytes("UTF-8"));
+
+        DefaultCodegen config = new DefaultCodegen();
+        config.setTemplateDir(templateDir.toString());
+        ClientOptInput opts = new ClientOptInput();
+        opts.setOpenAPI(TestUtils.createOpenAPI());
+        opts.setConfig(config);
+        DefaultGenerator generator = new DefaultGenerator();
+        generator.opts(opts);
+
+        Assert.assertEquals(generator.getFullTemplateFile(config, "model.mustache"), customTemplate.toString());
+        Assert.assertEquals(generator.getFullTemplateContents("model.mustache"), "custom");
+
+        // resolved paths and contents are indexed, so removing the file has no effect until the index is cleared
+        Files.delete(customTemplate);
+        Assert.assertEquals(generator.getFullTemplateFile(config, "model.mustache"), customTemplate.toString());
+        Assert.assertEquals(generator.getFullTemplateContents("model.mustache"), "custom");
+
+        generator.clearTemplateIndex();
+        Assert.assertEquals(generator.getFullTemplateFile(config, "model.mustache"),
+                config.embeddedTemplateDir() + File.separator + "model.mustache");
+    }
 }
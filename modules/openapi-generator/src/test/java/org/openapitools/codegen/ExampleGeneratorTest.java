@@ -8,6 +8,7 @@ import java.util.*;
 
 import static org.testng.AssertJUnit.assertEquals;
 import static org.testng.AssertJUnit.assertNull;
+import static org.testng.AssertJUnit.assertSame;
 
 public class ExampleGeneratorTest {
     @Test
@@ -151,4 +152,25 @@ public class ExampleGeneratorTest {
         assertEquals(String.format(Locale.ROOT, "{%n  \"example_schema_property\" : \"example schema property value\"%n}"), examples.get(0).get("example"));
         assertEquals("200", examples.get(0).get("statusCode"));
     }
+
+    @Test
+    public void modelExamplesAreSharedByGenerators() {
+        OpenAPI openAPI = TestUtils.parseSpec("src/test/resources/3_0/example_generator_test.yaml");
+
+        new InlineModelResolver().flatten(openAPI);
+
+        List<String> mediaTypes = Arrays.asList("application/json", "application/xml");
+        List<Map<String, String>> first = new ExampleGenerator(openAPI.getComponents().getSchemas(), openAPI)
+                .generate(null, mediaTypes, "ExampleSchema");
+        List<Map<String, String>> second = new ExampleGenerator(openAPI.getComponents().getSchemas(), openAPI)
+                .generate(null, mediaTypes, "ExampleSchema");
+
+        assertEquals(2, first.size());
+        assertEquals(2, second.size());
+        assertEquals(String.format(Locale.ROOT, "{%n  \"example_schema_property\" : \"example schema property value\"%n}"), first.get(0).get("example"));
+        // serialized once for the document
+        assertSame(first.get(0).get("example"), second.get(0).get("example"));
+        assertSame(first.get(1).get("example"), second.get(1).get("example"));
+        assertEquals("application/xml", second.get(1).get("contentType"));
+    }
 }
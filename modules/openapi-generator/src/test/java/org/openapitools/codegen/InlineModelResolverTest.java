@@ -221,6 +221,38 @@ public class InlineModelResolverTest {
         assertNotNull(duplicateAddress.getProperties().get("apartment"));
     }
 
+    @Test
+    public void resolveManyInlineModelsWithSameTitle() {
+        OpenAPI openapi = new OpenAPI();
+        openapi.setComponents(new Components());
+        for (int i = 0; i < 50; i++) {
+            // every other model has the same address as the previous one
+            openapi.getComponents().addSchemas("User" + i, new ObjectSchema()
+                    .addProperties("address", new ObjectSchema()
+                            .title("Address")
+                            .addProperties("street", new StringSchema())
+                            .addProperties("number" + (i / 2), new IntegerSchema())));
+        }
+        openapi.getComponents().addSchemas("Address_3", new ObjectSchema().addProperties("id", new StringSchema()));
+
+        new InlineModelResolver().flatten(openapi);
+
+        Map<String, Schema> schemas = openapi.getComponents().getSchemas();
+        assertEquals(addressRef(schemas, "User0"), "#/components/schemas/Address");
+        assertEquals(addressRef(schemas, "User1"), "#/components/schemas/Address");
+        assertEquals(addressRef(schemas, "User2"), "#/components/schemas/Address_1");
+        assertEquals(addressRef(schemas, "User5"), "#/components/schemas/Address_2");
+        // Address_3 was defined in the spec
+        assertEquals(addressRef(schemas, "User7"), "#/components/schemas/Address_4");
+        assertEquals(addressRef(schemas, "User49"), "#/components/schemas/Address_25");
+        assertNotNull(schemas.get("Address_25").getProperties().get("number24"));
+        assertNull(schemas.get("Address_26"));
+    }
+
+    private static String addressRef(Map<String, Schema> schemas, String model) {
+        return ((Schema) schemas.get(model).getProperties().get("address")).get$ref();
+    }
+
     @Test
     public void testInlineResponseModel() {
         OpenAPI openapi = new OpenAPI();
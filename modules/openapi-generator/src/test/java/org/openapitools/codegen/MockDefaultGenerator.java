@@ -20,6 +20,7 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -48,6 +49,13 @@ public class MockDefaultGenerator extends DefaultGenerator {
         return new File(filename);
     }
 
+    @Override
+    public File writeToFile(String filename, FileContents contents) throws IOException {
+        StringWriter writer = new StringWriter();
+        contents.writeTo(writer);
+        return writeToFile(filename, writer.toString());
+    }
+
     private String normalizePath(String filename) {
         return filename.replace("\\", "/").replace("//", "/");
     }
@@ -0,0 +1,112 @@
+package org.openapitools.codegen;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.BinarySchema;
+import io.swagger.v3.oas.models.media.BooleanSchema;
+import io.swagger.v3.oas.models.media.ByteArraySchema;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.DateSchema;
+import io.swagger.v3.oas.models.media.DateTimeSchema;
+import io.swagger.v3.oas.models.media.EmailSchema;
+import io.swagger.v3.oas.models.media.FileSchema;
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.MapSchema;
+import io.swagger.v3.oas.models.media.NumberSchema;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.PasswordSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import io.swagger.v3.oas.models.media.UUIDSchema;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+public class SchemaFingerprintTest {
+
+    private static Schema address() {
+        return new ObjectSchema()
+                .title("Address")
+                .description("an address")
+                .addProperties("street", new StringSchema().maxLength(100))
+                .addProperties("lines", new ArraySchema().items(new StringSchema()))
+                .addProperties("number", new IntegerSchema().example(12))
+                .required(Arrays.asList("street"));
+    }
+
+    private static void assertSameFingerprint(Schema first, Schema second, boolean same) {
+        SchemaFingerprint fingerprint = new SchemaFingerprint();
+        Assert.assertEquals(Json.pretty(first).equals(Json.pretty(second)), same);
+        Assert.assertEquals(fingerprint.of(first).equals(fingerprint.of(second)), same);
+    }
+
+    @Test
+    public void fingerprintsMatchJsonRepresentations() {
+        assertSameFingerprint(address(), address(), true);
+        // neither the name nor the Java type is serialized
+        assertSameFingerprint(address().name("a"), new Schema().type("object").name("b")
+                .title("Address")
+                .description("an address")
+                .addProperties("street", new StringSchema().maxLength(100))
+                .addProperties("lines", new ArraySchema().items(new StringSchema()))
+                .addProperties("number", new IntegerSchema().example(12))
+                .required(Arrays.asList("street")), true);
+        // empty extensions are not serialized, unlike empty lists
+        Schema withoutExtensions = new ObjectSchema();
+        withoutExtensions.setExtensions(new HashMap<>());
+        assertSameFingerprint(withoutExtensions, new ObjectSchema(), true);
+        assertSameFingerprint(new ObjectSchema().required(new ArrayList<>()), new ObjectSchema(), false);
+
+        assertSameFingerprint(address(), address().description("another address"), false);
+        assertSameFingerprint(address(), address().addProperties("zip", new StringSchema()), false);
+        assertSameFingerprint(address(), address().required(Arrays.asList("number")), false);
+        assertSameFingerprint(address(), address().addProperties("lines", new ArraySchema().items(new IntegerSchema())), false);
+        assertSameFingerprint(new Schema().example(12), new Schema().example("12"), false);
+        assertSameFingerprint(new ObjectSchema().addProperties("a", new StringSchema()).addProperties("b", new StringSchema()),
+                new ObjectSchema().addProperties("b", new StringSchema()).addProperties("a", new StringSchema()), false);
+        assertSameFingerprint(new ComposedSchema().addAllOfItem(address()), new ComposedSchema().addOneOfItem(address()), false);
+    }
+
+    @Test
+    public void fingerprintsAreCachedAndCycleSafe() {
+        SchemaFingerprint fingerprint = new SchemaFingerprint();
+        Schema address = address();
+        String first = fingerprint.of(address);
+        address.setDescription("changed after being fingerprinted");
+        Assert.assertEquals(fingerprint.of(address), first);
+
+        Schema node = new ObjectSchema().addProperties("name", new StringSchema());
+        node.addProperties("next", node);
+        Schema other = new ObjectSchema().addProperties("name", new StringSchema());
+        other.addProperties("next", other);
+        Assert.assertEquals(fingerprint.of(node), fingerprint.of(other));
+    }
+
+    @Test
+    public void fingerprintsCoverAllSerializedAttributes() {
+        ObjectMapper mapper = Json.mapper();
+        List<Class<? extends Schema>> types = Arrays.asList(Schema.class, ArraySchema.class, ComposedSchema.class,
+                MapSchema.class, ObjectSchema.class, StringSchema.class, IntegerSchema.class, NumberSchema.class,
+                BooleanSchema.class, DateSchema.class, DateTimeSchema.class, BinarySchema.class, ByteArraySchema.class,
+                EmailSchema.class, FileSchema.class, PasswordSchema.class, UUIDSchema.class);
+        for (Class<? extends Schema> type : types) {
+            BeanDescription description = mapper.getSerializationConfig().introspect(mapper.constructType(type));
+            Set<String> missing = new TreeSet<>();
+            for (BeanPropertyDefinition property : description.findProperties()) {
+                if (property.couldSerialize() && !SchemaFingerprint.ATTRIBUTES.contains(property.getName())) {
+                    missing.add(property.getName());
+                }
+            }
+            Assert.assertTrue(missing.isEmpty(), type.getSimpleName() + " attributes missing from the fingerprint: " + missing);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TemplateDataDigestTest {
+
+    @Test
+    public void modelsAreDigestedOnceForAllFiles() {
+        AtomicInteger computed = new AtomicInteger();
+        CodegenModel model = new CodegenModel();
+        model.name = "Pet";
+        model.setModelJsonSupplier(() -> {
+            computed.incrementAndGet();
+            return "{}";
+        });
+
+        TemplateDataDigest.Units units = new TemplateDataDigest.Units();
+        Map<String, Object> modelFile = new HashMap<>();
+        modelFile.put("model", model);
+        Map<String, Object> supportingFile = new HashMap<>();
+        supportingFile.put("models", Collections.singletonList(Collections.singletonMap("model", model)));
+
+        String pet = digest(modelFile, units);
+        digest(supportingFile, units);
+        Assert.assertEquals(computed.get(), 1);
+        Assert.assertEquals(digest(modelFile, units), pet);
+        Assert.assertEquals(digest(modelFile, new TemplateDataDigest.Units()), pet);
+    }
+
+    @Test
+    public void digestFollowsTemplateData() {
+        CodegenModel model = new CodegenModel();
+        model.name = "Pet";
+        String pet = digest(model);
+        Assert.assertEquals(digest(model), pet);
+
+        model.name = "Tag";
+        Assert.assertNotEquals(digest(model), pet);
+
+        model.name = "Pet";
+        model.setModelJson("{\"type\": \"object\"}");
+        Assert.assertNotEquals(digest(model), pet);
+    }
+
+    @Test
+    public void digestFollowsReferencedModels() {
+        CodegenModel parent = new CodegenModel();
+        parent.name = "Animal";
+        CodegenModel child = new CodegenModel();
+        child.name = "Pet";
+        child.parentModel = parent;
+        parent.children = Collections.singletonList(child);
+
+        String pet = digest(child);
+        Assert.assertEquals(digest(child), pet);
+
+        parent.description = "an animal";
+        Assert.assertNotEquals(digest(child), pet);
+    }
+
+    @Test
+    public void sharedDataIsLeftOut() {
+        Map<String, Object> shared = Collections.singletonMap("appName", "Petstore");
+        Map<String, Object> otherShared = Collections.singletonMap("appName", "Bookstore");
+        Map<String, Object> data = new HashMap<>(shared);
+        Map<String, Object> otherData = new HashMap<>(otherShared);
+
+        Assert.assertEquals(new TemplateDataDigest(Collections.emptySet()).addTemplateData(data, shared).hex(),
+                new TemplateDataDigest(Collections.emptySet()).addTemplateData(otherData, otherShared).hex());
+        Assert.assertNotEquals(new TemplateDataDigest(Collections.emptySet()).addTemplateData(data, Collections.emptyMap()).hex(),
+                new TemplateDataDigest(Collections.emptySet()).addTemplateData(otherData, Collections.emptyMap()).hex());
+    }
+
+    @Test
+    public void lambdasContributeTheirType() {
+        Map<String, Object> data = Collections.singletonMap("lambda", lambda());
+        Map<String, Object> otherData = Collections.singletonMap("lambda", lambda());
+        Assert.assertNotEquals(data.get("lambda").toString(), otherData.get("lambda").toString());
+
+        Assert.assertEquals(new TemplateDataDigest(Collections.emptySet()).addTemplateData(data).hex(),
+                new TemplateDataDigest(Collections.emptySet()).addTemplateData(otherData).hex());
+        Assert.assertNotEquals(new TemplateDataDigest(Collections.emptySet()).addTemplateData(data).hex(),
+                new TemplateDataDigest(Collections.emptySet()).addTemplateData(Collections.singletonMap("lambda", Arrays.asList("a"))).hex());
+    }
+
+    private static Comparator<String> lambda() {
+        // a new instance of the same lambda class on each call
+        return Comparator.comparing(String::length);
+    }
+
+    private static String digest(CodegenModel model) {
+        Map<String, Object> data = new HashMap<>();
+        data.put("model", model);
+        return digest(data, new TemplateDataDigest.Units());
+    }
+
+    private static String digest(Map<String, Object> data, TemplateDataDigest.Units units) {
+        return new TemplateDataDigest(Collections.emptySet(), units).addTemplateData(data).hex();
+    }
+}
@@ -0,0 +1,158 @@
+package org.openapitools.codegen.config;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.parser.core.models.AuthorizationValue;
+import io.swagger.v3.parser.core.models.ParseOptions;
+import io.swagger.v3.parser.core.models.SwaggerParseResult;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.*;
+
+public class ParsedSpecCacheTest {
+
+    @DataProvider(name = "specs")
+    public Object[][] specs() {
+        return new Object[][]{
+                {"src/test/resources/3_0/petstore-with-fake-endpoints-models-for-testing.yaml"},
+                {"src/test/resources/3_0/3248-regression-dates.yaml"},
+                {"src/test/resources/3_0/allOf-required.yaml"},
+                {"src/test/resources/3_0/composed-oneof.yaml"},
+                {"src/test/resources/3_0/callbacks.yaml"},
+                {"src/test/resources/3_0/recursion.yaml"},
+                {"src/test/resources/2_0/petstore-with-fake-endpoints-models-for-testing.yaml"},
+                {"src/test/resources/2_0/petstore-bash.json"},
+        };
+    }
+
+    @Test(dataProvider = "specs")
+    public void copiesAreEquivalentToTheParsedSpec(String inputSpec) throws Exception {
+        CountingCache cache = new CountingCache();
+        SwaggerParseResult first = cache.parse(inputSpec, null, resolve());
+        SwaggerParseResult second = cache.parse(inputSpec, null, resolve());
+
+        assertEquals(cache.reads.get(), 1);
+        assertEquals(second.getMessages(), first.getMessages());
+        assertNotSame(second.getOpenAPI(), first.getOpenAPI());
+        assertEquivalent(second.getOpenAPI(), first.getOpenAPI(), "openAPI", new IdentityHashMap<>());
+        assertEquivalent(first.getOpenAPI(), cache.parsed.getOpenAPI(), "openAPI", new IdentityHashMap<>());
+    }
+
+    @Test
+    public void copiesAreIsolated() {
+        ParsedSpecCache cache = new ParsedSpecCache();
+        String inputSpec = "src/test/resources/3_0/petstore.yaml";
+        OpenAPI first = cache.parse(inputSpec, null, resolve()).getOpenAPI();
+
+        Schema pet = first.getComponents().getSchemas().get("Pet");
+        pet.getProperties().remove("name");
+        pet.getRequired().clear();
+        first.getPaths().remove("/pet");
+
+        OpenAPI second = cache.parse(inputSpec, null, resolve()).getOpenAPI();
+        assertTrue(second.getComponents().getSchemas().get("Pet").getProperties().containsKey("name"));
+        assertEquals(second.getComponents().getSchemas().get("Pet").getRequired().size(), 2);
+        assertNotNull(second.getPaths().get("/pet"));
+    }
+
+    @Test
+    public void specsAreKeyedByContentAndOptions() throws Exception {
+        Path spec = Files.createTempFile("spec", ".yaml");
+        try {
+            Files.write(spec, Files.readAllBytes(new File("src/test/resources/3_0/ping.yaml").toPath()));
+            CountingCache cache = new CountingCache();
+            cache.parse(spec.toString(), null, resolve());
+            cache.parse(spec.toAbsolutePath().toString(), null, resolve());
+            assertEquals(cache.reads.get(), 1);
+
+            cache.parse(spec.toString(), null, new ParseOptions());
+            assertEquals(cache.reads.get(), 2);
+
+            String modified = new String(Files.readAllBytes(spec), StandardCharsets.UTF_8).replace("/ping", "/pong");
+            Files.write(spec, modified.getBytes(StandardCharsets.UTF_8));
+            OpenAPI openAPI = cache.parse(spec.toString(), null, resolve()).getOpenAPI();
+            assertEquals(cache.reads.get(), 3);
+            assertNotNull(openAPI.getPaths().get("/pong"));
+        } finally {
+            Files.delete(spec);
+        }
+    }
+
+    private static ParseOptions resolve() {
+        ParseOptions options = new ParseOptions();
+        options.setResolve(true);
+        return options;
+    }
+
+    /**
+     * Asserts that the values have the same types and properties, and that model objects aren't shared.
+     */
+    private static void assertEquivalent(Object actual, Object expected, String path, Map<Object, Object> visited) throws Exception {
+        if (expected == null || actual == null) {
+            assertEquals(actual, expected, path);
+            return;
+        }
+        assertEquals(actual.getClass(), expected.getClass(), path);
+        if (visited.containsKey(expected)) {
+            assertSame(actual, visited.get(expected), path);
+            return;
+        }
+        if (expected instanceof Map) {
+            visited.put(expected, actual);
+            assertNotSame(actual, expected, path);
+            Map<?, ?> expectedMap = (Map<?, ?>) expected;
+            Map<?, ?> actualMap = (Map<?, ?>) actual;
+            assertEquals(new ArrayList<>(actualMap.keySet()), new ArrayList<>(expectedMap.keySet()), path);
+            for (Map.Entry<?, ?> entry : expectedMap.entrySet()) {
+                assertEquivalent(actualMap.get(entry.getKey()), entry.getValue(), path + "." + entry.getKey(), visited);
+            }
+        } else if (expected instanceof Collection) {
+            visited.put(expected, actual);
+            assertNotSame(actual, expected, path);
+            assertEquals(((Collection<?>) actual).size(), ((Collection<?>) expected).size(), path);
+            Iterator<?> actualItems = ((Collection<?>) actual).iterator();
+            int i = 0;
+            for (Object item : (Collection<?>) expected) {
+                assertEquivalent(actualItems.next(), item, path + "[" + i++ + "]", visited);
+            }
+        } else if (!(expected instanceof Enum) && expected.getClass().getName().startsWith("io.swagger.v3.oas.models.")) {
+            visited.put(expected, actual);
+            assertNotSame(actual, expected, path);
+            for (PropertyDescriptor property : Introspector.getBeanInfo(expected.getClass(), Object.class).getPropertyDescriptors()) {
+                if (property.getReadMethod() != null) {
+                    assertEquivalent(property.getReadMethod().invoke(actual), property.getReadMethod().invoke(expected),
+                            path + "." + property.getName(), visited);
+                }
+            }
+        } else {
+            assertEquals(actual, expected, path);
+        }
+    }
+
+    private static class CountingCache extends ParsedSpecCache {
+        final AtomicInteger reads = new AtomicInteger();
+        SwaggerParseResult parsed;
+
+        @Override
+        protected SwaggerParseResult read(String inputSpec, List<AuthorizationValue> authorizationValues, ParseOptions options) {
+            reads.incrementAndGet();
+            parsed = super.read(inputSpec, authorizationValues, options);
+            return parsed;
+        }
+    }
+}
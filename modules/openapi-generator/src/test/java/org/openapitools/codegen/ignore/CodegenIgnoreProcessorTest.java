@@ -0,0 +1,133 @@
+package org.openapitools.codegen.ignore;
+
+import org.openapitools.codegen.ignore.rules.DirectoryRule;
+import org.openapitools.codegen.ignore.rules.Rule;
+import org.openapitools.codegen.ignore.rules.RuleSet;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+
+public class CodegenIgnoreProcessorTest {
+    private static final List<String> PATHS = Arrays.asList(
+            "README.md", "readme.md", ".travis.yml", "build.gradle", "pom.xml", "git_push.sh", "api.txt",
+            "docs/Pet.md", "docs/api/PetApi.md", "docs/nested/deep/file.md",
+            "src/main/java/org/openapitools/model/Pet.java", "src/main/java/org/openapitools/api/PetApi.java",
+            "src/test/java/org/openapitools/api/PetApiTest.java", "src/main/resources/application.properties",
+            "test/test_pet.py", "petstore/models/pet.py", "petstore/__init__.py", "ISSUE_1234.log", "logs/debug.log",
+            "foo/bar/baz/file.txt", "baz/file.txt", "bar/file.txt", "file.txt", "file.txt.bak", "a/file.TXT", "noextension",
+            "a/b", "a/x/b", "a/x/y/b", "abc/def/ghi.md", "build/generated/Foo.kt", ".openapi-generator/VERSION");
+
+    private File output;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        output = Files.createTempDirectory("ignore").toFile();
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        org.apache.commons.io.FileUtils.deleteQuietly(output);
+    }
+
+    private CodegenIgnoreProcessor processor(String... lines) throws IOException {
+        File ignoreFile = new File(output, ".openapi-generator-ignore");
+        Files.write(ignoreFile.toPath(), String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+        return new CodegenIgnoreProcessor(output.getAbsolutePath());
+    }
+
+    @DataProvider(name = "ignoreFiles")
+    public Object[][] ignoreFiles() {
+        return new Object[][]{
+                {new String[]{"# comment", "", "README.md"}},
+                {new String[]{"docs/", "!docs/Pet.md"}},
+                {new String[]{"docs/*.md", "!docs/Pet.md"}},
+                {new String[]{"**/*.md", "!README.md", "!**/PetApi.md"}},
+                {new String[]{"*.txt", "/*.md", "/noextension", "/git_*.sh"}},
+                {new String[]{"src/main/java/**", "!src/main/java/org/openapitools/api/PetApi.java"}},
+                {new String[]{"baz/", "!foo/bar/baz/"}},
+                {new String[]{"foo/bar/baz/", "!bar/"}},
+                {new String[]{"**/*.log", "!ISSUE_1234.log"}},
+                {new String[]{"a/**/b", "abc/**", "**/Foo.kt", "**/test_*.py", "petstore/*.py"}},
+                {new String[]{"**/*", "!README.md", "!docs/", "!**/*.java"}},
+                {new String[]{"*.bak", "**/file.*", "!a/file.TXT", "/.travis.yml", ".openapi-generator/"}},
+                {new String[]{"**/{Pet,PetApi}.java", "src/*/java/**/*Test.java", "[a-c]*.txt"}},
+                {new String[]{".", "!.", "../outside", "/a(*.txt", "*.log"}},
+        };
+    }
+
+    @Test(dataProvider = "ignoreFiles")
+    public void testCompiledRulesMatchRuleByRuleEvaluation(String[] lines) throws IOException {
+        CodegenIgnoreProcessor processor = processor(lines);
+        for (String path : PATHS) {
+            File file = new File(output, path);
+            Assert.assertEquals(processor.allowsFile(file), evaluateEachRule(processor, path),
+                    "Unexpected outcome for " + path + " with " + Arrays.toString(lines));
+        }
+    }
+
+    @Test
+    public void testExplain() throws IOException {
+        CodegenIgnoreProcessor processor = processor("docs/", "*.md", "!README.md", "!docs/Pet.md");
+
+        RuleSet.Decision readme = processor.explain(new File(output, "README.md"));
+        Assert.assertTrue(readme.isAllowed());
+        Assert.assertEquals(readme.getExcludedBy().getDefinition(), "*.md");
+        Assert.assertEquals(readme.getIncludedBy().getDefinition(), "!README.md");
+        Assert.assertEquals(readme.toString(), "README.md: allowed, excluded by '*.md' then included by '!README.md'");
+
+        // a file excluded by its parent directory can't be included again
+        RuleSet.Decision pet = processor.explain(new File(output, "docs/Pet.md"));
+        Assert.assertFalse(pet.isAllowed());
+        Assert.assertEquals(pet.getExcludedBy().getDefinition(), "docs/");
+        Assert.assertNull(pet.getIncludedBy());
+        Assert.assertEquals(pet.toString(), "docs/Pet.md: ignored, excluded by 'docs/'");
+
+        RuleSet.Decision pom = processor.explain(new File(output, "pom.xml"));
+        Assert.assertTrue(pom.isAllowed());
+        Assert.assertNull(pom.getExcludedBy());
+        Assert.assertEquals(pom.toString(), "pom.xml: allowed, no rule matches");
+    }
+
+    @Test
+    public void testWithoutIgnoreFile() {
+        CodegenIgnoreProcessor processor = new CodegenIgnoreProcessor(output.getAbsolutePath());
+        Assert.assertTrue(processor.allowsFile(new File(output, "README.md")));
+        Assert.assertTrue(processor.explain(new File(output, "README.md")).isAllowed());
+    }
+
+    /**
+     * Evaluates every rule of the ignore file in turn.
+     */
+    private static boolean evaluateEachRule(CodegenIgnoreProcessor processor, String path) {
+        boolean directoryExcluded = false;
+        boolean exclude = false;
+        for (Rule current : processor.getExclusionRules()) {
+            Rule.Operation op = current.evaluate(path);
+            if (op == Rule.Operation.EXCLUDE_AND_TERMINATE) {
+                break;
+            }
+            if (op == Rule.Operation.EXCLUDE) {
+                exclude = true;
+                if (current instanceof DirectoryRule) {
+                    directoryExcluded = true;
+                }
+            }
+        }
+        for (Rule current : processor.getInclusionRules()) {
+            if (exclude && current.evaluate(path) == Rule.Operation.INCLUDE
+                    && ((current instanceof DirectoryRule && directoryExcluded) || !directoryExcluded)) {
+                exclude = false;
+            }
+        }
+        return !exclude;
+    }
+}
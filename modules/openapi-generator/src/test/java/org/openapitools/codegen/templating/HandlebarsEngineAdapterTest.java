@@ -0,0 +1,122 @@
+package org.openapitools.codegen.templating;
+
+import org.openapitools.codegen.api.TemplatingGenerator;
+import org.testng.annotations.Test;
+
+import java.io.StringWriter;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.testng.Assert.assertEquals;
+
+public class HandlebarsEngineAdapterTest {
+
+    private static class CountingGenerator implements TemplatingGenerator {
+        final Map<String, String> templates = new HashMap<>();
+        final Map<String, Integer> reads = new ConcurrentHashMap<>();
+
+        @Override
+        public String getFullTemplateContents(String name) {
+            reads.merge(name, 1, Integer::sum);
+            String contents = templates.get(name);
+            if (contents == null) {
+                throw new RuntimeException("can't load template " + name);
+            }
+            return contents;
+        }
+
+        @Override
+        public Path getFullTemplatePath(String name) {
+            return Paths.get("templates", name);
+        }
+    }
+
+    @Test
+    public void compiledTemplatesAreReused() throws Exception {
+        CountingGenerator generator = new CountingGenerator();
+        generator.templates.put("model.handlebars", "// {{name}}");
+        generator.templates.put("api.handlebars", "// {{lower name}}Api");
+
+        HandlebarsEngineAdapter adapter = new HandlebarsEngineAdapter();
+        for (String name : new String[]{"Pet", "Tag", "Category"}) {
+            Map<String, Object> bundle = new HashMap<>();
+            bundle.put("name", name);
+            assertEquals(adapter.compileTemplate(generator, bundle, "model.handlebars"), "// " + name);
+            assertEquals(adapter.compileTemplate(generator, bundle, "api.handlebars"), "// " + name.toLowerCase() + "Api");
+        }
+
+        assertEquals(generator.reads.get("model.handlebars").intValue(), 1);
+        assertEquals(generator.reads.get("api.handlebars").intValue(), 1);
+    }
+
+    @Test
+    public void templatesAreNotSharedBetweenGenerators() throws Exception {
+        CountingGenerator first = new CountingGenerator();
+        first.templates.put("model.handlebars", "first {{name}}");
+        CountingGenerator second = new CountingGenerator();
+        second.templates.put("model.handlebars", "second {{name}}");
+
+        HandlebarsEngineAdapter adapter = new HandlebarsEngineAdapter();
+        Map<String, Object> bundle = new HashMap<>();
+        bundle.put("name", "Pet");
+        assertEquals(adapter.compileTemplate(first, bundle, "model.handlebars"), "first Pet");
+        assertEquals(adapter.compileTemplate(second, bundle, "model.handlebars"), "second Pet");
+
+        adapter.clearTemplateCache();
+        assertEquals(adapter.compileTemplate(second, bundle, "model.handlebars"), "second Pet");
+        assertEquals(second.reads.get("model.handlebars").intValue(), 2);
+    }
+
+    @Test
+    public void templatesAreRenderedConcurrently() throws Exception {
+        CountingGenerator generator = new CountingGenerator();
+        generator.templates.put("model.handlebars", "{{name}}: {{#each vars}}{{upper this}};{{/each}}");
+
+        HandlebarsEngineAdapter adapter = new HandlebarsEngineAdapter();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                final int index = i;
+                results.add(executor.submit((Callable<String>) () -> {
+                    Map<String, Object> bundle = new HashMap<>();
+                    bundle.put("name", "Model" + index);
+                    List<String> vars = new ArrayList<>();
+                    vars.add("id" + index);
+                    vars.add("name");
+                    bundle.put("vars", vars);
+                    return adapter.compileTemplate(generator, bundle, "model.handlebars");
+                }));
+            }
+            for (int i = 0; i < results.size(); i++) {
+                assertEquals(results.get(i).get(), "Model" + i + ": ID" + i + ";NAME;");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(generator.reads.get("model.handlebars").intValue(), 1);
+    }
+
+    @Test
+    public void templatesAreRenderedIntoWriters() throws Exception {
+        CountingGenerator generator = new CountingGenerator();
+        generator.templates.put("model.handlebars", "// {{name}}");
+
+        HandlebarsEngineAdapter adapter = new HandlebarsEngineAdapter();
+        Map<String, Object> bundle = new HashMap<>();
+        bundle.put("name", "Pet");
+        StringWriter writer = new StringWriter();
+        adapter.compileTemplate(generator, bundle, "model.handlebars", writer);
+        assertEquals(writer.toString(), adapter.compileTemplate(generator, bundle, "model.handlebars"));
+        assertEquals(writer.toString(), "// Pet");
+    }
+}
@@ -0,0 +1,86 @@
+package org.openapitools.codegen.templating;
+
+import com.samskivert.mustache.Mustache;
+import org.openapitools.codegen.api.TemplatingGenerator;
+import org.testng.annotations.Test;
+
+import java.io.StringWriter;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+
+public class MustacheEngineAdapterTest {
+
+    private static class CountingGenerator implements TemplatingGenerator {
+        final Map<String, String> templates = new HashMap<>();
+        final Map<String, Integer> reads = new HashMap<>();
+
+        @Override
+        public String getFullTemplateContents(String name) {
+            reads.merge(name, 1, Integer::sum);
+            String contents = templates.get(name);
+            if (contents == null) {
+                throw new RuntimeException("can't load template " + name);
+            }
+            return contents;
+        }
+
+        @Override
+        public Path getFullTemplatePath(String name) {
+            return Paths.get("templates", name);
+        }
+    }
+
+    @Test
+    public void compiledTemplatesAndPartialsAreReused() throws Exception {
+        CountingGenerator generator = new CountingGenerator();
+        generator.templates.put("model.mustache", "{{>header}}{{name}}");
+        generator.templates.put("api.mustache", "{{>header}}{{name}}Api");
+        generator.templates.put("header.mustache", "// ");
+
+        MustacheEngineAdapter adapter = new MustacheEngineAdapter();
+        for (String name : new String[]{"Pet", "Tag", "Category"}) {
+            Map<String, Object> bundle = new HashMap<>();
+            bundle.put("name", name);
+            assertEquals(adapter.compileTemplate(generator, bundle, "model.mustache"), "// " + name);
+            assertEquals(adapter.compileTemplate(generator, bundle, "api.mustache"), "// " + name + "Api");
+        }
+
+        assertEquals(generator.reads.get("model.mustache").intValue(), 1);
+        assertEquals(generator.reads.get("api.mustache").intValue(), 1);
+        assertEquals(generator.reads.get("header.mustache").intValue(), 1);
+    }
+
+    @Test
+    public void settingCompilerInvalidatesCache() throws Exception {
+        CountingGenerator generator = new CountingGenerator();
+        generator.templates.put("model.mustache", "{{#flag}}yes{{/flag}}");
+
+        MustacheEngineAdapter adapter = new MustacheEngineAdapter();
+        Map<String, Object> bundle = new HashMap<>();
+        bundle.put("flag", "");
+        assertEquals(adapter.compileTemplate(generator, bundle, "model.mustache"), "yes");
+
+        adapter.setCompiler(Mustache.compiler().emptyStringIsFalse(true));
+        assertEquals(adapter.compileTemplate(generator, bundle, "model.mustache"), "");
+        assertEquals(generator.reads.get("model.mustache").intValue(), 2);
+    }
+
+    @Test
+    public void templatesAreRenderedIntoWriters() throws Exception {
+        CountingGenerator generator = new CountingGenerator();
+        generator.templates.put("model.mustache", "{{>header}}{{name}}");
+        generator.templates.put("header.mustache", "// ");
+
+        MustacheEngineAdapter adapter = new MustacheEngineAdapter();
+        Map<String, Object> bundle = new HashMap<>();
+        bundle.put("name", "Pet");
+        StringWriter writer = new StringWriter();
+        adapter.compileTemplate(generator, bundle, "model.mustache", writer);
+        assertEquals(writer.toString(), adapter.compileTemplate(generator, bundle, "model.mustache"));
+        assertEquals(writer.toString(), "// Pet");
+    }
+}
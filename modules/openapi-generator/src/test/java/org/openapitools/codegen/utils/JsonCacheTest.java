@@ -18,6 +18,7 @@ package org.openapitools.codegen.utils;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.JsonNodeType;
@@ -37,10 +38,14 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.testng.Assert.*;
 
@@ -1345,5 +1350,122 @@ public class JsonCacheTest {
         assertEquals("string value", value, "stringProperty is null after being set;");
     }
 
+    @Test
+    public void testDirtySubtrees() throws Exception {
+        cache.set("/string", "a string");
+        cache.set("/object/nestedNumber", 2.72);
+        cache.set("/array", Arrays.asList(1, "2", 3.0, 4.0));
+        assertFalse(root.isDirty(), "cache should not be dirty after setting existing values;");
+
+        cache.set("/object/nestedObject/a", "baz");
+        assertTrue(root.isDirty(), "cache should be dirty after a write;");
+        assertTrue(root.isDirty("/JsonCacheTest/object/nestedObject/a"), "modified node should be dirty;");
+        assertTrue(root.isDirty("/JsonCacheTest/object"), "ancestor of a modified node should be dirty;");
+        assertFalse(root.isDirty("/JsonCacheTest/object/nestedObject/b"), "sibling of a modified node should not be dirty;");
+        assertFalse(root.isDirty("/JsonCacheTest/array"), "unmodified node should not be dirty;");
+
+        cache.delete("/object");
+        assertTrue(root.isDirty("/JsonCacheTest/object/nestedArray"), "descendant of a deleted node should be dirty;");
+
+        root.save(new ByteArrayOutputStream());
+        assertFalse(root.isDirty("/JsonCacheTest/object"), "cache should not be dirty after save();");
+    }
+
+    @Test
+    public void testDirtyDescendantsCollapse() throws Exception {
+        for (int i = 0; i < 100; i++) {
+            cache.set("/object/nestedObject/p" + i, i);
+        }
+        assertTrue(root.isDirty("/JsonCacheTest/object/nestedObject/p42"), "modified node should be dirty;");
+
+        cache.delete("/object");
+        cache.set("/object/nestedObject/p100", 100);
+        assertEquals(1, ((JsonCacheImpl) root).dirtyPaths.size(), "modified nodes should collapse into a modified ancestor;");
+        assertTrue(root.isDirty("/JsonCacheTest/object/nestedObject/p42"), "descendant of a modified node should be dirty;");
+        assertFalse(root.isDirty("/JsonCacheTest/string"), "unmodified node should not be dirty;");
+    }
+
+    @Test
+    public void testMergeOnLoad() throws Exception {
+        String incoming = "{\"JsonCacheTest\": {\"string\": \"an incoming string\", \"array\": [4.0, 5],"
+                + " \"object\": {\"nestedString\": \"an incoming nested string\", \"newNested\": [1, {\"a\": null}]},"
+                + " \"newString\": \"a new string\"}}";
+
+        root.mergePolicy(MergePolicy.MERGE_RECURSIVE).load(new ByteArrayInputStream(incoming.getBytes("UTF-8")));
+        assertEquals("a string", cache.getString("/string"), "existing leaf should have been kept;");
+        assertEquals(5, cache.size("/array"), "only new array elements should have been added;");
+        assertEquals(5, cache.getInt("/array/4"), "new array element should have been added;");
+        assertEquals("a nested string", cache.getString("/object/nestedString"), "existing nested leaf should have been kept;");
+        assertEquals(JsonNodeType.NULL, cache.getNodeType("/object/newNested/1/a"), "new nested property should have been added;");
+        assertEquals("a new string", cache.getString("/newString"), "new property should have been added;");
+        assertTrue(root.isDirty("/JsonCacheTest/object/newNested"), "merged property should be dirty;");
+        assertFalse(root.isDirty("/JsonCacheTest/string"), "kept property should not be dirty;");
+
+        reload();
+        root.mergePolicy(MergePolicy.KEEP_EXISTING).load(new ByteArrayInputStream(incoming.getBytes("UTF-8")));
+        assertFalse(root.isDirty(), "cache should not be dirty after merging existing root properties only;");
+        assertFalse(cache.exists("/newString"), "properties below existing root properties should not be merged;");
+    }
+
+    @Test
+    public void testMergeArraysOnLoad() throws Exception {
+        String present = "{\"JsonCacheTest\": {\"array\": [1, \"2\", 4.0]}}";
+        root.mergePolicy(MergePolicy.MERGE_RECURSIVE).load(new ByteArrayInputStream(present.getBytes("UTF-8")));
+        assertFalse(root.isDirty(), "cache should not be dirty after merging array elements which are all present;");
+
+        String incoming = "{\"JsonCacheTest\": {\"array\": [3.0, {\"a\": \"b\"}, 5]}}";
+        root.load(new ByteArrayInputStream(incoming.getBytes("UTF-8")));
+        assertEquals(6, cache.size("/array"), "only new array elements should have been added;");
+        assertEquals("b", cache.getString("/array/4/a"), "new array element should have been added;");
+        assertTrue(root.isDirty("/JsonCacheTest/array"), "array should be dirty after elements were merged into it;");
+        assertFalse(root.isDirty("/JsonCacheTest/object"), "other properties should not be dirty;");
+    }
+
+    @Test
+    public void testLoadWithBigNumbers() throws Exception {
+        root.unload();
+        root.mapper(new ObjectMapper()
+                .enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
+                .enable(DeserializationFeature.USE_BIG_INTEGER_FOR_INTS));
+        root.load(new ByteArrayInputStream("{\"decimal\": 0.1, \"integer\": 1}".getBytes("UTF-8")));
+        assertTrue(root.getNumber("/decimal") instanceof BigDecimal, "floats should be read as BigDecimal;");
+        assertTrue(root.getNumber("/integer") instanceof BigInteger, "integers should be read as BigInteger;");
+    }
+
+    @Test
+    public void testConcurrentAccess() throws Exception {
+        JsonCache.Root other = JsonCache.Factory.instance.create();
+        assertNotSame(other, root, "create() should return a new root;");
+        assertFalse(other.exists("/JsonCacheTest"), "roots should not share their trees;");
+
+        int threads = 4;
+        int writes = 250;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                final String thread = "thread" + t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < writes; i++) {
+                        cache.set("/concurrent/" + thread + "/value" + i, i);
+                        cache.add("/concurrentArray", i);
+                        cache.getString("/string");
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(threads * writes, cache.size("/concurrentArray"), "concurrent adds should not be lost;");
+        for (int t = 0; t < threads; t++) {
+            assertEquals(writes, cache.size("/concurrent/thread" + t), "concurrent sets should not be lost;");
+        }
+    }
+
     // TODO: get/set POJO
 }
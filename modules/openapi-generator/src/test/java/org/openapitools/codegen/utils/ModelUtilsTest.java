@@ -17,16 +17,22 @@
 
 package org.openapitools.codegen.utils;
 
+import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
 import io.swagger.v3.oas.models.media.*;
 import io.swagger.v3.oas.models.parameters.Parameter;
 import io.swagger.v3.oas.models.parameters.RequestBody;
 import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
 import org.openapitools.codegen.TestUtils;
+import org.openapitools.codegen.config.RunSettings;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -116,6 +122,46 @@ public class ModelUtilsTest {
         Assert.assertTrue(unusedSchemas.contains("SomeObj7"), "contains 'SomeObj7'");
     }
 
+    @Test
+    public void testSchemasReachableFromFormAndOtherMediaTypes() {
+        OpenAPI openAPI = TestUtils.createOpenAPI();
+        openAPI.getComponents().addSchemas("Category", new ObjectSchema().addProperties("name", new StringSchema()));
+        openAPI.getComponents().addSchemas("Pet", new ObjectSchema().addProperties("category", new Schema().$ref("#/components/schemas/Category")));
+
+        // the form request is visited first; Category is also reachable through Pet in the json response
+        Content form = new Content().addMediaType("application/x-www-form-urlencoded", new MediaType().schema(new Schema().$ref("#/components/schemas/Pet")));
+        Content json = new Content().addMediaType("application/json", new MediaType().schema(new Schema().$ref("#/components/schemas/Pet")));
+        openAPI.getPaths().addPathItem("/pets", new PathItem().post(new Operation()
+                .requestBody(new RequestBody().content(form))
+                .responses(new ApiResponses().addApiResponse("200", new ApiResponse().content(json)))));
+
+        Assert.assertTrue(ModelUtils.getSchemasUsedOnlyInFormParam(openAPI).isEmpty());
+        Assert.assertEquals(ModelUtils.getAllUsedSchemas(openAPI), Arrays.asList("Pet", "Category"));
+        Assert.assertTrue(ModelUtils.getUnusedSchemas(openAPI).isEmpty());
+
+        // without the json response, both are only reachable from the form request
+        openAPI.getPaths().get("/pets").getPost().setResponses(new ApiResponses());
+        Assert.assertEquals(ModelUtils.getSchemasUsedOnlyInFormParam(openAPI), Arrays.asList("Pet", "Category"));
+    }
+
+    @Test
+    public void testSchemaUsageFollowsDocumentChanges() {
+        final OpenAPI openAPI = TestUtils.parseSpec("src/test/resources/3_0/unusedSchemas.yaml");
+        Assert.assertEquals(ModelUtils.getUnusedSchemas(openAPI).size(), 7);
+
+        // the analysis is not cached, so changes to the document are always picked up
+        openAPI.getComponents().addSchemas("UnusedObj5", new ObjectSchema());
+        Assert.assertEquals(ModelUtils.getUnusedSchemas(openAPI).size(), 8);
+
+        openAPI.getComponents().getSchemas().get("UnusedObj5").addProperties("obj1", new Schema().$ref("#/components/schemas/UnusedObj1"));
+        openAPI.getPaths().values().iterator().next().readOperations().get(0)
+                .addParametersItem(new Parameter().name("p").in("query").schema(new Schema().$ref("#/components/schemas/UnusedObj5")));
+        List<String> unusedSchemas = ModelUtils.getUnusedSchemas(openAPI);
+        Assert.assertEquals(unusedSchemas.size(), 6);
+        Assert.assertFalse(unusedSchemas.contains("UnusedObj1"));
+        Assert.assertFalse(unusedSchemas.contains("UnusedObj5"));
+    }
+
     @Test
     public void testNoComponentsSection() {
         final OpenAPI openAPI = TestUtils.parseSpec("src/test/resources/3_0/ping.yaml");
@@ -208,6 +254,62 @@ public class ModelUtilsTest {
         Assert.assertEquals(refToComposedSchema, ModelUtils.unaliasSchema(openAPI, refToComposedSchema));
     }
 
+    @Test
+    public void testUnaliasSchemaResolvesChainsPerDocument() {
+        OpenAPI openAPI = TestUtils.createOpenAPI();
+        ArraySchema names = new ArraySchema().items(new StringSchema());
+        openAPI.getComponents().addSchemas("Names", names);
+        openAPI.getComponents().addSchemas("NameList", new Schema().$ref("#/components/schemas/Names"));
+
+        Schema nameList = openAPI.getComponents().getSchemas().get("NameList");
+        Schema first = new Schema().$ref("#/components/schemas/NameList");
+        Schema second = new Schema().$ref("#/components/schemas/NameList");
+        Assert.assertSame(ModelUtils.unaliasSchema(openAPI, first), names);
+        Assert.assertSame(ModelUtils.unaliasSchema(openAPI, second), names);
+
+        // switching generateAliasAsModel is not served from the earlier resolution
+        boolean generateAliasAsModel = ModelUtils.isGenerateAliasAsModel();
+        try {
+            ModelUtils.setGenerateAliasAsModel(true);
+            Assert.assertSame(ModelUtils.unaliasSchema(openAPI, first), nameList);
+            Assert.assertSame(ModelUtils.unaliasSchema(openAPI, second), nameList);
+        } finally {
+            ModelUtils.setGenerateAliasAsModel(generateAliasAsModel);
+        }
+
+        // in-place changes to components require invalidation
+        names.setEnum(Arrays.asList("a", "b"));
+        ModelUtils.invalidateCaches(openAPI);
+        Assert.assertSame(ModelUtils.unaliasSchema(openAPI, first), nameList);
+    }
+
+    @Test
+    public void testUnaliasSchemaWithRunSettings() {
+        OpenAPI openAPI = TestUtils.createOpenAPI();
+        ArraySchema names = new ArraySchema().items(new StringSchema());
+        openAPI.getComponents().addSchemas("Names", names);
+        Schema ref = new Schema().$ref("#/components/schemas/Names");
+
+        // settings bound to the document take precedence over the settings of the thread
+        boolean generateAliasAsModel = ModelUtils.isGenerateAliasAsModel();
+        try {
+            ModelUtils.setGenerateAliasAsModel(false);
+            ModelUtils.setRunSettings(openAPI, RunSettings.of(Collections.singletonMap("generateAliasAsModel", "true")));
+            Assert.assertTrue(ModelUtils.isGenerateAliasAsModel(openAPI));
+            Assert.assertSame(ModelUtils.unaliasSchema(openAPI, ref), ref);
+
+            ModelUtils.setRunSettings(openAPI, RunSettings.of(Collections.emptyMap()));
+            Assert.assertFalse(ModelUtils.isGenerateAliasAsModel(openAPI));
+            Assert.assertSame(ModelUtils.unaliasSchema(openAPI, ref), names);
+
+            ModelUtils.setGenerateAliasAsModel(true);
+            Assert.assertSame(ModelUtils.unaliasSchema(openAPI, ref), names);
+            Assert.assertTrue(ModelUtils.isGenerateAliasAsModel(TestUtils.createOpenAPI()));
+        } finally {
+            ModelUtils.setGenerateAliasAsModel(generateAliasAsModel);
+        }
+    }
+
     /**
      * Issue https://github.com/OpenAPITools/openapi-generator/issues/1624.
      * ModelUtils.isFreeFormObject() should not throw an NPE when passed an empty
@@ -236,6 +338,47 @@ public class ModelUtilsTest {
         Assert.assertFalse(ModelUtils.isFreeFormObject(null));
     }
 
+    @Test
+    public void testInheritanceHierarchy() {
+        OpenAPI openAPI = new OpenAPI().components(new Components());
+        openAPI.getComponents().addSchemas("Animal", new ObjectSchema()
+                .addProperties("type", new StringSchema())
+                .discriminator(new Discriminator().propertyName("type")));
+        openAPI.getComponents().addSchemas("Cat", new ComposedSchema()
+                .addAllOfItem(new Schema().$ref("#/components/schemas/Animal"))
+                .addAllOfItem(new ObjectSchema().addProperties("indoor", new BooleanSchema())));
+        openAPI.getComponents().addSchemas("Lion", new ComposedSchema()
+                .addAllOfItem(new Schema().$ref("#/components/schemas/Cat")));
+        openAPI.getComponents().addSchemas("Dog", new ComposedSchema()
+                .addAllOfItem(new Schema().$ref("#/components/schemas/Animal")));
+        // composed schema without any parent
+        openAPI.getComponents().addSchemas("StringOrNumber", new ComposedSchema()
+                .addOneOfItem(new StringSchema())
+                .addOneOfItem(new NumberSchema()));
+
+        Map<String, List<String>> childrenMap = ModelUtils.getChildrenMap(openAPI);
+        Assert.assertEquals(childrenMap.size(), 2);
+        Assert.assertEquals(childrenMap.get("Animal"), Arrays.asList("Cat", "Dog"));
+        Assert.assertEquals(childrenMap.get("Cat"), Collections.singletonList("Lion"));
+
+        ComposedSchema lion = (ComposedSchema) ModelUtils.getSchema(openAPI, "Lion");
+        Assert.assertEquals(ModelUtils.getParentName(openAPI, lion), "Cat");
+        Assert.assertEquals(ModelUtils.getAllParentsName(openAPI, lion, false), Collections.singletonList("Cat"));
+        Assert.assertEquals(ModelUtils.getAllParentsName(openAPI, lion, true), Arrays.asList("Cat", "Animal"));
+        Assert.assertEquals(ModelUtils.getAllParentsName(openAPI, lion, true),
+                ModelUtils.getAllParentsName(lion, ModelUtils.getSchemas(openAPI), true));
+        Assert.assertNull(ModelUtils.getParentName(openAPI, (ComposedSchema) ModelUtils.getSchema(openAPI, "StringOrNumber")));
+
+        Assert.assertEquals(ModelUtils.getDescendants(openAPI, "Animal"), Arrays.asList("Cat", "Lion", "Dog"));
+        Assert.assertEquals(ModelUtils.getDescendants(openAPI, "Cat"), Collections.singletonList("Lion"));
+        Assert.assertTrue(ModelUtils.getDescendants(openAPI, "Dog").isEmpty());
+
+        // the hierarchy is rebuilt when schemas are added
+        openAPI.getComponents().addSchemas("Cheetah", new ComposedSchema()
+                .addAllOfItem(new Schema().$ref("#/components/schemas/Cat")));
+        Assert.assertEquals(ModelUtils.getDescendants(openAPI, "Cat"), Arrays.asList("Lion", "Cheetah"));
+    }
+
     @Test
     public void testIsSetForValidSet() {
         ArraySchema as = new ArraySchema()
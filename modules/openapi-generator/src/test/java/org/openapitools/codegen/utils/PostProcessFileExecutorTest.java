@@ -0,0 +1,101 @@
+package org.openapitools.codegen.utils;
+
+import org.apache.commons.lang3.SystemUtils;
+import org.testng.SkipException;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class PostProcessFileExecutorTest {
+
+    @BeforeMethod
+    public void requiresTouch() {
+        if (SystemUtils.IS_OS_WINDOWS) {
+            throw new SkipException("relies on 'touch'");
+        }
+    }
+
+    @Test
+    public void processesEachFileImmediatelyByDefault() throws Exception {
+        File dir = Files.createTempDirectory("postprocess").toFile();
+        File file = new File(dir, "a.txt");
+
+        new PostProcessFileExecutor(1, 4).submit("touch", file);
+
+        assertTrue(file.exists());
+    }
+
+    @Test
+    public void processesQueuedFilesInBatchesOnFlush() throws Exception {
+        File dir = Files.createTempDirectory("postprocess").toFile();
+        File[] files = new File[5];
+        PostProcessFileExecutor executor = new PostProcessFileExecutor(2, 4);
+        for (int i = 0; i < files.length; i++) {
+            files[i] = new File(dir, "file" + i + ".txt");
+            executor.submit("touch", files[i]);
+        }
+        for (File file : files) {
+            assertFalse(file.exists());
+        }
+
+        executor.flush();
+
+        for (File file : files) {
+            assertTrue(file.exists(), file + " should have been processed");
+        }
+    }
+
+    @Test
+    public void failingBatchDoesNotStopOtherFiles() throws Exception {
+        File dir = Files.createTempDirectory("postprocess").toFile();
+        File missingParent = new File(new File(dir, "missing"), "a.txt");
+        File file = new File(dir, "b.txt");
+        PostProcessFileExecutor executor = new PostProcessFileExecutor(10, 1);
+        executor.submit("touch", missingParent);
+        executor.submit("touch", file);
+
+        executor.flush();
+
+        assertFalse(missingParent.exists());
+        assertTrue(file.exists());
+    }
+
+    @Test
+    public void preservesPathsWithSpaces() throws Exception {
+        File dir = Files.createTempDirectory("post process").toFile();
+        File first = new File(dir, "first file.txt");
+        File second = new File(dir, "second file.txt");
+        PostProcessFileExecutor executor = new PostProcessFileExecutor(10, 1);
+        executor.submit("touch", first);
+        executor.submit("touch", second);
+
+        executor.flush();
+
+        assertTrue(first.exists());
+        assertTrue(second.exists());
+        assertFalse(new File(dir, "first").exists());
+    }
+
+    @Test(timeOut = 60000)
+    public void consumesTheOutputOfCommands() throws Exception {
+        File dir = Files.createTempDirectory("postprocess").toFile();
+        // much larger than a pipe buffer
+        byte[] contents = new byte[1024 * 1024];
+        Arrays.fill(contents, (byte) 'a');
+        File[] files = new File[3];
+        PostProcessFileExecutor executor = new PostProcessFileExecutor(10, 1);
+        for (int i = 0; i < files.length; i++) {
+            files[i] = new File(dir, "file" + i + ".txt");
+            Files.write(files[i].toPath(), contents);
+            executor.submit("cat", files[i]);
+        }
+
+        executor.flush();
+    }
+}
@@ -1,8 +1,15 @@
 package org.openapitools.codegen.utils;
 
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import static org.openapitools.codegen.utils.StringUtils.*;
 
 public class StringUtilsTest {
@@ -30,6 +37,60 @@ public class StringUtilsTest {
         Assert.assertEquals(camelize("$123", true), "$123");
     }
 
+    @Test
+    public void testCamelizeSeparators() {
+        Assert.assertEquals(camelize("some.package.name"), "SomePackageName");
+        Assert.assertEquals(camelize("path/to/thing"), "PathToThing");
+        Assert.assertEquals(camelize("foo__bar"), "FooBar");
+        Assert.assertEquals(camelize("foo_1bar"), "Foo1bar");
+        Assert.assertEquals(camelize("_foo"), "Foo");
+        Assert.assertEquals(camelize("foo-_bar"), "FooBar");
+        Assert.assertEquals(camelize("foo--bar"), "FooBar");
+        Assert.assertEquals(camelize("X-Rate-Limit"), "XRateLimit");
+        Assert.assertEquals(camelize("123_abc"), "123Abc");
+        Assert.assertEquals(camelize("HTTP_Client"), "HTTPClient");
+        Assert.assertEquals(camelize("\u00e9cole_ma\u00eetresse"), "\u00c9ColeMa\u00eetresse");
+        Assert.assertEquals(camelize("stra\u00dfe_\u00df"), "Stra\u00dfeSS");
+
+        Assert.assertEquals(camelize("some.package.name", true), "somePackageName");
+        Assert.assertEquals(camelize("X-Rate-Limit", true), "xRateLimit");
+        Assert.assertEquals(camelize("123_abc", true), "123abc");
+        Assert.assertEquals(camelize("_id", true), "id");
+        Assert.assertEquals(camelize("ABC", true), "aBC");
+        Assert.assertEquals(camelize("HTTP_Client", true), "hTTPClient");
+        Assert.assertEquals(camelize("\u00e9cole_ma\u00eetresse", true), "\u00e9coleMa\u00eetresse");
+    }
+
+    @Test
+    public void testCamelizeConcurrently() throws Exception {
+        // the caches are shared by the whole process, only the calls made by this test are checked
+        CacheStats before = getCacheStats().get("camelizeLowercaseFirstLetter");
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                results.add(executor.submit(() -> {
+                    for (int i = 0; i < 10000; i++) {
+                        if (!camelize("concurrent_word_" + (i % 500), true).equals("concurrentWord" + (i % 500))) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                Assert.assertTrue(result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        CacheStats stats = getCacheStats().get("camelizeLowercaseFirstLetter").minus(before);
+        Assert.assertTrue(stats.requestCount() >= 40000);
+        // each word is computed at most once per thread, whether or not an earlier test cached it already
+        Assert.assertTrue(stats.hitCount() >= 40000 - 4 * 500);
+    }
+
     @Test
     public void testDashize() {
         Assert.assertEquals(dashize("abcd"), "abcd");